@@ -0,0 +1,77 @@
+package com.madimadica.hyde.cds;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the wall clock time of cold invocations of {@link TrainingWorkload}, each in a new JVM,
+ * without class data sharing, with only the JDK's default archive, and with an application archive.
+ * <p>
+ * Usage: {@code StartupHarness <archive> [runs]}. The child JVMs use the same class path as this one,
+ * which must match the class path the archive was created with.
+ * </p>
+ */
+public class StartupHarness {
+
+    private record Config(String name, List<String> jvmArgs) {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: StartupHarness <archive> [runs]");
+            System.exit(2);
+        }
+        Path archive = Path.of(args[0]);
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        List<Config> configs = new ArrayList<>();
+        configs.add(new Config("no CDS", List.of("-Xshare:off")));
+        configs.add(new Config("JDK CDS", List.of()));
+        if (Files.isRegularFile(archive)) {
+            configs.add(new Config("application CDS", List.of("-XX:SharedArchiveFile=" + archive)));
+        } else {
+            System.err.println("Archive " + archive + " not found, only measuring without it");
+        }
+
+        long[][] nanos = new long[configs.size()][runs];
+        // Interleave the configurations, so that they are equally affected by any changes in load
+        for (int run = 0; run < runs; ++run) {
+            for (int i = 0; i < configs.size(); ++i) {
+                nanos[i][run] = time(configs.get(i));
+            }
+        }
+
+        for (int i = 0; i < configs.size(); ++i) {
+            long total = 0;
+            long min = Long.MAX_VALUE;
+            for (long n : nanos[i]) {
+                total += n;
+                min = Math.min(min, n);
+            }
+            System.out.printf("%-16s mean %7.1f ms   min %7.1f ms%n", configs.get(i).name(), total / 1e6 / runs, min / 1e6);
+        }
+    }
+
+    private static long time(Config config) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(config.jvmArgs());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(TrainingWorkload.class.getName());
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        int exitCode = process.waitFor();
+        long elapsed = System.nanoTime() - start;
+        if (exitCode != 0) {
+            throw new IllegalStateException(config.name() + " exited with " + exitCode);
+        }
+        return elapsed;
+    }
+}
@@ -0,0 +1,141 @@
+package com.madimadica.hyde.cds;
+
+import com.madimadica.hyde.ast.AST;
+import com.madimadica.hyde.parser.Parser;
+import com.madimadica.hyde.parser.ParserOptions;
+import com.madimadica.hyde.renderer.HtmlAstRenderer;
+import com.madimadica.hyde.renderer.HtmlPipeline;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Training run for a class data sharing archive, which parses and renders Markdown that exercises
+ * every block and inline construct, so that the classes a typical invocation loads are archived.
+ * <p>
+ * Any arguments are extra inputs to train with: {@code .json} files in the format of the CommonMark
+ * spec tests (an array of objects with a {@code "markdown"} string), and any other file as Markdown.
+ * </p>
+ * <p>
+ * With no arguments, this is also a minimal cold invocation for {@link StartupHarness} to time.
+ * </p>
+ */
+public class TrainingWorkload {
+
+    static final String SAMPLE = """
+            Title
+            =====
+
+            ## Heading with *emphasis*, **strong**, `code` and &copy; &#169; &#xA9;
+
+            A paragraph with a [link](/url "title"), a [reference], an ![image](/img.png),
+            <https://example.com>, <me@example.com>, <span class="raw">raw html</span>,
+            an escaped \\* and a hard break\\
+            then "quotes", 'single' -- dashes --- and ellipses...
+
+            [reference]: /destination 'Reference Title'
+
+            ***
+
+            > Block quote with a list:
+            >
+            > 1. first
+            > 2. second
+            >    - nested
+            >    - items
+
+            - [ ] loose
+
+              list
+
+                indented code
+
+            ```java
+            fenced code
+            ```
+
+            <div>
+            HTML block
+            </div>
+
+            <!-- comment -->
+            """;
+
+    public static void main(String[] args) throws IOException {
+        List<String> inputs = new ArrayList<>();
+        inputs.add(SAMPLE);
+        for (String arg : args) {
+            String content = Files.readString(Path.of(arg));
+            if (arg.endsWith(".json")) {
+                inputs.addAll(readSpecExamples(content));
+            } else {
+                inputs.add(content);
+            }
+        }
+
+        var defaults = ParserOptions.getDefaults();
+        var smart = ParserOptions.builder()
+                .setSmartQuotes(true)
+                .setSmartSymbols(true)
+                .setSafeMode(true)
+                .build();
+        var renderer = new HtmlAstRenderer(defaults);
+        var smartRenderer = new HtmlAstRenderer(smart);
+        var parser = Parser.builder().setOptions(defaults).build();
+        var pipeline = new HtmlPipeline(defaults);
+
+        long chars = 0;
+        for (String markdown : inputs) {
+            AST ast = Parser.parse(markdown, defaults);
+            chars += renderer.render(ast).length();
+            chars += smartRenderer.render(Parser.parse(markdown, smart)).length();
+            chars += renderer.render(parser.parseDocument(markdown)).length();
+            chars += pipeline.render(markdown).length();
+            pipeline.render(new StringReader(markdown), OutputStream.nullOutputStream());
+        }
+        System.out.println("Rendered " + inputs.size() + " documents, " + chars + " characters of HTML");
+    }
+
+    /**
+     * Read the {@code "markdown"} values from the CommonMark spec tests JSON, without a JSON library
+     * @param json content of the spec tests file
+     * @return Markdown of each example
+     */
+    static List<String> readSpecExamples(String json) {
+        final String key = "\"markdown\"";
+        List<String> examples = new ArrayList<>();
+        int i = json.indexOf(key);
+        while (i >= 0) {
+            i = json.indexOf('"', json.indexOf(':', i + key.length())) + 1;
+            StringBuilder sb = new StringBuilder();
+            char c;
+            while ((c = json.charAt(i++)) != '"') {
+                if (c == '\\') {
+                    c = json.charAt(i++);
+                    switch (c) {
+                        case 'n' -> sb.append('\n');
+                        case 't' -> sb.append('\t');
+                        case 'r' -> sb.append('\r');
+                        case 'b' -> sb.append('\b');
+                        case 'f' -> sb.append('\f');
+                        case 'u' -> {
+                            sb.append((char) Integer.parseInt(json, i, i + 4, 16));
+                            i += 4;
+                        }
+                        default -> sb.append(c); // quote, backslash, or slash
+                    }
+                } else {
+                    sb.append(c);
+                }
+            }
+            examples.add(sb.toString());
+            i = json.indexOf(key, i);
+        }
+        return examples;
+    }
+}
@@ -0,0 +1,110 @@
+package com.madimadica.hyde.benchmark;
+
+/**
+ * Synthetic Markdown inputs that each stress a different part of the parser.
+ * Generation is deterministic, so results are comparable between runs.
+ */
+public enum BenchmarkCorpus {
+    /**
+     * Long multi-line paragraphs of plain text, the common case for prose documents.
+     */
+    LONG_PARAGRAPHS {
+        @Override
+        void appendUnit(StringBuilder sb, int i) {
+            for (int line = 0; line < 12; ++line) {
+                sb.append("Lorem ipsum dolor sit amet, consectetur adipiscing elit ").append(i).append(' ')
+                        .append(line).append(", sed do eiusmod tempor incididunt ut labore et dolore.\n");
+            }
+            sb.append('\n');
+        }
+    },
+    /**
+     * Lists nested several levels deep, exercising block container matching on every line.
+     */
+    NESTED_LISTS {
+        @Override
+        void appendUnit(StringBuilder sb, int i) {
+            for (int depth = 0; depth < 8; ++depth) {
+                sb.repeat("  ", depth).append(depth % 2 == 0 ? "- " : "* ")
+                        .append("item ").append(i).append('.').append(depth).append('\n');
+            }
+            sb.repeat("  ", 8).append("> quoted continuation ").append(i).append('\n');
+            sb.append('\n');
+        }
+    },
+    /**
+     * Dense emphasis, strong emphasis, and code spans, exercising the delimiter stack.
+     */
+    EMPHASIS {
+        @Override
+        void appendUnit(StringBuilder sb, int i) {
+            for (int line = 0; line < 6; ++line) {
+                sb.append("*a* **b** _c_ __d__ ***e*** `f` *g **h** i* _j __k__ l_ ")
+                        .append("**unclosed *mixed_ delimiters__ ").append(i).append('\n');
+            }
+            sb.append('\n');
+        }
+    },
+    /**
+     * Many link reference definitions, each referenced by full, collapsed, and shortcut links.
+     */
+    LINK_REFERENCES {
+        @Override
+        void appendUnit(StringBuilder sb, int i) {
+            sb.append("[ref").append(i).append("]: https://example.com/").append(i).append(" \"Title ").append(i).append("\"\n");
+            sb.append('\n');
+            sb.append("See [text][ref").append(i).append("], [ref").append(i).append("][], and [ref").append(i)
+                    .append("], or an [inline](https://example.com/inline/").append(i).append(" 'title') link and ")
+                    .append("![image](/img/").append(i).append(".png).\n");
+            sb.append('\n');
+        }
+    },
+    /**
+     * Large fenced and indented code blocks, where content is mostly copied through.
+     */
+    CODE_BLOCKS {
+        @Override
+        void appendUnit(StringBuilder sb, int i) {
+            sb.append("```java\n");
+            for (int line = 0; line < 20; ++line) {
+                sb.append("    int value").append(line).append(" = compute(").append(i).append(", \"<&>\");\n");
+            }
+            sb.append("```\n\n");
+            for (int line = 0; line < 5; ++line) {
+                sb.append("    indented code ").append(i).append(' ').append(line).append('\n');
+            }
+            sb.append('\n');
+        }
+    },
+    /**
+     * A mix of every other corpus, approximating a typical document.
+     */
+    MIXED {
+        @Override
+        void appendUnit(StringBuilder sb, int i) {
+            sb.append("## Section ").append(i).append("\n\n");
+            BenchmarkCorpus[] corpora = values();
+            // Exclude MIXED itself
+            corpora[i % (corpora.length - 1)].appendUnit(sb, i);
+        }
+    };
+
+    /**
+     * Append one repeating unit of this corpus
+     * @param sb output to append to
+     * @param i index of the unit, used to keep units distinct
+     */
+    abstract void appendUnit(StringBuilder sb, int i);
+
+    /**
+     * @param units number of repeating units to generate
+     * @return Markdown document
+     */
+    public String generate(int units) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < units; ++i) {
+            appendUnit(sb, i);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package com.madimadica.hyde.benchmark;
+
+import com.madimadica.hyde.parser.LineScanner;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the previous regex based line splitting in {@code BlockParser} against {@link LineScanner}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LineSplitBenchmark {
+    private static final Pattern REGEX_LINE_END = Pattern.compile("\\r?\\n|\\r");
+
+    @Param({"100", "10000", "1000000"})
+    public int lines;
+
+    private String input;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines; ++i) {
+            sb.append("Line ").append(i).append(" of some *markdown* text");
+            sb.append(i % 10 == 0 ? "\r\n" : "\n");
+        }
+        input = sb.toString();
+    }
+
+    @Benchmark
+    public void regexSplit(Blackhole blackhole) {
+        String replaced = input.replace('\0', '\uFFFD');
+        List<String> split = List.of(REGEX_LINE_END.split(replaced));
+        for (String line : split) {
+            blackhole.consume(line);
+        }
+    }
+
+    @Benchmark
+    public void lineScanner(Blackhole blackhole) {
+        LineScanner scanner = new LineScanner(input);
+        while (scanner.next()) {
+            blackhole.consume(scanner.line());
+        }
+    }
+
+    @Benchmark
+    public void lineScannerOffsets(Blackhole blackhole) {
+        LineScanner scanner = new LineScanner(input);
+        while (scanner.next()) {
+            blackhole.consume(scanner.lineEnd() - scanner.lineStart());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.madimadica.hyde.benchmark;
+
+import com.madimadica.hyde.ast.AST;
+import com.madimadica.hyde.parser.Parser;
+import com.madimadica.hyde.parser.ParserOptions;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adversarial inputs that are quadratic in naive CommonMark implementations.
+ * Parse time should grow linearly with {@code size}, i.e. the average time should scale by about 10x between sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathologicalBenchmark {
+
+    public enum Shape {
+        /** {@code *a_*a_*a_...}, alternating emphasis that never closes */
+        ALTERNATING_EMPHASIS("*a_", ""),
+        /** {@code *a **a *a **a...}, unclosed openers of different lengths */
+        UNCLOSED_EMPHASIS("*a **a ", ""),
+        /** {@code [[[[...a]]]]} */
+        NESTED_BRACKETS("[", "a", "]"),
+        /** {@code [[[[...[a](b)...}, unclosed openers followed by many links */
+        LINKS_IN_UNCLOSED_BRACKETS("[", "", "[a](b)"),
+        /** {@code `a``a```a...}, backtick runs of increasing length that never close */
+        BACKTICK_RUNS(null, ""),
+        /** {@code ![[![[...}, nested image and link openers */
+        NESTED_IMAGES("![[", "a", "](b)");
+
+        private final String prefix;
+        private final String middle;
+        private final String suffix;
+
+        Shape(String repeated, String middle) {
+            this(repeated, middle, "");
+        }
+
+        Shape(String prefix, String middle, String suffix) {
+            this.prefix = prefix;
+            this.middle = middle;
+            this.suffix = suffix;
+        }
+
+        String generate(int size) {
+            StringBuilder sb = new StringBuilder();
+            if (prefix == null) {
+                for (int i = 1; sb.length() < size; ++i) {
+                    sb.repeat('`', i).append('a');
+                }
+                return sb.toString();
+            }
+            sb.repeat(prefix, size / prefix.length());
+            sb.append(middle);
+            if (!suffix.isEmpty()) {
+                sb.repeat(suffix, size / suffix.length());
+            }
+            return sb.toString();
+        }
+    }
+
+    @Param
+    public Shape shape;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private final ParserOptions options = ParserOptions.getDefaults();
+    private String input;
+
+    @Setup
+    public void setup() {
+        input = shape.generate(size);
+    }
+
+    @Benchmark
+    public AST parse() {
+        return Parser.parse(input, options);
+    }
+}
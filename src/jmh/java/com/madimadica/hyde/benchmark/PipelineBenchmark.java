@@ -0,0 +1,140 @@
+package com.madimadica.hyde.benchmark;
+
+import com.madimadica.hyde.ast.AST;
+import com.madimadica.hyde.ast.FlatAST;
+import com.madimadica.hyde.ast.InlineLeafBlockNode;
+import com.madimadica.hyde.ast.ParagraphNode;
+import com.madimadica.hyde.parser.BlockParser;
+import com.madimadica.hyde.parser.InlineParser;
+import com.madimadica.hyde.parser.LinkRefMap;
+import com.madimadica.hyde.parser.ParseSession;
+import com.madimadica.hyde.parser.Parser;
+import com.madimadica.hyde.parser.ParserOptions;
+import com.madimadica.hyde.renderer.FlatHtmlRenderer;
+import com.madimadica.hyde.renderer.HtmlAstRenderer;
+import com.madimadica.hyde.renderer.MemoizingHtmlRenderer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of each stage of the parse/render pipeline, across the {@link BenchmarkCorpus} inputs.
+ * Run with {@code -prof gc} (the profile default) to also report allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineBenchmark {
+
+    @Param
+    public BenchmarkCorpus corpus;
+
+    @Param({"10", "1000"})
+    public int units;
+
+    private final ParserOptions options = ParserOptions.getDefaults();
+    private String input;
+    private LinkRefMap linkRefMap;
+    private List<String> inlineLiterals;
+    private AST ast;
+    private FlatAST flatAst;
+    private Parser sequentialParser;
+    private ParseSession session;
+    private String editedInput;
+    private MemoizingHtmlRenderer memoizingRenderer;
+    private boolean edited;
+
+    @Setup
+    public void setup() {
+        input = corpus.generate(units);
+
+        var blockOutput = new BlockParser(options).parse(input);
+        linkRefMap = blockOutput.linkRefMap();
+        inlineLiterals = new ArrayList<>();
+        blockOutput.ast().accept(node -> {
+            if (node instanceof InlineLeafBlockNode inlineContentNode) {
+                inlineLiterals.add(inlineContentNode.getLiteral());
+            }
+        });
+
+        ast = Parser.parse(input, options);
+        flatAst = FlatAST.of(ast);
+        sequentialParser = Parser.builder().setOptions(options).setExecutor(null).build();
+        session = sequentialParser.newSession();
+
+        // A one character change at the end of a line near the middle
+        int editOffset = input.indexOf('\n', input.length() / 2);
+        editOffset = editOffset < 0 ? input.length() : editOffset;
+        editedInput = input.substring(0, editOffset) + "x" + input.substring(editOffset);
+        memoizingRenderer = new MemoizingHtmlRenderer(options);
+        memoizingRenderer.render(input);
+    }
+
+    @Benchmark
+    public BlockParser.Output blockParse() {
+        return new BlockParser(options).parse(input);
+    }
+
+    @Benchmark
+    public void inlineParse(Blackhole blackhole) {
+        // Inline parsing mutates the node, so parse into fresh nodes of the same content
+        InlineParser inlineParser = new InlineParser(linkRefMap, options);
+        for (String literal : inlineLiterals) {
+            ParagraphNode node = new ParagraphNode();
+            node.acceptLine(literal);
+            inlineParser.parse(node);
+            blackhole.consume(node);
+        }
+    }
+
+    @Benchmark
+    public AST parse() {
+        return Parser.parse(input, options);
+    }
+
+    @Benchmark
+    public AST parseSequential() {
+        return sequentialParser.parseDocument(input);
+    }
+
+    /**
+     * Same as {@link #parseSequential()}, but recycling the nodes of the previous document.
+     * Compare their allocation rate and GC time with {@code -prof gc}
+     */
+    @Benchmark
+    public AST parseSession() {
+        session.release();
+        return session.parse(input);
+    }
+
+    @Benchmark
+    public String render() {
+        return new HtmlAstRenderer(options).render(ast);
+    }
+
+    @Benchmark
+    public FlatAST flatten() {
+        return FlatAST.of(ast);
+    }
+
+    @Benchmark
+    public String renderFlat() {
+        return new FlatHtmlRenderer(options).render(flatAst);
+    }
+
+    /**
+     * Re-render after a small edit, alternating between the original and edited input,
+     * which are the same except for one block
+     */
+    @Benchmark
+    public String rerenderMemoized() {
+        edited = !edited;
+        return memoizingRenderer.render(edited ? editedInput : input);
+    }
+}
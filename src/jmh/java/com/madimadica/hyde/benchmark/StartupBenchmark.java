@@ -0,0 +1,59 @@
+package com.madimadica.hyde.benchmark;
+
+import com.madimadica.hyde.ast.AST;
+import com.madimadica.hyde.parser.Parser;
+import com.madimadica.hyde.renderer.HtmlAstRenderer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start latency: the time to the first parse (and render) in a fresh JVM,
+ * including loading and initializing the parser's classes, as seen by a CLI or serverless invocation.
+ * Each fork is a new JVM which runs a single invocation, so the score is the average over the forks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    private static final String PLAIN = """
+            # Title
+
+            A paragraph with *emphasis*, `code` and a [link](/url).
+
+            - one
+            - two
+
+            > quoted
+            """;
+
+    private static final String ENTITIES = PLAIN + """
+
+            Entities &copy; &amp; &ClockwiseContourIntegral; &#169; &#xA9;
+            """;
+
+    /**
+     * Document without any entity references
+     */
+    @Benchmark
+    public AST firstParse() {
+        return Parser.parse(PLAIN);
+    }
+
+    /**
+     * Document which also decodes named and numeric entity references
+     */
+    @Benchmark
+    public AST firstParseWithEntities() {
+        return Parser.parse(ENTITIES);
+    }
+
+    @Benchmark
+    public String firstParseAndRender() {
+        return new HtmlAstRenderer().render(Parser.parse(PLAIN));
+    }
+}
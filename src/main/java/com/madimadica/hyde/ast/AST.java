@@ -16,6 +16,14 @@ public class AST implements Iterable<NodeIterator.Event> {
         return root.iterator();
     }
 
+    /**
+     * Visit every node of the tree, depth first, without allocating.
+     * @param visitor callbacks for entering and exiting each node
+     */
+    public void accept(NodeVisitor visitor) {
+        root.accept(visitor);
+    }
+
     @Override
     public String toString() {
         return toTree();
@@ -23,22 +31,25 @@ public class AST implements Iterable<NodeIterator.Event> {
 
     public String toTree() {
         StringBuilder sb = new StringBuilder();
-        int depth = 0;
-        for (var it : this) {
-            int tempDepth = depth;
-            // Only adjust depth on containers
-            if (it.node() instanceof NodeContainer) {
-                if (it.isEntering()) {
+        accept(new NodeVisitor() {
+            int depth = 0;
+
+            @Override
+            public void enter(Node node) {
+                sb.repeat('\t', depth);
+                sb.append(node);
+                sb.append('\n');
+                // Only adjust depth on containers
+                if (node instanceof NodeContainer) {
                     depth++;
-                } else {
-                    depth--;
-                    continue;
                 }
             }
-            sb.repeat('\t', tempDepth);
-            sb.append(it.node());
-            sb.append('\n');
-        }
+
+            @Override
+            public void exit(Node node) {
+                depth--;
+            }
+        });
         return sb.toString();
     }
 }
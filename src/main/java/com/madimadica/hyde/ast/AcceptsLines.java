@@ -1,5 +1,5 @@
 package com.madimadica.hyde.ast;
 
 public sealed interface AcceptsLines permits ParagraphNode, RawLeafBlockNode {
-    void acceptLine(String line);
+    void acceptLine(CharSequence line);
 }
@@ -1,15 +1,32 @@
 package com.madimadica.hyde.ast;
 
 
+import com.madimadica.hyde.parser.SourcePositions;
+
 import java.util.Objects;
 
 public abstract sealed class BlockNode extends Node permits ContainerBlockNode, LeafBlockNode {
     protected boolean open;
+    // Source positions are kept as primitives, instead of as objects on every node
+    private int startLine = 1;
+    private int startColumn = 1;
+    private int endLine;
+    private int endColumn;
 
     public BlockNode() {
         this.open = true;
     }
 
+    @Override
+    void reset() {
+        super.reset();
+        open = true;
+        startLine = 1;
+        startColumn = 1;
+        endLine = 0;
+        endColumn = 0;
+    }
+
     public boolean isOpen() {
         return open;
     }
@@ -35,23 +52,97 @@ public abstract sealed class BlockNode extends Node permits ContainerBlockNode,
         return (BlockNode) this.parent;
     }
 
+    /**
+     * @return view of this node's source positions, which modifies this node when it is modified
+     */
+    @Override
+    public SourcePositions getPositions() {
+        return new Positions();
+    }
+
+    @Override
+    public void setPositions(SourcePositions positions) {
+        setStart(positions.getStartLine(), positions.getStartColumn());
+        setEnd(positions.getEndLine(), positions.getEndColumn());
+    }
+
+    public int getStartLine() {
+        return startLine;
+    }
+
+    public int getStartColumn() {
+        return startColumn;
+    }
+
+    public int getEndLine() {
+        return endLine;
+    }
+
+    public int getEndColumn() {
+        return endColumn;
+    }
+
+    public void setStart(int line, int column) {
+        this.startLine = line;
+        this.startColumn = column;
+    }
+
+    public void setEnd(int line, int column) {
+        this.endLine = line;
+        this.endColumn = column;
+    }
+
+    private final class Positions extends SourcePositions {
+        @Override
+        public int getStartLine() {
+            return startLine;
+        }
+
+        @Override
+        public int getStartColumn() {
+            return startColumn;
+        }
+
+        @Override
+        public int getEndLine() {
+            return endLine;
+        }
+
+        @Override
+        public int getEndColumn() {
+            return endColumn;
+        }
+
+        @Override
+        public void setStart(int line, int column) {
+            BlockNode.this.setStart(line, column);
+        }
+
+        @Override
+        public void setEnd(int line, int column) {
+            BlockNode.this.setEnd(line, column);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         if (!super.equals(o)) return false;
         BlockNode blockNode = (BlockNode) o;
-        return open == blockNode.open;
+        return open == blockNode.open
+                && startLine == blockNode.startLine && startColumn == blockNode.startColumn
+                && endLine == blockNode.endLine && endColumn == blockNode.endColumn;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), open);
+        return Objects.hash(super.hashCode(), open, startLine, startColumn, endLine, endColumn);
     }
 
     @Override
     public String toString() {
-        String positions = super.getPositions().toString();
+        String positions = startLine + ":" + startColumn + "-" + endLine + ":" + endColumn;
         String className = getClass().getSimpleName();
         return className + "(" + positions + ")";
     }
@@ -36,11 +36,11 @@ public abstract sealed class ContentLeafBlockNode
         if (o == null || getClass() != o.getClass()) return false;
         if (!super.equals(o)) return false;
         ContentLeafBlockNode events = (ContentLeafBlockNode) o;
-        return Objects.equals(literal, events.literal);
+        return Objects.equals(getLiteral(), events.getLiteral());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), literal);
+        return Objects.hash(super.hashCode(), getLiteral());
     }
 }
@@ -0,0 +1,572 @@
+package com.madimadica.hyde.ast;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact, read-only representation of an {@link AST} as parallel primitive arrays, for keeping many parsed documents
+ * in memory, or passing them through high volume pipelines.
+ * <p>
+ * Nodes are numbered in document order, from the root at {@code 0}. Each node has a {@link Kind}, the index of its
+ * parent, first child, and next sibling (or {@link #NONE}), and its source positions, which are {@code 1:1-0:0}
+ * for inline nodes. Any other data of a node is kept in a shared {@code int} pool, where Strings are indexes into
+ * a table in which equal Strings are only stored once.
+ * </p>
+ * <p>
+ * Create one with {@link #of(AST)}, and convert it back into nodes with {@link #toAST()}.
+ * {@link com.madimadica.hyde.renderer.FlatHtmlRenderer} renders it directly.
+ * </p>
+ */
+public final class FlatAST {
+    /**
+     * Index of a missing node or String
+     */
+    public static final int NONE = -1;
+    /**
+     * Index of the document node
+     */
+    public static final int ROOT = 0;
+
+    public enum Kind {
+        DOCUMENT(true),
+        BLOCK_QUOTE(true),
+        LIST(true),
+        LIST_ITEM(true),
+        PARAGRAPH(true),
+        ATX_HEADING(true),
+        SETEXT_HEADING(true),
+        THEMATIC_BREAK(false),
+        BLANK_LINE(false),
+        FENCED_CODE_BLOCK(false),
+        INDENTED_CODE_BLOCK(false),
+        HTML_BLOCK(false),
+        LINK_REFERENCE_DEFINITION(false),
+        TEXT(false),
+        CODE(false),
+        HTML(false),
+        SOFT_BREAK(false),
+        HARD_BREAK(false),
+        BOLD(true),
+        ITALIC(true),
+        LINK(true),
+        IMAGE(true);
+
+        private static final Kind[] VALUES = values();
+        private final boolean container;
+
+        Kind(boolean container) {
+            this.container = container;
+        }
+
+        /**
+         * @return {@code true} if this is a {@link NodeContainer}, which is both entered and exited when visited
+         */
+        public boolean isContainer() {
+            return container;
+        }
+
+        /**
+         * @return {@code true} if this is a block node, which tracks its source positions
+         */
+        public boolean isBlock() {
+            return ordinal() < TEXT.ordinal();
+        }
+    }
+
+    // Slots in the data pool of each kind of node
+    private static final int LITERAL = 0;
+    private static final int HEADING_LEVEL = 1;
+    private static final int FENCED_INFO = 1;
+    private static final int FENCED_TYPE = 2;
+    private static final int FENCED_LENGTH = 3;
+    private static final int FENCED_OFFSET = 4;
+    private static final int HTML_BLOCK_TYPE = 1;
+    private static final int LRD_LABEL = 0;
+    private static final int LRD_DESTINATION = 1;
+    private static final int LRD_TITLE = 2;
+    private static final int LINK_DESTINATION = 0;
+    private static final int LINK_TITLE = 1;
+    private static final int LINK_AUTOLINK = 2;
+    private static final int IMAGE_DESTINATION = 0;
+    private static final int IMAGE_DESCRIPTION = 1;
+    private static final int LIST_TYPE = 0;
+    private static final int LIST_TIGHT = 1;
+    private static final int LIST_BULLET = 2;
+    private static final int LIST_START = 3;
+    private static final int LIST_DELIMITER = 4;
+    private static final int LIST_PADDING = 5;
+    private static final int LIST_MARKER_OFFSET = 6;
+    private static final int LIST_ITEM_SHARES_DATA = 7;
+
+    private final int size;
+    private final byte[] kinds;
+    private final int[] parents;
+    private final int[] firstChildren;
+    private final int[] nextSiblings;
+    private final int[] startLines;
+    private final int[] startColumns;
+    private final int[] endLines;
+    private final int[] endColumns;
+    private final int[] data;
+    private final int[] pool;
+    private final String[] strings;
+
+    private FlatAST(Builder builder) {
+        this.size = builder.size;
+        this.kinds = builder.kinds;
+        this.parents = builder.parents;
+        this.firstChildren = builder.firstChildren;
+        this.nextSiblings = builder.nextSiblings;
+        this.startLines = builder.startLines;
+        this.startColumns = builder.startColumns;
+        this.endLines = builder.endLines;
+        this.endColumns = builder.endColumns;
+        this.data = builder.data;
+        this.pool = Arrays.copyOf(builder.pool, builder.poolSize);
+        this.strings = builder.strings.toArray(new String[0]);
+    }
+
+    /**
+     * Flatten a tree. The tree is not modified, and nothing in the result refers to it.
+     * @param ast tree to flatten
+     * @return flat copy of the tree
+     */
+    public static FlatAST of(AST ast) {
+        int[] count = {0};
+        ast.accept(node -> count[0]++);
+        var builder = new Builder(count[0]);
+        ast.accept(builder);
+        return new FlatAST(builder);
+    }
+
+    /**
+     * @return number of nodes
+     */
+    public int size() {
+        return size;
+    }
+
+    public Kind getKind(int node) {
+        return Kind.VALUES[kinds[node]];
+    }
+
+    public int getParent(int node) {
+        return parents[node];
+    }
+
+    public int getFirstChild(int node) {
+        return firstChildren[node];
+    }
+
+    public int getNextSibling(int node) {
+        return nextSiblings[node];
+    }
+
+    public int getStartLine(int node) {
+        return startLines[node];
+    }
+
+    public int getStartColumn(int node) {
+        return startColumns[node];
+    }
+
+    public int getEndLine(int node) {
+        return endLines[node];
+    }
+
+    public int getEndColumn(int node) {
+        return endColumns[node];
+    }
+
+    /**
+     * @param node a paragraph, heading, code block, HTML block, text, code, or HTML node
+     * @return its literal, which is {@code null} for paragraphs and headings whose original inlines were collected
+     */
+    public String getLiteral(int node) {
+        return string(node, LITERAL);
+    }
+
+    /**
+     * @param node a heading
+     * @return its level, from 1 to 6
+     */
+    public int getHeadingLevel(int node) {
+        return slot(node, HEADING_LEVEL);
+    }
+
+    /**
+     * @param node a fenced code block
+     * @return its info string
+     */
+    public String getInfoString(int node) {
+        return string(node, FENCED_INFO);
+    }
+
+    /**
+     * @param node a link, image, or link reference definition
+     * @return its destination
+     */
+    public String getDestination(int node) {
+        return switch (getKind(node)) {
+            case LINK -> string(node, LINK_DESTINATION);
+            case IMAGE -> string(node, IMAGE_DESTINATION);
+            case LINK_REFERENCE_DEFINITION -> string(node, LRD_DESTINATION);
+            default -> throw new IllegalArgumentException(getKind(node) + " does not have a destination");
+        };
+    }
+
+    /**
+     * @param node a link or link reference definition
+     * @return its title, or {@code null} if it does not have one
+     */
+    public String getTitle(int node) {
+        return switch (getKind(node)) {
+            case LINK -> string(node, LINK_TITLE);
+            case LINK_REFERENCE_DEFINITION -> string(node, LRD_TITLE);
+            default -> throw new IllegalArgumentException(getKind(node) + " does not have a title");
+        };
+    }
+
+    /**
+     * @param node an image
+     * @return its description (title), or {@code null} if it does not have one
+     */
+    public String getDescription(int node) {
+        return string(node, IMAGE_DESCRIPTION);
+    }
+
+    /**
+     * @param node a link
+     * @return {@code true} if it is an autolink
+     */
+    public boolean isAutolink(int node) {
+        return slot(node, LINK_AUTOLINK) != 0;
+    }
+
+    /**
+     * @param node a link reference definition
+     * @return its label
+     */
+    public String getLinkLabel(int node) {
+        return string(node, LRD_LABEL);
+    }
+
+    /**
+     * @param node a list or list item
+     * @return type of the list
+     */
+    public ListData.Type getListType(int node) {
+        return ListData.Type.values()[slot(node, LIST_TYPE)];
+    }
+
+    /**
+     * @param node a list or list item
+     * @return {@code true} if the list is tight
+     */
+    public boolean isTight(int node) {
+        return slot(node, LIST_TIGHT) != 0;
+    }
+
+    /**
+     * @param node a list or list item
+     * @return start number of an ordered list
+     */
+    public int getOrderedStart(int node) {
+        return slot(node, LIST_START);
+    }
+
+    private int slot(int node, int slot) {
+        return pool[data[node] + slot];
+    }
+
+    private String string(int node, int slot) {
+        int index = slot(node, slot);
+        return index == NONE ? null : strings[index];
+    }
+
+    /**
+     * Convert back into a tree of nodes, equivalent to the one this was created from
+     * @return new tree
+     */
+    public AST toAST() {
+        AST ast = new AST();
+        Node[] nodes = new Node[size];
+        nodes[ROOT] = ast.getRoot();
+        for (int i = 0; i < size; ++i) {
+            Node node = i == ROOT ? nodes[ROOT] : createNode(i, nodes);
+            if (node instanceof BlockNode block) {
+                block.setStart(startLines[i], startColumns[i]);
+                block.setEnd(endLines[i], endColumns[i]);
+                block.close();
+            }
+            if (i != ROOT) {
+                // Parents come before their children, which are in order
+                nodes[parents[i]].appendChild(node);
+                nodes[i] = node;
+            }
+        }
+        return ast;
+    }
+
+    private Node createNode(int i, Node[] nodes) {
+        return switch (getKind(i)) {
+            case DOCUMENT -> new DocumentNode();
+            case BLOCK_QUOTE -> new BlockQuoteNode();
+            case LIST -> new ListNode(listData(i));
+            case LIST_ITEM -> new ListItemNode(slot(i, LIST_ITEM_SHARES_DATA) != 0
+                    ? ((ListNode) nodes[parents[i]]).getListData()
+                    : listData(i));
+            case PARAGRAPH -> withLiteral(new ParagraphNode(), i);
+            case ATX_HEADING -> withLiteral(new ATXHeadingNode(getHeadingLevel(i)), i);
+            case SETEXT_HEADING -> withLiteral(new SetextHeadingNode(getHeadingLevel(i)), i);
+            case THEMATIC_BREAK -> new ThematicBreakNode();
+            case BLANK_LINE -> new BlankLineNode();
+            case FENCED_CODE_BLOCK -> withLiteral(new FencedCodeBlockNode(
+                    getInfoString(i), (char) slot(i, FENCED_TYPE), slot(i, FENCED_LENGTH), slot(i, FENCED_OFFSET)
+            ), i);
+            case INDENTED_CODE_BLOCK -> withLiteral(new IndentedCodeBlockNode(), i);
+            case HTML_BLOCK -> withLiteral(new HTMLBlockNode(slot(i, HTML_BLOCK_TYPE)), i);
+            case LINK_REFERENCE_DEFINITION -> new LinkReferenceDefinitionNode(getLinkLabel(i), getDestination(i), getTitle(i));
+            case TEXT -> new InlineTextNode(getLiteral(i));
+            case CODE -> new InlineCodeNode(getLiteral(i));
+            case HTML -> new InlineHTMLNode(getLiteral(i));
+            case SOFT_BREAK -> new InlineSoftBreakNode();
+            case HARD_BREAK -> new InlineHardBreakNode();
+            case BOLD -> new InlineBoldNode();
+            case ITALIC -> new InlineItalicNode();
+            case LINK -> {
+                var link = new InlineLinkNode(getDestination(i), getTitle(i));
+                link.setAutolink(isAutolink(i));
+                yield link;
+            }
+            case IMAGE -> new InlineImageNode(getDestination(i), getDescription(i));
+        };
+    }
+
+    private ContentLeafBlockNode withLiteral(ContentLeafBlockNode node, int i) {
+        node.setLiteral(getLiteral(i));
+        return node;
+    }
+
+    private ListData listData(int i) {
+        var listData = new ListData();
+        listData.setType(getListType(i));
+        listData.setTight(isTight(i));
+        listData.setBulletChar((char) slot(i, LIST_BULLET));
+        listData.setOrderedStart(getOrderedStart(i));
+        listData.setDelimiter((char) slot(i, LIST_DELIMITER));
+        listData.setPadding(slot(i, LIST_PADDING));
+        listData.setMarkerOffset(slot(i, LIST_MARKER_OFFSET));
+        return listData;
+    }
+
+    /**
+     * Fills the arrays in document order, as the tree is visited
+     */
+    private static class Builder implements NodeVisitor {
+        private int size = 0;
+        private final byte[] kinds;
+        private final int[] parents;
+        private final int[] firstChildren;
+        private final int[] nextSiblings;
+        private final int[] lastChildren;
+        private final int[] startLines;
+        private final int[] startColumns;
+        private final int[] endLines;
+        private final int[] endColumns;
+        private final int[] data;
+        private int[] pool;
+        private int poolSize = 0;
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+        // Indexes of the containers from the root to the node being visited
+        private int[] open = new int[16];
+        private int depth = 0;
+
+        Builder(int capacity) {
+            kinds = new byte[capacity];
+            parents = new int[capacity];
+            firstChildren = new int[capacity];
+            nextSiblings = new int[capacity];
+            lastChildren = new int[capacity];
+            startLines = new int[capacity];
+            startColumns = new int[capacity];
+            endLines = new int[capacity];
+            endColumns = new int[capacity];
+            data = new int[capacity];
+            pool = new int[Math.max(16, capacity)];
+        }
+
+        @Override
+        public void enter(Node node) {
+            final int index = size++;
+            final Kind kind = kindOf(node);
+            kinds[index] = (byte) kind.ordinal();
+            firstChildren[index] = NONE;
+            nextSiblings[index] = NONE;
+            lastChildren[index] = NONE;
+            data[index] = NONE;
+
+            int parent = depth == 0 ? NONE : open[depth - 1];
+            parents[index] = parent;
+            if (parent != NONE) {
+                if (lastChildren[parent] == NONE) {
+                    firstChildren[parent] = index;
+                } else {
+                    nextSiblings[lastChildren[parent]] = index;
+                }
+                lastChildren[parent] = index;
+            }
+            if (kind.isContainer()) {
+                if (depth == open.length) {
+                    open = Arrays.copyOf(open, depth * 2);
+                }
+                open[depth++] = index;
+            }
+
+            if (node instanceof BlockNode block) {
+                startLines[index] = block.getStartLine();
+                startColumns[index] = block.getStartColumn();
+                endLines[index] = block.getEndLine();
+                endColumns[index] = block.getEndColumn();
+            } else {
+                startLines[index] = 1;
+                startColumns[index] = 1;
+            }
+            addData(node, index);
+        }
+
+        @Override
+        public void exit(Node node) {
+            --depth;
+        }
+
+        private void addData(Node node, int index) {
+            switch (node) {
+                case ListNode list -> {
+                    data[index] = poolSize;
+                    addListData(list.getListData());
+                }
+                case ListItemNode item -> {
+                    data[index] = poolSize;
+                    addListData(item.getListData());
+                    boolean shared = item.getParent() instanceof ListNode list && list.getListData() == item.getListData();
+                    addInt(shared ? 1 : 0);
+                }
+                case HeadingNode heading -> {
+                    data[index] = poolSize;
+                    addString(heading.getLiteral());
+                    addInt(heading.getLevel());
+                }
+                case FencedCodeBlockNode code -> {
+                    data[index] = poolSize;
+                    addString(code.getLiteral());
+                    addString(code.getInfoString());
+                    addInt(code.getFenceType());
+                    addInt(code.getFenceLength());
+                    addInt(code.getFenceOffset());
+                }
+                case HTMLBlockNode html -> {
+                    data[index] = poolSize;
+                    addString(html.getLiteral());
+                    addInt(html.getTypeId());
+                }
+                case ContentLeafBlockNode content -> {
+                    data[index] = poolSize;
+                    addString(content.getLiteral());
+                }
+                case LinkReferenceDefinitionNode definition -> {
+                    data[index] = poolSize;
+                    addString(definition.getLinkLabel());
+                    addString(definition.getLinkDestination());
+                    addString(definition.getLinkTitle());
+                }
+                case InlineTextNode text -> {
+                    data[index] = poolSize;
+                    addString(text.getLiteral());
+                }
+                case InlineCodeNode code -> {
+                    data[index] = poolSize;
+                    addString(code.getLiteral());
+                }
+                case InlineHTMLNode html -> {
+                    data[index] = poolSize;
+                    addString(html.getLiteral());
+                }
+                case InlineLinkNode link -> {
+                    data[index] = poolSize;
+                    addString(link.getDestination());
+                    addString(link.getTitle());
+                    addInt(link.isAutolink() ? 1 : 0);
+                }
+                case InlineImageNode image -> {
+                    data[index] = poolSize;
+                    addString(image.getDestination());
+                    addString(image.getDescription());
+                }
+                default -> {}
+            }
+        }
+
+        private void addListData(ListData listData) {
+            addInt(listData.getType().ordinal());
+            addInt(listData.isTight() ? 1 : 0);
+            addInt(listData.getBulletChar());
+            addInt(listData.getOrderedStart());
+            addInt(listData.getDelimiter());
+            addInt(listData.getPadding());
+            addInt(listData.getMarkerOffset());
+        }
+
+        private void addString(String s) {
+            if (s == null) {
+                addInt(NONE);
+                return;
+            }
+            Integer stringIndex = stringIndexes.get(s);
+            if (stringIndex == null) {
+                stringIndex = strings.size();
+                strings.add(s);
+                stringIndexes.put(s, stringIndex);
+            }
+            addInt(stringIndex);
+        }
+
+        private void addInt(int value) {
+            if (poolSize == pool.length) {
+                pool = Arrays.copyOf(pool, poolSize * 2);
+            }
+            pool[poolSize++] = value;
+        }
+
+        private static Kind kindOf(Node node) {
+            return switch (node) {
+                case DocumentNode ignored -> Kind.DOCUMENT;
+                case BlockQuoteNode ignored -> Kind.BLOCK_QUOTE;
+                case ListNode ignored -> Kind.LIST;
+                case ListItemNode ignored -> Kind.LIST_ITEM;
+                case ParagraphNode ignored -> Kind.PARAGRAPH;
+                case ATXHeadingNode ignored -> Kind.ATX_HEADING;
+                case SetextHeadingNode ignored -> Kind.SETEXT_HEADING;
+                case ThematicBreakNode ignored -> Kind.THEMATIC_BREAK;
+                case BlankLineNode ignored -> Kind.BLANK_LINE;
+                case FencedCodeBlockNode ignored -> Kind.FENCED_CODE_BLOCK;
+                case IndentedCodeBlockNode ignored -> Kind.INDENTED_CODE_BLOCK;
+                case HTMLBlockNode ignored -> Kind.HTML_BLOCK;
+                case LinkReferenceDefinitionNode ignored -> Kind.LINK_REFERENCE_DEFINITION;
+                case InlineTextNode ignored -> Kind.TEXT;
+                case InlineCodeNode ignored -> Kind.CODE;
+                case InlineHTMLNode ignored -> Kind.HTML;
+                case InlineSoftBreakNode ignored -> Kind.SOFT_BREAK;
+                case InlineHardBreakNode ignored -> Kind.HARD_BREAK;
+                case InlineBoldNode ignored -> Kind.BOLD;
+                case InlineItalicNode ignored -> Kind.ITALIC;
+                case InlineLinkNode ignored -> Kind.LINK;
+                case InlineImageNode ignored -> Kind.IMAGE;
+            };
+        }
+    }
+}
@@ -1,11 +1,36 @@
 package com.madimadica.hyde.ast;
 
+import com.madimadica.hyde.parser.SourcePositions;
+
 public abstract sealed class InlineNode
         extends Node
         permits
         InlineContainerNode,
         InlineLeafNode
 {
+    /**
+     * The parser does not track positions of inline content, so they are only created once they are accessed
+     */
+    private SourcePositions positions;
+
+    /**
+     * @return source positions of this node, which are {@code 1:1-0:0} unless they were set.
+     *         Changes to them are made to this node.
+     */
+    @Override
+    public SourcePositions getPositions() {
+        if (positions == null) {
+            positions = new SourcePositions();
+        }
+        return positions;
+    }
+
+    @Override
+    public void setPositions(SourcePositions positions) {
+        getPositions().setStart(positions.getStartLine(), positions.getStartColumn());
+        getPositions().setEnd(positions.getEndLine(), positions.getEndColumn());
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
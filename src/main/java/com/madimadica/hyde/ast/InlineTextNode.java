@@ -9,6 +9,12 @@ public final class InlineTextNode extends InlineLeafNode {
         this.literal = literal;
     }
 
+    @Override
+    void reset() {
+        super.reset();
+        literal = null;
+    }
+
     public String getLiteral() {
         return literal;
     }
@@ -14,6 +14,19 @@ public class ListData {
     private int padding;
     private int markerOffset;
 
+    /**
+     * Restore the initial values, to be reused by a {@link NodeArena}
+     */
+    void reset() {
+        type = null;
+        tight = true;
+        bulletChar = 0;
+        orderedStart = 0;
+        delimiter = 0;
+        padding = 0;
+        markerOffset = 0;
+    }
+
     public Type getType() {
         return type;
     }
@@ -4,23 +4,23 @@ import com.madimadica.hyde.parser.SourcePositions;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
 public abstract sealed class Node implements Iterable<NodeIterator.Event> permits BlockNode, InlineNode {
-    protected SourcePositions positions = new SourcePositions();
     protected Node parent;
     protected Node firstChild;
     protected Node lastChild;
     protected Node prev;
     protected Node next;
 
-    public SourcePositions getPositions() {
-        return positions;
-    }
+    /**
+     * @return source positions of this node
+     */
+    public abstract SourcePositions getPositions();
 
-    public void setPositions(SourcePositions positions) {
-        this.positions = positions;
-    }
+    /**
+     * @param positions source positions to copy to this node
+     */
+    public abstract void setPositions(SourcePositions positions);
 
     public Node getParent() {
         return parent;
@@ -88,6 +88,13 @@ public abstract sealed class Node implements Iterable<NodeIterator.Event> permit
         parent = next = prev = null;
     }
 
+    /**
+     * Detach from any tree, without updating the other nodes, to be reused by a {@link NodeArena}
+     */
+    void reset() {
+        parent = firstChild = lastChild = prev = next = null;
+    }
+
     public void appendChild(Node child) {
         child.unlink();
         child.parent = this;
@@ -143,14 +150,12 @@ public abstract sealed class Node implements Iterable<NodeIterator.Event> permit
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        Node node = (Node) o;
-        return Objects.equals(positions, node.positions);
+        return o != null && getClass() == o.getClass();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(positions);
+        return getClass().hashCode();
     }
 
     @Override
@@ -158,6 +163,34 @@ public abstract sealed class Node implements Iterable<NodeIterator.Event> permit
         return new NodeIterator(this);
     }
 
+    /**
+     * Visit this node and all of its descendants, depth first, without allocating.
+     * @param visitor callbacks for entering and exiting each node
+     */
+    public void accept(NodeVisitor visitor) {
+        Node node = this;
+        while (true) {
+            // Read before entering, so that any children added by the visitor are not visited
+            Node child = node instanceof NodeContainer ? node.firstChild : null;
+            visitor.enter(node);
+            if (child != null) {
+                node = child;
+                continue;
+            }
+            if (node instanceof NodeContainer) {
+                visitor.exit(node);
+            }
+            while (node != this && node.next == null) {
+                node = node.parent;
+                visitor.exit(node);
+            }
+            if (node == this) {
+                return;
+            }
+            node = node.next;
+        }
+    }
+
     public List<NodeIterator.Event> toList() {
         List<NodeIterator.Event> events = new ArrayList<>();
         for (var event : this) {
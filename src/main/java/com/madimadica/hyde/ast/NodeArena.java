@@ -0,0 +1,152 @@
+package com.madimadica.hyde.ast;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Recycles the most frequently created nodes across parses, so that repeated parses allocate fewer objects.
+ * <p>
+ * Paragraphs, text, soft breaks, and list data are taken from the arena while parsing.
+ * Every object taken since the last {@link #release()} is owned by the arena, and is reused once it is released,
+ * so the trees they were taken for must no longer be used by then.
+ * Released objects are reset, so they do not keep the rest of their old tree reachable.
+ * At most {@link #getMaxPooled()} objects of each type are kept, and any others are left to the garbage collector.
+ * </p>
+ * <p>
+ * This is not thread safe.
+ * </p>
+ */
+public final class NodeArena {
+    /**
+     * Default maximum number of pooled objects of each type
+     */
+    public static final int DEFAULT_MAX_POOLED = 1 << 16;
+
+    private final int maxPooled;
+    private final Pool<ParagraphNode> paragraphs = new Pool<>(ParagraphNode::new, Node::reset);
+    private final Pool<InlineTextNode> texts = new Pool<>(() -> new InlineTextNode(null), Node::reset);
+    private final Pool<InlineSoftBreakNode> softBreaks = new Pool<>(InlineSoftBreakNode::new, Node::reset);
+    private final Pool<ListData> listData = new Pool<>(ListData::new, ListData::reset);
+    private long created;
+    private long reused;
+
+    public NodeArena() {
+        this(DEFAULT_MAX_POOLED);
+    }
+
+    /**
+     * @param maxPooled maximum number of pooled objects of each type
+     */
+    public NodeArena(int maxPooled) {
+        if (maxPooled < 0) {
+            throw new IllegalArgumentException("Maximum pooled objects must be non-negative. Instead found " + maxPooled);
+        }
+        this.maxPooled = maxPooled;
+    }
+
+    public int getMaxPooled() {
+        return maxPooled;
+    }
+
+    /**
+     * @return number of objects taken from the arena that had to be created
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     * @return number of objects taken from the arena that were recycled
+     */
+    public long getReused() {
+        return reused;
+    }
+
+    public ParagraphNode paragraph() {
+        return paragraphs.take();
+    }
+
+    public InlineTextNode text(String literal) {
+        InlineTextNode node = texts.take();
+        node.setLiteral(literal);
+        return node;
+    }
+
+    public InlineSoftBreakNode softBreak() {
+        return softBreaks.take();
+    }
+
+    public ListData listData() {
+        return listData.take();
+    }
+
+    /**
+     * Reset every object taken since the last release, to be reused.
+     * None of them, or the trees they are in, may be used afterward.
+     */
+    public void release() {
+        paragraphs.release();
+        texts.release();
+        softBreaks.release();
+        listData.release();
+    }
+
+    /**
+     * Discard all pooled objects, including any that have not been released
+     */
+    public void clear() {
+        paragraphs.clear();
+        texts.clear();
+        softBreaks.clear();
+        listData.clear();
+    }
+
+    /**
+     * Objects of one type, where the first {@link #taken} are in use, and the rest can be reused
+     */
+    private final class Pool<T> {
+        private final Supplier<T> factory;
+        private final Consumer<T> resetter;
+        private Object[] items = new Object[16];
+        private int size;
+        private int taken;
+
+        Pool(Supplier<T> factory, Consumer<T> resetter) {
+            this.factory = factory;
+            this.resetter = resetter;
+        }
+
+        @SuppressWarnings("unchecked")
+        T take() {
+            if (taken < size) {
+                reused++;
+                return (T) items[taken++];
+            }
+            created++;
+            T item = factory.get();
+            if (size < maxPooled) {
+                if (size == items.length) {
+                    items = Arrays.copyOf(items, Math.min(size * 2, maxPooled));
+                }
+                items[size++] = item;
+                taken = size;
+            }
+            return item;
+        }
+
+        @SuppressWarnings("unchecked")
+        void release() {
+            for (int i = 0; i < taken; ++i) {
+                resetter.accept((T) items[i]);
+            }
+            taken = 0;
+        }
+
+        void clear() {
+            items = new Object[16];
+            size = 0;
+            taken = 0;
+        }
+    }
+}
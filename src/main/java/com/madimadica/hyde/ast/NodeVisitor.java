@@ -0,0 +1,25 @@
+package com.madimadica.hyde.ast;
+
+/**
+ * Callbacks for a depth first traversal with {@link Node#accept(NodeVisitor)}.
+ * <p>
+ * Nodes are visited in the same order as the events of a {@link NodeIterator},
+ * but no event is allocated for each node, so a whole tree can be walked without producing any garbage.
+ * </p>
+ */
+@FunctionalInterface
+public interface NodeVisitor {
+
+    /**
+     * Called before visiting the children of a {@link NodeContainer}, or once for a node that cannot have children.
+     * The visitor may add children to this node, which are not visited, but must not otherwise modify the tree.
+     * @param node node being entered
+     */
+    void enter(Node node);
+
+    /**
+     * Called after visiting the children of a {@link NodeContainer}
+     * @param node node being exited
+     */
+    default void exit(Node node) {}
+}
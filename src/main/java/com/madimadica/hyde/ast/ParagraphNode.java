@@ -1,31 +1,63 @@
 package com.madimadica.hyde.ast;
 
+import com.madimadica.hyde.parser.SourceSlice;
+
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 public final class ParagraphNode extends InlineLeafBlockNode implements AcceptsLines {
 
-    private final List<String> rawLines = new ArrayList<>();
+    private final List<CharSequence> rawLines = new ArrayList<>();
+    /**
+     * Whether {@link #literal} needs to be re-joined from the raw lines.
+     * The literal is built lazily once, instead of on every call to {@link #getLiteral()}.
+     */
+    private boolean literalStale = false;
 
     @Override
     public String getLiteral() {
-        return String.join("\n", rawLines);
+        if (literalStale) {
+            literal = SourceSlice.joinLines(rawLines, 0, rawLines.size());
+            literalStale = false;
+        }
+        return literal;
     }
 
     @Override
     public void setLiteral(String literal) {
         rawLines.clear();
-        rawLines.addAll(Arrays.asList(literal.split("\n")));
+        if (literal == null) {
+            this.literal = null;
+            this.literalStale = false;
+        } else {
+            // Re-joined on the next access, which normalizes away any trailing line endings
+            rawLines.addAll(Arrays.asList(literal.split("\n")));
+            this.literalStale = true;
+        }
     }
 
     @Override
-    public void acceptLine(String line) {
+    void reset() {
+        super.reset();
+        // Keeps the capacity of the lines list for the next paragraph
+        rawLines.clear();
+        literal = "";
+        literalStale = false;
+    }
+
+    @Override
+    public void acceptLine(CharSequence line) {
         rawLines.add(line);
+        literalStale = true;
     }
 
-    public List<String> getRawLines() {
-        return rawLines;
+    /**
+     * @return read-only view of the lines in this paragraph
+     */
+    public List<CharSequence> getRawLines() {
+        return Collections.unmodifiableList(rawLines);
     }
 
     /**
@@ -33,7 +65,7 @@ public final class ParagraphNode extends InlineLeafBlockNode implements AcceptsL
      * technically excluding newlines because paragraphs shouldn't have blank lines
      */
     public boolean isBlank() {
-        return rawLines.isEmpty() || (rawLines.size() == 1 && rawLines.get(0).isBlank());
+        return rawLines.isEmpty() || (rawLines.size() == 1 && SourceSlice.isBlank(rawLines.get(0)));
     }
 
 }
@@ -12,14 +12,14 @@ public abstract sealed class RawLeafBlockNode
         IndentedCodeBlockNode,
         HTMLBlockNode
 {
-    protected List<String> rawLines = new ArrayList<>();
+    protected List<CharSequence> rawLines = new ArrayList<>();
 
     @Override
-    public void acceptLine(String line) {
+    public void acceptLine(CharSequence line) {
         rawLines.add(line);
     }
 
-    public List<String> getRawLines() {
+    public List<CharSequence> getRawLines() {
         return rawLines;
     }
 
@@ -2,15 +2,23 @@ package com.madimadica.hyde.parser;
 
 import com.madimadica.hyde.ast.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.StringJoiner;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import static com.madimadica.hyde.parser.ParserUtils.isSpaceOrTab;
 
 public class BlockParser {
-    private static final Pattern REGEX_LINE_END = Pattern.compile("\\r?\\n|\\r");
     private static final int INDENTED_CODE_BLOCK_INDENT = 4;
 
     private AST ast;
@@ -18,7 +26,9 @@ public class BlockParser {
     private BlockNode prevOpenBlock;
     private BlockNode lastMatchedContainer;
     private String currentLine;
-    private List<String> lines;
+    private String currentLineSource; // String that currentLine is a part of
+    private int currentLineSourceOffset; // Offset of currentLine in currentLineSource
+    private int previousLineLength;
     private int lineNumber;
     private int offset;
     private int column;
@@ -30,10 +40,50 @@ public class BlockParser {
     private boolean partiallyConsumedTab;
     private boolean hasUnclosedBlocks;
     private LinkRefMap linkRefMap;
+    private int linkReferenceDefinitions;
+    private List<InlineLeafBlockNode> inlineLeafBlocks;
+    private Consumer<InlineLeafBlockNode> independentBlockListener;
+    private NodeArena arena;
+    private final ParserOptions options;
+
+    public BlockParser() {
+        this(ParserOptions.getDefaults());
+    }
+
+    /**
+     * @param options parsing options, of which the block level limits apply
+     */
+    public BlockParser(ParserOptions options) {
+        this.options = options;
+    }
 
-    public BlockParser() {}
+    /**
+     * @param ast parsed block structure
+     * @param linkRefMap link reference definitions of the document
+     * @param inlineLeafBlocks paragraphs and headings whose inline content still needs to be parsed, in document order.
+     *                         This is all of them, except any that were given to an independent block listener.
+     */
+    public record Output(AST ast, LinkRefMap linkRefMap, List<InlineLeafBlockNode> inlineLeafBlocks) {}
+
+    /**
+     * Receive paragraphs and headings as soon as they are closed, if their inline content cannot depend on
+     * any link reference definitions, since they contain no {@code [}, except for blank paragraphs that are
+     * removed from the tree once the document is finished. Their content is final, and the parser
+     * never reads or modifies them again, so the listener may parse their inline content on another thread
+     * while the rest of the document is being parsed. They are then left out of {@link Output#inlineLeafBlocks()}.
+     * @param listener listener, or {@code null} for none
+     */
+    void setIndependentBlockListener(Consumer<InlineLeafBlockNode> listener) {
+        this.independentBlockListener = listener;
+    }
 
-    public record Output(AST ast, LinkRefMap linkRefMap) {}
+    /**
+     * Take paragraphs and list data from an arena, instead of always creating them
+     * @param arena arena, or {@code null} for none
+     */
+    void setNodeArena(NodeArena arena) {
+        this.arena = arena;
+    }
 
     /**
      * Parse a string of Markdown text into an AST
@@ -42,23 +92,105 @@ public class BlockParser {
      */
     public Output parse(String input) {
         initialize();
+        if (input.length() > options.maxInputLength()) {
+            input = input.substring(0, options.maxInputLength());
+        }
         if (input.isBlank()) {
-            return new Output(this.ast, this.linkRefMap);
+            return new Output(this.ast, this.linkRefMap, this.inlineLeafBlocks);
         }
 
-        // Security/safety
-        input = input.replace('\0', '\uFFFD');
+        // NUL characters are replaced by the scanner, for security/safety
+        LineScanner lineScanner = new LineScanner(input);
+        while (lineScanner.next()) {
+            String line = lineScanner.line();
+            if (lineScanner.lineHasNul()) {
+                this.processLine(line, line, 0);
+            } else {
+                // Accepted content references the input, instead of a copy of each line
+                this.processLine(line, input, lineScanner.lineStart());
+            }
+        }
+        return finish();
+    }
 
-        lines = List.of(REGEX_LINE_END.split(input));
-        final int totalLines = lines.size();
-        for (int i = 0; i < totalLines; i++) {
-            this.processLine(lines.get(i));
+    /**
+     * Parse Markdown text into an AST, reading it one line at a time.
+     * Only the current line is held in memory, in addition to the AST itself.
+     * The reader is not closed.
+     * @param reader Markdown source to parse
+     * @return {@link Output} abstract syntax tree of the input
+     * @throws IOException if the reader fails
+     */
+    public Output parse(Reader reader) throws IOException {
+        initialize();
+        BufferedReader lineReader = reader instanceof BufferedReader bufferedReader
+                ? bufferedReader
+                : new BufferedReader(reader);
+
+        boolean hasContent = false;
+        int pendingEmptyLines = 0;
+        // Remaining input chars, approximating each line ending as a single char
+        long remainingLength = options.maxInputLength();
+        String line;
+        while (remainingLength > 0 && (line = lineReader.readLine()) != null) {
+            if (line.length() > remainingLength) {
+                line = line.substring(0, (int) remainingLength);
+            }
+            remainingLength -= line.length() + 1L;
+            // Trailing empty lines are dropped, the same as splitting a String input.
+            // So empty lines are only processed once something follows them.
+            if (line.isEmpty()) {
+                pendingEmptyLines++;
+                continue;
+            }
+            for (; pendingEmptyLines > 0; pendingEmptyLines--) {
+                this.processLine("");
+            }
+            hasContent = hasContent || !line.isBlank();
+            // Security/safety
+            this.processLine(line.replace('\0', '\uFFFD'));
         }
-        while (lastOpenBlock != null) {
-            closeBlock(lastOpenBlock, totalLines);
+
+        if (!hasContent) {
+            // Same as a blank String input
+            initialize();
+            return new Output(this.ast, this.linkRefMap, this.inlineLeafBlocks);
         }
+        return finish();
+    }
+
+    /**
+     * Parse UTF-8 encoded Markdown into an AST, reading it one line at a time.
+     * The stream is not closed.
+     * @param inputStream UTF-8 Markdown source to parse
+     * @return {@link Output} abstract syntax tree of the input
+     * @throws IOException if the stream fails
+     * @see #parse(Reader)
+     */
+    public Output parse(InputStream inputStream) throws IOException {
+        return parse(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parse UTF-8 encoded Markdown into an AST, reading it one line at a time.
+     * The channel is not closed.
+     * @param channel UTF-8 Markdown source to parse
+     * @return {@link Output} abstract syntax tree of the input
+     * @throws IOException if the channel fails
+     * @see #parse(Reader)
+     */
+    public Output parse(ReadableByteChannel channel) throws IOException {
+        return parse(Channels.newReader(channel, StandardCharsets.UTF_8));
+    }
 
-        return new Output(this.ast, this.linkRefMap);
+    /**
+     * Close any remaining open blocks after the last line has been processed
+     */
+    private Output finish() {
+        while (lastOpenBlock != null) {
+            closeBlock(lastOpenBlock, lineNumber);
+        }
+        return new Output(this.ast, this.linkRefMap, this.inlineLeafBlocks);
     }
 
     /**
@@ -71,6 +203,9 @@ public class BlockParser {
         prevOpenBlock = root;
         lastMatchedContainer = root;
         currentLine = "";
+        currentLineSource = "";
+        currentLineSourceOffset = 0;
+        previousLineLength = 0;
         lineNumber = 0;
         offset = 0;
         column = 0;
@@ -82,6 +217,8 @@ public class BlockParser {
         partiallyConsumedTab = false;
         hasUnclosedBlocks = false;
         linkRefMap = new LinkRefMap();
+        linkReferenceDefinitions = 0;
+        inlineLeafBlocks = new ArrayList<>();
     }
 
     /**
@@ -209,14 +346,40 @@ public class BlockParser {
     private void closeBlock(BlockNode blockNode, int lineNumber) {
         var parent = blockNode.getParent();
         blockNode.close();
-        int lineLength = lines.get(lineNumber - 1).length();
-        blockNode.getPositions().setEnd(lineNumber, lineLength);
+        blockNode.setEnd(lineNumber, lineLength(lineNumber));
         closeBlock(blockNode);
         lastOpenBlock = parent;
+        if (blockNode instanceof InlineLeafBlockNode inlineLeafBlock) {
+            // Only one leaf block is open at a time, so they are closed in document order.
+            // Blank paragraphs, such as those left by definitions before a setext heading underline,
+            // are kept, so that they are removed from the tree along with any other paragraphs of only definitions.
+            if (independentBlockListener != null && inlineLeafBlock.getLiteral().indexOf('[') < 0
+                    && !(inlineLeafBlock instanceof ParagraphNode paragraph && paragraph.isBlank())) {
+                independentBlockListener.accept(inlineLeafBlock);
+            } else {
+                inlineLeafBlocks.add(inlineLeafBlock);
+            }
+        }
+    }
+
+    /**
+     * Only the current and previous lines are ever needed to close blocks,
+     * so those are the only lengths that are kept.
+     * @param lineNumber the current or previous line number
+     * @return length of that line
+     */
+    private int lineLength(int lineNumber) {
+        if (lineNumber == this.lineNumber) {
+            return currentLine.length();
+        } else if (lineNumber == this.lineNumber - 1) {
+            return previousLineLength;
+        }
+        throw new IllegalArgumentException("Line " + lineNumber + " is no longer available, currently at line " + this.lineNumber);
     }
 
     private static boolean hasLinesBetween(Node first, Node second) {
-        return first.getPositions().getEnd().line() + 1 != second.getPositions().getStart().line();
+        // Children of blocks are always blocks
+        return ((BlockNode) first).getEndLine() + 1 != ((BlockNode) second).getStartLine();
     }
 
 
@@ -225,7 +388,7 @@ public class BlockParser {
      */
     private void closeBlock(BlockNode blockNode) {
         switch (blockNode) {
-            case DocumentNode root -> extractLinkReferenceDefinitions(root);
+            case DocumentNode ignored -> extractLinkReferenceDefinitions();
             case ListNode listNode -> {
                 // Check if it is loose or tight
                 var li = listNode.getFirstChild();
@@ -249,17 +412,17 @@ public class BlockParser {
                     }
                     li = li.getNext();
                 }
-                listNode.getPositions().setEnd(listNode.getLastChild().getPositions().getEnd());
+                var lastItem = (BlockNode) listNode.getLastChild();
+                listNode.setEnd(lastItem.getEndLine(), lastItem.getEndColumn());
                 listNode.getListData().setTight(isTight);
             }
             case ListItemNode li -> {
                 if (li.hasLastChild()) {
-                    li.getPositions().setEnd(
-                            li.getLastChild().getPositions().getEnd()
-                    );
+                    var lastChild = (BlockNode) li.getLastChild();
+                    li.setEnd(lastChild.getEndLine(), lastChild.getEndColumn());
                 } else {
-                    li.getPositions().setEnd(
-                            li.getPositions().getStart().line(),
+                    li.setEnd(
+                            li.getStartLine(),
                             li.getListData().getMinimumIndent()
                     );
                 }
@@ -267,12 +430,8 @@ public class BlockParser {
             case FencedCodeBlockNode codeBlock -> {
                 var rawLines = codeBlock.getRawLines();
                 var totalLines = rawLines.size();
-                StringJoiner contentJoiner = new StringJoiner("\n");
                 // Skip the info-string line
-                for (int i = 1; i < totalLines; ++i) {
-                    contentJoiner.add(rawLines.get(i));
-                }
-                String literal = contentJoiner.toString();
+                String literal = SourceSlice.joinLines(rawLines, 1, totalLines);
                 if (!literal.isEmpty()) {
                     literal += "\n";
                 }
@@ -283,28 +442,37 @@ public class BlockParser {
                 int lastContentLine = rawLines.size() - 1;
                 // Trim empty trailing lines
                 // we know we can safely do this as an indented code block has at least one non-blank line
-                while (rawLines.get(lastContentLine).isBlank()) {
+                while (SourceSlice.isBlank(rawLines.get(lastContentLine))) {
                     lastContentLine--;
                 }
 
-                StringJoiner contentJoiner = new StringJoiner("\n", "", "\n");
-                for (int i = 0; i <= lastContentLine; ++i) {
-                    contentJoiner.add(rawLines.get(i));
-                }
-                codeBlock.setLiteral(contentJoiner.toString());
+                codeBlock.setLiteral(SourceSlice.joinLines(rawLines, 0, lastContentLine + 1) + "\n");
             }
             case HTMLBlockNode htmlBlock ->
-                htmlBlock.setLiteral(String.join("\n", htmlBlock.getRawLines()));
+                htmlBlock.setLiteral(SourceSlice.joinLines(htmlBlock.getRawLines(), 0, htmlBlock.getRawLines().size()));
             default -> {}
         }
     }
 
     private void processLine(final String line) {
+        processLine(line, line, 0);
+    }
+
+    /**
+     * Process the next line of input
+     * @param line content of the line, excluding the line ending
+     * @param source String containing the line, which accepted content will reference
+     * @param sourceOffset offset of the line within the {@code source}
+     */
+    private void processLine(final String line, final String source, final int sourceOffset) {
         lineNumber++;
+        previousLineLength = currentLine.length();
         prevOpenBlock = lastOpenBlock;
         offset = column = 0;
         blank = partiallyConsumedTab = false;
         currentLine = line;
+        currentLineSource = source;
+        currentLineSourceOffset = sourceOffset;
 
         BlockNode lastChild;
         BlockNode container = this.ast.getRoot();
@@ -361,7 +529,7 @@ public class BlockParser {
                     }
                 }
             } else if (offset < line.length() && !blank) {
-                ParagraphNode node = new ParagraphNode();
+                ParagraphNode node = arena == null ? new ParagraphNode() : arena.paragraph();
                 appendChild(node, offset);
                 consumeWhitespaces();
                 acceptLine();
@@ -476,16 +644,23 @@ public class BlockParser {
 
     /**
      * Add the offset content of the current line to the {@code lastOpenBlock}'s content.
+     * Unless a tab was partially consumed, this is a view of the source rather than a copy.
      */
     private void acceptLine() {
         if (lastOpenBlock instanceof AcceptsLines linesBlock) {
-            StringBuilder sb = new StringBuilder();
             if (partiallyConsumedTab) {
                 offset++;
+                StringBuilder sb = new StringBuilder();
                 sb.repeat(' ', currentTabAmount());
+                sb.append(currentLine, offset, currentLine.length());
+                linesBlock.acceptLine(sb.toString());
+            } else {
+                linesBlock.acceptLine(new SourceSlice(
+                        currentLineSource,
+                        currentLineSourceOffset + offset,
+                        currentLineSourceOffset + currentLine.length()
+                ));
             }
-            sb.append(currentLine, offset, currentLine.length());
-            linesBlock.acceptLine(sb.toString());
         } else {
             throw new IllegalStateException("Expected instanceof AcceptsLines, instead found " + lastOpenBlock.getClass().getName());
         }
@@ -503,7 +678,7 @@ public class BlockParser {
         while (!canContain(lastOpenBlock, newBlockNode)) {
             closeBlock(lastOpenBlock, lineNumber - 1);
         }
-        newBlockNode.getPositions().setStart(lineNumber, offset + 1);
+        newBlockNode.setStart(lineNumber, offset + 1);
         lastOpenBlock.appendChild(newBlockNode);
         lastOpenBlock = newBlockNode;
         return newBlockNode;
@@ -572,6 +747,9 @@ public class BlockParser {
         if (indented || peek(nextNonspace) != '>') {
             return null;
         }
+        if (isAtMaxBlockNesting(currentNode)) {
+            return null; // Left as paragraph text
+        }
         consumeWhitespaces(); // indent
         consumeChars(1); // '>'
         consumeWhitespace(1); // optional ' ' after '>'
@@ -872,9 +1050,12 @@ public class BlockParser {
         if (this.indent >= 4) {
             return null;
         }
+        if (isAtMaxBlockNesting(currentNode)) {
+            return null; // Left as paragraph text
+        }
         final int len = currentLine.length();
 
-        ListData listData = new ListData();
+        ListData listData = arena == null ? new ListData() : arena.listData();
         listData.setMarkerOffset(indent);
 
         boolean interruptingParagraph = currentNode instanceof ParagraphNode;
@@ -975,14 +1156,12 @@ public class BlockParser {
     }
 
     /**
-     * Extract any LRDs from paragraphs and add them to the AST.
-     * @param subtreeRoot The node to scan from
+     * Extract any LRDs from the closed paragraphs and add them to the AST,
+     * then drop any paragraphs that are no longer in the AST from the closed inline leaf blocks.
      */
-    private void extractLinkReferenceDefinitions(BlockNode subtreeRoot) {
-        var events = subtreeRoot.toList();
-        for (var nodeEvent : events) {
-            var node = nodeEvent.node();
-            if (nodeEvent.isExiting() || !(node instanceof ParagraphNode paragraphNode)) {
+    private void extractLinkReferenceDefinitions() {
+        for (var inlineLeafBlock : inlineLeafBlocks) {
+            if (!(inlineLeafBlock instanceof ParagraphNode paragraphNode) || paragraphNode.getParent() == null) {
                 continue;
             }
             var links = LinkReferenceDefinitionParser.extractLinks(paragraphNode);
@@ -993,6 +1172,7 @@ public class BlockParser {
                 paragraphNode.unlink();
             }
         }
+        inlineLeafBlocks.removeIf(node -> node.getParent() == null);
     }
 
     /**
@@ -1002,12 +1182,38 @@ public class BlockParser {
      */
     private void addLinks(List<LinkReferenceDefinitionNode> linkNodes, BlockNode source) {
         for (var link : linkNodes) {
-            if (!this.linkRefMap.put(link)) {
-                System.err.println("WARNING: Duplicate link reference definition " + link);
+            // Once over the limit, definitions are not registered, so links to them remain as text
+            if (linkReferenceDefinitions < options.maxLinkReferenceDefinitions()) {
+                if (this.linkRefMap.put(link)) {
+                    linkReferenceDefinitions++;
+                } else {
+                    System.err.println("WARNING: Duplicate link reference definition " + link);
+                }
             }
             source.insertBefore(link);
         }
     }
 
+    /**
+     * Check if a new block quote or list item inside a node would exceed the maximum block nesting
+     * @param node node the new block would be started in
+     * @return {@code true} if no more container blocks may be nested
+     */
+    private boolean isAtMaxBlockNesting(Node node) {
+        final int maxBlockNesting = options.maxBlockNesting();
+        if (maxBlockNesting == ParserOptions.UNLIMITED) {
+            return false;
+        }
+        int depth = 0;
+        for (Node it = node; it != null; it = it.getParent()) {
+            if (it instanceof BlockQuoteNode || it instanceof ListItemNode) {
+                if (++depth >= maxBlockNesting) {
+                    return true;
+                }
+            }
+        }
+        return maxBlockNesting == 0;
+    }
+
 
 }
@@ -0,0 +1,112 @@
+package com.madimadica.hyde.parser;
+
+import com.madimadica.hyde.ast.InlineTextNode;
+
+import java.util.Arrays;
+
+/**
+ * Stack of link and image openers, stored in parallel arrays.
+ * Brackets are referred to by their int index, which is also their depth in the stack.
+ */
+final class BracketStack {
+    static final int NONE = -1;
+
+    private static final int IMAGE = 1;
+    private static final int BRACKET_AFTER = 2;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private InlineTextNode[] textNode = new InlineTextNode[INITIAL_CAPACITY];
+    private int[] prevDelimiter = new int[INITIAL_CAPACITY];
+    private int[] index = new int[INITIAL_CAPACITY];
+    private int[] flags = new int[INITIAL_CAPACITY];
+    private int size = 0;
+    /**
+     * Every link opener below this depth is inactive.
+     * Tracked instead of clearing each opener's flag, so deactivation is constant time.
+     */
+    private int linksInactiveBelow = 0;
+
+    /**
+     * Add an active bracket to the top of the stack
+     * @param textNode TextNode representing this bracket
+     * @param index input position
+     * @param isImage whether this is an image bracket (i.e. {@code ![})
+     * @param prevDelimiter index of the delimiter below this bracket, in the {@link DelimiterStack}
+     */
+    void push(InlineTextNode textNode, int index, boolean isImage, int prevDelimiter) {
+        if (size != 0) {
+            flags[size - 1] |= BRACKET_AFTER;
+        }
+        if (size == this.textNode.length) {
+            int capacity = size * 2;
+            this.textNode = Arrays.copyOf(this.textNode, capacity);
+            this.prevDelimiter = Arrays.copyOf(this.prevDelimiter, capacity);
+            this.index = Arrays.copyOf(this.index, capacity);
+            this.flags = Arrays.copyOf(this.flags, capacity);
+        }
+        this.textNode[size] = textNode;
+        this.prevDelimiter[size] = prevDelimiter;
+        this.index[size] = index;
+        this.flags[size] = isImage ? IMAGE : 0;
+        size++;
+    }
+
+    void pop() {
+        textNode[--size] = null;
+        if (linksInactiveBelow > size) {
+            linksInactiveBelow = size;
+        }
+    }
+
+    /**
+     * @return index of the top bracket, or {@link #NONE} when empty
+     */
+    int peek() {
+        return size - 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        Arrays.fill(textNode, 0, size, null);
+        size = 0;
+        linksInactiveBelow = 0;
+    }
+
+    /**
+     * Deactivate all link openers below the top of the stack, to prevent links within links
+     */
+    void deactivateLinks() {
+        linksInactiveBelow = size;
+    }
+
+    InlineTextNode textNode(int i) {
+        return textNode[i];
+    }
+
+    int prevDelimiter(int i) {
+        return prevDelimiter[i];
+    }
+
+    int index(int i) {
+        return index[i];
+    }
+
+    boolean isImage(int i) {
+        return (flags[i] & IMAGE) != 0;
+    }
+
+    boolean isActive(int i) {
+        return i >= linksInactiveBelow || isImage(i);
+    }
+
+    boolean hasBracketAfter(int i) {
+        return (flags[i] & BRACKET_AFTER) != 0;
+    }
+}
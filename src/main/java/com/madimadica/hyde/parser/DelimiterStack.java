@@ -0,0 +1,179 @@
+package com.madimadica.hyde.parser;
+
+import com.madimadica.hyde.ast.InlineTextNode;
+
+import java.util.Arrays;
+
+/**
+ * Stack of emphasis and smart quote delimiter runs, as a doubly-linked list stored in parallel arrays.
+ * Delimiters are referred to by their int index, with {@link #NONE} as the null index.
+ * <p>
+ * Indices are never reused until the stack is cleared, so pushing only appends to the arrays,
+ * and removing a delimiter just unlinks its index.
+ * </p>
+ * Based around a <a href="https://spec.commonmark.org/0.31.2/#an-algorithm-for-parsing-nested-emphasis-and-links">CommonMark Spec Algorithm</a>
+ */
+final class DelimiterStack {
+    static final int NONE = -1;
+    static final int POTENTIAL_OPENER = 1;
+    static final int POTENTIAL_CLOSER = 2;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private char[] type = new char[INITIAL_CAPACITY];
+    private int[] flags = new int[INITIAL_CAPACITY];
+    private int[] currentRun = new int[INITIAL_CAPACITY];
+    private int[] originalRun = new int[INITIAL_CAPACITY];
+    private int[] prev = new int[INITIAL_CAPACITY];
+    private int[] next = new int[INITIAL_CAPACITY];
+    private InlineTextNode[] textNode = new InlineTextNode[INITIAL_CAPACITY];
+
+    private int allocated = 0;
+    private int top = NONE;
+    private int bottom = NONE;
+
+    /**
+     * Push a new delimiter run onto the top of the stack
+     * @return index of the new delimiter
+     */
+    int push(char type, int runLength, int flags, InlineTextNode textNode) {
+        if (allocated == this.type.length) {
+            grow();
+        }
+        int i = allocated++;
+        this.type[i] = type;
+        this.flags[i] = flags;
+        this.currentRun[i] = runLength;
+        this.originalRun[i] = runLength;
+        this.textNode[i] = textNode;
+        this.prev[i] = top;
+        this.next[i] = NONE;
+        if (top == NONE) {
+            bottom = i;
+        } else {
+            next[top] = i;
+        }
+        return top = i;
+    }
+
+    private void grow() {
+        int capacity = type.length * 2;
+        type = Arrays.copyOf(type, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        currentRun = Arrays.copyOf(currentRun, capacity);
+        originalRun = Arrays.copyOf(originalRun, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        next = Arrays.copyOf(next, capacity);
+        textNode = Arrays.copyOf(textNode, capacity);
+    }
+
+    void pop() {
+        remove(top);
+    }
+
+    /**
+     * Unlink a delimiter from anywhere in the stack
+     * @param i index of a delimiter in this stack
+     */
+    void remove(int i) {
+        int p = prev[i];
+        int n = next[i];
+        if (p == NONE) {
+            bottom = n;
+        } else {
+            next[p] = n;
+        }
+        if (n == NONE) {
+            top = p;
+        } else {
+            prev[n] = p;
+        }
+        prev[i] = next[i] = NONE;
+        textNode[i] = null;
+    }
+
+    /**
+     * Unlink every delimiter strictly between two delimiters, in constant time
+     * @param lower index of the lower delimiter
+     * @param upper index of the upper delimiter, above {@code lower}
+     */
+    void removeBetween(int lower, int upper) {
+        next[lower] = upper;
+        prev[upper] = lower;
+    }
+
+    /**
+     * Remove every delimiter above a given delimiter
+     * @param i index of the new top, or {@link #NONE} to clear the stack
+     */
+    void truncateAbove(int i) {
+        if (i == NONE) {
+            clear();
+        } else {
+            next[i] = NONE;
+            top = i;
+        }
+    }
+
+    void clear() {
+        Arrays.fill(textNode, 0, allocated, null);
+        allocated = 0;
+        top = bottom = NONE;
+    }
+
+    int peek() {
+        return top;
+    }
+
+    int peekBottom() {
+        return bottom;
+    }
+
+    int prev(int i) {
+        return prev[i];
+    }
+
+    int next(int i) {
+        return next[i];
+    }
+
+    char type(int i) {
+        return type[i];
+    }
+
+    boolean isPotentialOpener(int i) {
+        return (flags[i] & POTENTIAL_OPENER) != 0;
+    }
+
+    boolean isPotentialCloser(int i) {
+        return (flags[i] & POTENTIAL_CLOSER) != 0;
+    }
+
+    int currentRun(int i) {
+        return currentRun[i];
+    }
+
+    /**
+     * Consume part of the delimiter run
+     * @return the remaining length of the run
+     */
+    int consume(int i, int count) {
+        return currentRun[i] -= count;
+    }
+
+    int originalRun(int i) {
+        return originalRun[i];
+    }
+
+    /**
+     * Which openers bottom bucket this delimiter belongs to, within its type,
+     * from its opener status and original length mod 3, in [0, 5]
+     */
+    int openersBottomBucket(int i) {
+        return (isPotentialOpener(i) ? 3 : 0) + originalRun[i] % 3;
+    }
+
+    InlineTextNode textNode(int i) {
+        return textNode[i];
+    }
+}
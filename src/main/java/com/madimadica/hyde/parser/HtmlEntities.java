@@ -1,2285 +1,162 @@
 package com.madimadica.hyde.parser;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.function.BiConsumer;
 
+import static com.madimadica.hyde.parser.HtmlEntityTable.*;
+
+/**
+ * Decodes HTML entity references, such as {@code &amp;} and {@code &#x1F480;}.
+ * <p>
+ * The named entities are a table of names sorted in {@code char} order, packed into String constants
+ * along with the end offset of each name and of its decoded value. Nothing is built when the class is initialized,
+ * and names are matched directly against the input by binary search, without allocating a key.
+ * Decoded values are cached in a holder class, which is only initialized once a named entity is first decoded.
+ * </p>
+ */
 public class HtmlEntities {
-    static final Map<String, String> entityMap = new HashMap<>();
+    /**
+     * Number of named entities
+     */
+    private static final int COUNT = NAME_ENDS.length();
+
+    /**
+     * Decoded values, created on first use.
+     * Racing threads may each create a value, but the Strings are equal and immutable, so either can be kept.
+     */
+    private static final class Values {
+        private static final String[] CACHE = new String[COUNT];
+    }
 
+    /**
+     * @param key named entity, including its {@code &} and any {@code ;}
+     * @return decoded entity, or {@code null} if there is no entity of that name
+     */
     public static String get(String key) {
-        return entityMap.get(key);
+        if (key.length() < 2 || key.charAt(0) != '&') {
+            return null;
+        }
+        int index = find(key, 1, key.length());
+        return index < 0 ? null : value(index);
     }
 
+    /**
+     * @param entity entity reference, from {@code &} to {@code ;} inclusive
+     * @return decoded entity, or {@code null} if it is not a valid entity
+     */
     public static String decode(String entity) {
-        if (entity == null || entity.length() < 3 || entity.charAt(0) != '&' || Str.lastChar(entity) != ';') {
+        if (entity == null) {
+            return null;
+        }
+        return decode(entity, 0, entity.length());
+    }
+
+    /**
+     * Decode an entity reference within a larger input, without copying it out
+     * @param s input
+     * @param start index of the {@code &}
+     * @param end index after the {@code ;}
+     * @return decoded entity, or {@code null} if it is not a valid entity
+     */
+    public static String decode(CharSequence s, int start, int end) {
+        if (end - start < 3 || s.charAt(start) != '&' || s.charAt(end - 1) != ';') {
+            return null;
+        }
+        if (s.charAt(start + 1) == '#') {
+            return decodeNumeric(s, start + 2, end - 1);
+        }
+        int index = find(s, start + 1, end);
+        return index < 0 ? null : value(index);
+    }
+
+    /**
+     * @param s input
+     * @param start index after the {@code #}
+     * @param end index of the {@code ;}
+     * @return decoded codepoint, or {@code null} if it is not a valid codepoint
+     */
+    private static String decodeNumeric(CharSequence s, int start, int end) {
+        int radix = 10;
+        if (start < end && (s.charAt(start) == 'x' || s.charAt(start) == 'X')) {
+            radix = 16;
+            start++;
+        }
+        if (start >= end) {
             return null;
         }
-        final int len = entity.length();
-        if (entity.charAt(1) == '#') {
-            if (entity.length() < 4) {
+        int codepoint = 0;
+        for (int i = start; i < end; ++i) {
+            int digit = Character.digit(s.charAt(i), radix);
+            if (digit < 0) {
                 return null;
             }
-            char next = entity.charAt(2);
-            int codepoint;
-            if (next == 'x' || next == 'X') {
-                String hexDigits = entity.substring(3, len - 1);
-                codepoint = Integer.parseInt(hexDigits, 16);
+            codepoint = codepoint * radix + digit;
+            if (codepoint > Character.MAX_CODE_POINT) {
+                return null; // Invalid range
+            }
+        }
+        if (codepoint == 0) {
+            return "\uFFFD";
+        }
+        return Character.toString(codepoint);
+    }
+
+    /**
+     * Binary search for a name
+     * @param s input
+     * @param start start of the name, after the {@code &}
+     * @param end end of the name, including any {@code ;}
+     * @return index of the entity, or -1 if not found
+     */
+    private static int find(CharSequence s, int start, int end) {
+        int lo = 0;
+        int hi = COUNT - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = compareName(mid, s, start, end);
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else if (cmp > 0) {
+                hi = mid - 1;
             } else {
-                String decimalDigits = entity.substring(2, len - 1);
-                codepoint = Integer.parseInt(decimalDigits);
+                return mid;
             }
-            try {
-                if (codepoint == 0) {
-                    return "\uFFFD";
-                }
-                return Character.toString(codepoint);
-            } catch (IllegalArgumentException e) {
-                return null; // Invalid range
+        }
+        return -1;
+    }
+
+    private static int compareName(int index, CharSequence s, int start, int end) {
+        final int nameStart = index == 0 ? 0 : NAME_ENDS.charAt(index - 1);
+        final int nameLength = NAME_ENDS.charAt(index) - nameStart;
+        final int length = end - start;
+        final int common = Math.min(nameLength, length);
+        for (int i = 0; i < common; ++i) {
+            int diff = NAMES.charAt(nameStart + i) - s.charAt(start + i);
+            if (diff != 0) {
+                return diff;
             }
-        } else {
-            return entityMap.get(entity);
         }
+        return nameLength - length;
     }
 
-    private static String ofCodepoints(int... codepoints) {
-        StringBuilder sb = new StringBuilder();
-        for (int codepoint : codepoints) {
-            sb.append(Character.toChars(codepoint));
+    private static String value(int index) {
+        final String[] cache = Values.CACHE;
+        String value = cache[index];
+        if (value == null) {
+            int valueStart = index == 0 ? 0 : VALUE_ENDS.charAt(index - 1);
+            value = VALUES.substring(valueStart, VALUE_ENDS.charAt(index));
+            cache[index] = value;
         }
-        return sb.toString();
+        return value;
     }
 
-    static {
-        entityMap.put("&AElig", ofCodepoints(198));
-        entityMap.put("&AElig;", ofCodepoints(198));
-        entityMap.put("&AMP", ofCodepoints(38));
-        entityMap.put("&AMP;", ofCodepoints(38));
-        entityMap.put("&Aacute", ofCodepoints(193));
-        entityMap.put("&Aacute;", ofCodepoints(193));
-        entityMap.put("&Abreve;", ofCodepoints(258));
-        entityMap.put("&Acirc", ofCodepoints(194));
-        entityMap.put("&Acirc;", ofCodepoints(194));
-        entityMap.put("&Acy;", ofCodepoints(1040));
-        entityMap.put("&Afr;", ofCodepoints(120068));
-        entityMap.put("&Agrave", ofCodepoints(192));
-        entityMap.put("&Agrave;", ofCodepoints(192));
-        entityMap.put("&Alpha;", ofCodepoints(913));
-        entityMap.put("&Amacr;", ofCodepoints(256));
-        entityMap.put("&And;", ofCodepoints(10835));
-        entityMap.put("&Aogon;", ofCodepoints(260));
-        entityMap.put("&Aopf;", ofCodepoints(120120));
-        entityMap.put("&ApplyFunction;", ofCodepoints(8289));
-        entityMap.put("&Aring", ofCodepoints(197));
-        entityMap.put("&Aring;", ofCodepoints(197));
-        entityMap.put("&Ascr;", ofCodepoints(119964));
-        entityMap.put("&Assign;", ofCodepoints(8788));
-        entityMap.put("&Atilde", ofCodepoints(195));
-        entityMap.put("&Atilde;", ofCodepoints(195));
-        entityMap.put("&Auml", ofCodepoints(196));
-        entityMap.put("&Auml;", ofCodepoints(196));
-        entityMap.put("&Backslash;", ofCodepoints(8726));
-        entityMap.put("&Barv;", ofCodepoints(10983));
-        entityMap.put("&Barwed;", ofCodepoints(8966));
-        entityMap.put("&Bcy;", ofCodepoints(1041));
-        entityMap.put("&Because;", ofCodepoints(8757));
-        entityMap.put("&Bernoullis;", ofCodepoints(8492));
-        entityMap.put("&Beta;", ofCodepoints(914));
-        entityMap.put("&Bfr;", ofCodepoints(120069));
-        entityMap.put("&Bopf;", ofCodepoints(120121));
-        entityMap.put("&Breve;", ofCodepoints(728));
-        entityMap.put("&Bscr;", ofCodepoints(8492));
-        entityMap.put("&Bumpeq;", ofCodepoints(8782));
-        entityMap.put("&CHcy;", ofCodepoints(1063));
-        entityMap.put("&COPY", ofCodepoints(169));
-        entityMap.put("&COPY;", ofCodepoints(169));
-        entityMap.put("&Cacute;", ofCodepoints(262));
-        entityMap.put("&Cap;", ofCodepoints(8914));
-        entityMap.put("&CapitalDifferentialD;", ofCodepoints(8517));
-        entityMap.put("&Cayleys;", ofCodepoints(8493));
-        entityMap.put("&Ccaron;", ofCodepoints(268));
-        entityMap.put("&Ccedil", ofCodepoints(199));
-        entityMap.put("&Ccedil;", ofCodepoints(199));
-        entityMap.put("&Ccirc;", ofCodepoints(264));
-        entityMap.put("&Cconint;", ofCodepoints(8752));
-        entityMap.put("&Cdot;", ofCodepoints(266));
-        entityMap.put("&Cedilla;", ofCodepoints(184));
-        entityMap.put("&CenterDot;", ofCodepoints(183));
-        entityMap.put("&Cfr;", ofCodepoints(8493));
-        entityMap.put("&Chi;", ofCodepoints(935));
-        entityMap.put("&CircleDot;", ofCodepoints(8857));
-        entityMap.put("&CircleMinus;", ofCodepoints(8854));
-        entityMap.put("&CirclePlus;", ofCodepoints(8853));
-        entityMap.put("&CircleTimes;", ofCodepoints(8855));
-        entityMap.put("&ClockwiseContourIntegral;", ofCodepoints(8754));
-        entityMap.put("&CloseCurlyDoubleQuote;", ofCodepoints(8221));
-        entityMap.put("&CloseCurlyQuote;", ofCodepoints(8217));
-        entityMap.put("&Colon;", ofCodepoints(8759));
-        entityMap.put("&Colone;", ofCodepoints(10868));
-        entityMap.put("&Congruent;", ofCodepoints(8801));
-        entityMap.put("&Conint;", ofCodepoints(8751));
-        entityMap.put("&ContourIntegral;", ofCodepoints(8750));
-        entityMap.put("&Copf;", ofCodepoints(8450));
-        entityMap.put("&Coproduct;", ofCodepoints(8720));
-        entityMap.put("&CounterClockwiseContourIntegral;", ofCodepoints(8755));
-        entityMap.put("&Cross;", ofCodepoints(10799));
-        entityMap.put("&Cscr;", ofCodepoints(119966));
-        entityMap.put("&Cup;", ofCodepoints(8915));
-        entityMap.put("&CupCap;", ofCodepoints(8781));
-        entityMap.put("&DD;", ofCodepoints(8517));
-        entityMap.put("&DDotrahd;", ofCodepoints(10513));
-        entityMap.put("&DJcy;", ofCodepoints(1026));
-        entityMap.put("&DScy;", ofCodepoints(1029));
-        entityMap.put("&DZcy;", ofCodepoints(1039));
-        entityMap.put("&Dagger;", ofCodepoints(8225));
-        entityMap.put("&Darr;", ofCodepoints(8609));
-        entityMap.put("&Dashv;", ofCodepoints(10980));
-        entityMap.put("&Dcaron;", ofCodepoints(270));
-        entityMap.put("&Dcy;", ofCodepoints(1044));
-        entityMap.put("&Del;", ofCodepoints(8711));
-        entityMap.put("&Delta;", ofCodepoints(916));
-        entityMap.put("&Dfr;", ofCodepoints(120071));
-        entityMap.put("&DiacriticalAcute;", ofCodepoints(180));
-        entityMap.put("&DiacriticalDot;", ofCodepoints(729));
-        entityMap.put("&DiacriticalDoubleAcute;", ofCodepoints(733));
-        entityMap.put("&DiacriticalGrave;", ofCodepoints(96));
-        entityMap.put("&DiacriticalTilde;", ofCodepoints(732));
-        entityMap.put("&Diamond;", ofCodepoints(8900));
-        entityMap.put("&DifferentialD;", ofCodepoints(8518));
-        entityMap.put("&Dopf;", ofCodepoints(120123));
-        entityMap.put("&Dot;", ofCodepoints(168));
-        entityMap.put("&DotDot;", ofCodepoints(8412));
-        entityMap.put("&DotEqual;", ofCodepoints(8784));
-        entityMap.put("&DoubleContourIntegral;", ofCodepoints(8751));
-        entityMap.put("&DoubleDot;", ofCodepoints(168));
-        entityMap.put("&DoubleDownArrow;", ofCodepoints(8659));
-        entityMap.put("&DoubleLeftArrow;", ofCodepoints(8656));
-        entityMap.put("&DoubleLeftRightArrow;", ofCodepoints(8660));
-        entityMap.put("&DoubleLeftTee;", ofCodepoints(10980));
-        entityMap.put("&DoubleLongLeftArrow;", ofCodepoints(10232));
-        entityMap.put("&DoubleLongLeftRightArrow;", ofCodepoints(10234));
-        entityMap.put("&DoubleLongRightArrow;", ofCodepoints(10233));
-        entityMap.put("&DoubleRightArrow;", ofCodepoints(8658));
-        entityMap.put("&DoubleRightTee;", ofCodepoints(8872));
-        entityMap.put("&DoubleUpArrow;", ofCodepoints(8657));
-        entityMap.put("&DoubleUpDownArrow;", ofCodepoints(8661));
-        entityMap.put("&DoubleVerticalBar;", ofCodepoints(8741));
-        entityMap.put("&DownArrow;", ofCodepoints(8595));
-        entityMap.put("&DownArrowBar;", ofCodepoints(10515));
-        entityMap.put("&DownArrowUpArrow;", ofCodepoints(8693));
-        entityMap.put("&DownBreve;", ofCodepoints(785));
-        entityMap.put("&DownLeftRightVector;", ofCodepoints(10576));
-        entityMap.put("&DownLeftTeeVector;", ofCodepoints(10590));
-        entityMap.put("&DownLeftVector;", ofCodepoints(8637));
-        entityMap.put("&DownLeftVectorBar;", ofCodepoints(10582));
-        entityMap.put("&DownRightTeeVector;", ofCodepoints(10591));
-        entityMap.put("&DownRightVector;", ofCodepoints(8641));
-        entityMap.put("&DownRightVectorBar;", ofCodepoints(10583));
-        entityMap.put("&DownTee;", ofCodepoints(8868));
-        entityMap.put("&DownTeeArrow;", ofCodepoints(8615));
-        entityMap.put("&Downarrow;", ofCodepoints(8659));
-        entityMap.put("&Dscr;", ofCodepoints(119967));
-        entityMap.put("&Dstrok;", ofCodepoints(272));
-        entityMap.put("&ENG;", ofCodepoints(330));
-        entityMap.put("&ETH", ofCodepoints(208));
-        entityMap.put("&ETH;", ofCodepoints(208));
-        entityMap.put("&Eacute", ofCodepoints(201));
-        entityMap.put("&Eacute;", ofCodepoints(201));
-        entityMap.put("&Ecaron;", ofCodepoints(282));
-        entityMap.put("&Ecirc", ofCodepoints(202));
-        entityMap.put("&Ecirc;", ofCodepoints(202));
-        entityMap.put("&Ecy;", ofCodepoints(1069));
-        entityMap.put("&Edot;", ofCodepoints(278));
-        entityMap.put("&Efr;", ofCodepoints(120072));
-        entityMap.put("&Egrave", ofCodepoints(200));
-        entityMap.put("&Egrave;", ofCodepoints(200));
-        entityMap.put("&Element;", ofCodepoints(8712));
-        entityMap.put("&Emacr;", ofCodepoints(274));
-        entityMap.put("&EmptySmallSquare;", ofCodepoints(9723));
-        entityMap.put("&EmptyVerySmallSquare;", ofCodepoints(9643));
-        entityMap.put("&Eogon;", ofCodepoints(280));
-        entityMap.put("&Eopf;", ofCodepoints(120124));
-        entityMap.put("&Epsilon;", ofCodepoints(917));
-        entityMap.put("&Equal;", ofCodepoints(10869));
-        entityMap.put("&EqualTilde;", ofCodepoints(8770));
-        entityMap.put("&Equilibrium;", ofCodepoints(8652));
-        entityMap.put("&Escr;", ofCodepoints(8496));
-        entityMap.put("&Esim;", ofCodepoints(10867));
-        entityMap.put("&Eta;", ofCodepoints(919));
-        entityMap.put("&Euml", ofCodepoints(203));
-        entityMap.put("&Euml;", ofCodepoints(203));
-        entityMap.put("&Exists;", ofCodepoints(8707));
-        entityMap.put("&ExponentialE;", ofCodepoints(8519));
-        entityMap.put("&Fcy;", ofCodepoints(1060));
-        entityMap.put("&Ffr;", ofCodepoints(120073));
-        entityMap.put("&FilledSmallSquare;", ofCodepoints(9724));
-        entityMap.put("&FilledVerySmallSquare;", ofCodepoints(9642));
-        entityMap.put("&Fopf;", ofCodepoints(120125));
-        entityMap.put("&ForAll;", ofCodepoints(8704));
-        entityMap.put("&Fouriertrf;", ofCodepoints(8497));
-        entityMap.put("&Fscr;", ofCodepoints(8497));
-        entityMap.put("&GJcy;", ofCodepoints(1027));
-        entityMap.put("&GT", ofCodepoints(62));
-        entityMap.put("&GT;", ofCodepoints(62));
-        entityMap.put("&Gamma;", ofCodepoints(915));
-        entityMap.put("&Gammad;", ofCodepoints(988));
-        entityMap.put("&Gbreve;", ofCodepoints(286));
-        entityMap.put("&Gcedil;", ofCodepoints(290));
-        entityMap.put("&Gcirc;", ofCodepoints(284));
-        entityMap.put("&Gcy;", ofCodepoints(1043));
-        entityMap.put("&Gdot;", ofCodepoints(288));
-        entityMap.put("&Gfr;", ofCodepoints(120074));
-        entityMap.put("&Gg;", ofCodepoints(8921));
-        entityMap.put("&Gopf;", ofCodepoints(120126));
-        entityMap.put("&GreaterEqual;", ofCodepoints(8805));
-        entityMap.put("&GreaterEqualLess;", ofCodepoints(8923));
-        entityMap.put("&GreaterFullEqual;", ofCodepoints(8807));
-        entityMap.put("&GreaterGreater;", ofCodepoints(10914));
-        entityMap.put("&GreaterLess;", ofCodepoints(8823));
-        entityMap.put("&GreaterSlantEqual;", ofCodepoints(10878));
-        entityMap.put("&GreaterTilde;", ofCodepoints(8819));
-        entityMap.put("&Gscr;", ofCodepoints(119970));
-        entityMap.put("&Gt;", ofCodepoints(8811));
-        entityMap.put("&HARDcy;", ofCodepoints(1066));
-        entityMap.put("&Hacek;", ofCodepoints(711));
-        entityMap.put("&Hat;", ofCodepoints(94));
-        entityMap.put("&Hcirc;", ofCodepoints(292));
-        entityMap.put("&Hfr;", ofCodepoints(8460));
-        entityMap.put("&HilbertSpace;", ofCodepoints(8459));
-        entityMap.put("&Hopf;", ofCodepoints(8461));
-        entityMap.put("&HorizontalLine;", ofCodepoints(9472));
-        entityMap.put("&Hscr;", ofCodepoints(8459));
-        entityMap.put("&Hstrok;", ofCodepoints(294));
-        entityMap.put("&HumpDownHump;", ofCodepoints(8782));
-        entityMap.put("&HumpEqual;", ofCodepoints(8783));
-        entityMap.put("&IEcy;", ofCodepoints(1045));
-        entityMap.put("&IJlig;", ofCodepoints(306));
-        entityMap.put("&IOcy;", ofCodepoints(1025));
-        entityMap.put("&Iacute", ofCodepoints(205));
-        entityMap.put("&Iacute;", ofCodepoints(205));
-        entityMap.put("&Icirc", ofCodepoints(206));
-        entityMap.put("&Icirc;", ofCodepoints(206));
-        entityMap.put("&Icy;", ofCodepoints(1048));
-        entityMap.put("&Idot;", ofCodepoints(304));
-        entityMap.put("&Ifr;", ofCodepoints(8465));
-        entityMap.put("&Igrave", ofCodepoints(204));
-        entityMap.put("&Igrave;", ofCodepoints(204));
-        entityMap.put("&Im;", ofCodepoints(8465));
-        entityMap.put("&Imacr;", ofCodepoints(298));
-        entityMap.put("&ImaginaryI;", ofCodepoints(8520));
-        entityMap.put("&Implies;", ofCodepoints(8658));
-        entityMap.put("&Int;", ofCodepoints(8748));
-        entityMap.put("&Integral;", ofCodepoints(8747));
-        entityMap.put("&Intersection;", ofCodepoints(8898));
-        entityMap.put("&InvisibleComma;", ofCodepoints(8291));
-        entityMap.put("&InvisibleTimes;", ofCodepoints(8290));
-        entityMap.put("&Iogon;", ofCodepoints(302));
-        entityMap.put("&Iopf;", ofCodepoints(120128));
-        entityMap.put("&Iota;", ofCodepoints(921));
-        entityMap.put("&Iscr;", ofCodepoints(8464));
-        entityMap.put("&Itilde;", ofCodepoints(296));
-        entityMap.put("&Iukcy;", ofCodepoints(1030));
-        entityMap.put("&Iuml", ofCodepoints(207));
-        entityMap.put("&Iuml;", ofCodepoints(207));
-        entityMap.put("&Jcirc;", ofCodepoints(308));
-        entityMap.put("&Jcy;", ofCodepoints(1049));
-        entityMap.put("&Jfr;", ofCodepoints(120077));
-        entityMap.put("&Jopf;", ofCodepoints(120129));
-        entityMap.put("&Jscr;", ofCodepoints(119973));
-        entityMap.put("&Jsercy;", ofCodepoints(1032));
-        entityMap.put("&Jukcy;", ofCodepoints(1028));
-        entityMap.put("&KHcy;", ofCodepoints(1061));
-        entityMap.put("&KJcy;", ofCodepoints(1036));
-        entityMap.put("&Kappa;", ofCodepoints(922));
-        entityMap.put("&Kcedil;", ofCodepoints(310));
-        entityMap.put("&Kcy;", ofCodepoints(1050));
-        entityMap.put("&Kfr;", ofCodepoints(120078));
-        entityMap.put("&Kopf;", ofCodepoints(120130));
-        entityMap.put("&Kscr;", ofCodepoints(119974));
-        entityMap.put("&LJcy;", ofCodepoints(1033));
-        entityMap.put("&LT", ofCodepoints(60));
-        entityMap.put("&LT;", ofCodepoints(60));
-        entityMap.put("&Lacute;", ofCodepoints(313));
-        entityMap.put("&Lambda;", ofCodepoints(923));
-        entityMap.put("&Lang;", ofCodepoints(10218));
-        entityMap.put("&Laplacetrf;", ofCodepoints(8466));
-        entityMap.put("&Larr;", ofCodepoints(8606));
-        entityMap.put("&Lcaron;", ofCodepoints(317));
-        entityMap.put("&Lcedil;", ofCodepoints(315));
-        entityMap.put("&Lcy;", ofCodepoints(1051));
-        entityMap.put("&LeftAngleBracket;", ofCodepoints(10216));
-        entityMap.put("&LeftArrow;", ofCodepoints(8592));
-        entityMap.put("&LeftArrowBar;", ofCodepoints(8676));
-        entityMap.put("&LeftArrowRightArrow;", ofCodepoints(8646));
-        entityMap.put("&LeftCeiling;", ofCodepoints(8968));
-        entityMap.put("&LeftDoubleBracket;", ofCodepoints(10214));
-        entityMap.put("&LeftDownTeeVector;", ofCodepoints(10593));
-        entityMap.put("&LeftDownVector;", ofCodepoints(8643));
-        entityMap.put("&LeftDownVectorBar;", ofCodepoints(10585));
-        entityMap.put("&LeftFloor;", ofCodepoints(8970));
-        entityMap.put("&LeftRightArrow;", ofCodepoints(8596));
-        entityMap.put("&LeftRightVector;", ofCodepoints(10574));
-        entityMap.put("&LeftTee;", ofCodepoints(8867));
-        entityMap.put("&LeftTeeArrow;", ofCodepoints(8612));
-        entityMap.put("&LeftTeeVector;", ofCodepoints(10586));
-        entityMap.put("&LeftTriangle;", ofCodepoints(8882));
-        entityMap.put("&LeftTriangleBar;", ofCodepoints(10703));
-        entityMap.put("&LeftTriangleEqual;", ofCodepoints(8884));
-        entityMap.put("&LeftUpDownVector;", ofCodepoints(10577));
-        entityMap.put("&LeftUpTeeVector;", ofCodepoints(10592));
-        entityMap.put("&LeftUpVector;", ofCodepoints(8639));
-        entityMap.put("&LeftUpVectorBar;", ofCodepoints(10584));
-        entityMap.put("&LeftVector;", ofCodepoints(8636));
-        entityMap.put("&LeftVectorBar;", ofCodepoints(10578));
-        entityMap.put("&Leftarrow;", ofCodepoints(8656));
-        entityMap.put("&Leftrightarrow;", ofCodepoints(8660));
-        entityMap.put("&LessEqualGreater;", ofCodepoints(8922));
-        entityMap.put("&LessFullEqual;", ofCodepoints(8806));
-        entityMap.put("&LessGreater;", ofCodepoints(8822));
-        entityMap.put("&LessLess;", ofCodepoints(10913));
-        entityMap.put("&LessSlantEqual;", ofCodepoints(10877));
-        entityMap.put("&LessTilde;", ofCodepoints(8818));
-        entityMap.put("&Lfr;", ofCodepoints(120079));
-        entityMap.put("&Ll;", ofCodepoints(8920));
-        entityMap.put("&Lleftarrow;", ofCodepoints(8666));
-        entityMap.put("&Lmidot;", ofCodepoints(319));
-        entityMap.put("&LongLeftArrow;", ofCodepoints(10229));
-        entityMap.put("&LongLeftRightArrow;", ofCodepoints(10231));
-        entityMap.put("&LongRightArrow;", ofCodepoints(10230));
-        entityMap.put("&Longleftarrow;", ofCodepoints(10232));
-        entityMap.put("&Longleftrightarrow;", ofCodepoints(10234));
-        entityMap.put("&Longrightarrow;", ofCodepoints(10233));
-        entityMap.put("&Lopf;", ofCodepoints(120131));
-        entityMap.put("&LowerLeftArrow;", ofCodepoints(8601));
-        entityMap.put("&LowerRightArrow;", ofCodepoints(8600));
-        entityMap.put("&Lscr;", ofCodepoints(8466));
-        entityMap.put("&Lsh;", ofCodepoints(8624));
-        entityMap.put("&Lstrok;", ofCodepoints(321));
-        entityMap.put("&Lt;", ofCodepoints(8810));
-        entityMap.put("&Map;", ofCodepoints(10501));
-        entityMap.put("&Mcy;", ofCodepoints(1052));
-        entityMap.put("&MediumSpace;", ofCodepoints(8287));
-        entityMap.put("&Mellintrf;", ofCodepoints(8499));
-        entityMap.put("&Mfr;", ofCodepoints(120080));
-        entityMap.put("&MinusPlus;", ofCodepoints(8723));
-        entityMap.put("&Mopf;", ofCodepoints(120132));
-        entityMap.put("&Mscr;", ofCodepoints(8499));
-        entityMap.put("&Mu;", ofCodepoints(924));
-        entityMap.put("&NJcy;", ofCodepoints(1034));
-        entityMap.put("&Nacute;", ofCodepoints(323));
-        entityMap.put("&Ncaron;", ofCodepoints(327));
-        entityMap.put("&Ncedil;", ofCodepoints(325));
-        entityMap.put("&Ncy;", ofCodepoints(1053));
-        entityMap.put("&NegativeMediumSpace;", ofCodepoints(8203));
-        entityMap.put("&NegativeThickSpace;", ofCodepoints(8203));
-        entityMap.put("&NegativeThinSpace;", ofCodepoints(8203));
-        entityMap.put("&NegativeVeryThinSpace;", ofCodepoints(8203));
-        entityMap.put("&NestedGreaterGreater;", ofCodepoints(8811));
-        entityMap.put("&NestedLessLess;", ofCodepoints(8810));
-        entityMap.put("&NewLine;", ofCodepoints(10));
-        entityMap.put("&Nfr;", ofCodepoints(120081));
-        entityMap.put("&NoBreak;", ofCodepoints(8288));
-        entityMap.put("&NonBreakingSpace;", ofCodepoints(160));
-        entityMap.put("&Nopf;", ofCodepoints(8469));
-        entityMap.put("&Not;", ofCodepoints(10988));
-        entityMap.put("&NotCongruent;", ofCodepoints(8802));
-        entityMap.put("&NotCupCap;", ofCodepoints(8813));
-        entityMap.put("&NotDoubleVerticalBar;", ofCodepoints(8742));
-        entityMap.put("&NotElement;", ofCodepoints(8713));
-        entityMap.put("&NotEqual;", ofCodepoints(8800));
-        entityMap.put("&NotEqualTilde;", ofCodepoints(8770, 824));
-        entityMap.put("&NotExists;", ofCodepoints(8708));
-        entityMap.put("&NotGreater;", ofCodepoints(8815));
-        entityMap.put("&NotGreaterEqual;", ofCodepoints(8817));
-        entityMap.put("&NotGreaterFullEqual;", ofCodepoints(8807, 824));
-        entityMap.put("&NotGreaterGreater;", ofCodepoints(8811, 824));
-        entityMap.put("&NotGreaterLess;", ofCodepoints(8825));
-        entityMap.put("&NotGreaterSlantEqual;", ofCodepoints(10878, 824));
-        entityMap.put("&NotGreaterTilde;", ofCodepoints(8821));
-        entityMap.put("&NotHumpDownHump;", ofCodepoints(8782, 824));
-        entityMap.put("&NotHumpEqual;", ofCodepoints(8783, 824));
-        entityMap.put("&NotLeftTriangle;", ofCodepoints(8938));
-        entityMap.put("&NotLeftTriangleBar;", ofCodepoints(10703, 824));
-        entityMap.put("&NotLeftTriangleEqual;", ofCodepoints(8940));
-        entityMap.put("&NotLess;", ofCodepoints(8814));
-        entityMap.put("&NotLessEqual;", ofCodepoints(8816));
-        entityMap.put("&NotLessGreater;", ofCodepoints(8824));
-        entityMap.put("&NotLessLess;", ofCodepoints(8810, 824));
-        entityMap.put("&NotLessSlantEqual;", ofCodepoints(10877, 824));
-        entityMap.put("&NotLessTilde;", ofCodepoints(8820));
-        entityMap.put("&NotNestedGreaterGreater;", ofCodepoints(10914, 824));
-        entityMap.put("&NotNestedLessLess;", ofCodepoints(10913, 824));
-        entityMap.put("&NotPrecedes;", ofCodepoints(8832));
-        entityMap.put("&NotPrecedesEqual;", ofCodepoints(10927, 824));
-        entityMap.put("&NotPrecedesSlantEqual;", ofCodepoints(8928));
-        entityMap.put("&NotReverseElement;", ofCodepoints(8716));
-        entityMap.put("&NotRightTriangle;", ofCodepoints(8939));
-        entityMap.put("&NotRightTriangleBar;", ofCodepoints(10704, 824));
-        entityMap.put("&NotRightTriangleEqual;", ofCodepoints(8941));
-        entityMap.put("&NotSquareSubset;", ofCodepoints(8847, 824));
-        entityMap.put("&NotSquareSubsetEqual;", ofCodepoints(8930));
-        entityMap.put("&NotSquareSuperset;", ofCodepoints(8848, 824));
-        entityMap.put("&NotSquareSupersetEqual;", ofCodepoints(8931));
-        entityMap.put("&NotSubset;", ofCodepoints(8834, 8402));
-        entityMap.put("&NotSubsetEqual;", ofCodepoints(8840));
-        entityMap.put("&NotSucceeds;", ofCodepoints(8833));
-        entityMap.put("&NotSucceedsEqual;", ofCodepoints(10928, 824));
-        entityMap.put("&NotSucceedsSlantEqual;", ofCodepoints(8929));
-        entityMap.put("&NotSucceedsTilde;", ofCodepoints(8831, 824));
-        entityMap.put("&NotSuperset;", ofCodepoints(8835, 8402));
-        entityMap.put("&NotSupersetEqual;", ofCodepoints(8841));
-        entityMap.put("&NotTilde;", ofCodepoints(8769));
-        entityMap.put("&NotTildeEqual;", ofCodepoints(8772));
-        entityMap.put("&NotTildeFullEqual;", ofCodepoints(8775));
-        entityMap.put("&NotTildeTilde;", ofCodepoints(8777));
-        entityMap.put("&NotVerticalBar;", ofCodepoints(8740));
-        entityMap.put("&Nscr;", ofCodepoints(119977));
-        entityMap.put("&Ntilde", ofCodepoints(209));
-        entityMap.put("&Ntilde;", ofCodepoints(209));
-        entityMap.put("&Nu;", ofCodepoints(925));
-        entityMap.put("&OElig;", ofCodepoints(338));
-        entityMap.put("&Oacute", ofCodepoints(211));
-        entityMap.put("&Oacute;", ofCodepoints(211));
-        entityMap.put("&Ocirc", ofCodepoints(212));
-        entityMap.put("&Ocirc;", ofCodepoints(212));
-        entityMap.put("&Ocy;", ofCodepoints(1054));
-        entityMap.put("&Odblac;", ofCodepoints(336));
-        entityMap.put("&Ofr;", ofCodepoints(120082));
-        entityMap.put("&Ograve", ofCodepoints(210));
-        entityMap.put("&Ograve;", ofCodepoints(210));
-        entityMap.put("&Omacr;", ofCodepoints(332));
-        entityMap.put("&Omega;", ofCodepoints(937));
-        entityMap.put("&Omicron;", ofCodepoints(927));
-        entityMap.put("&Oopf;", ofCodepoints(120134));
-        entityMap.put("&OpenCurlyDoubleQuote;", ofCodepoints(8220));
-        entityMap.put("&OpenCurlyQuote;", ofCodepoints(8216));
-        entityMap.put("&Or;", ofCodepoints(10836));
-        entityMap.put("&Oscr;", ofCodepoints(119978));
-        entityMap.put("&Oslash", ofCodepoints(216));
-        entityMap.put("&Oslash;", ofCodepoints(216));
-        entityMap.put("&Otilde", ofCodepoints(213));
-        entityMap.put("&Otilde;", ofCodepoints(213));
-        entityMap.put("&Otimes;", ofCodepoints(10807));
-        entityMap.put("&Ouml", ofCodepoints(214));
-        entityMap.put("&Ouml;", ofCodepoints(214));
-        entityMap.put("&OverBar;", ofCodepoints(8254));
-        entityMap.put("&OverBrace;", ofCodepoints(9182));
-        entityMap.put("&OverBracket;", ofCodepoints(9140));
-        entityMap.put("&OverParenthesis;", ofCodepoints(9180));
-        entityMap.put("&PartialD;", ofCodepoints(8706));
-        entityMap.put("&Pcy;", ofCodepoints(1055));
-        entityMap.put("&Pfr;", ofCodepoints(120083));
-        entityMap.put("&Phi;", ofCodepoints(934));
-        entityMap.put("&Pi;", ofCodepoints(928));
-        entityMap.put("&PlusMinus;", ofCodepoints(177));
-        entityMap.put("&Poincareplane;", ofCodepoints(8460));
-        entityMap.put("&Popf;", ofCodepoints(8473));
-        entityMap.put("&Pr;", ofCodepoints(10939));
-        entityMap.put("&Precedes;", ofCodepoints(8826));
-        entityMap.put("&PrecedesEqual;", ofCodepoints(10927));
-        entityMap.put("&PrecedesSlantEqual;", ofCodepoints(8828));
-        entityMap.put("&PrecedesTilde;", ofCodepoints(8830));
-        entityMap.put("&Prime;", ofCodepoints(8243));
-        entityMap.put("&Product;", ofCodepoints(8719));
-        entityMap.put("&Proportion;", ofCodepoints(8759));
-        entityMap.put("&Proportional;", ofCodepoints(8733));
-        entityMap.put("&Pscr;", ofCodepoints(119979));
-        entityMap.put("&Psi;", ofCodepoints(936));
-        entityMap.put("&QUOT", ofCodepoints(34));
-        entityMap.put("&QUOT;", ofCodepoints(34));
-        entityMap.put("&Qfr;", ofCodepoints(120084));
-        entityMap.put("&Qopf;", ofCodepoints(8474));
-        entityMap.put("&Qscr;", ofCodepoints(119980));
-        entityMap.put("&RBarr;", ofCodepoints(10512));
-        entityMap.put("&REG", ofCodepoints(174));
-        entityMap.put("&REG;", ofCodepoints(174));
-        entityMap.put("&Racute;", ofCodepoints(340));
-        entityMap.put("&Rang;", ofCodepoints(10219));
-        entityMap.put("&Rarr;", ofCodepoints(8608));
-        entityMap.put("&Rarrtl;", ofCodepoints(10518));
-        entityMap.put("&Rcaron;", ofCodepoints(344));
-        entityMap.put("&Rcedil;", ofCodepoints(342));
-        entityMap.put("&Rcy;", ofCodepoints(1056));
-        entityMap.put("&Re;", ofCodepoints(8476));
-        entityMap.put("&ReverseElement;", ofCodepoints(8715));
-        entityMap.put("&ReverseEquilibrium;", ofCodepoints(8651));
-        entityMap.put("&ReverseUpEquilibrium;", ofCodepoints(10607));
-        entityMap.put("&Rfr;", ofCodepoints(8476));
-        entityMap.put("&Rho;", ofCodepoints(929));
-        entityMap.put("&RightAngleBracket;", ofCodepoints(10217));
-        entityMap.put("&RightArrow;", ofCodepoints(8594));
-        entityMap.put("&RightArrowBar;", ofCodepoints(8677));
-        entityMap.put("&RightArrowLeftArrow;", ofCodepoints(8644));
-        entityMap.put("&RightCeiling;", ofCodepoints(8969));
-        entityMap.put("&RightDoubleBracket;", ofCodepoints(10215));
-        entityMap.put("&RightDownTeeVector;", ofCodepoints(10589));
-        entityMap.put("&RightDownVector;", ofCodepoints(8642));
-        entityMap.put("&RightDownVectorBar;", ofCodepoints(10581));
-        entityMap.put("&RightFloor;", ofCodepoints(8971));
-        entityMap.put("&RightTee;", ofCodepoints(8866));
-        entityMap.put("&RightTeeArrow;", ofCodepoints(8614));
-        entityMap.put("&RightTeeVector;", ofCodepoints(10587));
-        entityMap.put("&RightTriangle;", ofCodepoints(8883));
-        entityMap.put("&RightTriangleBar;", ofCodepoints(10704));
-        entityMap.put("&RightTriangleEqual;", ofCodepoints(8885));
-        entityMap.put("&RightUpDownVector;", ofCodepoints(10575));
-        entityMap.put("&RightUpTeeVector;", ofCodepoints(10588));
-        entityMap.put("&RightUpVector;", ofCodepoints(8638));
-        entityMap.put("&RightUpVectorBar;", ofCodepoints(10580));
-        entityMap.put("&RightVector;", ofCodepoints(8640));
-        entityMap.put("&RightVectorBar;", ofCodepoints(10579));
-        entityMap.put("&Rightarrow;", ofCodepoints(8658));
-        entityMap.put("&Ropf;", ofCodepoints(8477));
-        entityMap.put("&RoundImplies;", ofCodepoints(10608));
-        entityMap.put("&Rrightarrow;", ofCodepoints(8667));
-        entityMap.put("&Rscr;", ofCodepoints(8475));
-        entityMap.put("&Rsh;", ofCodepoints(8625));
-        entityMap.put("&RuleDelayed;", ofCodepoints(10740));
-        entityMap.put("&SHCHcy;", ofCodepoints(1065));
-        entityMap.put("&SHcy;", ofCodepoints(1064));
-        entityMap.put("&SOFTcy;", ofCodepoints(1068));
-        entityMap.put("&Sacute;", ofCodepoints(346));
-        entityMap.put("&Sc;", ofCodepoints(10940));
-        entityMap.put("&Scaron;", ofCodepoints(352));
-        entityMap.put("&Scedil;", ofCodepoints(350));
-        entityMap.put("&Scirc;", ofCodepoints(348));
-        entityMap.put("&Scy;", ofCodepoints(1057));
-        entityMap.put("&Sfr;", ofCodepoints(120086));
-        entityMap.put("&ShortDownArrow;", ofCodepoints(8595));
-        entityMap.put("&ShortLeftArrow;", ofCodepoints(8592));
-        entityMap.put("&ShortRightArrow;", ofCodepoints(8594));
-        entityMap.put("&ShortUpArrow;", ofCodepoints(8593));
-        entityMap.put("&Sigma;", ofCodepoints(931));
-        entityMap.put("&SmallCircle;", ofCodepoints(8728));
-        entityMap.put("&Sopf;", ofCodepoints(120138));
-        entityMap.put("&Sqrt;", ofCodepoints(8730));
-        entityMap.put("&Square;", ofCodepoints(9633));
-        entityMap.put("&SquareIntersection;", ofCodepoints(8851));
-        entityMap.put("&SquareSubset;", ofCodepoints(8847));
-        entityMap.put("&SquareSubsetEqual;", ofCodepoints(8849));
-        entityMap.put("&SquareSuperset;", ofCodepoints(8848));
-        entityMap.put("&SquareSupersetEqual;", ofCodepoints(8850));
-        entityMap.put("&SquareUnion;", ofCodepoints(8852));
-        entityMap.put("&Sscr;", ofCodepoints(119982));
-        entityMap.put("&Star;", ofCodepoints(8902));
-        entityMap.put("&Sub;", ofCodepoints(8912));
-        entityMap.put("&Subset;", ofCodepoints(8912));
-        entityMap.put("&SubsetEqual;", ofCodepoints(8838));
-        entityMap.put("&Succeeds;", ofCodepoints(8827));
-        entityMap.put("&SucceedsEqual;", ofCodepoints(10928));
-        entityMap.put("&SucceedsSlantEqual;", ofCodepoints(8829));
-        entityMap.put("&SucceedsTilde;", ofCodepoints(8831));
-        entityMap.put("&SuchThat;", ofCodepoints(8715));
-        entityMap.put("&Sum;", ofCodepoints(8721));
-        entityMap.put("&Sup;", ofCodepoints(8913));
-        entityMap.put("&Superset;", ofCodepoints(8835));
-        entityMap.put("&SupersetEqual;", ofCodepoints(8839));
-        entityMap.put("&Supset;", ofCodepoints(8913));
-        entityMap.put("&THORN", ofCodepoints(222));
-        entityMap.put("&THORN;", ofCodepoints(222));
-        entityMap.put("&TRADE;", ofCodepoints(8482));
-        entityMap.put("&TSHcy;", ofCodepoints(1035));
-        entityMap.put("&TScy;", ofCodepoints(1062));
-        entityMap.put("&Tab;", ofCodepoints(9));
-        entityMap.put("&Tau;", ofCodepoints(932));
-        entityMap.put("&Tcaron;", ofCodepoints(356));
-        entityMap.put("&Tcedil;", ofCodepoints(354));
-        entityMap.put("&Tcy;", ofCodepoints(1058));
-        entityMap.put("&Tfr;", ofCodepoints(120087));
-        entityMap.put("&Therefore;", ofCodepoints(8756));
-        entityMap.put("&Theta;", ofCodepoints(920));
-        entityMap.put("&ThickSpace;", ofCodepoints(8287, 8202));
-        entityMap.put("&ThinSpace;", ofCodepoints(8201));
-        entityMap.put("&Tilde;", ofCodepoints(8764));
-        entityMap.put("&TildeEqual;", ofCodepoints(8771));
-        entityMap.put("&TildeFullEqual;", ofCodepoints(8773));
-        entityMap.put("&TildeTilde;", ofCodepoints(8776));
-        entityMap.put("&Topf;", ofCodepoints(120139));
-        entityMap.put("&TripleDot;", ofCodepoints(8411));
-        entityMap.put("&Tscr;", ofCodepoints(119983));
-        entityMap.put("&Tstrok;", ofCodepoints(358));
-        entityMap.put("&Uacute", ofCodepoints(218));
-        entityMap.put("&Uacute;", ofCodepoints(218));
-        entityMap.put("&Uarr;", ofCodepoints(8607));
-        entityMap.put("&Uarrocir;", ofCodepoints(10569));
-        entityMap.put("&Ubrcy;", ofCodepoints(1038));
-        entityMap.put("&Ubreve;", ofCodepoints(364));
-        entityMap.put("&Ucirc", ofCodepoints(219));
-        entityMap.put("&Ucirc;", ofCodepoints(219));
-        entityMap.put("&Ucy;", ofCodepoints(1059));
-        entityMap.put("&Udblac;", ofCodepoints(368));
-        entityMap.put("&Ufr;", ofCodepoints(120088));
-        entityMap.put("&Ugrave", ofCodepoints(217));
-        entityMap.put("&Ugrave;", ofCodepoints(217));
-        entityMap.put("&Umacr;", ofCodepoints(362));
-        entityMap.put("&UnderBar;", ofCodepoints(95));
-        entityMap.put("&UnderBrace;", ofCodepoints(9183));
-        entityMap.put("&UnderBracket;", ofCodepoints(9141));
-        entityMap.put("&UnderParenthesis;", ofCodepoints(9181));
-        entityMap.put("&Union;", ofCodepoints(8899));
-        entityMap.put("&UnionPlus;", ofCodepoints(8846));
-        entityMap.put("&Uogon;", ofCodepoints(370));
-        entityMap.put("&Uopf;", ofCodepoints(120140));
-        entityMap.put("&UpArrow;", ofCodepoints(8593));
-        entityMap.put("&UpArrowBar;", ofCodepoints(10514));
-        entityMap.put("&UpArrowDownArrow;", ofCodepoints(8645));
-        entityMap.put("&UpDownArrow;", ofCodepoints(8597));
-        entityMap.put("&UpEquilibrium;", ofCodepoints(10606));
-        entityMap.put("&UpTee;", ofCodepoints(8869));
-        entityMap.put("&UpTeeArrow;", ofCodepoints(8613));
-        entityMap.put("&Uparrow;", ofCodepoints(8657));
-        entityMap.put("&Updownarrow;", ofCodepoints(8661));
-        entityMap.put("&UpperLeftArrow;", ofCodepoints(8598));
-        entityMap.put("&UpperRightArrow;", ofCodepoints(8599));
-        entityMap.put("&Upsi;", ofCodepoints(978));
-        entityMap.put("&Upsilon;", ofCodepoints(933));
-        entityMap.put("&Uring;", ofCodepoints(366));
-        entityMap.put("&Uscr;", ofCodepoints(119984));
-        entityMap.put("&Utilde;", ofCodepoints(360));
-        entityMap.put("&Uuml", ofCodepoints(220));
-        entityMap.put("&Uuml;", ofCodepoints(220));
-        entityMap.put("&VDash;", ofCodepoints(8875));
-        entityMap.put("&Vbar;", ofCodepoints(10987));
-        entityMap.put("&Vcy;", ofCodepoints(1042));
-        entityMap.put("&Vdash;", ofCodepoints(8873));
-        entityMap.put("&Vdashl;", ofCodepoints(10982));
-        entityMap.put("&Vee;", ofCodepoints(8897));
-        entityMap.put("&Verbar;", ofCodepoints(8214));
-        entityMap.put("&Vert;", ofCodepoints(8214));
-        entityMap.put("&VerticalBar;", ofCodepoints(8739));
-        entityMap.put("&VerticalLine;", ofCodepoints(124));
-        entityMap.put("&VerticalSeparator;", ofCodepoints(10072));
-        entityMap.put("&VerticalTilde;", ofCodepoints(8768));
-        entityMap.put("&VeryThinSpace;", ofCodepoints(8202));
-        entityMap.put("&Vfr;", ofCodepoints(120089));
-        entityMap.put("&Vopf;", ofCodepoints(120141));
-        entityMap.put("&Vscr;", ofCodepoints(119985));
-        entityMap.put("&Vvdash;", ofCodepoints(8874));
-        entityMap.put("&Wcirc;", ofCodepoints(372));
-        entityMap.put("&Wedge;", ofCodepoints(8896));
-        entityMap.put("&Wfr;", ofCodepoints(120090));
-        entityMap.put("&Wopf;", ofCodepoints(120142));
-        entityMap.put("&Wscr;", ofCodepoints(119986));
-        entityMap.put("&Xfr;", ofCodepoints(120091));
-        entityMap.put("&Xi;", ofCodepoints(926));
-        entityMap.put("&Xopf;", ofCodepoints(120143));
-        entityMap.put("&Xscr;", ofCodepoints(119987));
-        entityMap.put("&YAcy;", ofCodepoints(1071));
-        entityMap.put("&YIcy;", ofCodepoints(1031));
-        entityMap.put("&YUcy;", ofCodepoints(1070));
-        entityMap.put("&Yacute", ofCodepoints(221));
-        entityMap.put("&Yacute;", ofCodepoints(221));
-        entityMap.put("&Ycirc;", ofCodepoints(374));
-        entityMap.put("&Ycy;", ofCodepoints(1067));
-        entityMap.put("&Yfr;", ofCodepoints(120092));
-        entityMap.put("&Yopf;", ofCodepoints(120144));
-        entityMap.put("&Yscr;", ofCodepoints(119988));
-        entityMap.put("&Yuml;", ofCodepoints(376));
-        entityMap.put("&ZHcy;", ofCodepoints(1046));
-        entityMap.put("&Zacute;", ofCodepoints(377));
-        entityMap.put("&Zcaron;", ofCodepoints(381));
-        entityMap.put("&Zcy;", ofCodepoints(1047));
-        entityMap.put("&Zdot;", ofCodepoints(379));
-        entityMap.put("&ZeroWidthSpace;", ofCodepoints(8203));
-        entityMap.put("&Zeta;", ofCodepoints(918));
-        entityMap.put("&Zfr;", ofCodepoints(8488));
-        entityMap.put("&Zopf;", ofCodepoints(8484));
-        entityMap.put("&Zscr;", ofCodepoints(119989));
-        entityMap.put("&aacute", ofCodepoints(225));
-        entityMap.put("&aacute;", ofCodepoints(225));
-        entityMap.put("&abreve;", ofCodepoints(259));
-        entityMap.put("&ac;", ofCodepoints(8766));
-        entityMap.put("&acE;", ofCodepoints(8766, 819));
-        entityMap.put("&acd;", ofCodepoints(8767));
-        entityMap.put("&acirc", ofCodepoints(226));
-        entityMap.put("&acirc;", ofCodepoints(226));
-        entityMap.put("&acute", ofCodepoints(180));
-        entityMap.put("&acute;", ofCodepoints(180));
-        entityMap.put("&acy;", ofCodepoints(1072));
-        entityMap.put("&aelig", ofCodepoints(230));
-        entityMap.put("&aelig;", ofCodepoints(230));
-        entityMap.put("&af;", ofCodepoints(8289));
-        entityMap.put("&afr;", ofCodepoints(120094));
-        entityMap.put("&agrave", ofCodepoints(224));
-        entityMap.put("&agrave;", ofCodepoints(224));
-        entityMap.put("&alefsym;", ofCodepoints(8501));
-        entityMap.put("&aleph;", ofCodepoints(8501));
-        entityMap.put("&alpha;", ofCodepoints(945));
-        entityMap.put("&amacr;", ofCodepoints(257));
-        entityMap.put("&amalg;", ofCodepoints(10815));
-        entityMap.put("&amp", ofCodepoints(38));
-        entityMap.put("&amp;", ofCodepoints(38));
-        entityMap.put("&and;", ofCodepoints(8743));
-        entityMap.put("&andand;", ofCodepoints(10837));
-        entityMap.put("&andd;", ofCodepoints(10844));
-        entityMap.put("&andslope;", ofCodepoints(10840));
-        entityMap.put("&andv;", ofCodepoints(10842));
-        entityMap.put("&ang;", ofCodepoints(8736));
-        entityMap.put("&ange;", ofCodepoints(10660));
-        entityMap.put("&angle;", ofCodepoints(8736));
-        entityMap.put("&angmsd;", ofCodepoints(8737));
-        entityMap.put("&angmsdaa;", ofCodepoints(10664));
-        entityMap.put("&angmsdab;", ofCodepoints(10665));
-        entityMap.put("&angmsdac;", ofCodepoints(10666));
-        entityMap.put("&angmsdad;", ofCodepoints(10667));
-        entityMap.put("&angmsdae;", ofCodepoints(10668));
-        entityMap.put("&angmsdaf;", ofCodepoints(10669));
-        entityMap.put("&angmsdag;", ofCodepoints(10670));
-        entityMap.put("&angmsdah;", ofCodepoints(10671));
-        entityMap.put("&angrt;", ofCodepoints(8735));
-        entityMap.put("&angrtvb;", ofCodepoints(8894));
-        entityMap.put("&angrtvbd;", ofCodepoints(10653));
-        entityMap.put("&angsph;", ofCodepoints(8738));
-        entityMap.put("&angst;", ofCodepoints(197));
-        entityMap.put("&angzarr;", ofCodepoints(9084));
-        entityMap.put("&aogon;", ofCodepoints(261));
-        entityMap.put("&aopf;", ofCodepoints(120146));
-        entityMap.put("&ap;", ofCodepoints(8776));
-        entityMap.put("&apE;", ofCodepoints(10864));
-        entityMap.put("&apacir;", ofCodepoints(10863));
-        entityMap.put("&ape;", ofCodepoints(8778));
-        entityMap.put("&apid;", ofCodepoints(8779));
-        entityMap.put("&apos;", ofCodepoints(39));
-        entityMap.put("&approx;", ofCodepoints(8776));
-        entityMap.put("&approxeq;", ofCodepoints(8778));
-        entityMap.put("&aring", ofCodepoints(229));
-        entityMap.put("&aring;", ofCodepoints(229));
-        entityMap.put("&ascr;", ofCodepoints(119990));
-        entityMap.put("&ast;", ofCodepoints(42));
-        entityMap.put("&asymp;", ofCodepoints(8776));
-        entityMap.put("&asympeq;", ofCodepoints(8781));
-        entityMap.put("&atilde", ofCodepoints(227));
-        entityMap.put("&atilde;", ofCodepoints(227));
-        entityMap.put("&auml", ofCodepoints(228));
-        entityMap.put("&auml;", ofCodepoints(228));
-        entityMap.put("&awconint;", ofCodepoints(8755));
-        entityMap.put("&awint;", ofCodepoints(10769));
-        entityMap.put("&bNot;", ofCodepoints(10989));
-        entityMap.put("&backcong;", ofCodepoints(8780));
-        entityMap.put("&backepsilon;", ofCodepoints(1014));
-        entityMap.put("&backprime;", ofCodepoints(8245));
-        entityMap.put("&backsim;", ofCodepoints(8765));
-        entityMap.put("&backsimeq;", ofCodepoints(8909));
-        entityMap.put("&barvee;", ofCodepoints(8893));
-        entityMap.put("&barwed;", ofCodepoints(8965));
-        entityMap.put("&barwedge;", ofCodepoints(8965));
-        entityMap.put("&bbrk;", ofCodepoints(9141));
-        entityMap.put("&bbrktbrk;", ofCodepoints(9142));
-        entityMap.put("&bcong;", ofCodepoints(8780));
-        entityMap.put("&bcy;", ofCodepoints(1073));
-        entityMap.put("&bdquo;", ofCodepoints(8222));
-        entityMap.put("&becaus;", ofCodepoints(8757));
-        entityMap.put("&because;", ofCodepoints(8757));
-        entityMap.put("&bemptyv;", ofCodepoints(10672));
-        entityMap.put("&bepsi;", ofCodepoints(1014));
-        entityMap.put("&bernou;", ofCodepoints(8492));
-        entityMap.put("&beta;", ofCodepoints(946));
-        entityMap.put("&beth;", ofCodepoints(8502));
-        entityMap.put("&between;", ofCodepoints(8812));
-        entityMap.put("&bfr;", ofCodepoints(120095));
-        entityMap.put("&bigcap;", ofCodepoints(8898));
-        entityMap.put("&bigcirc;", ofCodepoints(9711));
-        entityMap.put("&bigcup;", ofCodepoints(8899));
-        entityMap.put("&bigodot;", ofCodepoints(10752));
-        entityMap.put("&bigoplus;", ofCodepoints(10753));
-        entityMap.put("&bigotimes;", ofCodepoints(10754));
-        entityMap.put("&bigsqcup;", ofCodepoints(10758));
-        entityMap.put("&bigstar;", ofCodepoints(9733));
-        entityMap.put("&bigtriangledown;", ofCodepoints(9661));
-        entityMap.put("&bigtriangleup;", ofCodepoints(9651));
-        entityMap.put("&biguplus;", ofCodepoints(10756));
-        entityMap.put("&bigvee;", ofCodepoints(8897));
-        entityMap.put("&bigwedge;", ofCodepoints(8896));
-        entityMap.put("&bkarow;", ofCodepoints(10509));
-        entityMap.put("&blacklozenge;", ofCodepoints(10731));
-        entityMap.put("&blacksquare;", ofCodepoints(9642));
-        entityMap.put("&blacktriangle;", ofCodepoints(9652));
-        entityMap.put("&blacktriangledown;", ofCodepoints(9662));
-        entityMap.put("&blacktriangleleft;", ofCodepoints(9666));
-        entityMap.put("&blacktriangleright;", ofCodepoints(9656));
-        entityMap.put("&blank;", ofCodepoints(9251));
-        entityMap.put("&blk12;", ofCodepoints(9618));
-        entityMap.put("&blk14;", ofCodepoints(9617));
-        entityMap.put("&blk34;", ofCodepoints(9619));
-        entityMap.put("&block;", ofCodepoints(9608));
-        entityMap.put("&bne;", ofCodepoints(61, 8421));
-        entityMap.put("&bnequiv;", ofCodepoints(8801, 8421));
-        entityMap.put("&bnot;", ofCodepoints(8976));
-        entityMap.put("&bopf;", ofCodepoints(120147));
-        entityMap.put("&bot;", ofCodepoints(8869));
-        entityMap.put("&bottom;", ofCodepoints(8869));
-        entityMap.put("&bowtie;", ofCodepoints(8904));
-        entityMap.put("&boxDL;", ofCodepoints(9559));
-        entityMap.put("&boxDR;", ofCodepoints(9556));
-        entityMap.put("&boxDl;", ofCodepoints(9558));
-        entityMap.put("&boxDr;", ofCodepoints(9555));
-        entityMap.put("&boxH;", ofCodepoints(9552));
-        entityMap.put("&boxHD;", ofCodepoints(9574));
-        entityMap.put("&boxHU;", ofCodepoints(9577));
-        entityMap.put("&boxHd;", ofCodepoints(9572));
-        entityMap.put("&boxHu;", ofCodepoints(9575));
-        entityMap.put("&boxUL;", ofCodepoints(9565));
-        entityMap.put("&boxUR;", ofCodepoints(9562));
-        entityMap.put("&boxUl;", ofCodepoints(9564));
-        entityMap.put("&boxUr;", ofCodepoints(9561));
-        entityMap.put("&boxV;", ofCodepoints(9553));
-        entityMap.put("&boxVH;", ofCodepoints(9580));
-        entityMap.put("&boxVL;", ofCodepoints(9571));
-        entityMap.put("&boxVR;", ofCodepoints(9568));
-        entityMap.put("&boxVh;", ofCodepoints(9579));
-        entityMap.put("&boxVl;", ofCodepoints(9570));
-        entityMap.put("&boxVr;", ofCodepoints(9567));
-        entityMap.put("&boxbox;", ofCodepoints(10697));
-        entityMap.put("&boxdL;", ofCodepoints(9557));
-        entityMap.put("&boxdR;", ofCodepoints(9554));
-        entityMap.put("&boxdl;", ofCodepoints(9488));
-        entityMap.put("&boxdr;", ofCodepoints(9484));
-        entityMap.put("&boxh;", ofCodepoints(9472));
-        entityMap.put("&boxhD;", ofCodepoints(9573));
-        entityMap.put("&boxhU;", ofCodepoints(9576));
-        entityMap.put("&boxhd;", ofCodepoints(9516));
-        entityMap.put("&boxhu;", ofCodepoints(9524));
-        entityMap.put("&boxminus;", ofCodepoints(8863));
-        entityMap.put("&boxplus;", ofCodepoints(8862));
-        entityMap.put("&boxtimes;", ofCodepoints(8864));
-        entityMap.put("&boxuL;", ofCodepoints(9563));
-        entityMap.put("&boxuR;", ofCodepoints(9560));
-        entityMap.put("&boxul;", ofCodepoints(9496));
-        entityMap.put("&boxur;", ofCodepoints(9492));
-        entityMap.put("&boxv;", ofCodepoints(9474));
-        entityMap.put("&boxvH;", ofCodepoints(9578));
-        entityMap.put("&boxvL;", ofCodepoints(9569));
-        entityMap.put("&boxvR;", ofCodepoints(9566));
-        entityMap.put("&boxvh;", ofCodepoints(9532));
-        entityMap.put("&boxvl;", ofCodepoints(9508));
-        entityMap.put("&boxvr;", ofCodepoints(9500));
-        entityMap.put("&bprime;", ofCodepoints(8245));
-        entityMap.put("&breve;", ofCodepoints(728));
-        entityMap.put("&brvbar", ofCodepoints(166));
-        entityMap.put("&brvbar;", ofCodepoints(166));
-        entityMap.put("&bscr;", ofCodepoints(119991));
-        entityMap.put("&bsemi;", ofCodepoints(8271));
-        entityMap.put("&bsim;", ofCodepoints(8765));
-        entityMap.put("&bsime;", ofCodepoints(8909));
-        entityMap.put("&bsol;", ofCodepoints(92));
-        entityMap.put("&bsolb;", ofCodepoints(10693));
-        entityMap.put("&bsolhsub;", ofCodepoints(10184));
-        entityMap.put("&bull;", ofCodepoints(8226));
-        entityMap.put("&bullet;", ofCodepoints(8226));
-        entityMap.put("&bump;", ofCodepoints(8782));
-        entityMap.put("&bumpE;", ofCodepoints(10926));
-        entityMap.put("&bumpe;", ofCodepoints(8783));
-        entityMap.put("&bumpeq;", ofCodepoints(8783));
-        entityMap.put("&cacute;", ofCodepoints(263));
-        entityMap.put("&cap;", ofCodepoints(8745));
-        entityMap.put("&capand;", ofCodepoints(10820));
-        entityMap.put("&capbrcup;", ofCodepoints(10825));
-        entityMap.put("&capcap;", ofCodepoints(10827));
-        entityMap.put("&capcup;", ofCodepoints(10823));
-        entityMap.put("&capdot;", ofCodepoints(10816));
-        entityMap.put("&caps;", ofCodepoints(8745, 65024));
-        entityMap.put("&caret;", ofCodepoints(8257));
-        entityMap.put("&caron;", ofCodepoints(711));
-        entityMap.put("&ccaps;", ofCodepoints(10829));
-        entityMap.put("&ccaron;", ofCodepoints(269));
-        entityMap.put("&ccedil", ofCodepoints(231));
-        entityMap.put("&ccedil;", ofCodepoints(231));
-        entityMap.put("&ccirc;", ofCodepoints(265));
-        entityMap.put("&ccups;", ofCodepoints(10828));
-        entityMap.put("&ccupssm;", ofCodepoints(10832));
-        entityMap.put("&cdot;", ofCodepoints(267));
-        entityMap.put("&cedil", ofCodepoints(184));
-        entityMap.put("&cedil;", ofCodepoints(184));
-        entityMap.put("&cemptyv;", ofCodepoints(10674));
-        entityMap.put("&cent", ofCodepoints(162));
-        entityMap.put("&cent;", ofCodepoints(162));
-        entityMap.put("&centerdot;", ofCodepoints(183));
-        entityMap.put("&cfr;", ofCodepoints(120096));
-        entityMap.put("&chcy;", ofCodepoints(1095));
-        entityMap.put("&check;", ofCodepoints(10003));
-        entityMap.put("&checkmark;", ofCodepoints(10003));
-        entityMap.put("&chi;", ofCodepoints(967));
-        entityMap.put("&cir;", ofCodepoints(9675));
-        entityMap.put("&cirE;", ofCodepoints(10691));
-        entityMap.put("&circ;", ofCodepoints(710));
-        entityMap.put("&circeq;", ofCodepoints(8791));
-        entityMap.put("&circlearrowleft;", ofCodepoints(8634));
-        entityMap.put("&circlearrowright;", ofCodepoints(8635));
-        entityMap.put("&circledR;", ofCodepoints(174));
-        entityMap.put("&circledS;", ofCodepoints(9416));
-        entityMap.put("&circledast;", ofCodepoints(8859));
-        entityMap.put("&circledcirc;", ofCodepoints(8858));
-        entityMap.put("&circleddash;", ofCodepoints(8861));
-        entityMap.put("&cire;", ofCodepoints(8791));
-        entityMap.put("&cirfnint;", ofCodepoints(10768));
-        entityMap.put("&cirmid;", ofCodepoints(10991));
-        entityMap.put("&cirscir;", ofCodepoints(10690));
-        entityMap.put("&clubs;", ofCodepoints(9827));
-        entityMap.put("&clubsuit;", ofCodepoints(9827));
-        entityMap.put("&colon;", ofCodepoints(58));
-        entityMap.put("&colone;", ofCodepoints(8788));
-        entityMap.put("&coloneq;", ofCodepoints(8788));
-        entityMap.put("&comma;", ofCodepoints(44));
-        entityMap.put("&commat;", ofCodepoints(64));
-        entityMap.put("&comp;", ofCodepoints(8705));
-        entityMap.put("&compfn;", ofCodepoints(8728));
-        entityMap.put("&complement;", ofCodepoints(8705));
-        entityMap.put("&complexes;", ofCodepoints(8450));
-        entityMap.put("&cong;", ofCodepoints(8773));
-        entityMap.put("&congdot;", ofCodepoints(10861));
-        entityMap.put("&conint;", ofCodepoints(8750));
-        entityMap.put("&copf;", ofCodepoints(120148));
-        entityMap.put("&coprod;", ofCodepoints(8720));
-        entityMap.put("&copy", ofCodepoints(169));
-        entityMap.put("&copy;", ofCodepoints(169));
-        entityMap.put("&copysr;", ofCodepoints(8471));
-        entityMap.put("&crarr;", ofCodepoints(8629));
-        entityMap.put("&cross;", ofCodepoints(10007));
-        entityMap.put("&cscr;", ofCodepoints(119992));
-        entityMap.put("&csub;", ofCodepoints(10959));
-        entityMap.put("&csube;", ofCodepoints(10961));
-        entityMap.put("&csup;", ofCodepoints(10960));
-        entityMap.put("&csupe;", ofCodepoints(10962));
-        entityMap.put("&ctdot;", ofCodepoints(8943));
-        entityMap.put("&cudarrl;", ofCodepoints(10552));
-        entityMap.put("&cudarrr;", ofCodepoints(10549));
-        entityMap.put("&cuepr;", ofCodepoints(8926));
-        entityMap.put("&cuesc;", ofCodepoints(8927));
-        entityMap.put("&cularr;", ofCodepoints(8630));
-        entityMap.put("&cularrp;", ofCodepoints(10557));
-        entityMap.put("&cup;", ofCodepoints(8746));
-        entityMap.put("&cupbrcap;", ofCodepoints(10824));
-        entityMap.put("&cupcap;", ofCodepoints(10822));
-        entityMap.put("&cupcup;", ofCodepoints(10826));
-        entityMap.put("&cupdot;", ofCodepoints(8845));
-        entityMap.put("&cupor;", ofCodepoints(10821));
-        entityMap.put("&cups;", ofCodepoints(8746, 65024));
-        entityMap.put("&curarr;", ofCodepoints(8631));
-        entityMap.put("&curarrm;", ofCodepoints(10556));
-        entityMap.put("&curlyeqprec;", ofCodepoints(8926));
-        entityMap.put("&curlyeqsucc;", ofCodepoints(8927));
-        entityMap.put("&curlyvee;", ofCodepoints(8910));
-        entityMap.put("&curlywedge;", ofCodepoints(8911));
-        entityMap.put("&curren", ofCodepoints(164));
-        entityMap.put("&curren;", ofCodepoints(164));
-        entityMap.put("&curvearrowleft;", ofCodepoints(8630));
-        entityMap.put("&curvearrowright;", ofCodepoints(8631));
-        entityMap.put("&cuvee;", ofCodepoints(8910));
-        entityMap.put("&cuwed;", ofCodepoints(8911));
-        entityMap.put("&cwconint;", ofCodepoints(8754));
-        entityMap.put("&cwint;", ofCodepoints(8753));
-        entityMap.put("&cylcty;", ofCodepoints(9005));
-        entityMap.put("&dArr;", ofCodepoints(8659));
-        entityMap.put("&dHar;", ofCodepoints(10597));
-        entityMap.put("&dagger;", ofCodepoints(8224));
-        entityMap.put("&daleth;", ofCodepoints(8504));
-        entityMap.put("&darr;", ofCodepoints(8595));
-        entityMap.put("&dash;", ofCodepoints(8208));
-        entityMap.put("&dashv;", ofCodepoints(8867));
-        entityMap.put("&dbkarow;", ofCodepoints(10511));
-        entityMap.put("&dblac;", ofCodepoints(733));
-        entityMap.put("&dcaron;", ofCodepoints(271));
-        entityMap.put("&dcy;", ofCodepoints(1076));
-        entityMap.put("&dd;", ofCodepoints(8518));
-        entityMap.put("&ddagger;", ofCodepoints(8225));
-        entityMap.put("&ddarr;", ofCodepoints(8650));
-        entityMap.put("&ddotseq;", ofCodepoints(10871));
-        entityMap.put("&deg", ofCodepoints(176));
-        entityMap.put("&deg;", ofCodepoints(176));
-        entityMap.put("&delta;", ofCodepoints(948));
-        entityMap.put("&demptyv;", ofCodepoints(10673));
-        entityMap.put("&dfisht;", ofCodepoints(10623));
-        entityMap.put("&dfr;", ofCodepoints(120097));
-        entityMap.put("&dharl;", ofCodepoints(8643));
-        entityMap.put("&dharr;", ofCodepoints(8642));
-        entityMap.put("&diam;", ofCodepoints(8900));
-        entityMap.put("&diamond;", ofCodepoints(8900));
-        entityMap.put("&diamondsuit;", ofCodepoints(9830));
-        entityMap.put("&diams;", ofCodepoints(9830));
-        entityMap.put("&die;", ofCodepoints(168));
-        entityMap.put("&digamma;", ofCodepoints(989));
-        entityMap.put("&disin;", ofCodepoints(8946));
-        entityMap.put("&div;", ofCodepoints(247));
-        entityMap.put("&divide", ofCodepoints(247));
-        entityMap.put("&divide;", ofCodepoints(247));
-        entityMap.put("&divideontimes;", ofCodepoints(8903));
-        entityMap.put("&divonx;", ofCodepoints(8903));
-        entityMap.put("&djcy;", ofCodepoints(1106));
-        entityMap.put("&dlcorn;", ofCodepoints(8990));
-        entityMap.put("&dlcrop;", ofCodepoints(8973));
-        entityMap.put("&dollar;", ofCodepoints(36));
-        entityMap.put("&dopf;", ofCodepoints(120149));
-        entityMap.put("&dot;", ofCodepoints(729));
-        entityMap.put("&doteq;", ofCodepoints(8784));
-        entityMap.put("&doteqdot;", ofCodepoints(8785));
-        entityMap.put("&dotminus;", ofCodepoints(8760));
-        entityMap.put("&dotplus;", ofCodepoints(8724));
-        entityMap.put("&dotsquare;", ofCodepoints(8865));
-        entityMap.put("&doublebarwedge;", ofCodepoints(8966));
-        entityMap.put("&downarrow;", ofCodepoints(8595));
-        entityMap.put("&downdownarrows;", ofCodepoints(8650));
-        entityMap.put("&downharpoonleft;", ofCodepoints(8643));
-        entityMap.put("&downharpoonright;", ofCodepoints(8642));
-        entityMap.put("&drbkarow;", ofCodepoints(10512));
-        entityMap.put("&drcorn;", ofCodepoints(8991));
-        entityMap.put("&drcrop;", ofCodepoints(8972));
-        entityMap.put("&dscr;", ofCodepoints(119993));
-        entityMap.put("&dscy;", ofCodepoints(1109));
-        entityMap.put("&dsol;", ofCodepoints(10742));
-        entityMap.put("&dstrok;", ofCodepoints(273));
-        entityMap.put("&dtdot;", ofCodepoints(8945));
-        entityMap.put("&dtri;", ofCodepoints(9663));
-        entityMap.put("&dtrif;", ofCodepoints(9662));
-        entityMap.put("&duarr;", ofCodepoints(8693));
-        entityMap.put("&duhar;", ofCodepoints(10607));
-        entityMap.put("&dwangle;", ofCodepoints(10662));
-        entityMap.put("&dzcy;", ofCodepoints(1119));
-        entityMap.put("&dzigrarr;", ofCodepoints(10239));
-        entityMap.put("&eDDot;", ofCodepoints(10871));
-        entityMap.put("&eDot;", ofCodepoints(8785));
-        entityMap.put("&eacute", ofCodepoints(233));
-        entityMap.put("&eacute;", ofCodepoints(233));
-        entityMap.put("&easter;", ofCodepoints(10862));
-        entityMap.put("&ecaron;", ofCodepoints(283));
-        entityMap.put("&ecir;", ofCodepoints(8790));
-        entityMap.put("&ecirc", ofCodepoints(234));
-        entityMap.put("&ecirc;", ofCodepoints(234));
-        entityMap.put("&ecolon;", ofCodepoints(8789));
-        entityMap.put("&ecy;", ofCodepoints(1101));
-        entityMap.put("&edot;", ofCodepoints(279));
-        entityMap.put("&ee;", ofCodepoints(8519));
-        entityMap.put("&efDot;", ofCodepoints(8786));
-        entityMap.put("&efr;", ofCodepoints(120098));
-        entityMap.put("&eg;", ofCodepoints(10906));
-        entityMap.put("&egrave", ofCodepoints(232));
-        entityMap.put("&egrave;", ofCodepoints(232));
-        entityMap.put("&egs;", ofCodepoints(10902));
-        entityMap.put("&egsdot;", ofCodepoints(10904));
-        entityMap.put("&el;", ofCodepoints(10905));
-        entityMap.put("&elinters;", ofCodepoints(9191));
-        entityMap.put("&ell;", ofCodepoints(8467));
-        entityMap.put("&els;", ofCodepoints(10901));
-        entityMap.put("&elsdot;", ofCodepoints(10903));
-        entityMap.put("&emacr;", ofCodepoints(275));
-        entityMap.put("&empty;", ofCodepoints(8709));
-        entityMap.put("&emptyset;", ofCodepoints(8709));
-        entityMap.put("&emptyv;", ofCodepoints(8709));
-        entityMap.put("&emsp13;", ofCodepoints(8196));
-        entityMap.put("&emsp14;", ofCodepoints(8197));
-        entityMap.put("&emsp;", ofCodepoints(8195));
-        entityMap.put("&eng;", ofCodepoints(331));
-        entityMap.put("&ensp;", ofCodepoints(8194));
-        entityMap.put("&eogon;", ofCodepoints(281));
-        entityMap.put("&eopf;", ofCodepoints(120150));
-        entityMap.put("&epar;", ofCodepoints(8917));
-        entityMap.put("&eparsl;", ofCodepoints(10723));
-        entityMap.put("&eplus;", ofCodepoints(10865));
-        entityMap.put("&epsi;", ofCodepoints(949));
-        entityMap.put("&epsilon;", ofCodepoints(949));
-        entityMap.put("&epsiv;", ofCodepoints(1013));
-        entityMap.put("&eqcirc;", ofCodepoints(8790));
-        entityMap.put("&eqcolon;", ofCodepoints(8789));
-        entityMap.put("&eqsim;", ofCodepoints(8770));
-        entityMap.put("&eqslantgtr;", ofCodepoints(10902));
-        entityMap.put("&eqslantless;", ofCodepoints(10901));
-        entityMap.put("&equals;", ofCodepoints(61));
-        entityMap.put("&equest;", ofCodepoints(8799));
-        entityMap.put("&equiv;", ofCodepoints(8801));
-        entityMap.put("&equivDD;", ofCodepoints(10872));
-        entityMap.put("&eqvparsl;", ofCodepoints(10725));
-        entityMap.put("&erDot;", ofCodepoints(8787));
-        entityMap.put("&erarr;", ofCodepoints(10609));
-        entityMap.put("&escr;", ofCodepoints(8495));
-        entityMap.put("&esdot;", ofCodepoints(8784));
-        entityMap.put("&esim;", ofCodepoints(8770));
-        entityMap.put("&eta;", ofCodepoints(951));
-        entityMap.put("&eth", ofCodepoints(240));
-        entityMap.put("&eth;", ofCodepoints(240));
-        entityMap.put("&euml", ofCodepoints(235));
-        entityMap.put("&euml;", ofCodepoints(235));
-        entityMap.put("&euro;", ofCodepoints(8364));
-        entityMap.put("&excl;", ofCodepoints(33));
-        entityMap.put("&exist;", ofCodepoints(8707));
-        entityMap.put("&expectation;", ofCodepoints(8496));
-        entityMap.put("&exponentiale;", ofCodepoints(8519));
-        entityMap.put("&fallingdotseq;", ofCodepoints(8786));
-        entityMap.put("&fcy;", ofCodepoints(1092));
-        entityMap.put("&female;", ofCodepoints(9792));
-        entityMap.put("&ffilig;", ofCodepoints(64259));
-        entityMap.put("&fflig;", ofCodepoints(64256));
-        entityMap.put("&ffllig;", ofCodepoints(64260));
-        entityMap.put("&ffr;", ofCodepoints(120099));
-        entityMap.put("&filig;", ofCodepoints(64257));
-        entityMap.put("&fjlig;", ofCodepoints(102, 106));
-        entityMap.put("&flat;", ofCodepoints(9837));
-        entityMap.put("&fllig;", ofCodepoints(64258));
-        entityMap.put("&fltns;", ofCodepoints(9649));
-        entityMap.put("&fnof;", ofCodepoints(402));
-        entityMap.put("&fopf;", ofCodepoints(120151));
-        entityMap.put("&forall;", ofCodepoints(8704));
-        entityMap.put("&fork;", ofCodepoints(8916));
-        entityMap.put("&forkv;", ofCodepoints(10969));
-        entityMap.put("&fpartint;", ofCodepoints(10765));
-        entityMap.put("&frac12", ofCodepoints(189));
-        entityMap.put("&frac12;", ofCodepoints(189));
-        entityMap.put("&frac13;", ofCodepoints(8531));
-        entityMap.put("&frac14", ofCodepoints(188));
-        entityMap.put("&frac14;", ofCodepoints(188));
-        entityMap.put("&frac15;", ofCodepoints(8533));
-        entityMap.put("&frac16;", ofCodepoints(8537));
-        entityMap.put("&frac18;", ofCodepoints(8539));
-        entityMap.put("&frac23;", ofCodepoints(8532));
-        entityMap.put("&frac25;", ofCodepoints(8534));
-        entityMap.put("&frac34", ofCodepoints(190));
-        entityMap.put("&frac34;", ofCodepoints(190));
-        entityMap.put("&frac35;", ofCodepoints(8535));
-        entityMap.put("&frac38;", ofCodepoints(8540));
-        entityMap.put("&frac45;", ofCodepoints(8536));
-        entityMap.put("&frac56;", ofCodepoints(8538));
-        entityMap.put("&frac58;", ofCodepoints(8541));
-        entityMap.put("&frac78;", ofCodepoints(8542));
-        entityMap.put("&frasl;", ofCodepoints(8260));
-        entityMap.put("&frown;", ofCodepoints(8994));
-        entityMap.put("&fscr;", ofCodepoints(119995));
-        entityMap.put("&gE;", ofCodepoints(8807));
-        entityMap.put("&gEl;", ofCodepoints(10892));
-        entityMap.put("&gacute;", ofCodepoints(501));
-        entityMap.put("&gamma;", ofCodepoints(947));
-        entityMap.put("&gammad;", ofCodepoints(989));
-        entityMap.put("&gap;", ofCodepoints(10886));
-        entityMap.put("&gbreve;", ofCodepoints(287));
-        entityMap.put("&gcirc;", ofCodepoints(285));
-        entityMap.put("&gcy;", ofCodepoints(1075));
-        entityMap.put("&gdot;", ofCodepoints(289));
-        entityMap.put("&ge;", ofCodepoints(8805));
-        entityMap.put("&gel;", ofCodepoints(8923));
-        entityMap.put("&geq;", ofCodepoints(8805));
-        entityMap.put("&geqq;", ofCodepoints(8807));
-        entityMap.put("&geqslant;", ofCodepoints(10878));
-        entityMap.put("&ges;", ofCodepoints(10878));
-        entityMap.put("&gescc;", ofCodepoints(10921));
-        entityMap.put("&gesdot;", ofCodepoints(10880));
-        entityMap.put("&gesdoto;", ofCodepoints(10882));
-        entityMap.put("&gesdotol;", ofCodepoints(10884));
-        entityMap.put("&gesl;", ofCodepoints(8923, 65024));
-        entityMap.put("&gesles;", ofCodepoints(10900));
-        entityMap.put("&gfr;", ofCodepoints(120100));
-        entityMap.put("&gg;", ofCodepoints(8811));
-        entityMap.put("&ggg;", ofCodepoints(8921));
-        entityMap.put("&gimel;", ofCodepoints(8503));
-        entityMap.put("&gjcy;", ofCodepoints(1107));
-        entityMap.put("&gl;", ofCodepoints(8823));
-        entityMap.put("&glE;", ofCodepoints(10898));
-        entityMap.put("&gla;", ofCodepoints(10917));
-        entityMap.put("&glj;", ofCodepoints(10916));
-        entityMap.put("&gnE;", ofCodepoints(8809));
-        entityMap.put("&gnap;", ofCodepoints(10890));
-        entityMap.put("&gnapprox;", ofCodepoints(10890));
-        entityMap.put("&gne;", ofCodepoints(10888));
-        entityMap.put("&gneq;", ofCodepoints(10888));
-        entityMap.put("&gneqq;", ofCodepoints(8809));
-        entityMap.put("&gnsim;", ofCodepoints(8935));
-        entityMap.put("&gopf;", ofCodepoints(120152));
-        entityMap.put("&grave;", ofCodepoints(96));
-        entityMap.put("&gscr;", ofCodepoints(8458));
-        entityMap.put("&gsim;", ofCodepoints(8819));
-        entityMap.put("&gsime;", ofCodepoints(10894));
-        entityMap.put("&gsiml;", ofCodepoints(10896));
-        entityMap.put("&gt", ofCodepoints(62));
-        entityMap.put("&gt;", ofCodepoints(62));
-        entityMap.put("&gtcc;", ofCodepoints(10919));
-        entityMap.put("&gtcir;", ofCodepoints(10874));
-        entityMap.put("&gtdot;", ofCodepoints(8919));
-        entityMap.put("&gtlPar;", ofCodepoints(10645));
-        entityMap.put("&gtquest;", ofCodepoints(10876));
-        entityMap.put("&gtrapprox;", ofCodepoints(10886));
-        entityMap.put("&gtrarr;", ofCodepoints(10616));
-        entityMap.put("&gtrdot;", ofCodepoints(8919));
-        entityMap.put("&gtreqless;", ofCodepoints(8923));
-        entityMap.put("&gtreqqless;", ofCodepoints(10892));
-        entityMap.put("&gtrless;", ofCodepoints(8823));
-        entityMap.put("&gtrsim;", ofCodepoints(8819));
-        entityMap.put("&gvertneqq;", ofCodepoints(8809, 65024));
-        entityMap.put("&gvnE;", ofCodepoints(8809, 65024));
-        entityMap.put("&hArr;", ofCodepoints(8660));
-        entityMap.put("&hairsp;", ofCodepoints(8202));
-        entityMap.put("&half;", ofCodepoints(189));
-        entityMap.put("&hamilt;", ofCodepoints(8459));
-        entityMap.put("&hardcy;", ofCodepoints(1098));
-        entityMap.put("&harr;", ofCodepoints(8596));
-        entityMap.put("&harrcir;", ofCodepoints(10568));
-        entityMap.put("&harrw;", ofCodepoints(8621));
-        entityMap.put("&hbar;", ofCodepoints(8463));
-        entityMap.put("&hcirc;", ofCodepoints(293));
-        entityMap.put("&hearts;", ofCodepoints(9829));
-        entityMap.put("&heartsuit;", ofCodepoints(9829));
-        entityMap.put("&hellip;", ofCodepoints(8230));
-        entityMap.put("&hercon;", ofCodepoints(8889));
-        entityMap.put("&hfr;", ofCodepoints(120101));
-        entityMap.put("&hksearow;", ofCodepoints(10533));
-        entityMap.put("&hkswarow;", ofCodepoints(10534));
-        entityMap.put("&hoarr;", ofCodepoints(8703));
-        entityMap.put("&homtht;", ofCodepoints(8763));
-        entityMap.put("&hookleftarrow;", ofCodepoints(8617));
-        entityMap.put("&hookrightarrow;", ofCodepoints(8618));
-        entityMap.put("&hopf;", ofCodepoints(120153));
-        entityMap.put("&horbar;", ofCodepoints(8213));
-        entityMap.put("&hscr;", ofCodepoints(119997));
-        entityMap.put("&hslash;", ofCodepoints(8463));
-        entityMap.put("&hstrok;", ofCodepoints(295));
-        entityMap.put("&hybull;", ofCodepoints(8259));
-        entityMap.put("&hyphen;", ofCodepoints(8208));
-        entityMap.put("&iacute", ofCodepoints(237));
-        entityMap.put("&iacute;", ofCodepoints(237));
-        entityMap.put("&ic;", ofCodepoints(8291));
-        entityMap.put("&icirc", ofCodepoints(238));
-        entityMap.put("&icirc;", ofCodepoints(238));
-        entityMap.put("&icy;", ofCodepoints(1080));
-        entityMap.put("&iecy;", ofCodepoints(1077));
-        entityMap.put("&iexcl", ofCodepoints(161));
-        entityMap.put("&iexcl;", ofCodepoints(161));
-        entityMap.put("&iff;", ofCodepoints(8660));
-        entityMap.put("&ifr;", ofCodepoints(120102));
-        entityMap.put("&igrave", ofCodepoints(236));
-        entityMap.put("&igrave;", ofCodepoints(236));
-        entityMap.put("&ii;", ofCodepoints(8520));
-        entityMap.put("&iiiint;", ofCodepoints(10764));
-        entityMap.put("&iiint;", ofCodepoints(8749));
-        entityMap.put("&iinfin;", ofCodepoints(10716));
-        entityMap.put("&iiota;", ofCodepoints(8489));
-        entityMap.put("&ijlig;", ofCodepoints(307));
-        entityMap.put("&imacr;", ofCodepoints(299));
-        entityMap.put("&image;", ofCodepoints(8465));
-        entityMap.put("&imagline;", ofCodepoints(8464));
-        entityMap.put("&imagpart;", ofCodepoints(8465));
-        entityMap.put("&imath;", ofCodepoints(305));
-        entityMap.put("&imof;", ofCodepoints(8887));
-        entityMap.put("&imped;", ofCodepoints(437));
-        entityMap.put("&in;", ofCodepoints(8712));
-        entityMap.put("&incare;", ofCodepoints(8453));
-        entityMap.put("&infin;", ofCodepoints(8734));
-        entityMap.put("&infintie;", ofCodepoints(10717));
-        entityMap.put("&inodot;", ofCodepoints(305));
-        entityMap.put("&int;", ofCodepoints(8747));
-        entityMap.put("&intcal;", ofCodepoints(8890));
-        entityMap.put("&integers;", ofCodepoints(8484));
-        entityMap.put("&intercal;", ofCodepoints(8890));
-        entityMap.put("&intlarhk;", ofCodepoints(10775));
-        entityMap.put("&intprod;", ofCodepoints(10812));
-        entityMap.put("&iocy;", ofCodepoints(1105));
-        entityMap.put("&iogon;", ofCodepoints(303));
-        entityMap.put("&iopf;", ofCodepoints(120154));
-        entityMap.put("&iota;", ofCodepoints(953));
-        entityMap.put("&iprod;", ofCodepoints(10812));
-        entityMap.put("&iquest", ofCodepoints(191));
-        entityMap.put("&iquest;", ofCodepoints(191));
-        entityMap.put("&iscr;", ofCodepoints(119998));
-        entityMap.put("&isin;", ofCodepoints(8712));
-        entityMap.put("&isinE;", ofCodepoints(8953));
-        entityMap.put("&isindot;", ofCodepoints(8949));
-        entityMap.put("&isins;", ofCodepoints(8948));
-        entityMap.put("&isinsv;", ofCodepoints(8947));
-        entityMap.put("&isinv;", ofCodepoints(8712));
-        entityMap.put("&it;", ofCodepoints(8290));
-        entityMap.put("&itilde;", ofCodepoints(297));
-        entityMap.put("&iukcy;", ofCodepoints(1110));
-        entityMap.put("&iuml", ofCodepoints(239));
-        entityMap.put("&iuml;", ofCodepoints(239));
-        entityMap.put("&jcirc;", ofCodepoints(309));
-        entityMap.put("&jcy;", ofCodepoints(1081));
-        entityMap.put("&jfr;", ofCodepoints(120103));
-        entityMap.put("&jmath;", ofCodepoints(567));
-        entityMap.put("&jopf;", ofCodepoints(120155));
-        entityMap.put("&jscr;", ofCodepoints(119999));
-        entityMap.put("&jsercy;", ofCodepoints(1112));
-        entityMap.put("&jukcy;", ofCodepoints(1108));
-        entityMap.put("&kappa;", ofCodepoints(954));
-        entityMap.put("&kappav;", ofCodepoints(1008));
-        entityMap.put("&kcedil;", ofCodepoints(311));
-        entityMap.put("&kcy;", ofCodepoints(1082));
-        entityMap.put("&kfr;", ofCodepoints(120104));
-        entityMap.put("&kgreen;", ofCodepoints(312));
-        entityMap.put("&khcy;", ofCodepoints(1093));
-        entityMap.put("&kjcy;", ofCodepoints(1116));
-        entityMap.put("&kopf;", ofCodepoints(120156));
-        entityMap.put("&kscr;", ofCodepoints(120000));
-        entityMap.put("&lAarr;", ofCodepoints(8666));
-        entityMap.put("&lArr;", ofCodepoints(8656));
-        entityMap.put("&lAtail;", ofCodepoints(10523));
-        entityMap.put("&lBarr;", ofCodepoints(10510));
-        entityMap.put("&lE;", ofCodepoints(8806));
-        entityMap.put("&lEg;", ofCodepoints(10891));
-        entityMap.put("&lHar;", ofCodepoints(10594));
-        entityMap.put("&lacute;", ofCodepoints(314));
-        entityMap.put("&laemptyv;", ofCodepoints(10676));
-        entityMap.put("&lagran;", ofCodepoints(8466));
-        entityMap.put("&lambda;", ofCodepoints(955));
-        entityMap.put("&lang;", ofCodepoints(10216));
-        entityMap.put("&langd;", ofCodepoints(10641));
-        entityMap.put("&langle;", ofCodepoints(10216));
-        entityMap.put("&lap;", ofCodepoints(10885));
-        entityMap.put("&laquo", ofCodepoints(171));
-        entityMap.put("&laquo;", ofCodepoints(171));
-        entityMap.put("&larr;", ofCodepoints(8592));
-        entityMap.put("&larrb;", ofCodepoints(8676));
-        entityMap.put("&larrbfs;", ofCodepoints(10527));
-        entityMap.put("&larrfs;", ofCodepoints(10525));
-        entityMap.put("&larrhk;", ofCodepoints(8617));
-        entityMap.put("&larrlp;", ofCodepoints(8619));
-        entityMap.put("&larrpl;", ofCodepoints(10553));
-        entityMap.put("&larrsim;", ofCodepoints(10611));
-        entityMap.put("&larrtl;", ofCodepoints(8610));
-        entityMap.put("&lat;", ofCodepoints(10923));
-        entityMap.put("&latail;", ofCodepoints(10521));
-        entityMap.put("&late;", ofCodepoints(10925));
-        entityMap.put("&lates;", ofCodepoints(10925, 65024));
-        entityMap.put("&lbarr;", ofCodepoints(10508));
-        entityMap.put("&lbbrk;", ofCodepoints(10098));
-        entityMap.put("&lbrace;", ofCodepoints(123));
-        entityMap.put("&lbrack;", ofCodepoints(91));
-        entityMap.put("&lbrke;", ofCodepoints(10635));
-        entityMap.put("&lbrksld;", ofCodepoints(10639));
-        entityMap.put("&lbrkslu;", ofCodepoints(10637));
-        entityMap.put("&lcaron;", ofCodepoints(318));
-        entityMap.put("&lcedil;", ofCodepoints(316));
-        entityMap.put("&lceil;", ofCodepoints(8968));
-        entityMap.put("&lcub;", ofCodepoints(123));
-        entityMap.put("&lcy;", ofCodepoints(1083));
-        entityMap.put("&ldca;", ofCodepoints(10550));
-        entityMap.put("&ldquo;", ofCodepoints(8220));
-        entityMap.put("&ldquor;", ofCodepoints(8222));
-        entityMap.put("&ldrdhar;", ofCodepoints(10599));
-        entityMap.put("&ldrushar;", ofCodepoints(10571));
-        entityMap.put("&ldsh;", ofCodepoints(8626));
-        entityMap.put("&le;", ofCodepoints(8804));
-        entityMap.put("&leftarrow;", ofCodepoints(8592));
-        entityMap.put("&leftarrowtail;", ofCodepoints(8610));
-        entityMap.put("&leftharpoondown;", ofCodepoints(8637));
-        entityMap.put("&leftharpoonup;", ofCodepoints(8636));
-        entityMap.put("&leftleftarrows;", ofCodepoints(8647));
-        entityMap.put("&leftrightarrow;", ofCodepoints(8596));
-        entityMap.put("&leftrightarrows;", ofCodepoints(8646));
-        entityMap.put("&leftrightharpoons;", ofCodepoints(8651));
-        entityMap.put("&leftrightsquigarrow;", ofCodepoints(8621));
-        entityMap.put("&leftthreetimes;", ofCodepoints(8907));
-        entityMap.put("&leg;", ofCodepoints(8922));
-        entityMap.put("&leq;", ofCodepoints(8804));
-        entityMap.put("&leqq;", ofCodepoints(8806));
-        entityMap.put("&leqslant;", ofCodepoints(10877));
-        entityMap.put("&les;", ofCodepoints(10877));
-        entityMap.put("&lescc;", ofCodepoints(10920));
-        entityMap.put("&lesdot;", ofCodepoints(10879));
-        entityMap.put("&lesdoto;", ofCodepoints(10881));
-        entityMap.put("&lesdotor;", ofCodepoints(10883));
-        entityMap.put("&lesg;", ofCodepoints(8922, 65024));
-        entityMap.put("&lesges;", ofCodepoints(10899));
-        entityMap.put("&lessapprox;", ofCodepoints(10885));
-        entityMap.put("&lessdot;", ofCodepoints(8918));
-        entityMap.put("&lesseqgtr;", ofCodepoints(8922));
-        entityMap.put("&lesseqqgtr;", ofCodepoints(10891));
-        entityMap.put("&lessgtr;", ofCodepoints(8822));
-        entityMap.put("&lesssim;", ofCodepoints(8818));
-        entityMap.put("&lfisht;", ofCodepoints(10620));
-        entityMap.put("&lfloor;", ofCodepoints(8970));
-        entityMap.put("&lfr;", ofCodepoints(120105));
-        entityMap.put("&lg;", ofCodepoints(8822));
-        entityMap.put("&lgE;", ofCodepoints(10897));
-        entityMap.put("&lhard;", ofCodepoints(8637));
-        entityMap.put("&lharu;", ofCodepoints(8636));
-        entityMap.put("&lharul;", ofCodepoints(10602));
-        entityMap.put("&lhblk;", ofCodepoints(9604));
-        entityMap.put("&ljcy;", ofCodepoints(1113));
-        entityMap.put("&ll;", ofCodepoints(8810));
-        entityMap.put("&llarr;", ofCodepoints(8647));
-        entityMap.put("&llcorner;", ofCodepoints(8990));
-        entityMap.put("&llhard;", ofCodepoints(10603));
-        entityMap.put("&lltri;", ofCodepoints(9722));
-        entityMap.put("&lmidot;", ofCodepoints(320));
-        entityMap.put("&lmoust;", ofCodepoints(9136));
-        entityMap.put("&lmoustache;", ofCodepoints(9136));
-        entityMap.put("&lnE;", ofCodepoints(8808));
-        entityMap.put("&lnap;", ofCodepoints(10889));
-        entityMap.put("&lnapprox;", ofCodepoints(10889));
-        entityMap.put("&lne;", ofCodepoints(10887));
-        entityMap.put("&lneq;", ofCodepoints(10887));
-        entityMap.put("&lneqq;", ofCodepoints(8808));
-        entityMap.put("&lnsim;", ofCodepoints(8934));
-        entityMap.put("&loang;", ofCodepoints(10220));
-        entityMap.put("&loarr;", ofCodepoints(8701));
-        entityMap.put("&lobrk;", ofCodepoints(10214));
-        entityMap.put("&longleftarrow;", ofCodepoints(10229));
-        entityMap.put("&longleftrightarrow;", ofCodepoints(10231));
-        entityMap.put("&longmapsto;", ofCodepoints(10236));
-        entityMap.put("&longrightarrow;", ofCodepoints(10230));
-        entityMap.put("&looparrowleft;", ofCodepoints(8619));
-        entityMap.put("&looparrowright;", ofCodepoints(8620));
-        entityMap.put("&lopar;", ofCodepoints(10629));
-        entityMap.put("&lopf;", ofCodepoints(120157));
-        entityMap.put("&loplus;", ofCodepoints(10797));
-        entityMap.put("&lotimes;", ofCodepoints(10804));
-        entityMap.put("&lowast;", ofCodepoints(8727));
-        entityMap.put("&lowbar;", ofCodepoints(95));
-        entityMap.put("&loz;", ofCodepoints(9674));
-        entityMap.put("&lozenge;", ofCodepoints(9674));
-        entityMap.put("&lozf;", ofCodepoints(10731));
-        entityMap.put("&lpar;", ofCodepoints(40));
-        entityMap.put("&lparlt;", ofCodepoints(10643));
-        entityMap.put("&lrarr;", ofCodepoints(8646));
-        entityMap.put("&lrcorner;", ofCodepoints(8991));
-        entityMap.put("&lrhar;", ofCodepoints(8651));
-        entityMap.put("&lrhard;", ofCodepoints(10605));
-        entityMap.put("&lrm;", ofCodepoints(8206));
-        entityMap.put("&lrtri;", ofCodepoints(8895));
-        entityMap.put("&lsaquo;", ofCodepoints(8249));
-        entityMap.put("&lscr;", ofCodepoints(120001));
-        entityMap.put("&lsh;", ofCodepoints(8624));
-        entityMap.put("&lsim;", ofCodepoints(8818));
-        entityMap.put("&lsime;", ofCodepoints(10893));
-        entityMap.put("&lsimg;", ofCodepoints(10895));
-        entityMap.put("&lsqb;", ofCodepoints(91));
-        entityMap.put("&lsquo;", ofCodepoints(8216));
-        entityMap.put("&lsquor;", ofCodepoints(8218));
-        entityMap.put("&lstrok;", ofCodepoints(322));
-        entityMap.put("&lt", ofCodepoints(60));
-        entityMap.put("&lt;", ofCodepoints(60));
-        entityMap.put("&ltcc;", ofCodepoints(10918));
-        entityMap.put("&ltcir;", ofCodepoints(10873));
-        entityMap.put("&ltdot;", ofCodepoints(8918));
-        entityMap.put("&lthree;", ofCodepoints(8907));
-        entityMap.put("&ltimes;", ofCodepoints(8905));
-        entityMap.put("&ltlarr;", ofCodepoints(10614));
-        entityMap.put("&ltquest;", ofCodepoints(10875));
-        entityMap.put("&ltrPar;", ofCodepoints(10646));
-        entityMap.put("&ltri;", ofCodepoints(9667));
-        entityMap.put("&ltrie;", ofCodepoints(8884));
-        entityMap.put("&ltrif;", ofCodepoints(9666));
-        entityMap.put("&lurdshar;", ofCodepoints(10570));
-        entityMap.put("&luruhar;", ofCodepoints(10598));
-        entityMap.put("&lvertneqq;", ofCodepoints(8808, 65024));
-        entityMap.put("&lvnE;", ofCodepoints(8808, 65024));
-        entityMap.put("&mDDot;", ofCodepoints(8762));
-        entityMap.put("&macr", ofCodepoints(175));
-        entityMap.put("&macr;", ofCodepoints(175));
-        entityMap.put("&male;", ofCodepoints(9794));
-        entityMap.put("&malt;", ofCodepoints(10016));
-        entityMap.put("&maltese;", ofCodepoints(10016));
-        entityMap.put("&map;", ofCodepoints(8614));
-        entityMap.put("&mapsto;", ofCodepoints(8614));
-        entityMap.put("&mapstodown;", ofCodepoints(8615));
-        entityMap.put("&mapstoleft;", ofCodepoints(8612));
-        entityMap.put("&mapstoup;", ofCodepoints(8613));
-        entityMap.put("&marker;", ofCodepoints(9646));
-        entityMap.put("&mcomma;", ofCodepoints(10793));
-        entityMap.put("&mcy;", ofCodepoints(1084));
-        entityMap.put("&mdash;", ofCodepoints(8212));
-        entityMap.put("&measuredangle;", ofCodepoints(8737));
-        entityMap.put("&mfr;", ofCodepoints(120106));
-        entityMap.put("&mho;", ofCodepoints(8487));
-        entityMap.put("&micro", ofCodepoints(181));
-        entityMap.put("&micro;", ofCodepoints(181));
-        entityMap.put("&mid;", ofCodepoints(8739));
-        entityMap.put("&midast;", ofCodepoints(42));
-        entityMap.put("&midcir;", ofCodepoints(10992));
-        entityMap.put("&middot", ofCodepoints(183));
-        entityMap.put("&middot;", ofCodepoints(183));
-        entityMap.put("&minus;", ofCodepoints(8722));
-        entityMap.put("&minusb;", ofCodepoints(8863));
-        entityMap.put("&minusd;", ofCodepoints(8760));
-        entityMap.put("&minusdu;", ofCodepoints(10794));
-        entityMap.put("&mlcp;", ofCodepoints(10971));
-        entityMap.put("&mldr;", ofCodepoints(8230));
-        entityMap.put("&mnplus;", ofCodepoints(8723));
-        entityMap.put("&models;", ofCodepoints(8871));
-        entityMap.put("&mopf;", ofCodepoints(120158));
-        entityMap.put("&mp;", ofCodepoints(8723));
-        entityMap.put("&mscr;", ofCodepoints(120002));
-        entityMap.put("&mstpos;", ofCodepoints(8766));
-        entityMap.put("&mu;", ofCodepoints(956));
-        entityMap.put("&multimap;", ofCodepoints(8888));
-        entityMap.put("&mumap;", ofCodepoints(8888));
-        entityMap.put("&nGg;", ofCodepoints(8921, 824));
-        entityMap.put("&nGt;", ofCodepoints(8811, 8402));
-        entityMap.put("&nGtv;", ofCodepoints(8811, 824));
-        entityMap.put("&nLeftarrow;", ofCodepoints(8653));
-        entityMap.put("&nLeftrightarrow;", ofCodepoints(8654));
-        entityMap.put("&nLl;", ofCodepoints(8920, 824));
-        entityMap.put("&nLt;", ofCodepoints(8810, 8402));
-        entityMap.put("&nLtv;", ofCodepoints(8810, 824));
-        entityMap.put("&nRightarrow;", ofCodepoints(8655));
-        entityMap.put("&nVDash;", ofCodepoints(8879));
-        entityMap.put("&nVdash;", ofCodepoints(8878));
-        entityMap.put("&nabla;", ofCodepoints(8711));
-        entityMap.put("&nacute;", ofCodepoints(324));
-        entityMap.put("&nang;", ofCodepoints(8736, 8402));
-        entityMap.put("&nap;", ofCodepoints(8777));
-        entityMap.put("&napE;", ofCodepoints(10864, 824));
-        entityMap.put("&napid;", ofCodepoints(8779, 824));
-        entityMap.put("&napos;", ofCodepoints(329));
-        entityMap.put("&napprox;", ofCodepoints(8777));
-        entityMap.put("&natur;", ofCodepoints(9838));
-        entityMap.put("&natural;", ofCodepoints(9838));
-        entityMap.put("&naturals;", ofCodepoints(8469));
-        entityMap.put("&nbsp", ofCodepoints(160));
-        entityMap.put("&nbsp;", ofCodepoints(160));
-        entityMap.put("&nbump;", ofCodepoints(8782, 824));
-        entityMap.put("&nbumpe;", ofCodepoints(8783, 824));
-        entityMap.put("&ncap;", ofCodepoints(10819));
-        entityMap.put("&ncaron;", ofCodepoints(328));
-        entityMap.put("&ncedil;", ofCodepoints(326));
-        entityMap.put("&ncong;", ofCodepoints(8775));
-        entityMap.put("&ncongdot;", ofCodepoints(10861, 824));
-        entityMap.put("&ncup;", ofCodepoints(10818));
-        entityMap.put("&ncy;", ofCodepoints(1085));
-        entityMap.put("&ndash;", ofCodepoints(8211));
-        entityMap.put("&ne;", ofCodepoints(8800));
-        entityMap.put("&neArr;", ofCodepoints(8663));
-        entityMap.put("&nearhk;", ofCodepoints(10532));
-        entityMap.put("&nearr;", ofCodepoints(8599));
-        entityMap.put("&nearrow;", ofCodepoints(8599));
-        entityMap.put("&nedot;", ofCodepoints(8784, 824));
-        entityMap.put("&nequiv;", ofCodepoints(8802));
-        entityMap.put("&nesear;", ofCodepoints(10536));
-        entityMap.put("&nesim;", ofCodepoints(8770, 824));
-        entityMap.put("&nexist;", ofCodepoints(8708));
-        entityMap.put("&nexists;", ofCodepoints(8708));
-        entityMap.put("&nfr;", ofCodepoints(120107));
-        entityMap.put("&ngE;", ofCodepoints(8807, 824));
-        entityMap.put("&nge;", ofCodepoints(8817));
-        entityMap.put("&ngeq;", ofCodepoints(8817));
-        entityMap.put("&ngeqq;", ofCodepoints(8807, 824));
-        entityMap.put("&ngeqslant;", ofCodepoints(10878, 824));
-        entityMap.put("&nges;", ofCodepoints(10878, 824));
-        entityMap.put("&ngsim;", ofCodepoints(8821));
-        entityMap.put("&ngt;", ofCodepoints(8815));
-        entityMap.put("&ngtr;", ofCodepoints(8815));
-        entityMap.put("&nhArr;", ofCodepoints(8654));
-        entityMap.put("&nharr;", ofCodepoints(8622));
-        entityMap.put("&nhpar;", ofCodepoints(10994));
-        entityMap.put("&ni;", ofCodepoints(8715));
-        entityMap.put("&nis;", ofCodepoints(8956));
-        entityMap.put("&nisd;", ofCodepoints(8954));
-        entityMap.put("&niv;", ofCodepoints(8715));
-        entityMap.put("&njcy;", ofCodepoints(1114));
-        entityMap.put("&nlArr;", ofCodepoints(8653));
-        entityMap.put("&nlE;", ofCodepoints(8806, 824));
-        entityMap.put("&nlarr;", ofCodepoints(8602));
-        entityMap.put("&nldr;", ofCodepoints(8229));
-        entityMap.put("&nle;", ofCodepoints(8816));
-        entityMap.put("&nleftarrow;", ofCodepoints(8602));
-        entityMap.put("&nleftrightarrow;", ofCodepoints(8622));
-        entityMap.put("&nleq;", ofCodepoints(8816));
-        entityMap.put("&nleqq;", ofCodepoints(8806, 824));
-        entityMap.put("&nleqslant;", ofCodepoints(10877, 824));
-        entityMap.put("&nles;", ofCodepoints(10877, 824));
-        entityMap.put("&nless;", ofCodepoints(8814));
-        entityMap.put("&nlsim;", ofCodepoints(8820));
-        entityMap.put("&nlt;", ofCodepoints(8814));
-        entityMap.put("&nltri;", ofCodepoints(8938));
-        entityMap.put("&nltrie;", ofCodepoints(8940));
-        entityMap.put("&nmid;", ofCodepoints(8740));
-        entityMap.put("&nopf;", ofCodepoints(120159));
-        entityMap.put("&not", ofCodepoints(172));
-        entityMap.put("&not;", ofCodepoints(172));
-        entityMap.put("&notin;", ofCodepoints(8713));
-        entityMap.put("&notinE;", ofCodepoints(8953, 824));
-        entityMap.put("&notindot;", ofCodepoints(8949, 824));
-        entityMap.put("&notinva;", ofCodepoints(8713));
-        entityMap.put("&notinvb;", ofCodepoints(8951));
-        entityMap.put("&notinvc;", ofCodepoints(8950));
-        entityMap.put("&notni;", ofCodepoints(8716));
-        entityMap.put("&notniva;", ofCodepoints(8716));
-        entityMap.put("&notnivb;", ofCodepoints(8958));
-        entityMap.put("&notnivc;", ofCodepoints(8957));
-        entityMap.put("&npar;", ofCodepoints(8742));
-        entityMap.put("&nparallel;", ofCodepoints(8742));
-        entityMap.put("&nparsl;", ofCodepoints(11005, 8421));
-        entityMap.put("&npart;", ofCodepoints(8706, 824));
-        entityMap.put("&npolint;", ofCodepoints(10772));
-        entityMap.put("&npr;", ofCodepoints(8832));
-        entityMap.put("&nprcue;", ofCodepoints(8928));
-        entityMap.put("&npre;", ofCodepoints(10927, 824));
-        entityMap.put("&nprec;", ofCodepoints(8832));
-        entityMap.put("&npreceq;", ofCodepoints(10927, 824));
-        entityMap.put("&nrArr;", ofCodepoints(8655));
-        entityMap.put("&nrarr;", ofCodepoints(8603));
-        entityMap.put("&nrarrc;", ofCodepoints(10547, 824));
-        entityMap.put("&nrarrw;", ofCodepoints(8605, 824));
-        entityMap.put("&nrightarrow;", ofCodepoints(8603));
-        entityMap.put("&nrtri;", ofCodepoints(8939));
-        entityMap.put("&nrtrie;", ofCodepoints(8941));
-        entityMap.put("&nsc;", ofCodepoints(8833));
-        entityMap.put("&nsccue;", ofCodepoints(8929));
-        entityMap.put("&nsce;", ofCodepoints(10928, 824));
-        entityMap.put("&nscr;", ofCodepoints(120003));
-        entityMap.put("&nshortmid;", ofCodepoints(8740));
-        entityMap.put("&nshortparallel;", ofCodepoints(8742));
-        entityMap.put("&nsim;", ofCodepoints(8769));
-        entityMap.put("&nsime;", ofCodepoints(8772));
-        entityMap.put("&nsimeq;", ofCodepoints(8772));
-        entityMap.put("&nsmid;", ofCodepoints(8740));
-        entityMap.put("&nspar;", ofCodepoints(8742));
-        entityMap.put("&nsqsube;", ofCodepoints(8930));
-        entityMap.put("&nsqsupe;", ofCodepoints(8931));
-        entityMap.put("&nsub;", ofCodepoints(8836));
-        entityMap.put("&nsubE;", ofCodepoints(10949, 824));
-        entityMap.put("&nsube;", ofCodepoints(8840));
-        entityMap.put("&nsubset;", ofCodepoints(8834, 8402));
-        entityMap.put("&nsubseteq;", ofCodepoints(8840));
-        entityMap.put("&nsubseteqq;", ofCodepoints(10949, 824));
-        entityMap.put("&nsucc;", ofCodepoints(8833));
-        entityMap.put("&nsucceq;", ofCodepoints(10928, 824));
-        entityMap.put("&nsup;", ofCodepoints(8837));
-        entityMap.put("&nsupE;", ofCodepoints(10950, 824));
-        entityMap.put("&nsupe;", ofCodepoints(8841));
-        entityMap.put("&nsupset;", ofCodepoints(8835, 8402));
-        entityMap.put("&nsupseteq;", ofCodepoints(8841));
-        entityMap.put("&nsupseteqq;", ofCodepoints(10950, 824));
-        entityMap.put("&ntgl;", ofCodepoints(8825));
-        entityMap.put("&ntilde", ofCodepoints(241));
-        entityMap.put("&ntilde;", ofCodepoints(241));
-        entityMap.put("&ntlg;", ofCodepoints(8824));
-        entityMap.put("&ntriangleleft;", ofCodepoints(8938));
-        entityMap.put("&ntrianglelefteq;", ofCodepoints(8940));
-        entityMap.put("&ntriangleright;", ofCodepoints(8939));
-        entityMap.put("&ntrianglerighteq;", ofCodepoints(8941));
-        entityMap.put("&nu;", ofCodepoints(957));
-        entityMap.put("&num;", ofCodepoints(35));
-        entityMap.put("&numero;", ofCodepoints(8470));
-        entityMap.put("&numsp;", ofCodepoints(8199));
-        entityMap.put("&nvDash;", ofCodepoints(8877));
-        entityMap.put("&nvHarr;", ofCodepoints(10500));
-        entityMap.put("&nvap;", ofCodepoints(8781, 8402));
-        entityMap.put("&nvdash;", ofCodepoints(8876));
-        entityMap.put("&nvge;", ofCodepoints(8805, 8402));
-        entityMap.put("&nvgt;", ofCodepoints(62, 8402));
-        entityMap.put("&nvinfin;", ofCodepoints(10718));
-        entityMap.put("&nvlArr;", ofCodepoints(10498));
-        entityMap.put("&nvle;", ofCodepoints(8804, 8402));
-        entityMap.put("&nvlt;", ofCodepoints(60, 8402));
-        entityMap.put("&nvltrie;", ofCodepoints(8884, 8402));
-        entityMap.put("&nvrArr;", ofCodepoints(10499));
-        entityMap.put("&nvrtrie;", ofCodepoints(8885, 8402));
-        entityMap.put("&nvsim;", ofCodepoints(8764, 8402));
-        entityMap.put("&nwArr;", ofCodepoints(8662));
-        entityMap.put("&nwarhk;", ofCodepoints(10531));
-        entityMap.put("&nwarr;", ofCodepoints(8598));
-        entityMap.put("&nwarrow;", ofCodepoints(8598));
-        entityMap.put("&nwnear;", ofCodepoints(10535));
-        entityMap.put("&oS;", ofCodepoints(9416));
-        entityMap.put("&oacute", ofCodepoints(243));
-        entityMap.put("&oacute;", ofCodepoints(243));
-        entityMap.put("&oast;", ofCodepoints(8859));
-        entityMap.put("&ocir;", ofCodepoints(8858));
-        entityMap.put("&ocirc", ofCodepoints(244));
-        entityMap.put("&ocirc;", ofCodepoints(244));
-        entityMap.put("&ocy;", ofCodepoints(1086));
-        entityMap.put("&odash;", ofCodepoints(8861));
-        entityMap.put("&odblac;", ofCodepoints(337));
-        entityMap.put("&odiv;", ofCodepoints(10808));
-        entityMap.put("&odot;", ofCodepoints(8857));
-        entityMap.put("&odsold;", ofCodepoints(10684));
-        entityMap.put("&oelig;", ofCodepoints(339));
-        entityMap.put("&ofcir;", ofCodepoints(10687));
-        entityMap.put("&ofr;", ofCodepoints(120108));
-        entityMap.put("&ogon;", ofCodepoints(731));
-        entityMap.put("&ograve", ofCodepoints(242));
-        entityMap.put("&ograve;", ofCodepoints(242));
-        entityMap.put("&ogt;", ofCodepoints(10689));
-        entityMap.put("&ohbar;", ofCodepoints(10677));
-        entityMap.put("&ohm;", ofCodepoints(937));
-        entityMap.put("&oint;", ofCodepoints(8750));
-        entityMap.put("&olarr;", ofCodepoints(8634));
-        entityMap.put("&olcir;", ofCodepoints(10686));
-        entityMap.put("&olcross;", ofCodepoints(10683));
-        entityMap.put("&oline;", ofCodepoints(8254));
-        entityMap.put("&olt;", ofCodepoints(10688));
-        entityMap.put("&omacr;", ofCodepoints(333));
-        entityMap.put("&omega;", ofCodepoints(969));
-        entityMap.put("&omicron;", ofCodepoints(959));
-        entityMap.put("&omid;", ofCodepoints(10678));
-        entityMap.put("&ominus;", ofCodepoints(8854));
-        entityMap.put("&oopf;", ofCodepoints(120160));
-        entityMap.put("&opar;", ofCodepoints(10679));
-        entityMap.put("&operp;", ofCodepoints(10681));
-        entityMap.put("&oplus;", ofCodepoints(8853));
-        entityMap.put("&or;", ofCodepoints(8744));
-        entityMap.put("&orarr;", ofCodepoints(8635));
-        entityMap.put("&ord;", ofCodepoints(10845));
-        entityMap.put("&order;", ofCodepoints(8500));
-        entityMap.put("&orderof;", ofCodepoints(8500));
-        entityMap.put("&ordf", ofCodepoints(170));
-        entityMap.put("&ordf;", ofCodepoints(170));
-        entityMap.put("&ordm", ofCodepoints(186));
-        entityMap.put("&ordm;", ofCodepoints(186));
-        entityMap.put("&origof;", ofCodepoints(8886));
-        entityMap.put("&oror;", ofCodepoints(10838));
-        entityMap.put("&orslope;", ofCodepoints(10839));
-        entityMap.put("&orv;", ofCodepoints(10843));
-        entityMap.put("&oscr;", ofCodepoints(8500));
-        entityMap.put("&oslash", ofCodepoints(248));
-        entityMap.put("&oslash;", ofCodepoints(248));
-        entityMap.put("&osol;", ofCodepoints(8856));
-        entityMap.put("&otilde", ofCodepoints(245));
-        entityMap.put("&otilde;", ofCodepoints(245));
-        entityMap.put("&otimes;", ofCodepoints(8855));
-        entityMap.put("&otimesas;", ofCodepoints(10806));
-        entityMap.put("&ouml", ofCodepoints(246));
-        entityMap.put("&ouml;", ofCodepoints(246));
-        entityMap.put("&ovbar;", ofCodepoints(9021));
-        entityMap.put("&par;", ofCodepoints(8741));
-        entityMap.put("&para", ofCodepoints(182));
-        entityMap.put("&para;", ofCodepoints(182));
-        entityMap.put("&parallel;", ofCodepoints(8741));
-        entityMap.put("&parsim;", ofCodepoints(10995));
-        entityMap.put("&parsl;", ofCodepoints(11005));
-        entityMap.put("&part;", ofCodepoints(8706));
-        entityMap.put("&pcy;", ofCodepoints(1087));
-        entityMap.put("&percnt;", ofCodepoints(37));
-        entityMap.put("&period;", ofCodepoints(46));
-        entityMap.put("&permil;", ofCodepoints(8240));
-        entityMap.put("&perp;", ofCodepoints(8869));
-        entityMap.put("&pertenk;", ofCodepoints(8241));
-        entityMap.put("&pfr;", ofCodepoints(120109));
-        entityMap.put("&phi;", ofCodepoints(966));
-        entityMap.put("&phiv;", ofCodepoints(981));
-        entityMap.put("&phmmat;", ofCodepoints(8499));
-        entityMap.put("&phone;", ofCodepoints(9742));
-        entityMap.put("&pi;", ofCodepoints(960));
-        entityMap.put("&pitchfork;", ofCodepoints(8916));
-        entityMap.put("&piv;", ofCodepoints(982));
-        entityMap.put("&planck;", ofCodepoints(8463));
-        entityMap.put("&planckh;", ofCodepoints(8462));
-        entityMap.put("&plankv;", ofCodepoints(8463));
-        entityMap.put("&plus;", ofCodepoints(43));
-        entityMap.put("&plusacir;", ofCodepoints(10787));
-        entityMap.put("&plusb;", ofCodepoints(8862));
-        entityMap.put("&pluscir;", ofCodepoints(10786));
-        entityMap.put("&plusdo;", ofCodepoints(8724));
-        entityMap.put("&plusdu;", ofCodepoints(10789));
-        entityMap.put("&pluse;", ofCodepoints(10866));
-        entityMap.put("&plusmn", ofCodepoints(177));
-        entityMap.put("&plusmn;", ofCodepoints(177));
-        entityMap.put("&plussim;", ofCodepoints(10790));
-        entityMap.put("&plustwo;", ofCodepoints(10791));
-        entityMap.put("&pm;", ofCodepoints(177));
-        entityMap.put("&pointint;", ofCodepoints(10773));
-        entityMap.put("&popf;", ofCodepoints(120161));
-        entityMap.put("&pound", ofCodepoints(163));
-        entityMap.put("&pound;", ofCodepoints(163));
-        entityMap.put("&pr;", ofCodepoints(8826));
-        entityMap.put("&prE;", ofCodepoints(10931));
-        entityMap.put("&prap;", ofCodepoints(10935));
-        entityMap.put("&prcue;", ofCodepoints(8828));
-        entityMap.put("&pre;", ofCodepoints(10927));
-        entityMap.put("&prec;", ofCodepoints(8826));
-        entityMap.put("&precapprox;", ofCodepoints(10935));
-        entityMap.put("&preccurlyeq;", ofCodepoints(8828));
-        entityMap.put("&preceq;", ofCodepoints(10927));
-        entityMap.put("&precnapprox;", ofCodepoints(10937));
-        entityMap.put("&precneqq;", ofCodepoints(10933));
-        entityMap.put("&precnsim;", ofCodepoints(8936));
-        entityMap.put("&precsim;", ofCodepoints(8830));
-        entityMap.put("&prime;", ofCodepoints(8242));
-        entityMap.put("&primes;", ofCodepoints(8473));
-        entityMap.put("&prnE;", ofCodepoints(10933));
-        entityMap.put("&prnap;", ofCodepoints(10937));
-        entityMap.put("&prnsim;", ofCodepoints(8936));
-        entityMap.put("&prod;", ofCodepoints(8719));
-        entityMap.put("&profalar;", ofCodepoints(9006));
-        entityMap.put("&profline;", ofCodepoints(8978));
-        entityMap.put("&profsurf;", ofCodepoints(8979));
-        entityMap.put("&prop;", ofCodepoints(8733));
-        entityMap.put("&propto;", ofCodepoints(8733));
-        entityMap.put("&prsim;", ofCodepoints(8830));
-        entityMap.put("&prurel;", ofCodepoints(8880));
-        entityMap.put("&pscr;", ofCodepoints(120005));
-        entityMap.put("&psi;", ofCodepoints(968));
-        entityMap.put("&puncsp;", ofCodepoints(8200));
-        entityMap.put("&qfr;", ofCodepoints(120110));
-        entityMap.put("&qint;", ofCodepoints(10764));
-        entityMap.put("&qopf;", ofCodepoints(120162));
-        entityMap.put("&qprime;", ofCodepoints(8279));
-        entityMap.put("&qscr;", ofCodepoints(120006));
-        entityMap.put("&quaternions;", ofCodepoints(8461));
-        entityMap.put("&quatint;", ofCodepoints(10774));
-        entityMap.put("&quest;", ofCodepoints(63));
-        entityMap.put("&questeq;", ofCodepoints(8799));
-        entityMap.put("&quot", ofCodepoints(34));
-        entityMap.put("&quot;", ofCodepoints(34));
-        entityMap.put("&rAarr;", ofCodepoints(8667));
-        entityMap.put("&rArr;", ofCodepoints(8658));
-        entityMap.put("&rAtail;", ofCodepoints(10524));
-        entityMap.put("&rBarr;", ofCodepoints(10511));
-        entityMap.put("&rHar;", ofCodepoints(10596));
-        entityMap.put("&race;", ofCodepoints(8765, 817));
-        entityMap.put("&racute;", ofCodepoints(341));
-        entityMap.put("&radic;", ofCodepoints(8730));
-        entityMap.put("&raemptyv;", ofCodepoints(10675));
-        entityMap.put("&rang;", ofCodepoints(10217));
-        entityMap.put("&rangd;", ofCodepoints(10642));
-        entityMap.put("&range;", ofCodepoints(10661));
-        entityMap.put("&rangle;", ofCodepoints(10217));
-        entityMap.put("&raquo", ofCodepoints(187));
-        entityMap.put("&raquo;", ofCodepoints(187));
-        entityMap.put("&rarr;", ofCodepoints(8594));
-        entityMap.put("&rarrap;", ofCodepoints(10613));
-        entityMap.put("&rarrb;", ofCodepoints(8677));
-        entityMap.put("&rarrbfs;", ofCodepoints(10528));
-        entityMap.put("&rarrc;", ofCodepoints(10547));
-        entityMap.put("&rarrfs;", ofCodepoints(10526));
-        entityMap.put("&rarrhk;", ofCodepoints(8618));
-        entityMap.put("&rarrlp;", ofCodepoints(8620));
-        entityMap.put("&rarrpl;", ofCodepoints(10565));
-        entityMap.put("&rarrsim;", ofCodepoints(10612));
-        entityMap.put("&rarrtl;", ofCodepoints(8611));
-        entityMap.put("&rarrw;", ofCodepoints(8605));
-        entityMap.put("&ratail;", ofCodepoints(10522));
-        entityMap.put("&ratio;", ofCodepoints(8758));
-        entityMap.put("&rationals;", ofCodepoints(8474));
-        entityMap.put("&rbarr;", ofCodepoints(10509));
-        entityMap.put("&rbbrk;", ofCodepoints(10099));
-        entityMap.put("&rbrace;", ofCodepoints(125));
-        entityMap.put("&rbrack;", ofCodepoints(93));
-        entityMap.put("&rbrke;", ofCodepoints(10636));
-        entityMap.put("&rbrksld;", ofCodepoints(10638));
-        entityMap.put("&rbrkslu;", ofCodepoints(10640));
-        entityMap.put("&rcaron;", ofCodepoints(345));
-        entityMap.put("&rcedil;", ofCodepoints(343));
-        entityMap.put("&rceil;", ofCodepoints(8969));
-        entityMap.put("&rcub;", ofCodepoints(125));
-        entityMap.put("&rcy;", ofCodepoints(1088));
-        entityMap.put("&rdca;", ofCodepoints(10551));
-        entityMap.put("&rdldhar;", ofCodepoints(10601));
-        entityMap.put("&rdquo;", ofCodepoints(8221));
-        entityMap.put("&rdquor;", ofCodepoints(8221));
-        entityMap.put("&rdsh;", ofCodepoints(8627));
-        entityMap.put("&real;", ofCodepoints(8476));
-        entityMap.put("&realine;", ofCodepoints(8475));
-        entityMap.put("&realpart;", ofCodepoints(8476));
-        entityMap.put("&reals;", ofCodepoints(8477));
-        entityMap.put("&rect;", ofCodepoints(9645));
-        entityMap.put("&reg", ofCodepoints(174));
-        entityMap.put("&reg;", ofCodepoints(174));
-        entityMap.put("&rfisht;", ofCodepoints(10621));
-        entityMap.put("&rfloor;", ofCodepoints(8971));
-        entityMap.put("&rfr;", ofCodepoints(120111));
-        entityMap.put("&rhard;", ofCodepoints(8641));
-        entityMap.put("&rharu;", ofCodepoints(8640));
-        entityMap.put("&rharul;", ofCodepoints(10604));
-        entityMap.put("&rho;", ofCodepoints(961));
-        entityMap.put("&rhov;", ofCodepoints(1009));
-        entityMap.put("&rightarrow;", ofCodepoints(8594));
-        entityMap.put("&rightarrowtail;", ofCodepoints(8611));
-        entityMap.put("&rightharpoondown;", ofCodepoints(8641));
-        entityMap.put("&rightharpoonup;", ofCodepoints(8640));
-        entityMap.put("&rightleftarrows;", ofCodepoints(8644));
-        entityMap.put("&rightleftharpoons;", ofCodepoints(8652));
-        entityMap.put("&rightrightarrows;", ofCodepoints(8649));
-        entityMap.put("&rightsquigarrow;", ofCodepoints(8605));
-        entityMap.put("&rightthreetimes;", ofCodepoints(8908));
-        entityMap.put("&ring;", ofCodepoints(730));
-        entityMap.put("&risingdotseq;", ofCodepoints(8787));
-        entityMap.put("&rlarr;", ofCodepoints(8644));
-        entityMap.put("&rlhar;", ofCodepoints(8652));
-        entityMap.put("&rlm;", ofCodepoints(8207));
-        entityMap.put("&rmoust;", ofCodepoints(9137));
-        entityMap.put("&rmoustache;", ofCodepoints(9137));
-        entityMap.put("&rnmid;", ofCodepoints(10990));
-        entityMap.put("&roang;", ofCodepoints(10221));
-        entityMap.put("&roarr;", ofCodepoints(8702));
-        entityMap.put("&robrk;", ofCodepoints(10215));
-        entityMap.put("&ropar;", ofCodepoints(10630));
-        entityMap.put("&ropf;", ofCodepoints(120163));
-        entityMap.put("&roplus;", ofCodepoints(10798));
-        entityMap.put("&rotimes;", ofCodepoints(10805));
-        entityMap.put("&rpar;", ofCodepoints(41));
-        entityMap.put("&rpargt;", ofCodepoints(10644));
-        entityMap.put("&rppolint;", ofCodepoints(10770));
-        entityMap.put("&rrarr;", ofCodepoints(8649));
-        entityMap.put("&rsaquo;", ofCodepoints(8250));
-        entityMap.put("&rscr;", ofCodepoints(120007));
-        entityMap.put("&rsh;", ofCodepoints(8625));
-        entityMap.put("&rsqb;", ofCodepoints(93));
-        entityMap.put("&rsquo;", ofCodepoints(8217));
-        entityMap.put("&rsquor;", ofCodepoints(8217));
-        entityMap.put("&rthree;", ofCodepoints(8908));
-        entityMap.put("&rtimes;", ofCodepoints(8906));
-        entityMap.put("&rtri;", ofCodepoints(9657));
-        entityMap.put("&rtrie;", ofCodepoints(8885));
-        entityMap.put("&rtrif;", ofCodepoints(9656));
-        entityMap.put("&rtriltri;", ofCodepoints(10702));
-        entityMap.put("&ruluhar;", ofCodepoints(10600));
-        entityMap.put("&rx;", ofCodepoints(8478));
-        entityMap.put("&sacute;", ofCodepoints(347));
-        entityMap.put("&sbquo;", ofCodepoints(8218));
-        entityMap.put("&sc;", ofCodepoints(8827));
-        entityMap.put("&scE;", ofCodepoints(10932));
-        entityMap.put("&scap;", ofCodepoints(10936));
-        entityMap.put("&scaron;", ofCodepoints(353));
-        entityMap.put("&sccue;", ofCodepoints(8829));
-        entityMap.put("&sce;", ofCodepoints(10928));
-        entityMap.put("&scedil;", ofCodepoints(351));
-        entityMap.put("&scirc;", ofCodepoints(349));
-        entityMap.put("&scnE;", ofCodepoints(10934));
-        entityMap.put("&scnap;", ofCodepoints(10938));
-        entityMap.put("&scnsim;", ofCodepoints(8937));
-        entityMap.put("&scpolint;", ofCodepoints(10771));
-        entityMap.put("&scsim;", ofCodepoints(8831));
-        entityMap.put("&scy;", ofCodepoints(1089));
-        entityMap.put("&sdot;", ofCodepoints(8901));
-        entityMap.put("&sdotb;", ofCodepoints(8865));
-        entityMap.put("&sdote;", ofCodepoints(10854));
-        entityMap.put("&seArr;", ofCodepoints(8664));
-        entityMap.put("&searhk;", ofCodepoints(10533));
-        entityMap.put("&searr;", ofCodepoints(8600));
-        entityMap.put("&searrow;", ofCodepoints(8600));
-        entityMap.put("&sect", ofCodepoints(167));
-        entityMap.put("&sect;", ofCodepoints(167));
-        entityMap.put("&semi;", ofCodepoints(59));
-        entityMap.put("&seswar;", ofCodepoints(10537));
-        entityMap.put("&setminus;", ofCodepoints(8726));
-        entityMap.put("&setmn;", ofCodepoints(8726));
-        entityMap.put("&sext;", ofCodepoints(10038));
-        entityMap.put("&sfr;", ofCodepoints(120112));
-        entityMap.put("&sfrown;", ofCodepoints(8994));
-        entityMap.put("&sharp;", ofCodepoints(9839));
-        entityMap.put("&shchcy;", ofCodepoints(1097));
-        entityMap.put("&shcy;", ofCodepoints(1096));
-        entityMap.put("&shortmid;", ofCodepoints(8739));
-        entityMap.put("&shortparallel;", ofCodepoints(8741));
-        entityMap.put("&shy", ofCodepoints(173));
-        entityMap.put("&shy;", ofCodepoints(173));
-        entityMap.put("&sigma;", ofCodepoints(963));
-        entityMap.put("&sigmaf;", ofCodepoints(962));
-        entityMap.put("&sigmav;", ofCodepoints(962));
-        entityMap.put("&sim;", ofCodepoints(8764));
-        entityMap.put("&simdot;", ofCodepoints(10858));
-        entityMap.put("&sime;", ofCodepoints(8771));
-        entityMap.put("&simeq;", ofCodepoints(8771));
-        entityMap.put("&simg;", ofCodepoints(10910));
-        entityMap.put("&simgE;", ofCodepoints(10912));
-        entityMap.put("&siml;", ofCodepoints(10909));
-        entityMap.put("&simlE;", ofCodepoints(10911));
-        entityMap.put("&simne;", ofCodepoints(8774));
-        entityMap.put("&simplus;", ofCodepoints(10788));
-        entityMap.put("&simrarr;", ofCodepoints(10610));
-        entityMap.put("&slarr;", ofCodepoints(8592));
-        entityMap.put("&smallsetminus;", ofCodepoints(8726));
-        entityMap.put("&smashp;", ofCodepoints(10803));
-        entityMap.put("&smeparsl;", ofCodepoints(10724));
-        entityMap.put("&smid;", ofCodepoints(8739));
-        entityMap.put("&smile;", ofCodepoints(8995));
-        entityMap.put("&smt;", ofCodepoints(10922));
-        entityMap.put("&smte;", ofCodepoints(10924));
-        entityMap.put("&smtes;", ofCodepoints(10924, 65024));
-        entityMap.put("&softcy;", ofCodepoints(1100));
-        entityMap.put("&sol;", ofCodepoints(47));
-        entityMap.put("&solb;", ofCodepoints(10692));
-        entityMap.put("&solbar;", ofCodepoints(9023));
-        entityMap.put("&sopf;", ofCodepoints(120164));
-        entityMap.put("&spades;", ofCodepoints(9824));
-        entityMap.put("&spadesuit;", ofCodepoints(9824));
-        entityMap.put("&spar;", ofCodepoints(8741));
-        entityMap.put("&sqcap;", ofCodepoints(8851));
-        entityMap.put("&sqcaps;", ofCodepoints(8851, 65024));
-        entityMap.put("&sqcup;", ofCodepoints(8852));
-        entityMap.put("&sqcups;", ofCodepoints(8852, 65024));
-        entityMap.put("&sqsub;", ofCodepoints(8847));
-        entityMap.put("&sqsube;", ofCodepoints(8849));
-        entityMap.put("&sqsubset;", ofCodepoints(8847));
-        entityMap.put("&sqsubseteq;", ofCodepoints(8849));
-        entityMap.put("&sqsup;", ofCodepoints(8848));
-        entityMap.put("&sqsupe;", ofCodepoints(8850));
-        entityMap.put("&sqsupset;", ofCodepoints(8848));
-        entityMap.put("&sqsupseteq;", ofCodepoints(8850));
-        entityMap.put("&squ;", ofCodepoints(9633));
-        entityMap.put("&square;", ofCodepoints(9633));
-        entityMap.put("&squarf;", ofCodepoints(9642));
-        entityMap.put("&squf;", ofCodepoints(9642));
-        entityMap.put("&srarr;", ofCodepoints(8594));
-        entityMap.put("&sscr;", ofCodepoints(120008));
-        entityMap.put("&ssetmn;", ofCodepoints(8726));
-        entityMap.put("&ssmile;", ofCodepoints(8995));
-        entityMap.put("&sstarf;", ofCodepoints(8902));
-        entityMap.put("&star;", ofCodepoints(9734));
-        entityMap.put("&starf;", ofCodepoints(9733));
-        entityMap.put("&straightepsilon;", ofCodepoints(1013));
-        entityMap.put("&straightphi;", ofCodepoints(981));
-        entityMap.put("&strns;", ofCodepoints(175));
-        entityMap.put("&sub;", ofCodepoints(8834));
-        entityMap.put("&subE;", ofCodepoints(10949));
-        entityMap.put("&subdot;", ofCodepoints(10941));
-        entityMap.put("&sube;", ofCodepoints(8838));
-        entityMap.put("&subedot;", ofCodepoints(10947));
-        entityMap.put("&submult;", ofCodepoints(10945));
-        entityMap.put("&subnE;", ofCodepoints(10955));
-        entityMap.put("&subne;", ofCodepoints(8842));
-        entityMap.put("&subplus;", ofCodepoints(10943));
-        entityMap.put("&subrarr;", ofCodepoints(10617));
-        entityMap.put("&subset;", ofCodepoints(8834));
-        entityMap.put("&subseteq;", ofCodepoints(8838));
-        entityMap.put("&subseteqq;", ofCodepoints(10949));
-        entityMap.put("&subsetneq;", ofCodepoints(8842));
-        entityMap.put("&subsetneqq;", ofCodepoints(10955));
-        entityMap.put("&subsim;", ofCodepoints(10951));
-        entityMap.put("&subsub;", ofCodepoints(10965));
-        entityMap.put("&subsup;", ofCodepoints(10963));
-        entityMap.put("&succ;", ofCodepoints(8827));
-        entityMap.put("&succapprox;", ofCodepoints(10936));
-        entityMap.put("&succcurlyeq;", ofCodepoints(8829));
-        entityMap.put("&succeq;", ofCodepoints(10928));
-        entityMap.put("&succnapprox;", ofCodepoints(10938));
-        entityMap.put("&succneqq;", ofCodepoints(10934));
-        entityMap.put("&succnsim;", ofCodepoints(8937));
-        entityMap.put("&succsim;", ofCodepoints(8831));
-        entityMap.put("&sum;", ofCodepoints(8721));
-        entityMap.put("&sung;", ofCodepoints(9834));
-        entityMap.put("&sup1", ofCodepoints(185));
-        entityMap.put("&sup1;", ofCodepoints(185));
-        entityMap.put("&sup2", ofCodepoints(178));
-        entityMap.put("&sup2;", ofCodepoints(178));
-        entityMap.put("&sup3", ofCodepoints(179));
-        entityMap.put("&sup3;", ofCodepoints(179));
-        entityMap.put("&sup;", ofCodepoints(8835));
-        entityMap.put("&supE;", ofCodepoints(10950));
-        entityMap.put("&supdot;", ofCodepoints(10942));
-        entityMap.put("&supdsub;", ofCodepoints(10968));
-        entityMap.put("&supe;", ofCodepoints(8839));
-        entityMap.put("&supedot;", ofCodepoints(10948));
-        entityMap.put("&suphsol;", ofCodepoints(10185));
-        entityMap.put("&suphsub;", ofCodepoints(10967));
-        entityMap.put("&suplarr;", ofCodepoints(10619));
-        entityMap.put("&supmult;", ofCodepoints(10946));
-        entityMap.put("&supnE;", ofCodepoints(10956));
-        entityMap.put("&supne;", ofCodepoints(8843));
-        entityMap.put("&supplus;", ofCodepoints(10944));
-        entityMap.put("&supset;", ofCodepoints(8835));
-        entityMap.put("&supseteq;", ofCodepoints(8839));
-        entityMap.put("&supseteqq;", ofCodepoints(10950));
-        entityMap.put("&supsetneq;", ofCodepoints(8843));
-        entityMap.put("&supsetneqq;", ofCodepoints(10956));
-        entityMap.put("&supsim;", ofCodepoints(10952));
-        entityMap.put("&supsub;", ofCodepoints(10964));
-        entityMap.put("&supsup;", ofCodepoints(10966));
-        entityMap.put("&swArr;", ofCodepoints(8665));
-        entityMap.put("&swarhk;", ofCodepoints(10534));
-        entityMap.put("&swarr;", ofCodepoints(8601));
-        entityMap.put("&swarrow;", ofCodepoints(8601));
-        entityMap.put("&swnwar;", ofCodepoints(10538));
-        entityMap.put("&szlig", ofCodepoints(223));
-        entityMap.put("&szlig;", ofCodepoints(223));
-        entityMap.put("&target;", ofCodepoints(8982));
-        entityMap.put("&tau;", ofCodepoints(964));
-        entityMap.put("&tbrk;", ofCodepoints(9140));
-        entityMap.put("&tcaron;", ofCodepoints(357));
-        entityMap.put("&tcedil;", ofCodepoints(355));
-        entityMap.put("&tcy;", ofCodepoints(1090));
-        entityMap.put("&tdot;", ofCodepoints(8411));
-        entityMap.put("&telrec;", ofCodepoints(8981));
-        entityMap.put("&tfr;", ofCodepoints(120113));
-        entityMap.put("&there4;", ofCodepoints(8756));
-        entityMap.put("&therefore;", ofCodepoints(8756));
-        entityMap.put("&theta;", ofCodepoints(952));
-        entityMap.put("&thetasym;", ofCodepoints(977));
-        entityMap.put("&thetav;", ofCodepoints(977));
-        entityMap.put("&thickapprox;", ofCodepoints(8776));
-        entityMap.put("&thicksim;", ofCodepoints(8764));
-        entityMap.put("&thinsp;", ofCodepoints(8201));
-        entityMap.put("&thkap;", ofCodepoints(8776));
-        entityMap.put("&thksim;", ofCodepoints(8764));
-        entityMap.put("&thorn", ofCodepoints(254));
-        entityMap.put("&thorn;", ofCodepoints(254));
-        entityMap.put("&tilde;", ofCodepoints(732));
-        entityMap.put("&times", ofCodepoints(215));
-        entityMap.put("&times;", ofCodepoints(215));
-        entityMap.put("&timesb;", ofCodepoints(8864));
-        entityMap.put("&timesbar;", ofCodepoints(10801));
-        entityMap.put("&timesd;", ofCodepoints(10800));
-        entityMap.put("&tint;", ofCodepoints(8749));
-        entityMap.put("&toea;", ofCodepoints(10536));
-        entityMap.put("&top;", ofCodepoints(8868));
-        entityMap.put("&topbot;", ofCodepoints(9014));
-        entityMap.put("&topcir;", ofCodepoints(10993));
-        entityMap.put("&topf;", ofCodepoints(120165));
-        entityMap.put("&topfork;", ofCodepoints(10970));
-        entityMap.put("&tosa;", ofCodepoints(10537));
-        entityMap.put("&tprime;", ofCodepoints(8244));
-        entityMap.put("&trade;", ofCodepoints(8482));
-        entityMap.put("&triangle;", ofCodepoints(9653));
-        entityMap.put("&triangledown;", ofCodepoints(9663));
-        entityMap.put("&triangleleft;", ofCodepoints(9667));
-        entityMap.put("&trianglelefteq;", ofCodepoints(8884));
-        entityMap.put("&triangleq;", ofCodepoints(8796));
-        entityMap.put("&triangleright;", ofCodepoints(9657));
-        entityMap.put("&trianglerighteq;", ofCodepoints(8885));
-        entityMap.put("&tridot;", ofCodepoints(9708));
-        entityMap.put("&trie;", ofCodepoints(8796));
-        entityMap.put("&triminus;", ofCodepoints(10810));
-        entityMap.put("&triplus;", ofCodepoints(10809));
-        entityMap.put("&trisb;", ofCodepoints(10701));
-        entityMap.put("&tritime;", ofCodepoints(10811));
-        entityMap.put("&trpezium;", ofCodepoints(9186));
-        entityMap.put("&tscr;", ofCodepoints(120009));
-        entityMap.put("&tscy;", ofCodepoints(1094));
-        entityMap.put("&tshcy;", ofCodepoints(1115));
-        entityMap.put("&tstrok;", ofCodepoints(359));
-        entityMap.put("&twixt;", ofCodepoints(8812));
-        entityMap.put("&twoheadleftarrow;", ofCodepoints(8606));
-        entityMap.put("&twoheadrightarrow;", ofCodepoints(8608));
-        entityMap.put("&uArr;", ofCodepoints(8657));
-        entityMap.put("&uHar;", ofCodepoints(10595));
-        entityMap.put("&uacute", ofCodepoints(250));
-        entityMap.put("&uacute;", ofCodepoints(250));
-        entityMap.put("&uarr;", ofCodepoints(8593));
-        entityMap.put("&ubrcy;", ofCodepoints(1118));
-        entityMap.put("&ubreve;", ofCodepoints(365));
-        entityMap.put("&ucirc", ofCodepoints(251));
-        entityMap.put("&ucirc;", ofCodepoints(251));
-        entityMap.put("&ucy;", ofCodepoints(1091));
-        entityMap.put("&udarr;", ofCodepoints(8645));
-        entityMap.put("&udblac;", ofCodepoints(369));
-        entityMap.put("&udhar;", ofCodepoints(10606));
-        entityMap.put("&ufisht;", ofCodepoints(10622));
-        entityMap.put("&ufr;", ofCodepoints(120114));
-        entityMap.put("&ugrave", ofCodepoints(249));
-        entityMap.put("&ugrave;", ofCodepoints(249));
-        entityMap.put("&uharl;", ofCodepoints(8639));
-        entityMap.put("&uharr;", ofCodepoints(8638));
-        entityMap.put("&uhblk;", ofCodepoints(9600));
-        entityMap.put("&ulcorn;", ofCodepoints(8988));
-        entityMap.put("&ulcorner;", ofCodepoints(8988));
-        entityMap.put("&ulcrop;", ofCodepoints(8975));
-        entityMap.put("&ultri;", ofCodepoints(9720));
-        entityMap.put("&umacr;", ofCodepoints(363));
-        entityMap.put("&uml", ofCodepoints(168));
-        entityMap.put("&uml;", ofCodepoints(168));
-        entityMap.put("&uogon;", ofCodepoints(371));
-        entityMap.put("&uopf;", ofCodepoints(120166));
-        entityMap.put("&uparrow;", ofCodepoints(8593));
-        entityMap.put("&updownarrow;", ofCodepoints(8597));
-        entityMap.put("&upharpoonleft;", ofCodepoints(8639));
-        entityMap.put("&upharpoonright;", ofCodepoints(8638));
-        entityMap.put("&uplus;", ofCodepoints(8846));
-        entityMap.put("&upsi;", ofCodepoints(965));
-        entityMap.put("&upsih;", ofCodepoints(978));
-        entityMap.put("&upsilon;", ofCodepoints(965));
-        entityMap.put("&upuparrows;", ofCodepoints(8648));
-        entityMap.put("&urcorn;", ofCodepoints(8989));
-        entityMap.put("&urcorner;", ofCodepoints(8989));
-        entityMap.put("&urcrop;", ofCodepoints(8974));
-        entityMap.put("&uring;", ofCodepoints(367));
-        entityMap.put("&urtri;", ofCodepoints(9721));
-        entityMap.put("&uscr;", ofCodepoints(120010));
-        entityMap.put("&utdot;", ofCodepoints(8944));
-        entityMap.put("&utilde;", ofCodepoints(361));
-        entityMap.put("&utri;", ofCodepoints(9653));
-        entityMap.put("&utrif;", ofCodepoints(9652));
-        entityMap.put("&uuarr;", ofCodepoints(8648));
-        entityMap.put("&uuml", ofCodepoints(252));
-        entityMap.put("&uuml;", ofCodepoints(252));
-        entityMap.put("&uwangle;", ofCodepoints(10663));
-        entityMap.put("&vArr;", ofCodepoints(8661));
-        entityMap.put("&vBar;", ofCodepoints(10984));
-        entityMap.put("&vBarv;", ofCodepoints(10985));
-        entityMap.put("&vDash;", ofCodepoints(8872));
-        entityMap.put("&vangrt;", ofCodepoints(10652));
-        entityMap.put("&varepsilon;", ofCodepoints(1013));
-        entityMap.put("&varkappa;", ofCodepoints(1008));
-        entityMap.put("&varnothing;", ofCodepoints(8709));
-        entityMap.put("&varphi;", ofCodepoints(981));
-        entityMap.put("&varpi;", ofCodepoints(982));
-        entityMap.put("&varpropto;", ofCodepoints(8733));
-        entityMap.put("&varr;", ofCodepoints(8597));
-        entityMap.put("&varrho;", ofCodepoints(1009));
-        entityMap.put("&varsigma;", ofCodepoints(962));
-        entityMap.put("&varsubsetneq;", ofCodepoints(8842, 65024));
-        entityMap.put("&varsubsetneqq;", ofCodepoints(10955, 65024));
-        entityMap.put("&varsupsetneq;", ofCodepoints(8843, 65024));
-        entityMap.put("&varsupsetneqq;", ofCodepoints(10956, 65024));
-        entityMap.put("&vartheta;", ofCodepoints(977));
-        entityMap.put("&vartriangleleft;", ofCodepoints(8882));
-        entityMap.put("&vartriangleright;", ofCodepoints(8883));
-        entityMap.put("&vcy;", ofCodepoints(1074));
-        entityMap.put("&vdash;", ofCodepoints(8866));
-        entityMap.put("&vee;", ofCodepoints(8744));
-        entityMap.put("&veebar;", ofCodepoints(8891));
-        entityMap.put("&veeeq;", ofCodepoints(8794));
-        entityMap.put("&vellip;", ofCodepoints(8942));
-        entityMap.put("&verbar;", ofCodepoints(124));
-        entityMap.put("&vert;", ofCodepoints(124));
-        entityMap.put("&vfr;", ofCodepoints(120115));
-        entityMap.put("&vltri;", ofCodepoints(8882));
-        entityMap.put("&vnsub;", ofCodepoints(8834, 8402));
-        entityMap.put("&vnsup;", ofCodepoints(8835, 8402));
-        entityMap.put("&vopf;", ofCodepoints(120167));
-        entityMap.put("&vprop;", ofCodepoints(8733));
-        entityMap.put("&vrtri;", ofCodepoints(8883));
-        entityMap.put("&vscr;", ofCodepoints(120011));
-        entityMap.put("&vsubnE;", ofCodepoints(10955, 65024));
-        entityMap.put("&vsubne;", ofCodepoints(8842, 65024));
-        entityMap.put("&vsupnE;", ofCodepoints(10956, 65024));
-        entityMap.put("&vsupne;", ofCodepoints(8843, 65024));
-        entityMap.put("&vzigzag;", ofCodepoints(10650));
-        entityMap.put("&wcirc;", ofCodepoints(373));
-        entityMap.put("&wedbar;", ofCodepoints(10847));
-        entityMap.put("&wedge;", ofCodepoints(8743));
-        entityMap.put("&wedgeq;", ofCodepoints(8793));
-        entityMap.put("&weierp;", ofCodepoints(8472));
-        entityMap.put("&wfr;", ofCodepoints(120116));
-        entityMap.put("&wopf;", ofCodepoints(120168));
-        entityMap.put("&wp;", ofCodepoints(8472));
-        entityMap.put("&wr;", ofCodepoints(8768));
-        entityMap.put("&wreath;", ofCodepoints(8768));
-        entityMap.put("&wscr;", ofCodepoints(120012));
-        entityMap.put("&xcap;", ofCodepoints(8898));
-        entityMap.put("&xcirc;", ofCodepoints(9711));
-        entityMap.put("&xcup;", ofCodepoints(8899));
-        entityMap.put("&xdtri;", ofCodepoints(9661));
-        entityMap.put("&xfr;", ofCodepoints(120117));
-        entityMap.put("&xhArr;", ofCodepoints(10234));
-        entityMap.put("&xharr;", ofCodepoints(10231));
-        entityMap.put("&xi;", ofCodepoints(958));
-        entityMap.put("&xlArr;", ofCodepoints(10232));
-        entityMap.put("&xlarr;", ofCodepoints(10229));
-        entityMap.put("&xmap;", ofCodepoints(10236));
-        entityMap.put("&xnis;", ofCodepoints(8955));
-        entityMap.put("&xodot;", ofCodepoints(10752));
-        entityMap.put("&xopf;", ofCodepoints(120169));
-        entityMap.put("&xoplus;", ofCodepoints(10753));
-        entityMap.put("&xotime;", ofCodepoints(10754));
-        entityMap.put("&xrArr;", ofCodepoints(10233));
-        entityMap.put("&xrarr;", ofCodepoints(10230));
-        entityMap.put("&xscr;", ofCodepoints(120013));
-        entityMap.put("&xsqcup;", ofCodepoints(10758));
-        entityMap.put("&xuplus;", ofCodepoints(10756));
-        entityMap.put("&xutri;", ofCodepoints(9651));
-        entityMap.put("&xvee;", ofCodepoints(8897));
-        entityMap.put("&xwedge;", ofCodepoints(8896));
-        entityMap.put("&yacute", ofCodepoints(253));
-        entityMap.put("&yacute;", ofCodepoints(253));
-        entityMap.put("&yacy;", ofCodepoints(1103));
-        entityMap.put("&ycirc;", ofCodepoints(375));
-        entityMap.put("&ycy;", ofCodepoints(1099));
-        entityMap.put("&yen", ofCodepoints(165));
-        entityMap.put("&yen;", ofCodepoints(165));
-        entityMap.put("&yfr;", ofCodepoints(120118));
-        entityMap.put("&yicy;", ofCodepoints(1111));
-        entityMap.put("&yopf;", ofCodepoints(120170));
-        entityMap.put("&yscr;", ofCodepoints(120014));
-        entityMap.put("&yucy;", ofCodepoints(1102));
-        entityMap.put("&yuml", ofCodepoints(255));
-        entityMap.put("&yuml;", ofCodepoints(255));
-        entityMap.put("&zacute;", ofCodepoints(378));
-        entityMap.put("&zcaron;", ofCodepoints(382));
-        entityMap.put("&zcy;", ofCodepoints(1079));
-        entityMap.put("&zdot;", ofCodepoints(380));
-        entityMap.put("&zeetrf;", ofCodepoints(8488));
-        entityMap.put("&zeta;", ofCodepoints(950));
-        entityMap.put("&zfr;", ofCodepoints(120119));
-        entityMap.put("&zhcy;", ofCodepoints(1078));
-        entityMap.put("&zigrarr;", ofCodepoints(8669));
-        entityMap.put("&zopf;", ofCodepoints(120171));
-        entityMap.put("&zscr;", ofCodepoints(120015));
-        entityMap.put("&zwj;", ofCodepoints(8205));
-        entityMap.put("&zwnj;", ofCodepoints(8204));
+    /**
+     * Visit every named entity, in sorted order
+     * @param action accepts each name, including its {@code &}, and its decoded value
+     */
+    static void forEach(BiConsumer<String, String> action) {
+        for (int i = 0; i < COUNT; ++i) {
+            int nameStart = i == 0 ? 0 : NAME_ENDS.charAt(i - 1);
+            action.accept("&" + NAMES.substring(nameStart, NAME_ENDS.charAt(i)), value(i));
+        }
     }
 }
@@ -0,0 +1,629 @@
+package com.madimadica.hyde.parser;
+
+/**
+ * Named character references of the HTML standard, as used by {@link HtmlEntities}.
+ * <p>
+ * These are compile-time constants, so they are inlined into their users,
+ * and this class is never loaded.
+ * </p>
+ */
+final class HtmlEntityTable {
+    private HtmlEntityTable() {}
+
+    /**
+     * Entity names without their {@code &}, in {@code char} order
+     */
+    static final String NAMES =
+            "AEligAElig;AMPAMP;AacuteAacute;Abreve;AcircAcirc;Acy;Afr;AgraveAgrave;Alpha;Amacr;And;Aogon;Aopf;" +
+            "ApplyFunction;AringAring;Ascr;Assign;AtildeAtilde;AumlAuml;Backslash;Barv;Barwed;Bcy;Because;" +
+            "Bernoullis;Beta;Bfr;Bopf;Breve;Bscr;Bumpeq;CHcy;COPYCOPY;Cacute;Cap;CapitalDifferentialD;Cayleys;" +
+            "Ccaron;CcedilCcedil;Ccirc;Cconint;Cdot;Cedilla;CenterDot;Cfr;Chi;CircleDot;CircleMinus;CirclePlus;" +
+            "CircleTimes;ClockwiseContourIntegral;CloseCurlyDoubleQuote;CloseCurlyQuote;Colon;Colone;Congruent;" +
+            "Conint;ContourIntegral;Copf;Coproduct;CounterClockwiseContourIntegral;Cross;Cscr;Cup;CupCap;DD;" +
+            "DDotrahd;DJcy;DScy;DZcy;Dagger;Darr;Dashv;Dcaron;Dcy;Del;Delta;Dfr;DiacriticalAcute;DiacriticalDot;" +
+            "DiacriticalDoubleAcute;DiacriticalGrave;DiacriticalTilde;Diamond;DifferentialD;Dopf;Dot;DotDot;" +
+            "DotEqual;DoubleContourIntegral;DoubleDot;DoubleDownArrow;DoubleLeftArrow;DoubleLeftRightArrow;" +
+            "DoubleLeftTee;DoubleLongLeftArrow;DoubleLongLeftRightArrow;DoubleLongRightArrow;DoubleRightArrow;" +
+            "DoubleRightTee;DoubleUpArrow;DoubleUpDownArrow;DoubleVerticalBar;DownArrow;DownArrowBar;" +
+            "DownArrowUpArrow;DownBreve;DownLeftRightVector;DownLeftTeeVector;DownLeftVector;DownLeftVectorBar;" +
+            "DownRightTeeVector;DownRightVector;DownRightVectorBar;DownTee;DownTeeArrow;Downarrow;Dscr;Dstrok;" +
+            "ENG;ETHETH;EacuteEacute;Ecaron;EcircEcirc;Ecy;Edot;Efr;EgraveEgrave;Element;Emacr;EmptySmallSquare;" +
+            "EmptyVerySmallSquare;Eogon;Eopf;Epsilon;Equal;EqualTilde;Equilibrium;Escr;Esim;Eta;EumlEuml;Exists;" +
+            "ExponentialE;Fcy;Ffr;FilledSmallSquare;FilledVerySmallSquare;Fopf;ForAll;Fouriertrf;Fscr;GJcy;GTGT;" +
+            "Gamma;Gammad;Gbreve;Gcedil;Gcirc;Gcy;Gdot;Gfr;Gg;Gopf;GreaterEqual;GreaterEqualLess;" +
+            "GreaterFullEqual;GreaterGreater;GreaterLess;GreaterSlantEqual;GreaterTilde;Gscr;Gt;HARDcy;Hacek;Hat;" +
+            "Hcirc;Hfr;HilbertSpace;Hopf;HorizontalLine;Hscr;Hstrok;HumpDownHump;HumpEqual;IEcy;IJlig;IOcy;Iacute" +
+            "Iacute;IcircIcirc;Icy;Idot;Ifr;IgraveIgrave;Im;Imacr;ImaginaryI;Implies;Int;Integral;Intersection;" +
+            "InvisibleComma;InvisibleTimes;Iogon;Iopf;Iota;Iscr;Itilde;Iukcy;IumlIuml;Jcirc;Jcy;Jfr;Jopf;Jscr;" +
+            "Jsercy;Jukcy;KHcy;KJcy;Kappa;Kcedil;Kcy;Kfr;Kopf;Kscr;LJcy;LTLT;Lacute;Lambda;Lang;Laplacetrf;Larr;" +
+            "Lcaron;Lcedil;Lcy;LeftAngleBracket;LeftArrow;LeftArrowBar;LeftArrowRightArrow;LeftCeiling;" +
+            "LeftDoubleBracket;LeftDownTeeVector;LeftDownVector;LeftDownVectorBar;LeftFloor;LeftRightArrow;" +
+            "LeftRightVector;LeftTee;LeftTeeArrow;LeftTeeVector;LeftTriangle;LeftTriangleBar;LeftTriangleEqual;" +
+            "LeftUpDownVector;LeftUpTeeVector;LeftUpVector;LeftUpVectorBar;LeftVector;LeftVectorBar;Leftarrow;" +
+            "Leftrightarrow;LessEqualGreater;LessFullEqual;LessGreater;LessLess;LessSlantEqual;LessTilde;Lfr;Ll;" +
+            "Lleftarrow;Lmidot;LongLeftArrow;LongLeftRightArrow;LongRightArrow;Longleftarrow;Longleftrightarrow;" +
+            "Longrightarrow;Lopf;LowerLeftArrow;LowerRightArrow;Lscr;Lsh;Lstrok;Lt;Map;Mcy;MediumSpace;Mellintrf;" +
+            "Mfr;MinusPlus;Mopf;Mscr;Mu;NJcy;Nacute;Ncaron;Ncedil;Ncy;NegativeMediumSpace;NegativeThickSpace;" +
+            "NegativeThinSpace;NegativeVeryThinSpace;NestedGreaterGreater;NestedLessLess;NewLine;Nfr;NoBreak;" +
+            "NonBreakingSpace;Nopf;Not;NotCongruent;NotCupCap;NotDoubleVerticalBar;NotElement;NotEqual;" +
+            "NotEqualTilde;NotExists;NotGreater;NotGreaterEqual;NotGreaterFullEqual;NotGreaterGreater;" +
+            "NotGreaterLess;NotGreaterSlantEqual;NotGreaterTilde;NotHumpDownHump;NotHumpEqual;NotLeftTriangle;" +
+            "NotLeftTriangleBar;NotLeftTriangleEqual;NotLess;NotLessEqual;NotLessGreater;NotLessLess;" +
+            "NotLessSlantEqual;NotLessTilde;NotNestedGreaterGreater;NotNestedLessLess;NotPrecedes;" +
+            "NotPrecedesEqual;NotPrecedesSlantEqual;NotReverseElement;NotRightTriangle;NotRightTriangleBar;" +
+            "NotRightTriangleEqual;NotSquareSubset;NotSquareSubsetEqual;NotSquareSuperset;NotSquareSupersetEqual;" +
+            "NotSubset;NotSubsetEqual;NotSucceeds;NotSucceedsEqual;NotSucceedsSlantEqual;NotSucceedsTilde;" +
+            "NotSuperset;NotSupersetEqual;NotTilde;NotTildeEqual;NotTildeFullEqual;NotTildeTilde;NotVerticalBar;" +
+            "Nscr;NtildeNtilde;Nu;OElig;OacuteOacute;OcircOcirc;Ocy;Odblac;Ofr;OgraveOgrave;Omacr;Omega;Omicron;" +
+            "Oopf;OpenCurlyDoubleQuote;OpenCurlyQuote;Or;Oscr;OslashOslash;OtildeOtilde;Otimes;OumlOuml;OverBar;" +
+            "OverBrace;OverBracket;OverParenthesis;PartialD;Pcy;Pfr;Phi;Pi;PlusMinus;Poincareplane;Popf;Pr;" +
+            "Precedes;PrecedesEqual;PrecedesSlantEqual;PrecedesTilde;Prime;Product;Proportion;Proportional;Pscr;" +
+            "Psi;QUOTQUOT;Qfr;Qopf;Qscr;RBarr;REGREG;Racute;Rang;Rarr;Rarrtl;Rcaron;Rcedil;Rcy;Re;ReverseElement;" +
+            "ReverseEquilibrium;ReverseUpEquilibrium;Rfr;Rho;RightAngleBracket;RightArrow;RightArrowBar;" +
+            "RightArrowLeftArrow;RightCeiling;RightDoubleBracket;RightDownTeeVector;RightDownVector;" +
+            "RightDownVectorBar;RightFloor;RightTee;RightTeeArrow;RightTeeVector;RightTriangle;RightTriangleBar;" +
+            "RightTriangleEqual;RightUpDownVector;RightUpTeeVector;RightUpVector;RightUpVectorBar;RightVector;" +
+            "RightVectorBar;Rightarrow;Ropf;RoundImplies;Rrightarrow;Rscr;Rsh;RuleDelayed;SHCHcy;SHcy;SOFTcy;" +
+            "Sacute;Sc;Scaron;Scedil;Scirc;Scy;Sfr;ShortDownArrow;ShortLeftArrow;ShortRightArrow;ShortUpArrow;" +
+            "Sigma;SmallCircle;Sopf;Sqrt;Square;SquareIntersection;SquareSubset;SquareSubsetEqual;SquareSuperset;" +
+            "SquareSupersetEqual;SquareUnion;Sscr;Star;Sub;Subset;SubsetEqual;Succeeds;SucceedsEqual;" +
+            "SucceedsSlantEqual;SucceedsTilde;SuchThat;Sum;Sup;Superset;SupersetEqual;Supset;THORNTHORN;TRADE;" +
+            "TSHcy;TScy;Tab;Tau;Tcaron;Tcedil;Tcy;Tfr;Therefore;Theta;ThickSpace;ThinSpace;Tilde;TildeEqual;" +
+            "TildeFullEqual;TildeTilde;Topf;TripleDot;Tscr;Tstrok;UacuteUacute;Uarr;Uarrocir;Ubrcy;Ubreve;Ucirc" +
+            "Ucirc;Ucy;Udblac;Ufr;UgraveUgrave;Umacr;UnderBar;UnderBrace;UnderBracket;UnderParenthesis;Union;" +
+            "UnionPlus;Uogon;Uopf;UpArrow;UpArrowBar;UpArrowDownArrow;UpDownArrow;UpEquilibrium;UpTee;UpTeeArrow;" +
+            "Uparrow;Updownarrow;UpperLeftArrow;UpperRightArrow;Upsi;Upsilon;Uring;Uscr;Utilde;UumlUuml;VDash;" +
+            "Vbar;Vcy;Vdash;Vdashl;Vee;Verbar;Vert;VerticalBar;VerticalLine;VerticalSeparator;VerticalTilde;" +
+            "VeryThinSpace;Vfr;Vopf;Vscr;Vvdash;Wcirc;Wedge;Wfr;Wopf;Wscr;Xfr;Xi;Xopf;Xscr;YAcy;YIcy;YUcy;Yacute" +
+            "Yacute;Ycirc;Ycy;Yfr;Yopf;Yscr;Yuml;ZHcy;Zacute;Zcaron;Zcy;Zdot;ZeroWidthSpace;Zeta;Zfr;Zopf;Zscr;" +
+            "aacuteaacute;abreve;ac;acE;acd;acircacirc;acuteacute;acy;aeligaelig;af;afr;agraveagrave;alefsym;" +
+            "aleph;alpha;amacr;amalg;ampamp;and;andand;andd;andslope;andv;ang;ange;angle;angmsd;angmsdaa;" +
+            "angmsdab;angmsdac;angmsdad;angmsdae;angmsdaf;angmsdag;angmsdah;angrt;angrtvb;angrtvbd;angsph;angst;" +
+            "angzarr;aogon;aopf;ap;apE;apacir;ape;apid;apos;approx;approxeq;aringaring;ascr;ast;asymp;asympeq;" +
+            "atildeatilde;aumlauml;awconint;awint;bNot;backcong;backepsilon;backprime;backsim;backsimeq;barvee;" +
+            "barwed;barwedge;bbrk;bbrktbrk;bcong;bcy;bdquo;becaus;because;bemptyv;bepsi;bernou;beta;beth;between;" +
+            "bfr;bigcap;bigcirc;bigcup;bigodot;bigoplus;bigotimes;bigsqcup;bigstar;bigtriangledown;bigtriangleup;" +
+            "biguplus;bigvee;bigwedge;bkarow;blacklozenge;blacksquare;blacktriangle;blacktriangledown;" +
+            "blacktriangleleft;blacktriangleright;blank;blk12;blk14;blk34;block;bne;bnequiv;bnot;bopf;bot;bottom;" +
+            "bowtie;boxDL;boxDR;boxDl;boxDr;boxH;boxHD;boxHU;boxHd;boxHu;boxUL;boxUR;boxUl;boxUr;boxV;boxVH;" +
+            "boxVL;boxVR;boxVh;boxVl;boxVr;boxbox;boxdL;boxdR;boxdl;boxdr;boxh;boxhD;boxhU;boxhd;boxhu;boxminus;" +
+            "boxplus;boxtimes;boxuL;boxuR;boxul;boxur;boxv;boxvH;boxvL;boxvR;boxvh;boxvl;boxvr;bprime;breve;" +
+            "brvbarbrvbar;bscr;bsemi;bsim;bsime;bsol;bsolb;bsolhsub;bull;bullet;bump;bumpE;bumpe;bumpeq;cacute;" +
+            "cap;capand;capbrcup;capcap;capcup;capdot;caps;caret;caron;ccaps;ccaron;ccedilccedil;ccirc;ccups;" +
+            "ccupssm;cdot;cedilcedil;cemptyv;centcent;centerdot;cfr;chcy;check;checkmark;chi;cir;cirE;circ;" +
+            "circeq;circlearrowleft;circlearrowright;circledR;circledS;circledast;circledcirc;circleddash;cire;" +
+            "cirfnint;cirmid;cirscir;clubs;clubsuit;colon;colone;coloneq;comma;commat;comp;compfn;complement;" +
+            "complexes;cong;congdot;conint;copf;coprod;copycopy;copysr;crarr;cross;cscr;csub;csube;csup;csupe;" +
+            "ctdot;cudarrl;cudarrr;cuepr;cuesc;cularr;cularrp;cup;cupbrcap;cupcap;cupcup;cupdot;cupor;cups;" +
+            "curarr;curarrm;curlyeqprec;curlyeqsucc;curlyvee;curlywedge;currencurren;curvearrowleft;" +
+            "curvearrowright;cuvee;cuwed;cwconint;cwint;cylcty;dArr;dHar;dagger;daleth;darr;dash;dashv;dbkarow;" +
+            "dblac;dcaron;dcy;dd;ddagger;ddarr;ddotseq;degdeg;delta;demptyv;dfisht;dfr;dharl;dharr;diam;diamond;" +
+            "diamondsuit;diams;die;digamma;disin;div;dividedivide;divideontimes;divonx;djcy;dlcorn;dlcrop;dollar;" +
+            "dopf;dot;doteq;doteqdot;dotminus;dotplus;dotsquare;doublebarwedge;downarrow;downdownarrows;" +
+            "downharpoonleft;downharpoonright;drbkarow;drcorn;drcrop;dscr;dscy;dsol;dstrok;dtdot;dtri;dtrif;" +
+            "duarr;duhar;dwangle;dzcy;dzigrarr;eDDot;eDot;eacuteeacute;easter;ecaron;ecir;ecircecirc;ecolon;ecy;" +
+            "edot;ee;efDot;efr;eg;egraveegrave;egs;egsdot;el;elinters;ell;els;elsdot;emacr;empty;emptyset;emptyv;" +
+            "emsp13;emsp14;emsp;eng;ensp;eogon;eopf;epar;eparsl;eplus;epsi;epsilon;epsiv;eqcirc;eqcolon;eqsim;" +
+            "eqslantgtr;eqslantless;equals;equest;equiv;equivDD;eqvparsl;erDot;erarr;escr;esdot;esim;eta;etheth;" +
+            "eumleuml;euro;excl;exist;expectation;exponentiale;fallingdotseq;fcy;female;ffilig;fflig;ffllig;ffr;" +
+            "filig;fjlig;flat;fllig;fltns;fnof;fopf;forall;fork;forkv;fpartint;frac12frac12;frac13;frac14frac14;" +
+            "frac15;frac16;frac18;frac23;frac25;frac34frac34;frac35;frac38;frac45;frac56;frac58;frac78;frasl;" +
+            "frown;fscr;gE;gEl;gacute;gamma;gammad;gap;gbreve;gcirc;gcy;gdot;ge;gel;geq;geqq;geqslant;ges;gescc;" +
+            "gesdot;gesdoto;gesdotol;gesl;gesles;gfr;gg;ggg;gimel;gjcy;gl;glE;gla;glj;gnE;gnap;gnapprox;gne;gneq;" +
+            "gneqq;gnsim;gopf;grave;gscr;gsim;gsime;gsiml;gtgt;gtcc;gtcir;gtdot;gtlPar;gtquest;gtrapprox;gtrarr;" +
+            "gtrdot;gtreqless;gtreqqless;gtrless;gtrsim;gvertneqq;gvnE;hArr;hairsp;half;hamilt;hardcy;harr;" +
+            "harrcir;harrw;hbar;hcirc;hearts;heartsuit;hellip;hercon;hfr;hksearow;hkswarow;hoarr;homtht;" +
+            "hookleftarrow;hookrightarrow;hopf;horbar;hscr;hslash;hstrok;hybull;hyphen;iacuteiacute;ic;icirc" +
+            "icirc;icy;iecy;iexcliexcl;iff;ifr;igraveigrave;ii;iiiint;iiint;iinfin;iiota;ijlig;imacr;image;" +
+            "imagline;imagpart;imath;imof;imped;in;incare;infin;infintie;inodot;int;intcal;integers;intercal;" +
+            "intlarhk;intprod;iocy;iogon;iopf;iota;iprod;iquestiquest;iscr;isin;isinE;isindot;isins;isinsv;isinv;" +
+            "it;itilde;iukcy;iumliuml;jcirc;jcy;jfr;jmath;jopf;jscr;jsercy;jukcy;kappa;kappav;kcedil;kcy;kfr;" +
+            "kgreen;khcy;kjcy;kopf;kscr;lAarr;lArr;lAtail;lBarr;lE;lEg;lHar;lacute;laemptyv;lagran;lambda;lang;" +
+            "langd;langle;lap;laquolaquo;larr;larrb;larrbfs;larrfs;larrhk;larrlp;larrpl;larrsim;larrtl;lat;" +
+            "latail;late;lates;lbarr;lbbrk;lbrace;lbrack;lbrke;lbrksld;lbrkslu;lcaron;lcedil;lceil;lcub;lcy;ldca;" +
+            "ldquo;ldquor;ldrdhar;ldrushar;ldsh;le;leftarrow;leftarrowtail;leftharpoondown;leftharpoonup;" +
+            "leftleftarrows;leftrightarrow;leftrightarrows;leftrightharpoons;leftrightsquigarrow;leftthreetimes;" +
+            "leg;leq;leqq;leqslant;les;lescc;lesdot;lesdoto;lesdotor;lesg;lesges;lessapprox;lessdot;lesseqgtr;" +
+            "lesseqqgtr;lessgtr;lesssim;lfisht;lfloor;lfr;lg;lgE;lhard;lharu;lharul;lhblk;ljcy;ll;llarr;llcorner;" +
+            "llhard;lltri;lmidot;lmoust;lmoustache;lnE;lnap;lnapprox;lne;lneq;lneqq;lnsim;loang;loarr;lobrk;" +
+            "longleftarrow;longleftrightarrow;longmapsto;longrightarrow;looparrowleft;looparrowright;lopar;lopf;" +
+            "loplus;lotimes;lowast;lowbar;loz;lozenge;lozf;lpar;lparlt;lrarr;lrcorner;lrhar;lrhard;lrm;lrtri;" +
+            "lsaquo;lscr;lsh;lsim;lsime;lsimg;lsqb;lsquo;lsquor;lstrok;ltlt;ltcc;ltcir;ltdot;lthree;ltimes;" +
+            "ltlarr;ltquest;ltrPar;ltri;ltrie;ltrif;lurdshar;luruhar;lvertneqq;lvnE;mDDot;macrmacr;male;malt;" +
+            "maltese;map;mapsto;mapstodown;mapstoleft;mapstoup;marker;mcomma;mcy;mdash;measuredangle;mfr;mho;" +
+            "micromicro;mid;midast;midcir;middotmiddot;minus;minusb;minusd;minusdu;mlcp;mldr;mnplus;models;mopf;" +
+            "mp;mscr;mstpos;mu;multimap;mumap;nGg;nGt;nGtv;nLeftarrow;nLeftrightarrow;nLl;nLt;nLtv;nRightarrow;" +
+            "nVDash;nVdash;nabla;nacute;nang;nap;napE;napid;napos;napprox;natur;natural;naturals;nbspnbsp;nbump;" +
+            "nbumpe;ncap;ncaron;ncedil;ncong;ncongdot;ncup;ncy;ndash;ne;neArr;nearhk;nearr;nearrow;nedot;nequiv;" +
+            "nesear;nesim;nexist;nexists;nfr;ngE;nge;ngeq;ngeqq;ngeqslant;nges;ngsim;ngt;ngtr;nhArr;nharr;nhpar;" +
+            "ni;nis;nisd;niv;njcy;nlArr;nlE;nlarr;nldr;nle;nleftarrow;nleftrightarrow;nleq;nleqq;nleqslant;nles;" +
+            "nless;nlsim;nlt;nltri;nltrie;nmid;nopf;notnot;notin;notinE;notindot;notinva;notinvb;notinvc;notni;" +
+            "notniva;notnivb;notnivc;npar;nparallel;nparsl;npart;npolint;npr;nprcue;npre;nprec;npreceq;nrArr;" +
+            "nrarr;nrarrc;nrarrw;nrightarrow;nrtri;nrtrie;nsc;nsccue;nsce;nscr;nshortmid;nshortparallel;nsim;" +
+            "nsime;nsimeq;nsmid;nspar;nsqsube;nsqsupe;nsub;nsubE;nsube;nsubset;nsubseteq;nsubseteqq;nsucc;" +
+            "nsucceq;nsup;nsupE;nsupe;nsupset;nsupseteq;nsupseteqq;ntgl;ntildentilde;ntlg;ntriangleleft;" +
+            "ntrianglelefteq;ntriangleright;ntrianglerighteq;nu;num;numero;numsp;nvDash;nvHarr;nvap;nvdash;nvge;" +
+            "nvgt;nvinfin;nvlArr;nvle;nvlt;nvltrie;nvrArr;nvrtrie;nvsim;nwArr;nwarhk;nwarr;nwarrow;nwnear;oS;" +
+            "oacuteoacute;oast;ocir;ocircocirc;ocy;odash;odblac;odiv;odot;odsold;oelig;ofcir;ofr;ogon;ograve" +
+            "ograve;ogt;ohbar;ohm;oint;olarr;olcir;olcross;oline;olt;omacr;omega;omicron;omid;ominus;oopf;opar;" +
+            "operp;oplus;or;orarr;ord;order;orderof;ordfordf;ordmordm;origof;oror;orslope;orv;oscr;oslashoslash;" +
+            "osol;otildeotilde;otimes;otimesas;oumlouml;ovbar;par;parapara;parallel;parsim;parsl;part;pcy;percnt;" +
+            "period;permil;perp;pertenk;pfr;phi;phiv;phmmat;phone;pi;pitchfork;piv;planck;planckh;plankv;plus;" +
+            "plusacir;plusb;pluscir;plusdo;plusdu;pluse;plusmnplusmn;plussim;plustwo;pm;pointint;popf;poundpound;" +
+            "pr;prE;prap;prcue;pre;prec;precapprox;preccurlyeq;preceq;precnapprox;precneqq;precnsim;precsim;" +
+            "prime;primes;prnE;prnap;prnsim;prod;profalar;profline;profsurf;prop;propto;prsim;prurel;pscr;psi;" +
+            "puncsp;qfr;qint;qopf;qprime;qscr;quaternions;quatint;quest;questeq;quotquot;rAarr;rArr;rAtail;rBarr;" +
+            "rHar;race;racute;radic;raemptyv;rang;rangd;range;rangle;raquoraquo;rarr;rarrap;rarrb;rarrbfs;rarrc;" +
+            "rarrfs;rarrhk;rarrlp;rarrpl;rarrsim;rarrtl;rarrw;ratail;ratio;rationals;rbarr;rbbrk;rbrace;rbrack;" +
+            "rbrke;rbrksld;rbrkslu;rcaron;rcedil;rceil;rcub;rcy;rdca;rdldhar;rdquo;rdquor;rdsh;real;realine;" +
+            "realpart;reals;rect;regreg;rfisht;rfloor;rfr;rhard;rharu;rharul;rho;rhov;rightarrow;rightarrowtail;" +
+            "rightharpoondown;rightharpoonup;rightleftarrows;rightleftharpoons;rightrightarrows;rightsquigarrow;" +
+            "rightthreetimes;ring;risingdotseq;rlarr;rlhar;rlm;rmoust;rmoustache;rnmid;roang;roarr;robrk;ropar;" +
+            "ropf;roplus;rotimes;rpar;rpargt;rppolint;rrarr;rsaquo;rscr;rsh;rsqb;rsquo;rsquor;rthree;rtimes;rtri;" +
+            "rtrie;rtrif;rtriltri;ruluhar;rx;sacute;sbquo;sc;scE;scap;scaron;sccue;sce;scedil;scirc;scnE;scnap;" +
+            "scnsim;scpolint;scsim;scy;sdot;sdotb;sdote;seArr;searhk;searr;searrow;sectsect;semi;seswar;setminus;" +
+            "setmn;sext;sfr;sfrown;sharp;shchcy;shcy;shortmid;shortparallel;shyshy;sigma;sigmaf;sigmav;sim;" +
+            "simdot;sime;simeq;simg;simgE;siml;simlE;simne;simplus;simrarr;slarr;smallsetminus;smashp;smeparsl;" +
+            "smid;smile;smt;smte;smtes;softcy;sol;solb;solbar;sopf;spades;spadesuit;spar;sqcap;sqcaps;sqcup;" +
+            "sqcups;sqsub;sqsube;sqsubset;sqsubseteq;sqsup;sqsupe;sqsupset;sqsupseteq;squ;square;squarf;squf;" +
+            "srarr;sscr;ssetmn;ssmile;sstarf;star;starf;straightepsilon;straightphi;strns;sub;subE;subdot;sube;" +
+            "subedot;submult;subnE;subne;subplus;subrarr;subset;subseteq;subseteqq;subsetneq;subsetneqq;subsim;" +
+            "subsub;subsup;succ;succapprox;succcurlyeq;succeq;succnapprox;succneqq;succnsim;succsim;sum;sung;sup1" +
+            "sup1;sup2sup2;sup3sup3;sup;supE;supdot;supdsub;supe;supedot;suphsol;suphsub;suplarr;supmult;supnE;" +
+            "supne;supplus;supset;supseteq;supseteqq;supsetneq;supsetneqq;supsim;supsub;supsup;swArr;swarhk;" +
+            "swarr;swarrow;swnwar;szligszlig;target;tau;tbrk;tcaron;tcedil;tcy;tdot;telrec;tfr;there4;therefore;" +
+            "theta;thetasym;thetav;thickapprox;thicksim;thinsp;thkap;thksim;thornthorn;tilde;timestimes;timesb;" +
+            "timesbar;timesd;tint;toea;top;topbot;topcir;topf;topfork;tosa;tprime;trade;triangle;triangledown;" +
+            "triangleleft;trianglelefteq;triangleq;triangleright;trianglerighteq;tridot;trie;triminus;triplus;" +
+            "trisb;tritime;trpezium;tscr;tscy;tshcy;tstrok;twixt;twoheadleftarrow;twoheadrightarrow;uArr;uHar;" +
+            "uacuteuacute;uarr;ubrcy;ubreve;ucircucirc;ucy;udarr;udblac;udhar;ufisht;ufr;ugraveugrave;uharl;" +
+            "uharr;uhblk;ulcorn;ulcorner;ulcrop;ultri;umacr;umluml;uogon;uopf;uparrow;updownarrow;upharpoonleft;" +
+            "upharpoonright;uplus;upsi;upsih;upsilon;upuparrows;urcorn;urcorner;urcrop;uring;urtri;uscr;utdot;" +
+            "utilde;utri;utrif;uuarr;uumluuml;uwangle;vArr;vBar;vBarv;vDash;vangrt;varepsilon;varkappa;" +
+            "varnothing;varphi;varpi;varpropto;varr;varrho;varsigma;varsubsetneq;varsubsetneqq;varsupsetneq;" +
+            "varsupsetneqq;vartheta;vartriangleleft;vartriangleright;vcy;vdash;vee;veebar;veeeq;vellip;verbar;" +
+            "vert;vfr;vltri;vnsub;vnsup;vopf;vprop;vrtri;vscr;vsubnE;vsubne;vsupnE;vsupne;vzigzag;wcirc;wedbar;" +
+            "wedge;wedgeq;weierp;wfr;wopf;wp;wr;wreath;wscr;xcap;xcirc;xcup;xdtri;xfr;xhArr;xharr;xi;xlArr;xlarr;" +
+            "xmap;xnis;xodot;xopf;xoplus;xotime;xrArr;xrarr;xscr;xsqcup;xuplus;xutri;xvee;xwedge;yacuteyacute;" +
+            "yacy;ycirc;ycy;yenyen;yfr;yicy;yopf;yscr;yucy;yumlyuml;zacute;zcaron;zcy;zdot;zeetrf;zeta;zfr;zhcy;" +
+            "zigrarr;zopf;zscr;zwj;zwnj;";
+
+    /**
+     * Exclusive end offset of each name in {@link #NAMES}
+     */
+    static final String NAME_ENDS =
+            "\005\013\016\022\030\037\046\053\061\065\071\077\106\114\122\126\134\141\157\164\172\177\206\214" +
+            "\223\227\234\246\253\262\266\276\311\316\322\327\335\342\351\356\362\367\376\u0102\u0117\u011F" +
+            "\u0126\u012C\u0133\u0139\u0141\u0146\u014E\u0158\u015C\u0160\u016A\u0176\u0181\u018D\u01A6\u01BC" +
+            "\u01CC\u01D2\u01D9\u01E3\u01EA\u01FA\u01FF\u0209\u0229\u022F\u0234\u0238\u023F\u0242\u024B\u0250" +
+            "\u0255\u025A\u0261\u0266\u026C\u0273\u0277\u027B\u0281\u0285\u0296\u02A5\u02BC\u02CD\u02DE\u02E6" +
+            "\u02F4\u02F9\u02FD\u0304\u030D\u0323\u032D\u033D\u034D\u0362\u0370\u0384\u039D\u03B2\u03C3\u03D2" +
+            "\u03E0\u03F2\u0404\u040E\u041B\u042C\u0436\u044A\u045C\u046B\u047D\u0490\u04A0\u04B3\u04BB\u04C8" +
+            "\u04D2\u04D7\u04DE\u04E2\u04E5\u04E9\u04EF\u04F6\u04FD\u0502\u0508\u050C\u0511\u0515\u051B\u0522" +
+            "\u052A\u0530\u0541\u0556\u055C\u0561\u0569\u056F\u057A\u0586\u058B\u0590\u0594\u0598\u059D\u05A4" +
+            "\u05B1\u05B5\u05B9\u05CB\u05E1\u05E6\u05ED\u05F8\u05FD\u0602\u0604\u0607\u060D\u0614\u061B\u0622" +
+            "\u0628\u062C\u0631\u0635\u0638\u063D\u064A\u065B\u066C\u067B\u0687\u0699\u06A6\u06AB\u06AE\u06B5" +
+            "\u06BB\u06BF\u06C5\u06C9\u06D6\u06DB\u06EA\u06EF\u06F6\u0703\u070D\u0712\u0718\u071D\u0723\u072A" +
+            "\u072F\u0735\u0739\u073E\u0742\u0748\u074F\u0752\u0758\u0763\u076B\u076F\u0778\u0785\u0794\u07A3" +
+            "\u07A9\u07AE\u07B3\u07B8\u07BF\u07C5\u07C9\u07CE\u07D4\u07D8\u07DC\u07E1\u07E6\u07ED\u07F3\u07F8" +
+            "\u07FD\u0803\u080A\u080E\u0812\u0817\u081C\u0821\u0823\u0826\u082D\u0834\u0839\u0844\u0849\u0850" +
+            "\u0857\u085B\u086C\u0876\u0883\u0897\u08A3\u08B5\u08C7\u08D6\u08E8\u08F2\u0901\u0911\u0919\u0926" +
+            "\u0934\u0941\u0951\u0963\u0974\u0984\u0991\u09A1\u09AC\u09BA\u09C4\u09D3\u09E4\u09F2\u09FE\u0A07" +
+            "\u0A16\u0A20\u0A24\u0A27\u0A32\u0A39\u0A47\u0A5A\u0A69\u0A77\u0A8A\u0A99\u0A9E\u0AAD\u0ABD\u0AC2" +
+            "\u0AC6\u0ACD\u0AD0\u0AD4\u0AD8\u0AE4\u0AEE\u0AF2\u0AFC\u0B01\u0B06\u0B09\u0B0E\u0B15\u0B1C\u0B23" +
+            "\u0B27\u0B3B\u0B4E\u0B60\u0B76\u0B8B\u0B9A\u0BA2\u0BA6\u0BAE\u0BBF\u0BC4\u0BC8\u0BD5\u0BDF\u0BF4" +
+            "\u0BFF\u0C08\u0C16\u0C20\u0C2B\u0C3B\u0C4F\u0C61\u0C70\u0C85\u0C95\u0CA5\u0CB2\u0CC2\u0CD5\u0CEA" +
+            "\u0CF2\u0CFF\u0D0E\u0D1A\u0D2C\u0D39\u0D51\u0D63\u0D6F\u0D80\u0D96\u0DA8\u0DB9\u0DCD\u0DE3\u0DF3" +
+            "\u0E08\u0E1A\u0E31\u0E3B\u0E4A\u0E56\u0E67\u0E7D\u0E8E\u0E9A\u0EAB\u0EB4\u0EC2\u0ED4\u0EE2\u0EF1" +
+            "\u0EF6\u0EFC\u0F03\u0F06\u0F0C\u0F12\u0F19\u0F1E\u0F24\u0F28\u0F2F\u0F33\u0F39\u0F40\u0F46\u0F4C" +
+            "\u0F54\u0F59\u0F6E\u0F7D\u0F80\u0F85\u0F8B\u0F92\u0F98\u0F9F\u0FA6\u0FAA\u0FAF\u0FB7\u0FC1\u0FCD" +
+            "\u0FDD\u0FE6\u0FEA\u0FEE\u0FF2\u0FF5\u0FFF\u100D\u1012\u1015\u101E\u102C\u103F\u104D\u1053\u105B" +
+            "\u1066\u1073\u1078\u107C\u1080\u1085\u1089\u108E\u1093\u1099\u109C\u10A0\u10A7\u10AC\u10B1\u10B8" +
+            "\u10BF\u10C6\u10CA\u10CD\u10DC\u10EF\u1104\u1108\u110C\u111E\u1129\u1137\u114B\u1158\u116B\u117E" +
+            "\u118E\u11A1\u11AC\u11B5\u11C3\u11D2\u11E0\u11F1\u1204\u1216\u1227\u1235\u1246\u1252\u1261\u126C" +
+            "\u1271\u127E\u128A\u128F\u1293\u129F\u12A6\u12AB\u12B2\u12B9\u12BC\u12C3\u12CA\u12D0\u12D4\u12D8" +
+            "\u12E7\u12F6\u1306\u1313\u1319\u1325\u132A\u132F\u1336\u1349\u1356\u1368\u1377\u138B\u1397\u139C" +
+            "\u13A1\u13A5\u13AC\u13B8\u13C1\u13CF\u13E2\u13F0\u13F9\u13FD\u1401\u140A\u1418\u141F\u1424\u142A" +
+            "\u1430\u1436\u143B\u143F\u1443\u144A\u1451\u1455\u1459\u1463\u1469\u1474\u147E\u1484\u148F\u149E" +
+            "\u14A9\u14AE\u14B8\u14BD\u14C4\u14CA\u14D1\u14D6\u14DF\u14E5\u14EC\u14F1\u14F7\u14FB\u1502\u1506" +
+            "\u150C\u1513\u1519\u1522\u152D\u153A\u154B\u1551\u155B\u1561\u1566\u156E\u1579\u158A\u1596\u15A4" +
+            "\u15AA\u15B5\u15BD\u15C9\u15D8\u15E8\u15ED\u15F5\u15FB\u1600\u1607\u160B\u1610\u1616\u161B\u161F" +
+            "\u1625\u162C\u1630\u1637\u163C\u1648\u1655\u1667\u1675\u1683\u1687\u168C\u1691\u1698\u169E\u16A4" +
+            "\u16A8\u16AD\u16B2\u16B6\u16B9\u16BE\u16C3\u16C8\u16CD\u16D2\u16D8\u16DF\u16E5\u16E9\u16ED\u16F2" +
+            "\u16F7\u16FC\u1701\u1708\u170F\u1713\u1718\u1727\u172C\u1730\u1735\u173A\u1740\u1747\u174E\u1751" +
+            "\u1755\u1759\u175E\u1764\u1769\u176F\u1773\u1778\u177E\u1781\u1785\u178B\u1792\u179A\u17A0\u17A6" +
+            "\u17AC\u17B2\u17B5\u17B9\u17BD\u17C4\u17C9\u17D2\u17D7\u17DB\u17E0\u17E6\u17ED\u17F6\u17FF\u1808" +
+            "\u1811\u181A\u1823\u182C\u1835\u183B\u1843\u184C\u1853\u1859\u1861\u1867\u186C\u186F\u1873\u187A" +
+            "\u187E\u1883\u1888\u188F\u1898\u189D\u18A3\u18A8\u18AC\u18B2\u18BA\u18C0\u18C7\u18CB\u18D0\u18D9" +
+            "\u18DF\u18E4\u18ED\u18F9\u1903\u190B\u1915\u191C\u1923\u192C\u1931\u193A\u1940\u1944\u194A\u1951" +
+            "\u1959\u1961\u1967\u196E\u1973\u1978\u1980\u1984\u198B\u1993\u199A\u19A2\u19AB\u19B5\u19BE\u19C6" +
+            "\u19D6\u19E4\u19ED\u19F4\u19FD\u1A04\u1A11\u1A1D\u1A2B\u1A3D\u1A4F\u1A62\u1A68\u1A6E\u1A74\u1A7A" +
+            "\u1A80\u1A84\u1A8C\u1A91\u1A96\u1A9A\u1AA1\u1AA8\u1AAE\u1AB4\u1ABA\u1AC0\u1AC5\u1ACB\u1AD1\u1AD7" +
+            "\u1ADD\u1AE3\u1AE9\u1AEF\u1AF5\u1AFA\u1B00\u1B06\u1B0C\u1B12\u1B18\u1B1E\u1B25\u1B2B\u1B31\u1B37" +
+            "\u1B3D\u1B42\u1B48\u1B4E\u1B54\u1B5A\u1B63\u1B6B\u1B74\u1B7A\u1B80\u1B86\u1B8C\u1B91\u1B97\u1B9D" +
+            "\u1BA3\u1BA9\u1BAF\u1BB5\u1BBC\u1BC2\u1BC8\u1BCF\u1BD4\u1BDA\u1BDF\u1BE5\u1BEA\u1BF0\u1BF9\u1BFE" +
+            "\u1C05\u1C0A\u1C10\u1C16\u1C1D\u1C24\u1C28\u1C2F\u1C38\u1C3F\u1C46\u1C4D\u1C52\u1C58\u1C5E\u1C64" +
+            "\u1C6B\u1C71\u1C78\u1C7E\u1C84\u1C8C\u1C91\u1C96\u1C9C\u1CA4\u1CA8\u1CAD\u1CB7\u1CBB\u1CC0\u1CC6" +
+            "\u1CD0\u1CD4\u1CD8\u1CDD\u1CE2\u1CE9\u1CF9\u1D0A\u1D13\u1D1C\u1D27\u1D33\u1D3F\u1D44\u1D4D\u1D54" +
+            "\u1D5C\u1D62\u1D6B\u1D71\u1D78\u1D80\u1D86\u1D8D\u1D92\u1D99\u1DA4\u1DAE\u1DB3\u1DBB\u1DC2\u1DC7" +
+            "\u1DCE\u1DD2\u1DD7\u1DDE\u1DE4\u1DEA\u1DEF\u1DF4\u1DFA\u1DFF\u1E05\u1E0B\u1E13\u1E1B\u1E21\u1E27" +
+            "\u1E2E\u1E36\u1E3A\u1E43\u1E4A\u1E51\u1E58\u1E5E\u1E63\u1E6A\u1E72\u1E7E\u1E8A\u1E93\u1E9E\u1EA4" +
+            "\u1EAB\u1EBA\u1ECA\u1ED0\u1ED6\u1EDF\u1EE5\u1EEC\u1EF1\u1EF6\u1EFD\u1F04\u1F09\u1F0E\u1F14\u1F1C" +
+            "\u1F22\u1F29\u1F2D\u1F30\u1F38\u1F3E\u1F46\u1F49\u1F4D\u1F53\u1F5B\u1F62\u1F66\u1F6C\u1F72\u1F77" +
+            "\u1F7F\u1F8B\u1F91\u1F95\u1F9D\u1FA3\u1FA7\u1FAD\u1FB4\u1FC2\u1FC9\u1FCE\u1FD5\u1FDC\u1FE3\u1FE8" +
+            "\u1FEC\u1FF2\u1FFB\u2004\u200C\u2016\u2025\u202F\u203E\u204E\u205F\u2068\u206F\u2076\u207B\u2080" +
+            "\u2085\u208C\u2092\u2097\u209D\u20A3\u20A9\u20B1\u20B6\u20BF\u20C5\u20CA\u20D0\u20D7\u20DE\u20E5" +
+            "\u20EA\u20EF\u20F5\u20FC\u2100\u2105\u2108\u210E\u2112\u2115\u211B\u2122\u2126\u212D\u2130\u2139" +
+            "\u213D\u2141\u2148\u214E\u2154\u215D\u2164\u216B\u2172\u2177\u217B\u2180\u2186\u218B\u2190\u2197" +
+            "\u219D\u21A2\u21AA\u21B0\u21B7\u21BF\u21C5\u21D0\u21DC\u21E3\u21EA\u21F0\u21F8\u2201\u2207\u220D" +
+            "\u2212\u2218\u221D\u2221\u2224\u2228\u222C\u2231\u2236\u223B\u2241\u224D\u225A\u2268\u226C\u2273" +
+            "\u227A\u2280\u2287\u228B\u2291\u2297\u229C\u22A2\u22A8\u22AD\u22B2\u22B9\u22BE\u22C4\u22CD\u22D3" +
+            "\u22DA\u22E1\u22E7\u22EE\u22F5\u22FC\u2303\u230A\u2311\u2317\u231E\u2325\u232C\u2333\u233A\u2341" +
+            "\u2348\u234E\u2354\u2359\u235C\u2360\u2367\u236D\u2374\u2378\u237F\u2385\u2389\u238E\u2391\u2395" +
+            "\u2399\u239E\u23A7\u23AB\u23B1\u23B8\u23C0\u23C9\u23CE\u23D5\u23D9\u23DC\u23E0\u23E6\u23EB\u23EE" +
+            "\u23F2\u23F6\u23FA\u23FE\u2403\u240C\u2410\u2415\u241B\u2421\u2426\u242C\u2431\u2436\u243C\u2442" +
+            "\u2444\u2447\u244C\u2452\u2458\u245F\u2467\u2471\u2478\u247F\u2489\u2494\u249C\u24A3\u24AD\u24B2" +
+            "\u24B7\u24BE\u24C3\u24CA\u24D1\u24D6\u24DE\u24E4\u24E9\u24EF\u24F6\u2500\u2507\u250E\u2512\u251B" +
+            "\u2524\u252A\u2531\u253F\u254E\u2553\u255A\u255F\u2566\u256D\u2574\u257B\u2581\u2588\u258B\u2590" +
+            "\u2596\u259A\u259F\u25A4\u25AA\u25AE\u25B2\u25B8\u25BF\u25C2\u25C9\u25CF\u25D6\u25DC\u25E2\u25E8" +
+            "\u25EE\u25F7\u2600\u2606\u260B\u2611\u2614\u261B\u2621\u262A\u2631\u2635\u263C\u2645\u264E\u2657" +
+            "\u265F\u2664\u266A\u266F\u2674\u267A\u2680\u2687\u268C\u2691\u2697\u269F\u26A5\u26AC\u26B2\u26B5" +
+            "\u26BC\u26C2\u26C6\u26CB\u26D1\u26D5\u26D9\u26DF\u26E4\u26E9\u26F0\u26F6\u26FC\u2703\u270A\u270E" +
+            "\u2712\u2719\u271E\u2723\u2728\u272D\u2733\u2738\u273F\u2745\u2748\u274C\u2751\u2758\u2761\u2768" +
+            "\u276F\u2774\u277A\u2781\u2785\u278A\u2790\u2795\u279B\u27A3\u27AA\u27B1\u27B8\u27BF\u27C7\u27CE" +
+            "\u27D2\u27D9\u27DE\u27E4\u27EA\u27F0\u27F7\u27FE\u2804\u280C\u2814\u281B\u2822\u2828\u282D\u2831" +
+            "\u2836\u283C\u2843\u284B\u2854\u2859\u285C\u2866\u2874\u2884\u2892\u28A1\u28B0\u28C0\u28D2\u28E6" +
+            "\u28F5\u28F9\u28FD\u2902\u290B\u290F\u2915\u291C\u2924\u292D\u2932\u2939\u2944\u294C\u2956\u2961" +
+            "\u2969\u2971\u2978\u297F\u2983\u2986\u298A\u2990\u2996\u299D\u29A3\u29A8\u29AB\u29B1\u29BA\u29C1" +
+            "\u29C7\u29CE\u29D5\u29E0\u29E4\u29E9\u29F2\u29F6\u29FB\u2A01\u2A07\u2A0D\u2A13\u2A19\u2A27\u2A3A" +
+            "\u2A45\u2A54\u2A62\u2A71\u2A77\u2A7C\u2A83\u2A8B\u2A92\u2A99\u2A9D\u2AA5\u2AAA\u2AAF\u2AB6\u2ABC" +
+            "\u2AC5\u2ACB\u2AD2\u2AD6\u2ADC\u2AE3\u2AE8\u2AEC\u2AF1\u2AF7\u2AFD\u2B02\u2B08\u2B0F\u2B16\u2B18" +
+            "\u2B1B\u2B20\u2B26\u2B2C\u2B33\u2B3A\u2B41\u2B49\u2B50\u2B55\u2B5B\u2B61\u2B6A\u2B72\u2B7C\u2B81" +
+            "\u2B87\u2B8B\u2B90\u2B95\u2B9A\u2BA2\u2BA6\u2BAD\u2BB8\u2BC3\u2BCC\u2BD3\u2BDA\u2BDE\u2BE4\u2BF2" +
+            "\u2BF6\u2BFA\u2BFF\u2C05\u2C09\u2C10\u2C17\u2C1D\u2C24\u2C2A\u2C31\u2C38\u2C40\u2C45\u2C4A\u2C51" +
+            "\u2C58\u2C5D\u2C60\u2C65\u2C6C\u2C6F\u2C78\u2C7E\u2C82\u2C86\u2C8B\u2C96\u2CA6\u2CAA\u2CAE\u2CB3" +
+            "\u2CBF\u2CC6\u2CCD\u2CD3\u2CDA\u2CDF\u2CE3\u2CE8\u2CEE\u2CF4\u2CFC\u2D02\u2D0A\u2D13\u2D17\u2D1C" +
+            "\u2D22\u2D29\u2D2E\u2D35\u2D3C\u2D42\u2D4B\u2D50\u2D54\u2D5A\u2D5D\u2D63\u2D6A\u2D70\u2D78\u2D7E" +
+            "\u2D85\u2D8C\u2D92\u2D99\u2DA1\u2DA5\u2DA9\u2DAD\u2DB2\u2DB8\u2DC2\u2DC7\u2DCD\u2DD1\u2DD6\u2DDC" +
+            "\u2DE2\u2DE8\u2DEB\u2DEF\u2DF4\u2DF8\u2DFD\u2E03\u2E07\u2E0D\u2E12\u2E16\u2E21\u2E31\u2E36\u2E3C" +
+            "\u2E46\u2E4B\u2E51\u2E57\u2E5B\u2E61\u2E68\u2E6D\u2E72\u2E75\u2E79\u2E7F\u2E86\u2E8F\u2E97\u2E9F" +
+            "\u2EA7\u2EAD\u2EB5\u2EBD\u2EC5\u2ECA\u2ED4\u2EDB\u2EE1\u2EE9\u2EED\u2EF4\u2EF9\u2EFF\u2F07\u2F0D" +
+            "\u2F13\u2F1A\u2F21\u2F2D\u2F33\u2F3A\u2F3E\u2F45\u2F4A\u2F4F\u2F59\u2F68\u2F6D\u2F73\u2F7A\u2F80" +
+            "\u2F86\u2F8E\u2F96\u2F9B\u2FA1\u2FA7\u2FAF\u2FB9\u2FC4\u2FCA\u2FD2\u2FD7\u2FDD\u2FE3\u2FEB\u2FF5" +
+            "\u3000\u3005\u300B\u3012\u3017\u3025\u3035\u3044\u3055\u3058\u305C\u3063\u3069\u3070\u3077\u307C" +
+            "\u3083\u3088\u308D\u3095\u309C\u30A1\u30A6\u30AE\u30B5\u30BD\u30C3\u30C9\u30D0\u30D6\u30DE\u30E5" +
+            "\u30E8\u30EE\u30F5\u30FA\u30FF\u3104\u310A\u310E\u3114\u311B\u3120\u3125\u312C\u3132\u3138\u313C" +
+            "\u3141\u3147\u314E\u3152\u3158\u315C\u3161\u3167\u316D\u3175\u317B\u317F\u3185\u318B\u3193\u3198" +
+            "\u319F\u31A4\u31A9\u31AF\u31B5\u31B8\u31BE\u31C2\u31C8\u31D0\u31D4\u31D9\u31DD\u31E2\u31E9\u31EE" +
+            "\u31F6\u31FA\u31FF\u3205\u320C\u3211\u3217\u321E\u3225\u322E\u3232\u3237\u323D\u3241\u3245\u324A" +
+            "\u3253\u325A\u3260\u3265\u3269\u3270\u3277\u327E\u3283\u328B\u328F\u3293\u3298\u329F\u32A5\u32A8" +
+            "\u32B2\u32B6\u32BD\u32C5\u32CC\u32D1\u32DA\u32E0\u32E8\u32EF\u32F6\u32FC\u3302\u3309\u3311\u3319" +
+            "\u331C\u3325\u332A\u332F\u3335\u3338\u333C\u3341\u3347\u334B\u3350\u335B\u3367\u336E\u337A\u3383" +
+            "\u338C\u3394\u339A\u33A1\u33A6\u33AC\u33B3\u33B8\u33C1\u33CA\u33D3\u33D8\u33DF\u33E5\u33EC\u33F1" +
+            "\u33F5\u33FC\u3400\u3405\u340A\u3411\u3416\u3422\u342A\u3430\u3438\u343C\u3441\u3447\u344C\u3453" +
+            "\u3459\u345E\u3463\u346A\u3470\u3479\u347E\u3484\u348A\u3491\u3496\u349C\u34A1\u34A8\u34AE\u34B6" +
+            "\u34BC\u34C3\u34CA\u34D1\u34D8\u34E0\u34E7\u34ED\u34F4\u34FA\u3504\u350A\u3510\u3517\u351E\u3524" +
+            "\u352C\u3534\u353B\u3542\u3548\u354D\u3551\u3556\u355E\u3564\u356B\u3570\u3575\u357D\u3586\u358C" +
+            "\u3591\u3594\u3598\u359F\u35A6\u35AA\u35B0\u35B6\u35BD\u35C1\u35C6\u35D1\u35E0\u35F1\u3600\u3610" +
+            "\u3622\u3633\u3643\u3653\u3658\u3665\u366B\u3671\u3675\u367C\u3687\u368D\u3693\u3699\u369F\u36A5" +
+            "\u36AA\u36B1\u36B9\u36BE\u36C5\u36CE\u36D4\u36DB\u36E0\u36E4\u36E9\u36EF\u36F6\u36FD\u3704\u3709" +
+            "\u370F\u3715\u371E\u3726\u3729\u3730\u3736\u3739\u373D\u3742\u3749\u374F\u3753\u375A\u3760\u3765" +
+            "\u376B\u3772\u377B\u3781\u3785\u378A\u3790\u3796\u379C\u37A3\u37A9\u37B1\u37B5\u37BA\u37BF\u37C6" +
+            "\u37CF\u37D5\u37DA\u37DE\u37E5\u37EB\u37F2\u37F7\u3800\u380E\u3811\u3815\u381B\u3822\u3829\u382D" +
+            "\u3834\u3839\u383F\u3844\u384A\u384F\u3855\u385B\u3863\u386B\u3871\u387F\u3886\u388F\u3894\u389A" +
+            "\u389E\u38A3\u38A9\u38B0\u38B4\u38B9\u38C0\u38C5\u38CC\u38D6\u38DB\u38E1\u38E8\u38EE\u38F5\u38FB" +
+            "\u3902\u390B\u3916\u391C\u3923\u392C\u3937\u393B\u3942\u3949\u394E\u3954\u3959\u3960\u3967\u396E" +
+            "\u3973\u3979\u3989\u3995\u399B\u399F\u39A4\u39AB\u39B0\u39B8\u39C0\u39C6\u39CC\u39D4\u39DC\u39E3" +
+            "\u39EC\u39F6\u3A00\u3A0B\u3A12\u3A19\u3A20\u3A25\u3A30\u3A3C\u3A43\u3A4F\u3A58\u3A61\u3A69\u3A6D" +
+            "\u3A72\u3A76\u3A7B\u3A7F\u3A84\u3A88\u3A8D\u3A91\u3A96\u3A9D\u3AA5\u3AAA\u3AB2\u3ABA\u3AC2\u3ACA" +
+            "\u3AD2\u3AD8\u3ADE\u3AE6\u3AED\u3AF6\u3B00\u3B0A\u3B15\u3B1C\u3B23\u3B2A\u3B30\u3B37\u3B3D\u3B45" +
+            "\u3B4C\u3B51\u3B57\u3B5E\u3B62\u3B67\u3B6E\u3B75\u3B79\u3B7E\u3B85\u3B89\u3B90\u3B9A\u3BA0\u3BA9" +
+            "\u3BB0\u3BBC\u3BC5\u3BCC\u3BD2\u3BD9\u3BDE\u3BE4\u3BEA\u3BEF\u3BF5\u3BFC\u3C05\u3C0C\u3C11\u3C16" +
+            "\u3C1A\u3C21\u3C28\u3C2D\u3C35\u3C3A\u3C41\u3C47\u3C50\u3C5D\u3C6A\u3C79\u3C83\u3C91\u3CA1\u3CA8" +
+            "\u3CAD\u3CB6\u3CBE\u3CC4\u3CCC\u3CD5\u3CDA\u3CDF\u3CE5\u3CEC\u3CF2\u3D03\u3D15\u3D1A\u3D1F\u3D25" +
+            "\u3D2C\u3D31\u3D37\u3D3E\u3D43\u3D49\u3D4D\u3D53\u3D5A\u3D60\u3D67\u3D6B\u3D71\u3D78\u3D7E\u3D84" +
+            "\u3D8A\u3D91\u3D9A\u3DA1\u3DA7\u3DAD\u3DB0\u3DB4\u3DBA\u3DBF\u3DC7\u3DD3\u3DE1\u3DF0\u3DF6\u3DFB" +
+            "\u3E01\u3E09\u3E14\u3E1B\u3E24\u3E2B\u3E31\u3E37\u3E3C\u3E42\u3E49\u3E4E\u3E54\u3E5A\u3E5E\u3E63" +
+            "\u3E6B\u3E70\u3E75\u3E7B\u3E81\u3E88\u3E93\u3E9C\u3EA7\u3EAE\u3EB4\u3EBE\u3EC3\u3ECA\u3ED3\u3EE0" +
+            "\u3EEE\u3EFB\u3F09\u3F12\u3F22\u3F33\u3F37\u3F3D\u3F41\u3F48\u3F4E\u3F55\u3F5C\u3F61\u3F65\u3F6B" +
+            "\u3F71\u3F77\u3F7C\u3F82\u3F88\u3F8D\u3F94\u3F9B\u3FA2\u3FA9\u3FB1\u3FB7\u3FBE\u3FC4\u3FCB\u3FD2" +
+            "\u3FD6\u3FDB\u3FDE\u3FE1\u3FE8\u3FED\u3FF2\u3FF8\u3FFD\u4003\u4007\u400D\u4013\u4016\u401C\u4022" +
+            "\u4027\u402C\u4032\u4037\u403E\u4045\u404B\u4051\u4056\u405D\u4064\u406A\u406F\u4076\u407C\u4083" +
+            "\u4088\u408E\u4092\u4095\u4099\u409D\u40A2\u40A7\u40AC\u40B1\u40B5\u40BA\u40C1\u40C8\u40CC\u40D1" +
+            "\u40D8\u40DD\u40E1\u40E6\u40EE\u40F3\u40F8\u40FC\u4101";
+
+    /**
+     * Decoded values, in the same order as the names
+     */
+    static final String VALUES =
+            "\306\306&&\301\301\u0102\302\302\u0410\uD835\uDD04\300\300\u0391\u0100\u2A53\u0104\uD835\uDD38" +
+            "\u2061\305\305\uD835\uDC9C\u2254\303\303\304\304\u2216\u2AE7\u2306\u0411\u2235\u212C\u0392" +
+            "\uD835\uDD05\uD835\uDD39\u02D8\u212C\u224E\u0427\251\251\u0106\u22D2\u2145\u212D\u010C\307\307" +
+            "\u0108\u2230\u010A\270\267\u212D\u03A7\u2299\u2296\u2295\u2297\u2232\u201D\u2019\u2237\u2A74" +
+            "\u2261\u222F\u222E\u2102\u2210\u2233\u2A2F\uD835\uDC9E\u22D3\u224D\u2145\u2911\u0402\u0405\u040F" +
+            "\u2021\u21A1\u2AE4\u010E\u0414\u2207\u0394\uD835\uDD07\264\u02D9\u02DD`\u02DC\u22C4\u2146" +
+            "\uD835\uDD3B\250\u20DC\u2250\u222F\250\u21D3\u21D0\u21D4\u2AE4\u27F8\u27FA\u27F9\u21D2\u22A8" +
+            "\u21D1\u21D5\u2225\u2193\u2913\u21F5\u0311\u2950\u295E\u21BD\u2956\u295F\u21C1\u2957\u22A4\u21A7" +
+            "\u21D3\uD835\uDC9F\u0110\u014A\320\320\311\311\u011A\312\312\u042D\u0116\uD835\uDD08\310\310" +
+            "\u2208\u0112\u25FB\u25AB\u0118\uD835\uDD3C\u0395\u2A75\u2242\u21CC\u2130\u2A73\u0397\313\313" +
+            "\u2203\u2147\u0424\uD835\uDD09\u25FC\u25AA\uD835\uDD3D\u2200\u2131\u2131\u0403>>\u0393\u03DC" +
+            "\u011E\u0122\u011C\u0413\u0120\uD835\uDD0A\u22D9\uD835\uDD3E\u2265\u22DB\u2267\u2AA2\u2277\u2A7E" +
+            "\u2273\uD835\uDCA2\u226B\u042A\u02C7^\u0124\u210C\u210B\u210D\u2500\u210B\u0126\u224E\u224F" +
+            "\u0415\u0132\u0401\315\315\316\316\u0418\u0130\u2111\314\314\u2111\u012A\u2148\u21D2\u222C\u222B" +
+            "\u22C2\u2063\u2062\u012E\uD835\uDD40\u0399\u2110\u0128\u0406\317\317\u0134\u0419\uD835\uDD0D" +
+            "\uD835\uDD41\uD835\uDCA5\u0408\u0404\u0425\u040C\u039A\u0136\u041A\uD835\uDD0E\uD835\uDD42" +
+            "\uD835\uDCA6\u0409<<\u0139\u039B\u27EA\u2112\u219E\u013D\u013B\u041B\u27E8\u2190\u21E4\u21C6" +
+            "\u2308\u27E6\u2961\u21C3\u2959\u230A\u2194\u294E\u22A3\u21A4\u295A\u22B2\u29CF\u22B4\u2951\u2960" +
+            "\u21BF\u2958\u21BC\u2952\u21D0\u21D4\u22DA\u2266\u2276\u2AA1\u2A7D\u2272\uD835\uDD0F\u22D8\u21DA" +
+            "\u013F\u27F5\u27F7\u27F6\u27F8\u27FA\u27F9\uD835\uDD43\u2199\u2198\u2112\u21B0\u0141\u226A\u2905" +
+            "\u041C\u205F\u2133\uD835\uDD10\u2213\uD835\uDD44\u2133\u039C\u040A\u0143\u0147\u0145\u041D\u200B" +
+            "\u200B\u200B\u200B\u226B\u226A\012\uD835\uDD11\u2060\240\u2115\u2AEC\u2262\u226D\u2226\u2209" +
+            "\u2260\u2242\u0338\u2204\u226F\u2271\u2267\u0338\u226B\u0338\u2279\u2A7E\u0338\u2275\u224E\u0338" +
+            "\u224F\u0338\u22EA\u29CF\u0338\u22EC\u226E\u2270\u2278\u226A\u0338\u2A7D\u0338\u2274\u2AA2\u0338" +
+            "\u2AA1\u0338\u2280\u2AAF\u0338\u22E0\u220C\u22EB\u29D0\u0338\u22ED\u228F\u0338\u22E2\u2290\u0338" +
+            "\u22E3\u2282\u20D2\u2288\u2281\u2AB0\u0338\u22E1\u227F\u0338\u2283\u20D2\u2289\u2241\u2244\u2247" +
+            "\u2249\u2224\uD835\uDCA9\321\321\u039D\u0152\323\323\324\324\u041E\u0150\uD835\uDD12\322\322" +
+            "\u014C\u03A9\u039F\uD835\uDD46\u201C\u2018\u2A54\uD835\uDCAA\330\330\325\325\u2A37\326\326\u203E" +
+            "\u23DE\u23B4\u23DC\u2202\u041F\uD835\uDD13\u03A6\u03A0\261\u210C\u2119\u2ABB\u227A\u2AAF\u227C" +
+            "\u227E\u2033\u220F\u2237\u221D\uD835\uDCAB\u03A8\042\042\uD835\uDD14\u211A\uD835\uDCAC\u2910\256" +
+            "\256\u0154\u27EB\u21A0\u2916\u0158\u0156\u0420\u211C\u220B\u21CB\u296F\u211C\u03A1\u27E9\u2192" +
+            "\u21E5\u21C4\u2309\u27E7\u295D\u21C2\u2955\u230B\u22A2\u21A6\u295B\u22B3\u29D0\u22B5\u294F\u295C" +
+            "\u21BE\u2954\u21C0\u2953\u21D2\u211D\u2970\u21DB\u211B\u21B1\u29F4\u0429\u0428\u042C\u015A\u2ABC" +
+            "\u0160\u015E\u015C\u0421\uD835\uDD16\u2193\u2190\u2192\u2191\u03A3\u2218\uD835\uDD4A\u221A\u25A1" +
+            "\u2293\u228F\u2291\u2290\u2292\u2294\uD835\uDCAE\u22C6\u22D0\u22D0\u2286\u227B\u2AB0\u227D\u227F" +
+            "\u220B\u2211\u22D1\u2283\u2287\u22D1\336\336\u2122\u040B\u0426\011\u03A4\u0164\u0162\u0422" +
+            "\uD835\uDD17\u2234\u0398\u205F\u200A\u2009\u223C\u2243\u2245\u2248\uD835\uDD4B\u20DB\uD835\uDCAF" +
+            "\u0166\332\332\u219F\u2949\u040E\u016C\333\333\u0423\u0170\uD835\uDD18\331\331\u016A_\u23DF" +
+            "\u23B5\u23DD\u22C3\u228E\u0172\uD835\uDD4C\u2191\u2912\u21C5\u2195\u296E\u22A5\u21A5\u21D1\u21D5" +
+            "\u2196\u2197\u03D2\u03A5\u016E\uD835\uDCB0\u0168\334\334\u22AB\u2AEB\u0412\u22A9\u2AE6\u22C1" +
+            "\u2016\u2016\u2223|\u2758\u2240\u200A\uD835\uDD19\uD835\uDD4D\uD835\uDCB1\u22AA\u0174\u22C0" +
+            "\uD835\uDD1A\uD835\uDD4E\uD835\uDCB2\uD835\uDD1B\u039E\uD835\uDD4F\uD835\uDCB3\u042F\u0407\u042E" +
+            "\335\335\u0176\u042B\uD835\uDD1C\uD835\uDD50\uD835\uDCB4\u0178\u0416\u0179\u017D\u0417\u017B" +
+            "\u200B\u0396\u2128\u2124\uD835\uDCB5\341\341\u0103\u223E\u223E\u0333\u223F\342\342\264\264\u0430" +
+            "\346\346\u2061\uD835\uDD1E\340\340\u2135\u2135\u03B1\u0101\u2A3F&&\u2227\u2A55\u2A5C\u2A58\u2A5A" +
+            "\u2220\u29A4\u2220\u2221\u29A8\u29A9\u29AA\u29AB\u29AC\u29AD\u29AE\u29AF\u221F\u22BE\u299D\u2222" +
+            "\305\u237C\u0105\uD835\uDD52\u2248\u2A70\u2A6F\u224A\u224B'\u2248\u224A\345\345\uD835\uDCB6*" +
+            "\u2248\u224D\343\343\344\344\u2233\u2A11\u2AED\u224C\u03F6\u2035\u223D\u22CD\u22BD\u2305\u2305" +
+            "\u23B5\u23B6\u224C\u0431\u201E\u2235\u2235\u29B0\u03F6\u212C\u03B2\u2136\u226C\uD835\uDD1F\u22C2" +
+            "\u25EF\u22C3\u2A00\u2A01\u2A02\u2A06\u2605\u25BD\u25B3\u2A04\u22C1\u22C0\u290D\u29EB\u25AA\u25B4" +
+            "\u25BE\u25C2\u25B8\u2423\u2592\u2591\u2593\u2588=\u20E5\u2261\u20E5\u2310\uD835\uDD53\u22A5" +
+            "\u22A5\u22C8\u2557\u2554\u2556\u2553\u2550\u2566\u2569\u2564\u2567\u255D\u255A\u255C\u2559\u2551" +
+            "\u256C\u2563\u2560\u256B\u2562\u255F\u29C9\u2555\u2552\u2510\u250C\u2500\u2565\u2568\u252C\u2534" +
+            "\u229F\u229E\u22A0\u255B\u2558\u2518\u2514\u2502\u256A\u2561\u255E\u253C\u2524\u251C\u2035\u02D8" +
+            "\246\246\uD835\uDCB7\u204F\u223D\u22CD\134\u29C5\u27C8\u2022\u2022\u224E\u2AAE\u224F\u224F\u0107" +
+            "\u2229\u2A44\u2A49\u2A4B\u2A47\u2A40\u2229\uFE00\u2041\u02C7\u2A4D\u010D\347\347\u0109\u2A4C" +
+            "\u2A50\u010B\270\270\u29B2\242\242\267\uD835\uDD20\u0447\u2713\u2713\u03C7\u25CB\u29C3\u02C6" +
+            "\u2257\u21BA\u21BB\256\u24C8\u229B\u229A\u229D\u2257\u2A10\u2AEF\u29C2\u2663\u2663:\u2254\u2254," +
+            "@\u2201\u2218\u2201\u2102\u2245\u2A6D\u222E\uD835\uDD54\u2210\251\251\u2117\u21B5\u2717" +
+            "\uD835\uDCB8\u2ACF\u2AD1\u2AD0\u2AD2\u22EF\u2938\u2935\u22DE\u22DF\u21B6\u293D\u222A\u2A48\u2A46" +
+            "\u2A4A\u228D\u2A45\u222A\uFE00\u21B7\u293C\u22DE\u22DF\u22CE\u22CF\244\244\u21B6\u21B7\u22CE" +
+            "\u22CF\u2232\u2231\u232D\u21D3\u2965\u2020\u2138\u2193\u2010\u22A3\u290F\u02DD\u010F\u0434\u2146" +
+            "\u2021\u21CA\u2A77\260\260\u03B4\u29B1\u297F\uD835\uDD21\u21C3\u21C2\u22C4\u22C4\u2666\u2666\250" +
+            "\u03DD\u22F2\367\367\367\u22C7\u22C7\u0452\u231E\u230D$\uD835\uDD55\u02D9\u2250\u2251\u2238" +
+            "\u2214\u22A1\u2306\u2193\u21CA\u21C3\u21C2\u2910\u231F\u230C\uD835\uDCB9\u0455\u29F6\u0111\u22F1" +
+            "\u25BF\u25BE\u21F5\u296F\u29A6\u045F\u27FF\u2A77\u2251\351\351\u2A6E\u011B\u2256\352\352\u2255" +
+            "\u044D\u0117\u2147\u2252\uD835\uDD22\u2A9A\350\350\u2A96\u2A98\u2A99\u23E7\u2113\u2A95\u2A97" +
+            "\u0113\u2205\u2205\u2205\u2004\u2005\u2003\u014B\u2002\u0119\uD835\uDD56\u22D5\u29E3\u2A71\u03B5" +
+            "\u03B5\u03F5\u2256\u2255\u2242\u2A96\u2A95=\u225F\u2261\u2A78\u29E5\u2253\u2971\u212F\u2250" +
+            "\u2242\u03B7\360\360\353\353\u20AC!\u2203\u2130\u2147\u2252\u0444\u2640\uFB03\uFB00\uFB04" +
+            "\uD835\uDD23\uFB01fj\u266D\uFB02\u25B1\u0192\uD835\uDD57\u2200\u22D4\u2AD9\u2A0D\275\275\u2153" +
+            "\274\274\u2155\u2159\u215B\u2154\u2156\276\276\u2157\u215C\u2158\u215A\u215D\u215E\u2044\u2322" +
+            "\uD835\uDCBB\u2267\u2A8C\u01F5\u03B3\u03DD\u2A86\u011F\u011D\u0433\u0121\u2265\u22DB\u2265\u2267" +
+            "\u2A7E\u2A7E\u2AA9\u2A80\u2A82\u2A84\u22DB\uFE00\u2A94\uD835\uDD24\u226B\u22D9\u2137\u0453\u2277" +
+            "\u2A92\u2AA5\u2AA4\u2269\u2A8A\u2A8A\u2A88\u2A88\u2269\u22E7\uD835\uDD58`\u210A\u2273\u2A8E" +
+            "\u2A90>>\u2AA7\u2A7A\u22D7\u2995\u2A7C\u2A86\u2978\u22D7\u22DB\u2A8C\u2277\u2273\u2269\uFE00" +
+            "\u2269\uFE00\u21D4\u200A\275\u210B\u044A\u2194\u2948\u21AD\u210F\u0125\u2665\u2665\u2026\u22B9" +
+            "\uD835\uDD25\u2925\u2926\u21FF\u223B\u21A9\u21AA\uD835\uDD59\u2015\uD835\uDCBD\u210F\u0127\u2043" +
+            "\u2010\355\355\u2063\356\356\u0438\u0435\241\241\u21D4\uD835\uDD26\354\354\u2148\u2A0C\u222D" +
+            "\u29DC\u2129\u0133\u012B\u2111\u2110\u2111\u0131\u22B7\u01B5\u2208\u2105\u221E\u29DD\u0131\u222B" +
+            "\u22BA\u2124\u22BA\u2A17\u2A3C\u0451\u012F\uD835\uDD5A\u03B9\u2A3C\277\277\uD835\uDCBE\u2208" +
+            "\u22F9\u22F5\u22F4\u22F3\u2208\u2062\u0129\u0456\357\357\u0135\u0439\uD835\uDD27\u0237" +
+            "\uD835\uDD5B\uD835\uDCBF\u0458\u0454\u03BA\u03F0\u0137\u043A\uD835\uDD28\u0138\u0445\u045C" +
+            "\uD835\uDD5C\uD835\uDCC0\u21DA\u21D0\u291B\u290E\u2266\u2A8B\u2962\u013A\u29B4\u2112\u03BB\u27E8" +
+            "\u2991\u27E8\u2A85\253\253\u2190\u21E4\u291F\u291D\u21A9\u21AB\u2939\u2973\u21A2\u2AAB\u2919" +
+            "\u2AAD\u2AAD\uFE00\u290C\u2772{[\u298B\u298F\u298D\u013E\u013C\u2308{\u043B\u2936\u201C\u201E" +
+            "\u2967\u294B\u21B2\u2264\u2190\u21A2\u21BD\u21BC\u21C7\u2194\u21C6\u21CB\u21AD\u22CB\u22DA\u2264" +
+            "\u2266\u2A7D\u2A7D\u2AA8\u2A7F\u2A81\u2A83\u22DA\uFE00\u2A93\u2A85\u22D6\u22DA\u2A8B\u2276\u2272" +
+            "\u297C\u230A\uD835\uDD29\u2276\u2A91\u21BD\u21BC\u296A\u2584\u0459\u226A\u21C7\u231E\u296B\u25FA" +
+            "\u0140\u23B0\u23B0\u2268\u2A89\u2A89\u2A87\u2A87\u2268\u22E6\u27EC\u21FD\u27E6\u27F5\u27F7\u27FC" +
+            "\u27F6\u21AB\u21AC\u2985\uD835\uDD5D\u2A2D\u2A34\u2217_\u25CA\u25CA\u29EB(\u2993\u21C6\u231F" +
+            "\u21CB\u296D\u200E\u22BF\u2039\uD835\uDCC1\u21B0\u2272\u2A8D\u2A8F[\u2018\u201A\u0142<<\u2AA6" +
+            "\u2A79\u22D6\u22CB\u22C9\u2976\u2A7B\u2996\u25C3\u22B4\u25C2\u294A\u2966\u2268\uFE00\u2268\uFE00" +
+            "\u223A\257\257\u2642\u2720\u2720\u21A6\u21A6\u21A7\u21A4\u21A5\u25AE\u2A29\u043C\u2014\u2221" +
+            "\uD835\uDD2A\u2127\265\265\u2223*\u2AF0\267\267\u2212\u229F\u2238\u2A2A\u2ADB\u2026\u2213\u22A7" +
+            "\uD835\uDD5E\u2213\uD835\uDCC2\u223E\u03BC\u22B8\u22B8\u22D9\u0338\u226B\u20D2\u226B\u0338\u21CD" +
+            "\u21CE\u22D8\u0338\u226A\u20D2\u226A\u0338\u21CF\u22AF\u22AE\u2207\u0144\u2220\u20D2\u2249" +
+            "\u2A70\u0338\u224B\u0338\u0149\u2249\u266E\u266E\u2115\240\240\u224E\u0338\u224F\u0338\u2A43" +
+            "\u0148\u0146\u2247\u2A6D\u0338\u2A42\u043D\u2013\u2260\u21D7\u2924\u2197\u2197\u2250\u0338\u2262" +
+            "\u2928\u2242\u0338\u2204\u2204\uD835\uDD2B\u2267\u0338\u2271\u2271\u2267\u0338\u2A7E\u0338" +
+            "\u2A7E\u0338\u2275\u226F\u226F\u21CE\u21AE\u2AF2\u220B\u22FC\u22FA\u220B\u045A\u21CD\u2266\u0338" +
+            "\u219A\u2025\u2270\u219A\u21AE\u2270\u2266\u0338\u2A7D\u0338\u2A7D\u0338\u226E\u2274\u226E\u22EA" +
+            "\u22EC\u2224\uD835\uDD5F\254\254\u2209\u22F9\u0338\u22F5\u0338\u2209\u22F7\u22F6\u220C\u220C" +
+            "\u22FE\u22FD\u2226\u2226\u2AFD\u20E5\u2202\u0338\u2A14\u2280\u22E0\u2AAF\u0338\u2280\u2AAF\u0338" +
+            "\u21CF\u219B\u2933\u0338\u219D\u0338\u219B\u22EB\u22ED\u2281\u22E1\u2AB0\u0338\uD835\uDCC3\u2224" +
+            "\u2226\u2241\u2244\u2244\u2224\u2226\u22E2\u22E3\u2284\u2AC5\u0338\u2288\u2282\u20D2\u2288" +
+            "\u2AC5\u0338\u2281\u2AB0\u0338\u2285\u2AC6\u0338\u2289\u2283\u20D2\u2289\u2AC6\u0338\u2279\361" +
+            "\361\u2278\u22EA\u22EC\u22EB\u22ED\u03BD#\u2116\u2007\u22AD\u2904\u224D\u20D2\u22AC\u2265\u20D2" +
+            ">\u20D2\u29DE\u2902\u2264\u20D2<\u20D2\u22B4\u20D2\u2903\u22B5\u20D2\u223C\u20D2\u21D6\u2923" +
+            "\u2196\u2196\u2927\u24C8\363\363\u229B\u229A\364\364\u043E\u229D\u0151\u2A38\u2299\u29BC\u0153" +
+            "\u29BF\uD835\uDD2C\u02DB\362\362\u29C1\u29B5\u03A9\u222E\u21BA\u29BE\u29BB\u203E\u29C0\u014D" +
+            "\u03C9\u03BF\u29B6\u2296\uD835\uDD60\u29B7\u29B9\u2295\u2228\u21BB\u2A5D\u2134\u2134\252\252\272" +
+            "\272\u22B6\u2A56\u2A57\u2A5B\u2134\370\370\u2298\365\365\u2297\u2A36\366\366\u233D\u2225\266\266" +
+            "\u2225\u2AF3\u2AFD\u2202\u043F%.\u2030\u22A5\u2031\uD835\uDD2D\u03C6\u03D5\u2133\u260E\u03C0" +
+            "\u22D4\u03D6\u210F\u210E\u210F+\u2A23\u229E\u2A22\u2214\u2A25\u2A72\261\261\u2A26\u2A27\261" +
+            "\u2A15\uD835\uDD61\243\243\u227A\u2AB3\u2AB7\u227C\u2AAF\u227A\u2AB7\u227C\u2AAF\u2AB9\u2AB5" +
+            "\u22E8\u227E\u2032\u2119\u2AB5\u2AB9\u22E8\u220F\u232E\u2312\u2313\u221D\u221D\u227E\u22B0" +
+            "\uD835\uDCC5\u03C8\u2008\uD835\uDD2E\u2A0C\uD835\uDD62\u2057\uD835\uDCC6\u210D\u2A16?\u225F\042" +
+            "\042\u21DB\u21D2\u291C\u290F\u2964\u223D\u0331\u0155\u221A\u29B3\u27E9\u2992\u29A5\u27E9\273\273" +
+            "\u2192\u2975\u21E5\u2920\u2933\u291E\u21AA\u21AC\u2945\u2974\u21A3\u219D\u291A\u2236\u211A\u290D" +
+            "\u2773}]\u298C\u298E\u2990\u0159\u0157\u2309}\u0440\u2937\u2969\u201D\u201D\u21B3\u211C\u211B" +
+            "\u211C\u211D\u25AD\256\256\u297D\u230B\uD835\uDD2F\u21C1\u21C0\u296C\u03C1\u03F1\u2192\u21A3" +
+            "\u21C1\u21C0\u21C4\u21CC\u21C9\u219D\u22CC\u02DA\u2253\u21C4\u21CC\u200F\u23B1\u23B1\u2AEE\u27ED" +
+            "\u21FE\u27E7\u2986\uD835\uDD63\u2A2E\u2A35)\u2994\u2A12\u21C9\u203A\uD835\uDCC7\u21B1]\u2019" +
+            "\u2019\u22CC\u22CA\u25B9\u22B5\u25B8\u29CE\u2968\u211E\u015B\u201A\u227B\u2AB4\u2AB8\u0161\u227D" +
+            "\u2AB0\u015F\u015D\u2AB6\u2ABA\u22E9\u2A13\u227F\u0441\u22C5\u22A1\u2A66\u21D8\u2925\u2198\u2198" +
+            "\247\247;\u2929\u2216\u2216\u2736\uD835\uDD30\u2322\u266F\u0449\u0448\u2223\u2225\255\255\u03C3" +
+            "\u03C2\u03C2\u223C\u2A6A\u2243\u2243\u2A9E\u2AA0\u2A9D\u2A9F\u2246\u2A24\u2972\u2190\u2216\u2A33" +
+            "\u29E4\u2223\u2323\u2AAA\u2AAC\u2AAC\uFE00\u044C/\u29C4\u233F\uD835\uDD64\u2660\u2660\u2225" +
+            "\u2293\u2293\uFE00\u2294\u2294\uFE00\u228F\u2291\u228F\u2291\u2290\u2292\u2290\u2292\u25A1\u25A1" +
+            "\u25AA\u25AA\u2192\uD835\uDCC8\u2216\u2323\u22C6\u2606\u2605\u03F5\u03D5\257\u2282\u2AC5\u2ABD" +
+            "\u2286\u2AC3\u2AC1\u2ACB\u228A\u2ABF\u2979\u2282\u2286\u2AC5\u228A\u2ACB\u2AC7\u2AD5\u2AD3\u227B" +
+            "\u2AB8\u227D\u2AB0\u2ABA\u2AB6\u22E9\u227F\u2211\u266A\271\271\262\262\263\263\u2283\u2AC6\u2ABE" +
+            "\u2AD8\u2287\u2AC4\u27C9\u2AD7\u297B\u2AC2\u2ACC\u228B\u2AC0\u2283\u2287\u2AC6\u228B\u2ACC\u2AC8" +
+            "\u2AD4\u2AD6\u21D9\u2926\u2199\u2199\u292A\337\337\u2316\u03C4\u23B4\u0165\u0163\u0442\u20DB" +
+            "\u2315\uD835\uDD31\u2234\u2234\u03B8\u03D1\u03D1\u2248\u223C\u2009\u2248\u223C\376\376\u02DC\327" +
+            "\327\u22A0\u2A31\u2A30\u222D\u2928\u22A4\u2336\u2AF1\uD835\uDD65\u2ADA\u2929\u2034\u2122\u25B5" +
+            "\u25BF\u25C3\u22B4\u225C\u25B9\u22B5\u25EC\u225C\u2A3A\u2A39\u29CD\u2A3B\u23E2\uD835\uDCC9\u0446" +
+            "\u045B\u0167\u226C\u219E\u21A0\u21D1\u2963\372\372\u2191\u045E\u016D\373\373\u0443\u21C5\u0171" +
+            "\u296E\u297E\uD835\uDD32\371\371\u21BF\u21BE\u2580\u231C\u231C\u230F\u25F8\u016B\250\250\u0173" +
+            "\uD835\uDD66\u2191\u2195\u21BF\u21BE\u228E\u03C5\u03D2\u03C5\u21C8\u231D\u231D\u230E\u016F\u25F9" +
+            "\uD835\uDCCA\u22F0\u0169\u25B5\u25B4\u21C8\374\374\u29A7\u21D5\u2AE8\u2AE9\u22A8\u299C\u03F5" +
+            "\u03F0\u2205\u03D5\u03D6\u221D\u2195\u03F1\u03C2\u228A\uFE00\u2ACB\uFE00\u228B\uFE00\u2ACC\uFE00" +
+            "\u03D1\u22B2\u22B3\u0432\u22A2\u2228\u22BB\u225A\u22EE||\uD835\uDD33\u22B2\u2282\u20D2" +
+            "\u2283\u20D2\uD835\uDD67\u221D\u22B3\uD835\uDCCB\u2ACB\uFE00\u228A\uFE00\u2ACC\uFE00\u228B\uFE00" +
+            "\u299A\u0175\u2A5F\u2227\u2259\u2118\uD835\uDD34\uD835\uDD68\u2118\u2240\u2240\uD835\uDCCC\u22C2" +
+            "\u25EF\u22C3\u25BD\uD835\uDD35\u27FA\u27F7\u03BE\u27F8\u27F5\u27FC\u22FB\u2A00\uD835\uDD69\u2A01" +
+            "\u2A02\u27F9\u27F6\uD835\uDCCD\u2A06\u2A04\u25B3\u22C1\u22C0\375\375\u044F\u0177\u044B\245\245" +
+            "\uD835\uDD36\u0457\uD835\uDD6A\uD835\uDCCE\u044E\377\377\u017A\u017E\u0437\u017C\u2128\u03B6" +
+            "\uD835\uDD37\u0436\u21DD\uD835\uDD6B\uD835\uDCCF\u200D\u200C";
+
+    /**
+     * Exclusive end offset of each value in {@link #VALUES}
+     */
+    static final String VALUE_ENDS =
+            "\001\002\003\004\005\006\007\010\011\012\014\015\016\017\020\021\022\024\025\026\027\031\032\033" +
+            "\034\035\036\037\040\041\042\043\044\045\047\051\052\053\054\055\056\057\060\061\062\063\064\065" +
+            "\066\067\070\071\072\073\074\075\076\077\100\101\102\103\104\105\106\107\110\111\112\113\114\115" +
+            "\117\120\121\122\123\124\125\126\127\130\131\132\133\134\135\137\140\141\142\143\144\145\146\150" +
+            "\151\152\153\154\155\156\157\160\161\162\163\164\165\166\167\170\171\172\173\174\175\176\177\200" +
+            "\201\202\203\204\205\206\207\211\212\213\214\215\216\217\220\221\222\223\224\226\227\230\231\232" +
+            "\233\234\235\237\240\241\242\243\244\245\246\247\250\251\252\253\255\256\257\261\262\263\264\265" +
+            "\266\267\270\271\272\273\274\275\276\300\301\303\304\305\306\307\310\311\312\314\315\316\317\320" +
+            "\321\322\323\324\325\326\327\330\331\332\333\334\335\336\337\340\341\342\343\344\345\346\347\350" +
+            "\351\352\353\354\355\356\357\361\362\363\364\365\366\367\370\371\373\375\377\u0100\u0101\u0102" +
+            "\u0103\u0104\u0105\u0106\u0108\u010A\u010C\u010D\u010E\u010F\u0110\u0111\u0112\u0113\u0114\u0115" +
+            "\u0116\u0117\u0118\u0119\u011A\u011B\u011C\u011D\u011E\u011F\u0120\u0121\u0122\u0123\u0124\u0125" +
+            "\u0126\u0127\u0128\u0129\u012A\u012B\u012C\u012D\u012E\u012F\u0130\u0131\u0132\u0133\u0134\u0135" +
+            "\u0136\u0137\u0139\u013A\u013B\u013C\u013D\u013E\u013F\u0140\u0141\u0142\u0144\u0145\u0146\u0147" +
+            "\u0148\u0149\u014A\u014B\u014C\u014D\u014E\u0150\u0151\u0153\u0154\u0155\u0156\u0157\u0158\u0159" +
+            "\u015A\u015B\u015C\u015D\u015E\u015F\u0160\u0161\u0163\u0164\u0165\u0166\u0167\u0168\u0169\u016A" +
+            "\u016B\u016C\u016E\u016F\u0170\u0171\u0173\u0175\u0176\u0178\u0179\u017B\u017D\u017E\u0180\u0181" +
+            "\u0182\u0183\u0184\u0186\u0188\u0189\u018B\u018D\u018E\u0190\u0191\u0192\u0193\u0195\u0196\u0198" +
+            "\u0199\u019B\u019C\u019E\u019F\u01A0\u01A2\u01A3\u01A5\u01A7\u01A8\u01A9\u01AA\u01AB\u01AC\u01AD" +
+            "\u01AF\u01B0\u01B1\u01B2\u01B3\u01B4\u01B5\u01B6\u01B7\u01B8\u01B9\u01BB\u01BC\u01BD\u01BE\u01BF" +
+            "\u01C0\u01C2\u01C3\u01C4\u01C5\u01C7\u01C8\u01C9\u01CA\u01CB\u01CC\u01CD\u01CE\u01CF\u01D0\u01D1" +
+            "\u01D2\u01D3\u01D4\u01D6\u01D7\u01D8\u01D9\u01DA\u01DB\u01DC\u01DD\u01DE\u01DF\u01E0\u01E1\u01E2" +
+            "\u01E3\u01E4\u01E6\u01E7\u01E8\u01E9\u01EB\u01EC\u01EE\u01EF\u01F0\u01F1\u01F2\u01F3\u01F4\u01F5" +
+            "\u01F6\u01F7\u01F8\u01F9\u01FA\u01FB\u01FC\u01FD\u01FE\u01FF\u0200\u0201\u0202\u0203\u0204\u0205" +
+            "\u0206\u0207\u0208\u0209\u020A\u020B\u020C\u020D\u020E\u020F\u0210\u0211\u0212\u0213\u0214\u0215" +
+            "\u0216\u0217\u0218\u0219\u021A\u021B\u021C\u021D\u021E\u021F\u0220\u0221\u0222\u0223\u0224\u0226" +
+            "\u0227\u0228\u0229\u022A\u022B\u022C\u022E\u022F\u0230\u0231\u0232\u0233\u0234\u0235\u0236\u0238" +
+            "\u0239\u023A\u023B\u023C\u023D\u023E\u023F\u0240\u0241\u0242\u0243\u0244\u0245\u0246\u0247\u0248" +
+            "\u0249\u024A\u024B\u024C\u024D\u024E\u024F\u0250\u0252\u0253\u0254\u0256\u0257\u0258\u0259\u025A" +
+            "\u025B\u025D\u025E\u0260\u0261\u0262\u0263\u0264\u0265\u0266\u0267\u0268\u0269\u026A\u026B\u026D" +
+            "\u026E\u026F\u0270\u0271\u0272\u0273\u0274\u0275\u0276\u0277\u0279\u027A\u027B\u027C\u027D\u027E" +
+            "\u027F\u0280\u0281\u0282\u0283\u0284\u0285\u0286\u0287\u0289\u028A\u028B\u028C\u028D\u028E\u028F" +
+            "\u0290\u0291\u0292\u0293\u0294\u0295\u0296\u0297\u0298\u0299\u029B\u029D\u029F\u02A0\u02A1\u02A2" +
+            "\u02A4\u02A6\u02A8\u02AA\u02AB\u02AD\u02AF\u02B0\u02B1\u02B2\u02B3\u02B4\u02B5\u02B6\u02B8\u02BA" +
+            "\u02BC\u02BD\u02BE\u02BF\u02C0\u02C1\u02C2\u02C3\u02C4\u02C5\u02C6\u02C8\u02C9\u02CA\u02CB\u02CC" +
+            "\u02CE\u02CF\u02D0\u02D1\u02D2\u02D3\u02D4\u02D5\u02D6\u02D7\u02D9\u02DA\u02DB\u02DC\u02DD\u02DE" +
+            "\u02DF\u02E0\u02E1\u02E2\u02E3\u02E4\u02E5\u02E6\u02E7\u02E8\u02E9\u02EA\u02EB\u02EC\u02ED\u02EE" +
+            "\u02EF\u02F0\u02F1\u02F2\u02F3\u02F4\u02F5\u02F6\u02F7\u02F8\u02F9\u02FA\u02FC\u02FD\u02FE\u02FF" +
+            "\u0300\u0301\u0302\u0303\u0304\u0305\u0306\u0308\u0309\u030A\u030B\u030C\u030D\u030E\u030F\u0310" +
+            "\u0311\u0312\u0313\u0314\u0315\u0316\u0317\u0318\u0319\u031A\u031B\u031C\u031D\u031E\u031F\u0320" +
+            "\u0321\u0322\u0323\u0324\u0325\u0326\u0327\u0329\u032A\u032B\u032C\u032D\u032E\u032F\u0330\u0331" +
+            "\u0332\u0333\u0334\u0335\u0336\u0337\u0338\u0339\u033A\u033B\u033C\u033D\u033E\u033F\u0340\u0341" +
+            "\u0342\u0344\u0346\u0347\u0349\u034A\u034B\u034C\u034D\u034E\u034F\u0350\u0351\u0352\u0353\u0354" +
+            "\u0355\u0356\u0357\u0358\u0359\u035A\u035B\u035C\u035D\u035E\u035F\u0360\u0361\u0362\u0363\u0364" +
+            "\u0365\u0366\u0367\u0368\u0369\u036A\u036B\u036C\u036D\u036E\u036F\u0370\u0371\u0372\u0373\u0374" +
+            "\u0375\u0376\u0377\u0378\u0379\u037A\u037B\u037C\u037E\u037F\u0380\u0381\u0382\u0383\u0384\u0385" +
+            "\u0386\u0387\u0388\u0389\u038A\u038B\u038C\u038D\u038E\u038F\u0390\u0391\u0393\u0394\u0395\u0396" +
+            "\u0397\u0398\u0399\u039A\u039B\u039C\u039D\u039E\u039F\u03A0\u03A1\u03A2\u03A3\u03A5\u03A6\u03A7" +
+            "\u03A8\u03A9\u03AA\u03AB\u03AC\u03AD\u03AE\u03AF\u03B0\u03B1\u03B2\u03B3\u03B4\u03B5\u03B6\u03B7" +
+            "\u03B8\u03B9\u03BA\u03BB\u03BC\u03BD\u03BE\u03BF\u03C0\u03C1\u03C2\u03C3\u03C4\u03C5\u03C6\u03C8" +
+            "\u03C9\u03CA\u03CB\u03CC\u03CD\u03CE\u03D0\u03D1\u03D2\u03D3\u03D4\u03D5\u03D6\u03D7\u03D8\u03D9" +
+            "\u03DA\u03DB\u03DC\u03DD\u03DE\u03DF\u03E0\u03E1\u03E3\u03E4\u03E5\u03E6\u03E7\u03E8\u03E9\u03EA" +
+            "\u03EB\u03EC\u03ED\u03EE\u03EF\u03F0\u03F1\u03F2\u03F3\u03F4\u03F5\u03F6\u03F7\u03F8\u03F9\u03FA" +
+            "\u03FB\u03FC\u03FD\u03FE\u03FF\u0400\u0401\u0402\u0403\u0404\u0405\u0406\u0408\u0409\u040A\u040B" +
+            "\u040C\u040D\u040E\u040F\u0410\u0411\u0412\u0413\u0414\u0415\u0416\u0417\u0418\u0419\u041A\u041C" +
+            "\u041D\u041E\u041F\u0420\u0421\u0422\u0423\u0424\u0425\u0426\u0427\u0428\u0429\u042A\u042C\u042D" +
+            "\u042E\u042F\u0430\u0431\u0432\u0433\u0434\u0435\u0436\u0437\u0438\u0439\u043A\u043B\u043C\u043D" +
+            "\u043E\u043F\u0440\u0441\u0442\u0443\u0444\u0445\u0447\u0448\u0449\u044A\u044B\u044C\u044D\u044E" +
+            "\u044F\u0450\u0451\u0452\u0453\u0454\u0455\u0456\u0457\u0458\u0459\u045A\u045B\u045D\u045E\u045F" +
+            "\u0460\u0461\u0462\u0463\u0464\u0465\u0466\u0467\u0468\u0469\u046A\u046B\u046C\u046D\u046E\u046F" +
+            "\u0470\u0471\u0472\u0473\u0474\u0475\u0476\u0477\u0478\u0479\u047A\u047B\u047C\u047D\u047E\u047F" +
+            "\u0480\u0481\u0482\u0484\u0485\u0487\u0488\u0489\u048A\u048B\u048D\u048E\u048F\u0490\u0491\u0492" +
+            "\u0493\u0494\u0495\u0496\u0497\u0498\u0499\u049A\u049B\u049C\u049D\u049E\u049F\u04A0\u04A1\u04A2" +
+            "\u04A3\u04A4\u04A5\u04A7\u04A8\u04A9\u04AA\u04AB\u04AC\u04AD\u04AE\u04AF\u04B0\u04B1\u04B2\u04B3" +
+            "\u04B4\u04B5\u04B6\u04B7\u04B8\u04B9\u04BA\u04BB\u04BD\u04BE\u04C0\u04C1\u04C2\u04C3\u04C4\u04C5" +
+            "\u04C6\u04C7\u04C8\u04C9\u04CA\u04CB\u04CC\u04CD\u04CE\u04CF\u04D1\u04D2\u04D3\u04D4\u04D5\u04D6" +
+            "\u04D7\u04D8\u04D9\u04DA\u04DB\u04DC\u04DD\u04DE\u04DF\u04E0\u04E1\u04E2\u04E3\u04E4\u04E6\u04E8" +
+            "\u04E9\u04EA\u04EB\u04EC\u04ED\u04EE\u04EF\u04F0\u04F1\u04F2\u04F3\u04F4\u04F5\u04F6\u04F8\u04F9" +
+            "\u04FA\u04FB\u04FC\u04FD\u04FE\u0500\u0501\u0503\u0504\u0505\u0506\u0507\u0508\u0509\u050A\u050B" +
+            "\u050C\u050D\u050E\u050F\u0510\u0511\u0513\u0514\u0515\u0516\u0517\u0518\u0519\u051A\u051B\u051C" +
+            "\u051D\u051E\u051F\u0520\u0521\u0522\u0523\u0524\u0525\u0526\u0527\u0528\u0529\u052A\u052B\u052C" +
+            "\u052D\u052E\u052F\u0531\u0532\u0533\u0534\u0535\u0537\u0538\u0539\u053A\u053B\u053C\u053D\u053E" +
+            "\u053F\u0540\u0541\u0542\u0543\u0544\u0546\u0547\u0549\u054B\u054C\u054D\u054E\u054F\u0550\u0551" +
+            "\u0553\u0554\u0555\u0556\u0558\u055A\u055B\u055C\u055D\u055E\u055F\u0560\u0561\u0562\u0563\u0564" +
+            "\u0565\u0566\u0567\u0568\u0569\u056A\u056B\u056C\u056D\u056E\u056F\u0570\u0571\u0572\u0573\u0574" +
+            "\u0575\u0576\u0577\u0579\u057A\u057B\u057C\u057D\u057E\u057F\u0580\u0581\u0582\u0583\u0584\u0585" +
+            "\u0586\u0587\u0588\u0589\u058A\u058B\u058C\u058D\u058E\u058F\u0590\u0591\u0592\u0593\u0594\u0595" +
+            "\u0596\u0597\u0598\u0599\u059A\u059B\u059C\u059D\u059E\u059F\u05A1\u05A2\u05A3\u05A4\u05A5\u05A6" +
+            "\u05A7\u05A8\u05A9\u05AA\u05AC\u05AD\u05AE\u05AF\u05B0\u05B1\u05B2\u05B3\u05B4\u05B5\u05B6\u05B7" +
+            "\u05B8\u05B9\u05BA\u05BB\u05BC\u05BD\u05BE\u05BF\u05C0\u05C1\u05C2\u05C3\u05C4\u05C5\u05C6\u05C7" +
+            "\u05C8\u05C9\u05CA\u05CB\u05CC\u05CE\u05CF\u05D0\u05D1\u05D2\u05D3\u05D4\u05D5\u05D6\u05D7\u05D8" +
+            "\u05D9\u05DA\u05DB\u05DC\u05DD\u05DE\u05E0\u05E1\u05E2\u05E3\u05E4\u05E5\u05E6\u05E7\u05E8\u05E9" +
+            "\u05EA\u05EB\u05EC\u05ED\u05EE\u05EF\u05F0\u05F1\u05F2\u05F3\u05F4\u05F5\u05F6\u05F7\u05F9\u05FB" +
+            "\u05FC\u05FD\u05FE\u05FF\u0600\u0601\u0602\u0603\u0604\u0605\u0606\u0607\u0608\u0609\u060A\u060B" +
+            "\u060D\u060E\u060F\u0610\u0611\u0612\u0613\u0614\u0615\u0616\u0617\u0618\u0619\u061A\u061B\u061C" +
+            "\u061D\u061F\u0620\u0622\u0623\u0624\u0625\u0626\u0628\u062A\u062C\u062D\u062E\u0630\u0632\u0634" +
+            "\u0635\u0636\u0637\u0638\u0639\u063B\u063C\u063E\u0640\u0641\u0642\u0643\u0644\u0645\u0646\u0647" +
+            "\u0649\u064B\u064C\u064D\u064E\u064F\u0651\u0652\u0653\u0654\u0655\u0656\u0657\u0658\u0659\u065B" +
+            "\u065C\u065D\u065F\u0660\u0661\u0663\u0665\u0666\u0667\u0669\u066B\u066D\u066E\u066F\u0670\u0671" +
+            "\u0672\u0673\u0674\u0675\u0676\u0677\u0678\u0679\u067B\u067C\u067D\u067E\u067F\u0680\u0681\u0683" +
+            "\u0685\u0687\u0688\u0689\u068A\u068B\u068C\u068D\u068F\u0690\u0691\u0692\u0694\u0696\u0697\u0698" +
+            "\u0699\u069A\u069B\u069C\u069D\u069E\u069F\u06A1\u06A3\u06A4\u06A5\u06A6\u06A8\u06A9\u06AB\u06AC" +
+            "\u06AD\u06AF\u06B1\u06B2\u06B3\u06B4\u06B5\u06B6\u06B8\u06BA\u06BB\u06BC\u06BD\u06BE\u06BF\u06C0" +
+            "\u06C1\u06C2\u06C3\u06C4\u06C6\u06C7\u06C9\u06CA\u06CC\u06CD\u06CF\u06D0\u06D2\u06D3\u06D5\u06D6" +
+            "\u06D8\u06D9\u06DA\u06DB\u06DC\u06DD\u06DE\u06DF\u06E0\u06E1\u06E2\u06E3\u06E4\u06E5\u06E6\u06E8" +
+            "\u06E9\u06EB\u06ED\u06EE\u06EF\u06F1\u06F3\u06F5\u06F6\u06F8\u06FA\u06FB\u06FC\u06FD\u06FE\u06FF" +
+            "\u0700\u0701\u0702\u0703\u0704\u0705\u0706\u0707\u0708\u0709\u070A\u070B\u070C\u070D\u070E\u0710" +
+            "\u0711\u0712\u0713\u0714\u0715\u0716\u0717\u0718\u0719\u071A\u071B\u071C\u071D\u071E\u071F\u0720" +
+            "\u0721\u0723\u0724\u0725\u0726\u0727\u0728\u0729\u072A\u072B\u072C\u072D\u072E\u072F\u0730\u0731" +
+            "\u0732\u0733\u0734\u0735\u0736\u0737\u0738\u0739\u073A\u073B\u073C\u073D\u073E\u073F\u0740\u0741" +
+            "\u0742\u0743\u0744\u0745\u0746\u0747\u0748\u0749\u074A\u074B\u074D\u074E\u074F\u0750\u0751\u0752" +
+            "\u0753\u0754\u0755\u0756\u0757\u0758\u0759\u075A\u075B\u075C\u075D\u075E\u075F\u0760\u0761\u0762" +
+            "\u0763\u0764\u0766\u0767\u0768\u0769\u076A\u076B\u076C\u076D\u076E\u076F\u0770\u0771\u0772\u0773" +
+            "\u0774\u0775\u0776\u0777\u0778\u0779\u077A\u077B\u077C\u077D\u077E\u077F\u0780\u0781\u0782\u0784" +
+            "\u0785\u0786\u0788\u0789\u078B\u078C\u078E\u078F\u0790\u0791\u0792\u0793\u0794\u0795\u0796\u0797" +
+            "\u0798\u0799\u079B\u079C\u079D\u079E\u079F\u07A0\u07A1\u07A2\u07A3\u07A4\u07A5\u07A6\u07A7\u07A8" +
+            "\u07A9\u07AA\u07AB\u07AC\u07AD\u07AE\u07AF\u07B0\u07B1\u07B2\u07B3\u07B4\u07B5\u07B6\u07B7\u07B8" +
+            "\u07B9\u07BA\u07BB\u07BC\u07BD\u07BE\u07BF\u07C0\u07C1\u07C2\u07C3\u07C4\u07C5\u07C6\u07C7\u07C8" +
+            "\u07C9\u07CA\u07CB\u07CC\u07CD\u07CF\u07D0\u07D1\u07D2\u07D3\u07D4\u07D5\u07D6\u07D7\u07D8\u07D9" +
+            "\u07DA\u07DB\u07DC\u07DD\u07DE\u07DF\u07E0\u07E1\u07E2\u07E3\u07E4\u07E5\u07E6\u07E7\u07E8\u07E9" +
+            "\u07EB\u07EC\u07ED\u07EE\u07EF\u07F0\u07F1\u07F2\u07F4\u07F5\u07F6\u07F7\u07F8\u07F9\u07FA\u07FB" +
+            "\u07FC\u07FD\u07FE\u07FF\u0800\u0801\u0802\u0803\u0804\u0805\u0806\u0807\u0808\u0809\u080A\u080B" +
+            "\u080C\u080D\u080E\u080F\u0810\u0811\u0812\u0813\u0814\u0815\u0816\u0817\u0818\u0819\u081A\u081B" +
+            "\u081C\u081D\u081E\u0820\u0821\u0822\u0823\u0824\u0825\u0826\u0827\u0828\u0829\u082A\u082B\u082C" +
+            "\u082D\u082E\u082F\u0830\u0831\u0832\u0833\u0834\u0835\u0836\u0837\u0838\u0839\u083A\u083B\u083C" +
+            "\u083D\u083E\u0840\u0841\u0842\u0843\u0844\u0846\u0847\u0848\u0849\u084A\u084C\u084D\u084F\u0850" +
+            "\u0851\u0852\u0853\u0854\u0855\u0856\u0857\u0858\u0859\u085A\u085B\u085C\u085E\u085F\u0860\u0861" +
+            "\u0862\u0863\u0864\u0865\u0866\u0867\u0868\u0869\u086A\u086B\u086C\u086D\u086E\u086F\u0870\u0871" +
+            "\u0872\u0873\u0874\u0875\u0876\u0877\u0878\u0879\u087A\u087B\u087C\u087D\u087E\u087F\u0880\u0881" +
+            "\u0882\u0883\u0884\u0885\u0886\u0887\u0888\u0889\u088A\u088B\u088C\u088D\u088E\u088F\u0890\u0891" +
+            "\u0892\u0893\u0894\u0895\u0896\u0897\u0898\u0899\u089A\u089B\u089C\u089D\u089E\u089F\u08A0\u08A1" +
+            "\u08A2\u08A3\u08A4\u08A5\u08A6\u08A7\u08A8\u08A9\u08AA\u08AB\u08AC\u08AE\u08AF\u08B0\u08B1\u08B2" +
+            "\u08B3\u08B4\u08B5\u08B6\u08B7\u08B8\u08B9\u08BA\u08BB\u08BC\u08BD\u08BE\u08BF\u08C0\u08C1\u08C2" +
+            "\u08C3\u08C4\u08C5\u08C7\u08C8\u08C9\u08CA\u08CB\u08CC\u08CD\u08CE\u08CF\u08D0\u08D1\u08D2\u08D3" +
+            "\u08D4\u08D5\u08D6\u08D7\u08D8\u08D9\u08DB\u08DC\u08DD\u08DE\u08DF\u08E0\u08E1\u08E2\u08E3\u08E4" +
+            "\u08E5\u08E6\u08E7\u08E8\u08E9\u08EA\u08EB\u08EC\u08ED\u08EE\u08EF\u08F1\u08F2\u08F3\u08F4\u08F5" +
+            "\u08F6\u08F7\u08F8\u08F9\u08FA\u08FB\u08FC\u08FD\u08FE\u0900\u0901\u0902\u0903\u0904\u0905\u0906" +
+            "\u0907\u0908\u0909\u090A\u090B\u090C\u090D\u090E\u0910\u0911\u0912\u0913\u0914\u0915\u0916\u0917" +
+            "\u0918\u0919\u091A\u091B\u091C\u091D\u091E\u091F\u0920\u0921\u0922\u0923\u0924\u0925\u0926\u0928" +
+            "\u092A\u092C\u092E\u092F\u0930\u0931\u0932\u0933\u0934\u0935\u0936\u0937\u0938\u0939\u093B\u093C" +
+            "\u093E\u0940\u0942\u0943\u0944\u0946\u0948\u094A\u094C\u094E\u094F\u0950\u0951\u0952\u0953\u0954" +
+            "\u0956\u0958\u0959\u095A\u095B\u095D\u095E\u095F\u0960\u0961\u0963\u0964\u0965\u0966\u0967\u0968" +
+            "\u0969\u096A\u096B\u096D\u096E\u096F\u0970\u0971\u0973\u0974\u0975\u0976\u0977\u0978\u0979\u097A" +
+            "\u097B\u097C\u097D\u097E\u097F\u0981\u0982\u0984\u0986\u0987\u0988\u0989\u098A\u098B\u098C\u098D" +
+            "\u098E\u098F\u0991\u0992\u0993\u0995\u0997\u0998\u0999";
+}
@@ -82,16 +82,27 @@ public class HtmlParserUtils {
     }
 
     public static String parseHtmlEntity(String s, final int offset) {
+        int end = findHtmlEntityEnd(s, offset);
+        return end < 0 ? null : s.substring(offset, end);
+    }
+
+    /**
+     * Match an HTML entity reference at an offset, without copying it
+     * @param s input
+     * @param offset index to match from
+     * @return index after the matched entity's {@code ;}, or -1 if there is no entity at the offset
+     */
+    public static int findHtmlEntityEnd(String s, final int offset) {
         // Insensitive "&(?:#x[a-f0-9]{1,6}|#[0-9]{1,7}|[a-z][a-z0-9]{1,31});"
         final int len = s.length();
         final int effectiveLength = len - offset;
         if (effectiveLength < 3 || !s.startsWith("&", offset)) {
-            return null;
+            return -1;
         }
         char afterAmpersand = s.charAt(offset + 1);
         if (afterAmpersand == '#') {
             if (effectiveLength < 4) {
-                return null;
+                return -1;
             }
             char afterPound = s.charAt(offset + 2);
 
@@ -105,11 +116,11 @@ public class HtmlParserUtils {
                         size++;
                     } else if (c == ';') {
                         if (size < 1) {
-                            return null;
+                            return -1;
                         }
-                        return s.substring(offset, curPos);
+                        return curPos;
                     } else {
-                        return null;
+                        return -1;
                     }
                 }
             } else {
@@ -121,17 +132,17 @@ public class HtmlParserUtils {
                         size++;
                     } else if (c == ';') {
                         if (size < 1) {
-                            return null;
+                            return -1;
                         }
-                        return s.substring(offset, curPos);
+                        return curPos;
                     } else {
-                        return null;
+                        return -1;
                     }
                 }
             }
         } else {
             if (!PatternMatcher.isAsciiLetter(afterAmpersand)) {
-                return null;
+                return -1;
             }
             // [a-z][a-z0-9]{1,31}
             int curPos = offset + 2;
@@ -142,15 +153,15 @@ public class HtmlParserUtils {
                     size++;
                 } else if (c == ';') {
                     if (size < 1) {
-                        return null;
+                        return -1;
                     }
-                    return s.substring(offset, curPos);
+                    return curPos;
                 } else {
-                    return null;
+                    return -1;
                 }
             }
         }
-        return null; // End of input or too long
+        return -1; // End of input or too long
     }
 
     public static String parseInlineHtmlTag(String s, final int offset) {
@@ -0,0 +1,347 @@
+package com.madimadica.hyde.parser;
+
+import com.madimadica.hyde.ast.AST;
+import com.madimadica.hyde.ast.BlockNode;
+import com.madimadica.hyde.ast.DocumentNode;
+import com.madimadica.hyde.ast.InlineLeafBlockNode;
+import com.madimadica.hyde.ast.LinkReferenceDefinitionNode;
+import com.madimadica.hyde.ast.Node;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the AST of a document up to date as it is edited, such as in an editor, without re-parsing all of it.
+ * <p>
+ * An edit re-parses the window of top-level blocks around it, starting one block before the edit,
+ * and extending past it until a following top-level block parses exactly as it did before.
+ * The blocks in the window are then replaced in the existing AST, and the positions of the blocks after it are shifted.
+ * Inline content is only re-parsed for blocks whose content changed.
+ * </p>
+ * <p>
+ * The whole document is re-parsed instead whenever link reference definitions are added, removed, or edited,
+ * since they can affect links anywhere in the document.
+ * </p>
+ * <p>
+ * This is not thread safe.
+ * </p>
+ */
+public class IncrementalParser {
+    /**
+     * Maximum number of times the window is extended by another block before falling back to a full parse
+     */
+    private static final int MAX_WINDOW_EXTENSIONS = 8;
+
+    private final ParserOptions options;
+    private String text;
+    private AST ast;
+    private LinkRefMap linkRefMap;
+    private int fullParses;
+    private int incrementalParses;
+
+    public IncrementalParser() {
+        this(ParserOptions.getDefaults());
+    }
+
+    public IncrementalParser(ParserOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Fully parse a new document, replacing any previous one
+     * @param text Markdown text to parse
+     * @return parsed abstract syntax tree
+     */
+    public AST parse(String text) {
+        this.text = text;
+        this.fullParses++;
+        final long parseStart = System.nanoTime();
+        var blockOutput = new BlockParser(options).parse(text);
+        this.ast = blockOutput.ast();
+        this.linkRefMap = blockOutput.linkRefMap();
+        var inlineParser = new InlineParser(linkRefMap, options, parseStart);
+        ast.accept(node -> {
+            if (node instanceof InlineLeafBlockNode inlineContentNode) {
+                inlineParser.parse(inlineContentNode);
+            }
+        });
+        return ast;
+    }
+
+    /**
+     * Apply an edit to the current document, updating its AST in place
+     * @param edit change to the text since the last parse or edit
+     * @return the updated abstract syntax tree, which is the same instance as before unless the document was fully re-parsed
+     * @throws IllegalStateException if no document has been parsed yet
+     */
+    public AST applyEdit(TextEdit edit) {
+        if (text == null) {
+            throw new IllegalStateException("A document must be parsed before it can be edited");
+        }
+        final String oldText = text;
+        final String newText = edit.applyTo(oldText);
+        if (!tryParseIncrementally(oldText, newText, edit)) {
+            return parse(newText);
+        }
+        this.text = newText;
+        this.incrementalParses++;
+        return ast;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public AST getAst() {
+        return ast;
+    }
+
+    /**
+     * @return number of times the whole document was parsed
+     */
+    public int getFullParses() {
+        return fullParses;
+    }
+
+    /**
+     * @return number of edits applied by only re-parsing the blocks around them
+     */
+    public int getIncrementalParses() {
+        return incrementalParses;
+    }
+
+    /**
+     * @return {@code false} if the document needs to be fully re-parsed instead
+     */
+    private boolean tryParseIncrementally(String oldText, String newText, TextEdit edit) {
+        if (newText.length() > options.maxInputLength() || touchesCarriageReturn(oldText, edit)) {
+            return false;
+        }
+        final DocumentNode root = ast.getRoot();
+        final List<BlockNode> blocks = new ArrayList<>();
+        for (Node child = root.getFirstChild(); child != null; child = child.getNext()) {
+            blocks.add((BlockNode) child);
+        }
+        final int n = blocks.size();
+        if (n == 0) {
+            return false;
+        }
+
+        // Start and end offsets of each line in the old text, by line number
+        final LineTable lines = new LineTable(oldText);
+        final int editStartLine = lines.lineOf(edit.offset());
+        final int editEndLine = lines.lineOf(edit.offset() + edit.removedLength());
+        final int lineDelta = countLineEndings(edit.insertedText()) - countLineEndings(oldText, edit.offset(), edit.offset() + edit.removedLength());
+        final int charDelta = edit.insertedText().length() - edit.removedLength();
+
+        // First block that ends at or after the edit, and the last block that starts at or before it
+        int firstEdited = n;
+        for (int i = 0; i < n; ++i) {
+            if (blocks.get(i).getEndLine() >= editStartLine) {
+                firstEdited = i;
+                break;
+            }
+        }
+        int lastEdited = -1;
+        for (int i = n - 1; i >= 0; --i) {
+            if (blocks.get(i).getStartLine() <= editEndLine) {
+                lastEdited = i;
+                break;
+            }
+        }
+
+        // Include the block before the edit, which could merge with the edited lines (e.g. lazy or setext lines)
+        final int lo = Math.max(0, firstEdited - 1);
+        if (lo > 0 && blocks.get(lo - 1) instanceof LinkReferenceDefinitionNode) {
+            // Could be the start of the same paragraph, which would parse differently without it
+            return false;
+        }
+        // Any leading blank lines are included when starting from the first block, in case the edit is within them
+        final int windowStartLine = lo == 0 ? 1 : blocks.get(lo).getStartLine();
+        final int windowStartOffset = lines.start(windowStartLine);
+        // The first block after the edit is re-parsed too, to check that the blocks following the window are unaffected
+        int hi = Math.max(lastEdited, lo) + 1;
+
+        for (int attempt = 0; attempt <= MAX_WINDOW_EXTENSIONS; ++attempt, ++hi) {
+            final boolean toEnd = hi >= n;
+            final int windowEndOffset = toEnd
+                    ? newText.length()
+                    : lines.end(blocks.get(hi).getEndLine()) + charDelta;
+            if (windowEndOffset < edit.offset() + edit.insertedText().length()) {
+                return false;
+            }
+
+            final long parseStart = System.nanoTime();
+            var windowOutput = new BlockParser(options).parse(newText.substring(windowStartOffset, windowEndOffset));
+            // Link reference definitions are added to the AST, even when they are not registered
+            if (containsLinkReferenceDefinitions(blocks, lo, toEnd ? n : hi)
+                    || containsLinkReferenceDefinitions(windowOutput.ast().getRoot())) {
+                return false;
+            }
+            final DocumentNode windowRoot = windowOutput.ast().getRoot();
+            final int windowLineOffset = windowStartLine - 1;
+
+            if (!toEnd) {
+                // Converged when the last re-parsed block is the next old block, unchanged other than its position
+                BlockNode last = (BlockNode) windowRoot.getLastChild();
+                BlockNode next = blocks.get(hi);
+                if (last == null || last.getClass() != next.getClass()
+                        || last.getStartLine() != next.getStartLine() + lineDelta - windowLineOffset
+                        || last.getStartColumn() != next.getStartColumn()
+                        || last.getEndLine() + windowLineOffset != next.getEndLine() + lineDelta) {
+                    continue;
+                }
+                // Keep the old block (and its inlines) instead of the re-parsed copy
+                last.unlink();
+            }
+
+            final int documentEndLine;
+            final int documentEndColumn;
+            if (toEnd) {
+                if (windowRoot.getFirstChild() == null) {
+                    // Nothing left to take the end position from
+                    return false;
+                }
+                documentEndLine = windowRoot.getEndLine() + windowLineOffset;
+                documentEndColumn = windowRoot.getEndColumn();
+            } else {
+                documentEndLine = root.getEndLine() + lineDelta;
+                documentEndColumn = root.getEndColumn();
+            }
+
+            splice(blocks, lo, toEnd ? n : hi, windowRoot, windowLineOffset, lineDelta, parseStart);
+            root.setEnd(documentEndLine, documentEndColumn);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Replace old blocks [from, to) with the re-parsed window
+     */
+    private void splice(List<BlockNode> blocks, int from, int to, DocumentNode windowRoot, int windowLineOffset, int lineDelta, long parseStart) {
+        // Old inline content, by the literal it was parsed from
+        Map<String, ArrayDeque<InlineLeafBlockNode>> oldInlines = new HashMap<>();
+        for (int i = from; i < to; ++i) {
+            blocks.get(i).accept(node -> {
+                if (node instanceof InlineLeafBlockNode inlineContentNode && inlineContentNode.getLiteral() != null) {
+                    oldInlines.computeIfAbsent(inlineContentNode.getLiteral(), k -> new ArrayDeque<>()).add(inlineContentNode);
+                }
+            });
+        }
+
+        final DocumentNode root = ast.getRoot();
+        final BlockNode insertBefore = to < blocks.size() ? blocks.get(to) : null;
+        for (int i = from; i < to; ++i) {
+            blocks.get(i).unlink();
+        }
+
+        InlineParser inlineParser = null;
+        Node child = windowRoot.getFirstChild();
+        while (child != null) {
+            Node next = child.getNext();
+            List<InlineLeafBlockNode> inlineContentNodes = new ArrayList<>();
+            child.accept(node -> {
+                shiftLines(node, windowLineOffset);
+                if (node instanceof InlineLeafBlockNode inlineContentNode) {
+                    inlineContentNodes.add(inlineContentNode);
+                }
+            });
+            for (var node : inlineContentNodes) {
+                var reusable = oldInlines.get(node.getLiteral());
+                InlineLeafBlockNode old = reusable == null ? null : reusable.poll();
+                if (old != null) {
+                    // Same content and link references, so the same inlines
+                    moveChildren(old, node);
+                    if (options.gcOriginalInlines()) {
+                        node.setLiteral(null);
+                    }
+                } else {
+                    if (inlineParser == null) {
+                        inlineParser = new InlineParser(linkRefMap, options, parseStart);
+                    }
+                    inlineParser.parse(node);
+                }
+            }
+            if (insertBefore == null) {
+                root.appendChild(child);
+            } else {
+                insertBefore.insertBefore(child);
+            }
+            child = next;
+        }
+
+        if (lineDelta != 0) {
+            for (int i = to; i < blocks.size(); ++i) {
+                blocks.get(i).accept(node -> shiftLines(node, lineDelta));
+            }
+        }
+    }
+
+    private static void moveChildren(Node from, Node to) {
+        Node child = from.getFirstChild();
+        while (child != null) {
+            Node next = child.getNext();
+            to.appendChild(child);
+            child = next;
+        }
+    }
+
+    /**
+     * Shift the line numbers of a block node. Inline nodes do not have positions.
+     */
+    private static void shiftLines(Node node, int lineDelta) {
+        if (!(node instanceof BlockNode block) || lineDelta == 0) {
+            return;
+        }
+        block.setStart(block.getStartLine() + lineDelta, block.getStartColumn());
+        block.setEnd(block.getEndLine() + lineDelta, block.getEndColumn());
+    }
+
+    private static boolean containsLinkReferenceDefinitions(List<BlockNode> blocks, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (containsLinkReferenceDefinitions(blocks.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsLinkReferenceDefinitions(Node subtreeRoot) {
+        for (var nodeEvent : subtreeRoot) {
+            if (nodeEvent.node() instanceof LinkReferenceDefinitionNode) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Line numbers are counted by line endings, so edits that may split or join a {@code \r\n} pair are not handled incrementally
+     */
+    private static boolean touchesCarriageReturn(String oldText, TextEdit edit) {
+        final int start = edit.offset();
+        final int end = start + edit.removedLength();
+        return (start > 0 && oldText.charAt(start - 1) == '\r')
+                || (end < oldText.length() && oldText.charAt(end) == '\n' && (end == 0 || oldText.charAt(end - 1) == '\r'))
+                || oldText.substring(start, end).indexOf('\r') >= 0
+                || edit.insertedText().indexOf('\r') >= 0;
+    }
+
+    private static int countLineEndings(String s) {
+        return countLineEndings(s, 0, s.length());
+    }
+
+    private static int countLineEndings(String s, int from, int to) {
+        int count = 0;
+        for (int i = from; i < to; ++i) {
+            if (s.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,185 @@
+package com.madimadica.hyde.parser;
+
+import com.madimadica.hyde.ast.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Size bounded cache of parsed inline content, which can be shared across documents and parsers.
+ * <p>
+ * Entries are keyed by the literal of an {@link InlineLeafBlockNode} and the {@link ParserOptions} it was parsed with.
+ * Each entry also records the link reference definitions that were looked up while parsing it,
+ * and is only reused when each of those resolves the same way in the current document.
+ * A hit appends a copy of the cached inline nodes, instead of parsing the literal again.
+ * </p>
+ * <p>
+ * The least recently used entry is evicted once the cache is full. This is thread safe.
+ * </p>
+ */
+public class InlineParseCache {
+    private final int maximumSize;
+    private final Map<Key, Entry> entries;
+    private long hits;
+    private long misses;
+
+    private record Key(String literal, ParserOptions options) {}
+
+    /**
+     * Parsed inline nodes, and how each link label that was looked up resolved
+     * @param children detached copies of the parsed inline nodes
+     * @param labels link labels that were looked up
+     * @param definitions definition each label resolved to, or {@code null} if there was none
+     */
+    private record Entry(List<InlineNode> children, List<String> labels, List<LinkReferenceDefinitionNode> definitions) {}
+
+    /**
+     * @param maximumSize maximum number of parsed literals to keep
+     */
+    public InlineParseCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive. Instead found " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > InlineParseCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Append a copy of the cached inline content of a literal to a node
+     * @param literal literal of the node, before it was parsed
+     * @param node node to add inline children to
+     * @param options options it is being parsed with
+     * @param linkRefMap link reference definitions of its document
+     * @param labels list to add the link labels the cached content depends on to, on a hit
+     * @return {@code true} on a hit, {@code false} if the node still needs to be parsed
+     */
+    boolean copyInto(String literal, InlineLeafBlockNode node, ParserOptions options, LinkRefMap linkRefMap, List<String> labels) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(new Key(literal, options));
+            if (entry == null || !linkRefMap.resolvesSame(entry.labels(), entry.definitions())) {
+                misses++;
+                return false;
+            }
+            hits++;
+        }
+        labels.addAll(entry.labels());
+        // Entries are never modified, so they can be copied outside the lock
+        for (var child : entry.children()) {
+            node.appendChild(copy(child));
+        }
+        return true;
+    }
+
+    /**
+     * Cache the inline content of a node that was just parsed
+     * @param literal literal of the node, before it was parsed
+     * @param node parsed node
+     * @param options options it was parsed with
+     * @param labels link labels looked up while parsing it
+     * @param linkRefMap link reference definitions they were resolved with
+     */
+    void put(String literal, InlineLeafBlockNode node, ParserOptions options, List<String> labels, LinkRefMap linkRefMap) {
+        List<InlineNode> children = new ArrayList<>();
+        for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+            children.add(copy((InlineNode) child));
+        }
+        var entry = new Entry(children, List.copyOf(labels), linkRefMap.resolveAll(labels));
+        synchronized (this) {
+            entries.put(new Key(literal, options), entry);
+        }
+    }
+
+    /**
+     * Deep copy an inline node
+     * @param root node to copy
+     * @return detached copy of the node and its descendants
+     */
+    static InlineNode copy(InlineNode root) {
+        InlineNode rootCopy = shallowCopy(root);
+        Node parentCopy = rootCopy;
+        Node node = root.getFirstChild();
+        // Walk the subtree without recursion, tracking the copy of the current node's parent
+        while (node != null && node != root) {
+            InlineNode nodeCopy = shallowCopy((InlineNode) node);
+            parentCopy.appendChild(nodeCopy);
+            if (node.getFirstChild() != null) {
+                parentCopy = nodeCopy;
+                node = node.getFirstChild();
+                continue;
+            }
+            while (node != root && node.getNext() == null) {
+                node = node.getParent();
+                parentCopy = parentCopy.getParent();
+            }
+            if (node != root) {
+                node = node.getNext();
+            }
+        }
+        return rootCopy;
+    }
+
+    private static InlineNode shallowCopy(InlineNode node) {
+        return switch (node) {
+            case InlineTextNode text -> new InlineTextNode(text.getLiteral());
+            case InlineCodeNode code -> new InlineCodeNode(code.getLiteral());
+            case InlineHTMLNode html -> new InlineHTMLNode(html.getLiteral());
+            case InlineSoftBreakNode ignored -> new InlineSoftBreakNode();
+            case InlineHardBreakNode ignored -> new InlineHardBreakNode();
+            case InlineBoldNode ignored -> new InlineBoldNode();
+            case InlineItalicNode ignored -> new InlineItalicNode();
+            case InlineLinkNode link -> {
+                var linkCopy = new InlineLinkNode(link.getDestination(), link.getTitle());
+                linkCopy.setAutolink(link.isAutolink());
+                yield linkCopy;
+            }
+            case InlineImageNode image -> new InlineImageNode(image.getDestination(), image.getDescription());
+        };
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return number of nodes that reused cached inline content
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return number of nodes that had to be parsed
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return fraction of lookups that were hits, or 0 if there have been none
+     */
+    public synchronized double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Remove all entries and reset the counters
+     */
+    public synchronized void clear() {
+        entries.clear();
+        hits = 0;
+        misses = 0;
+    }
+}
@@ -3,6 +3,8 @@ package com.madimadica.hyde.parser;
 import com.madimadica.hyde.ast.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.regex.Matcher;
@@ -10,11 +12,48 @@ import java.util.regex.Pattern;
 
 public class InlineParser {
     private static final char C_BACKTICK = '`';
+    /**
+     * A link label can have at most 999 characters inside the square brackets
+     */
+    private static final int MAX_LINK_LABEL_LENGTH = 999;
+    /**
+     * How many tokens are parsed between checks of the parse time budget's deadline
+     */
+    private static final int DEADLINE_CHECK_INTERVAL = 256;
 
     private final ParserOptions options;
     private final LinkRefMap linkRefMap;
-    private final NodeStack<InlineDelimiter> delimiters = new NodeStack<>();
-    private final NodeStack<InlineBracket> brackets = new NodeStack<>();
+    private final DelimiterStack delimiters = new DelimiterStack();
+    private final BracketStack brackets = new BracketStack();
+    /**
+     * Reusable openers bottom table for {@link #processEmphasis(int)},
+     * indexed by {@link #openersBottomSlot(char, int)}
+     */
+    private final int[] openersBottom = new int[14];
+    /**
+     * Start of the last backtick run of each length, found while scanning for closing backticks
+     */
+    private int[] lastBacktickRun = new int[16];
+    /**
+     * Whether a scan for closing backticks has reached the end of the input,
+     * in which case {@link #lastBacktickRun} has every run after the current position
+     */
+    private boolean backticksScanned;
+    private final boolean hasDeadline;
+    private final long deadline; // System.nanoTime() based
+    private boolean outOfTime;
+    /**
+     * Optional cache of parsed literals
+     */
+    private final InlineParseCache cache;
+    /**
+     * Link labels looked up while parsing the current node
+     */
+    private final List<String> linkLabels = new ArrayList<>();
+    /**
+     * Optional arena to take text and soft break nodes from
+     */
+    private NodeArena arena;
 
     private InlineLeafBlockNode block;
     private String input;
@@ -26,9 +65,49 @@ public class InlineParser {
     }
 
     public InlineParser(LinkRefMap linkRefMap, ParserOptions options) {
+        this(linkRefMap, options, System.nanoTime());
+    }
+
+    /**
+     * @param linkRefMap link reference definitions to resolve links with
+     * @param options parsing options
+     * @param parseStart {@link System#nanoTime()} when parsing the document began,
+     *                   which the {@link ParserOptions#parseTimeBudget()} is measured from
+     */
+    public InlineParser(LinkRefMap linkRefMap, ParserOptions options, long parseStart) {
+        this(linkRefMap, options, parseStart, null);
+    }
+
+    /**
+     * @param linkRefMap link reference definitions to resolve links with
+     * @param options parsing options
+     * @param parseStart {@link System#nanoTime()} when parsing the document began,
+     *                   which the {@link ParserOptions#parseTimeBudget()} is measured from
+     * @param cache cache to reuse and store parsed inline content in, or {@code null} to always parse
+     */
+    public InlineParser(LinkRefMap linkRefMap, ParserOptions options, long parseStart, InlineParseCache cache) {
         this.linkRefMap = linkRefMap;
         this.options = options;
         this.pos = 0;
+        this.hasDeadline = options.parseTimeBudget() != null;
+        this.deadline = hasDeadline ? parseStart + options.parseTimeBudget().toNanos() : 0;
+        this.cache = cache;
+    }
+
+    /**
+     * Take text and soft break nodes from an arena, instead of always creating them
+     * @param arena arena, or {@code null} for none
+     */
+    void setNodeArena(NodeArena arena) {
+        this.arena = arena;
+    }
+
+    private InlineTextNode textNode(String literal) {
+        return arena == null ? new InlineTextNode(literal) : arena.text(literal);
+    }
+
+    private InlineSoftBreakNode softBreakNode() {
+        return arena == null ? new InlineSoftBreakNode() : arena.softBreak();
     }
 
     public static void parse(InlineLeafBlockNode node, LinkRefMap linkRefMap) {
@@ -37,22 +116,78 @@ public class InlineParser {
     }
 
     public void parse(InlineLeafBlockNode node) {
+        this.linkLabels.clear();
+        if (cache == null) {
+            parseLiteral(node);
+            return;
+        }
+        final String literal = node.getLiteral();
+        if (cache.copyInto(literal, node, options, linkRefMap, linkLabels)) {
+            if (options.gcOriginalInlines()) {
+                node.setLiteral(null);
+            }
+            return;
+        }
+        parseLiteral(node);
+        if (!outOfTime) {
+            // Content cut short by the parse time budget is not reusable
+            cache.put(literal, node, options, linkLabels, linkRefMap);
+        }
+    }
+
+    private void parseLiteral(InlineLeafBlockNode node) {
         // Reset/initialize any member states in-case this is called multiple times
         this.delimiters.clear();
         this.brackets.clear();
+        Arrays.fill(this.lastBacktickRun, -1);
+        this.backticksScanned = false;
         this.block = node;
         this.input = ParserUtils.stripAsciiWhitespace(node.getLiteral());
         this.length = input.length();
         this.pos = 0;
 
-        while (pos < length) {
-            parseNextToken();
+        if (hasDeadline) {
+            parseTokensUntilDeadline();
+        } else {
+            while (pos < length) {
+                parseNextToken();
+            }
         }
 
         if (options.gcOriginalInlines()) {
             block.setLiteral(null);
         }
-        processEmphasis(null);
+        processEmphasis(DelimiterStack.NONE);
+    }
+
+    /**
+     * @return the link labels that were looked up in the link reference definitions while parsing the last node,
+     *         which are all that its inline content depends on besides its literal and the options
+     */
+    public List<String> getLinkLabels() {
+        return Collections.unmodifiableList(linkLabels);
+    }
+
+    /**
+     * @return {@code true} once the {@link ParserOptions#parseTimeBudget()} has run out,
+     *         after which inline content is no longer parsed
+     */
+    public boolean isOutOfTime() {
+        return outOfTime;
+    }
+
+    private void parseTokensUntilDeadline() {
+        int tokens = 0;
+        while (pos < length) {
+            if (tokens++ % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+                // Out of time, keep the rest as plain text
+                block.appendChild(textNode(input.substring(pos)));
+                pos = length;
+                outOfTime = true;
+                return;
+            }
+            parseNextToken();
+        }
     }
 
     private void parseNextToken() {
@@ -72,7 +207,7 @@ public class InlineParser {
         };
         if (!matched) {
             pos++;
-            block.appendChild(new InlineTextNode(Character.toString(codepoint)));
+            block.appendChild(textNode(Character.toString(codepoint)));
         }
     }
 
@@ -89,10 +224,10 @@ public class InlineParser {
             if (trailingSpaces >= 2) {
                 block.appendChild(new InlineHardBreakNode());
             } else {
-                block.appendChild(new InlineSoftBreakNode());
+                block.appendChild(softBreakNode());
             }
         } else {
-            block.appendChild(new InlineSoftBreakNode());
+            block.appendChild(softBreakNode());
         }
         consumeChars(' ');
         return true;
@@ -106,9 +241,9 @@ public class InlineParser {
             block.appendChild(new InlineHardBreakNode());
         } else if (ParserUtils.isEscapable(next)) {
             pos++;
-            block.appendChild(new InlineTextNode(Character.toString(next)));
+            block.appendChild(textNode(Character.toString(next)));
         } else {
-            block.appendChild(new InlineTextNode("\\"));
+            block.appendChild(textNode("\\"));
         }
         return true;
     }
@@ -116,16 +251,25 @@ public class InlineParser {
     private boolean parseBackticks() {
         final int openingTicks = consumeChars(C_BACKTICK);
         final int startPos = pos;
+        // Once the whole input has been scanned, an opener without a later run of the same length
+        // can be rejected immediately, instead of re-scanning the rest of the input for every opener
+        if (backticksScanned && lastBacktickRun(openingTicks) < startPos) {
+            block.appendChild(textNode("`".repeat(openingTicks)));
+            return true;
+        }
         // Consume backtick runs until we find a group of closing ticks of equal size
         // Otherwise, return a text-node of the opening ticks
         while (true) {
             if (!consumeUntil(C_BACKTICK)) {
                 // Consumed everything without any closing ticks that match
+                backticksScanned = true;
                 this.pos = startPos; // Reset to start (after opening ticks)
-                block.appendChild(new InlineTextNode("`".repeat(openingTicks)));
+                block.appendChild(textNode("`".repeat(openingTicks)));
                 return true;
             }
+            int runStart = pos;
             int numberOfTicks = consumeChars(C_BACKTICK);
+            recordBacktickRun(numberOfTicks, runStart);
             if (numberOfTicks != openingTicks) {
                 continue; // start/end ticks don't match, keep searching
             }
@@ -149,6 +293,20 @@ public class InlineParser {
         }
     }
 
+    private int lastBacktickRun(int runLength) {
+        return runLength < lastBacktickRun.length ? lastBacktickRun[runLength] : -1;
+    }
+
+    private void recordBacktickRun(int runLength, int runStart) {
+        if (runLength >= lastBacktickRun.length) {
+            int oldLength = lastBacktickRun.length;
+            lastBacktickRun = Arrays.copyOf(lastBacktickRun, Math.max(runLength + 1, oldLength * 2));
+            Arrays.fill(lastBacktickRun, oldLength, lastBacktickRun.length, -1);
+        }
+        // A later opener may re-scan part of the input, which must not hide a run found further ahead
+        lastBacktickRun[runLength] = Math.max(lastBacktickRun[runLength], runStart);
+    }
+
     private boolean parseAutolink() {
         return matchAutolink(PatternMatcher::findAutolinkUri, "")
             || matchAutolink(PatternMatcher::findAutolinkEmail, "mailto:");
@@ -162,7 +320,7 @@ public class InlineParser {
         String destination = match.substring(1, match.length() - 1);
         var linkNode = new InlineLinkNode(linkPrefix + destination);
         linkNode.setAutolink(true);
-        linkNode.appendChild(new InlineTextNode(destination));
+        linkNode.appendChild(textNode(destination));
         block.appendChild(linkNode);
         return true;
     }
@@ -178,22 +336,23 @@ public class InlineParser {
     }
 
     private boolean parseHtmlEntity() {
-        String match = tryConsumeMatch(HtmlParserUtils::parseHtmlEntity);
-        if (match == null) {
+        final int end = HtmlParserUtils.findHtmlEntityEnd(input, pos);
+        if (end < 0) {
             return false;
         }
-        String text = HtmlEntities.decode(match);
+        String text = HtmlEntities.decode(input, pos, end);
         if (text == null) {
-            text = match; // Keep invalid entity as literal text
+            text = input.substring(pos, end); // Keep invalid entity as literal text
         }
-        var node = new InlineTextNode(text);
+        pos = end;
+        var node = textNode(text);
         block.appendChild(node);
         return true;
     }
 
     private boolean parseOpeningBracket() {
         int bracketPos = pos++;
-        var node = new InlineTextNode("[");
+        var node = textNode("[");
         block.appendChild(node);
         pushBracket(node, bracketPos, false);
         return true;
@@ -203,16 +362,20 @@ public class InlineParser {
         int bangPos = pos++;
         if (peek() == '[') {
             pos++;
-            var node = new InlineTextNode("![");
+            var node = textNode("![");
             block.appendChild(node);
             pushBracket(node, bangPos + 1, true);
         } else {
-            block.appendChild(new InlineTextNode("!"));
+            block.appendChild(textNode("!"));
         }
         return true;
     }
 
-    private InlineDelimiter scanDelimiters() {
+    /**
+     * Scan a delimiter run at the current position, without consuming it
+     * @return the run length, shifted left by 2, combined with the {@link DelimiterStack} potential opener/closer flags
+     */
+    private int scanDelimiters() {
         char ch = (char) peek();
         int startPos = pos;
         int runLength;
@@ -253,7 +416,9 @@ public class InlineParser {
 
         pos = startPos; // Revert back, after looking-ahead
 
-        return new InlineDelimiter(ch, runLength, potentialOpener, potentialCloser);
+        int flags = (potentialOpener ? DelimiterStack.POTENTIAL_OPENER : 0)
+                | (potentialCloser ? DelimiterStack.POTENTIAL_CLOSER : 0);
+        return (runLength << 2) | flags;
     }
 
     private static boolean isFlanking(boolean sameWhitespace, boolean samePunc, boolean diffWhitespace, boolean diffPunc) {
@@ -266,9 +431,11 @@ public class InlineParser {
 
         assert "*_'\"".indexOf(ch) >= 0;
 
-        var delims = scanDelimiters();
+        int scanned = scanDelimiters();
+        int runLength = scanned >>> 2;
+        int flags = scanned & (DelimiterStack.POTENTIAL_OPENER | DelimiterStack.POTENTIAL_CLOSER);
 
-        pos += delims.currentRun;
+        pos += runLength;
 
         String text = switch (ch) {
             case '\'' -> "’";
@@ -276,12 +443,11 @@ public class InlineParser {
             default -> input.substring(startPos, pos); // run of '_' or '*'
         };
 
-        var node = new InlineTextNode(text);
+        var node = textNode(text);
         block.appendChild(node);
 
-        if (delims.hasPotential()) {
-            delims.textNode = node;
-            delimiters.push(delims);
+        if (flags != 0) {
+            delimiters.push((char) ch, runLength, flags, node);
         }
         return true;
     }
@@ -350,7 +516,7 @@ public class InlineParser {
                 text = sb.toString();
             }
         }
-        block.appendChild(new InlineTextNode(text));
+        block.appendChild(textNode(text));
         return true;
     }
 
@@ -382,13 +548,13 @@ public class InlineParser {
         int startPos = pos;
 
         if (brackets.isEmpty()) {
-            block.appendChild(new InlineTextNode("]"));
+            block.appendChild(textNode("]"));
             return;
         }
-        InlineBracket opener = brackets.peek().value;
-        if (!opener.active) {
+        int opener = brackets.peek();
+        if (!brackets.isActive(opener)) {
             // If the next brack is inactive, we pop it and use a text node
-            block.appendChild(new InlineTextNode("]"));
+            block.appendChild(textNode("]"));
             brackets.pop();
             return;
         }
@@ -430,14 +596,21 @@ public class InlineParser {
                 endPos = labelResult.closeBracketIndex() + 1;
                 type = ReferenceLinkType.FULL;
             }
-            if (type != ReferenceLinkType.FULL && opener.bracketAfter) {
+            if (type != ReferenceLinkType.FULL && brackets.hasBracketAfter(opener)) {
                 break CHECK_LINK_REF;
             }
             if (type != ReferenceLinkType.FULL) {
                 // Use implicit label from link-text (Shortcut/Collapsed)
-                label = input.substring(opener.index + 1, startPos - 1); // Trim '[' and ']'
+                int labelStart = brackets.index(opener) + 1;
+                int labelEnd = startPos - 1; // Trim '[' and ']'
+                if (labelEnd - labelStart > MAX_LINK_LABEL_LENGTH) {
+                    // Cannot be a label, skip copying and normalizing it (e.g. for deeply nested brackets)
+                    break CHECK_LINK_REF;
+                }
+                label = input.substring(labelStart, labelEnd);
             }
 
+            linkLabels.add(label);
             var linkRef = linkRefMap.get(label);
             if (linkRef == null) {
                 break CHECK_LINK_REF;
@@ -451,16 +624,18 @@ public class InlineParser {
         if (!matched) {
             brackets.pop();
             pos = startPos;
-            block.appendChild(new InlineTextNode("]"));
+            block.appendChild(textNode("]"));
             return;
         }
 
-        InlineNode node = opener.isImage
+        boolean isImage = brackets.isImage(opener);
+        InlineTextNode openerTextNode = brackets.textNode(opener);
+        InlineNode node = isImage
                 ? new InlineImageNode(linkData.destination(), linkData.title())
                 : new InlineLinkNode(linkData.destination(), linkData.title());
 
         Node next;
-        var tempNode = opener.textNode.getNext();
+        var tempNode = openerTextNode.getNext();
         while (tempNode != null) {
             next = tempNode.getNext();
             tempNode.unlink();
@@ -468,100 +643,97 @@ public class InlineParser {
             tempNode = next;
         }
         block.appendChild(node);
-        processEmphasis(opener.prevDelim);
+        processEmphasis(brackets.prevDelimiter(opener));
         brackets.pop();
-        opener.textNode.unlink();
+        openerTextNode.unlink();
 
         // Deactivate other links - prevents nested links
-        if (opener.isLink()) {
-            var openerNode = brackets.peek();
-            while (openerNode != null) {
-                if (openerNode.value.isLink()) {
-                    openerNode.value.active = false;
-                }
-                openerNode = openerNode.prev;
-            }
+        if (!isImage) {
+            brackets.deactivateLinks();
         }
     }
 
+    /**
+     * Index into {@link #openersBottom}.
+     * Quotes have a single slot each, and emphasis has one per {@link DelimiterStack#openersBottomBucket(int)}.
+     */
+    private static int openersBottomSlot(char type, int bucket) {
+        return switch (type) {
+            case '\'' -> 0;
+            case '"' -> 1;
+            case '*' -> 2 + bucket;
+            case '_' -> 8 + bucket;
+            default -> throw new RuntimeException("Unexpected delimiter type '" + type + "'");
+        };
+    }
+
     /**
      * As defined by
      * <a href="https://spec.commonmark.org/0.31.2/#process-emphasis">CommonMark Spec</a>
+     * @param stackBottom index of the delimiter to stop at, or {@link DelimiterStack#NONE} to process the whole stack
      */
-    private void processEmphasis(NodeStack.Node<InlineDelimiter> stackBottom) {
-        NodeStack.Node<InlineDelimiter> openersBottomSingleQuote = stackBottom;
-        NodeStack.Node<InlineDelimiter> openersBottomDoubleQuote = stackBottom;
-        List<NodeStack.Node<InlineDelimiter>> openersBottomAsterisks = new ArrayList<>(6);
-        List<NodeStack.Node<InlineDelimiter>> openersBottomUnderscores = new ArrayList<>(6);
-        for (int i = 0; i < 6; i++) {
-            openersBottomAsterisks.add(stackBottom);
-            openersBottomUnderscores.add(stackBottom);
-        }
+    private void processEmphasis(int stackBottom) {
+        final DelimiterStack delimiters = this.delimiters;
+        final int NONE = DelimiterStack.NONE;
+        Arrays.fill(openersBottom, stackBottom);
 
         // same as current_position
-        var closer = stackBottom == null
+        int closer = stackBottom == NONE
                 ? delimiters.peekBottom()
-                : stackBottom.next;
+                : delimiters.next(stackBottom);
 
 
-        while (closer != null) {
+        while (closer != NONE) {
             // Move forward until we find the first potential closer
-            if (!closer.value.potentialCloser) {
-                closer = closer.next;
+            if (!delimiters.isPotentialCloser(closer)) {
+                closer = delimiters.next(closer);
                 continue;
             }
 
             // Found closer, now lookbehind for the matching opener
-            int originalType = closer.value.type;
-            int originalHash = 0;
-            NodeStack.Node<InlineDelimiter> openersBottom = switch(originalType) {
-                case '\'' -> openersBottomSingleQuote;
-                case '"' -> openersBottomDoubleQuote;
-                case '*' -> openersBottomAsterisks.get(originalHash = closer.value.customHash);
-                case '_' -> openersBottomUnderscores.get(originalHash = closer.value.customHash);
-                default -> throw new RuntimeException("Unexpected delimiter type '" + originalType + "'");
-            };
+            final char type = delimiters.type(closer);
+            final int openersBottomSlot = openersBottomSlot(type, delimiters.openersBottomBucket(closer));
+            final int bottom = openersBottom[openersBottomSlot];
 
             // Look back in the stack for the matching potential opener
-            var opener = closer.prev;
+            int opener = delimiters.prev(closer);
             boolean foundOpener = false;
-            while (opener != null && opener != stackBottom && opener != openersBottom) {
-                var openV = opener.value;
-                var closerV = closer.value;
-                boolean oddMatch = (closerV.potentialOpener || openV.potentialCloser)
-                        && (closerV.originalRunMod3 != 0)
-                        && ((openV.originalRun + closerV.originalRun) % 3 == 0);
-                if (openV.type == closerV.type && openV.potentialOpener && !oddMatch) {
+            final boolean closerIsOpener = delimiters.isPotentialOpener(closer);
+            final int closerOriginalRun = delimiters.originalRun(closer);
+            while (opener != NONE && opener != stackBottom && opener != bottom) {
+                boolean oddMatch = (closerIsOpener || delimiters.isPotentialCloser(opener))
+                        && (closerOriginalRun % 3 != 0)
+                        && ((delimiters.originalRun(opener) + closerOriginalRun) % 3 == 0);
+                if (delimiters.type(opener) == type && delimiters.isPotentialOpener(opener) && !oddMatch) {
                     foundOpener = true;
                     break;
                 }
-                opener = opener.prev;
+                opener = delimiters.prev(opener);
             }
 
-            var oldCloser = closer;
+            final int oldCloser = closer;
 
-            var type = closer.value.type;
             IF_ELSE:
             if (type == '\'') {
-                closer.value.textNode.setLiteral(foundOpener ? "‘" : "’");
-                closer = closer.next;
+                delimiters.textNode(closer).setLiteral(foundOpener ? "‘" : "’");
+                closer = delimiters.next(closer);
             } else if (type == '"') {
-                closer.value.textNode.setLiteral(foundOpener ? "“" : "”");
-                closer = closer.next;
+                delimiters.textNode(closer).setLiteral(foundOpener ? "“" : "”");
+                closer = delimiters.next(closer);
             } else {
                 if (!foundOpener) {
-                    closer = closer.next;
+                    closer = delimiters.next(closer);
                     break IF_ELSE;
                 }
-                int toConsume = closer.value.currentRun >= 2 && opener.value.currentRun >= 2
+                int toConsume = delimiters.currentRun(closer) >= 2 && delimiters.currentRun(opener) >= 2
                         ? 2
                         : 1;
 
-                var openerTextNode = opener.value.textNode;
-                var closerTextNode = closer.value.textNode;
+                var openerTextNode = delimiters.textNode(opener);
+                var closerTextNode = delimiters.textNode(closer);
 
-                opener.value.currentRun -= toConsume;
-                closer.value.currentRun -= toConsume;
+                int openerRemaining = delimiters.consume(opener, toConsume);
+                int closerRemaining = delimiters.consume(closer, toConsume);
                 openerTextNode.setLiteral(Str.trimEnd(openerTextNode.getLiteral(), toConsume));
                 closerTextNode.setLiteral(Str.trimEnd(closerTextNode.getLiteral(), toConsume));
 
@@ -581,27 +753,22 @@ public class InlineParser {
 
                 delimiters.removeBetween(opener, closer);
 
-                if (opener.value.currentRun == 0) {
+                if (openerRemaining == 0) {
                     openerTextNode.unlink();
                     delimiters.remove(opener);
                 }
 
-                if (closer.value.currentRun == 0) {
+                if (closerRemaining == 0) {
                     closerTextNode.unlink();
-                    var temp = closer.next;
+                    var temp = delimiters.next(closer);
                     delimiters.remove(closer);
                     closer = temp;
                 }
             }
 
             if (!foundOpener) {
-                switch(originalType) {
-                    case '\'' -> openersBottomSingleQuote = oldCloser.prev;
-                    case '"' -> openersBottomDoubleQuote = oldCloser.prev;
-                    case '*' -> openersBottomAsterisks.set(originalHash, oldCloser.prev);
-                    case '_' -> openersBottomUnderscores.set(originalHash, oldCloser.prev);
-                }
-                if (!oldCloser.value.potentialOpener) {
+                openersBottom[openersBottomSlot] = delimiters.prev(oldCloser);
+                if (!delimiters.isPotentialOpener(oldCloser)) {
                     delimiters.remove(oldCloser);
                 }
             }
@@ -609,13 +776,7 @@ public class InlineParser {
         }
 
         // Remove everything above stackBottom lowerbound on the stack
-        if (stackBottom == null) {
-            delimiters.clear();
-        } else {
-            while (delimiters.peek() != stackBottom) {
-                delimiters.pop();
-            }
-        }
+        delimiters.truncateAbove(stackBottom);
     }
 
     /**
@@ -668,16 +829,10 @@ public class InlineParser {
      * @param isImage whether this is an image bracket (i.e. {@code ![})
      */
     void pushBracket(InlineTextNode node, int index, boolean isImage) {
-        if (brackets.isNotEmpty()) {
-            brackets.peek().value.bracketAfter = true;
-        }
-        var bracket = new InlineBracket();
-        bracket.textNode = node;
-        bracket.prevDelim = delimiters.peek();
-        bracket.index = index;
-        bracket.isImage = isImage;
-        bracket.active = true;
-        brackets.push(bracket);
+        if (brackets.size() >= options.maxInlineNesting()) {
+            return; // Too deeply nested, so the bracket is left as plain text
+        }
+        brackets.push(node, index, isImage, delimiters.peek());
     }
 
 }
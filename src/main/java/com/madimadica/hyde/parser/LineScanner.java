@@ -0,0 +1,98 @@
+package com.madimadica.hyde.parser;
+
+/**
+ * Single pass line splitter, equivalent to splitting on {@code \r\n}, {@code \r}, or {@code \n}
+ * and dropping any trailing empty lines.
+ * <p>
+ * Line boundaries are exposed as offsets into the original input.
+ * NUL characters are replaced with U+FFFD only in the lines that contain them,
+ * so the input never needs to be copied as a whole.
+ * </p>
+ */
+public class LineScanner {
+    final String input;
+    final int end; // Exclusive end of the content, excluding trailing line endings
+    int lineStart;
+    int lineEnd; // Exclusive
+    int nextStart;
+    boolean lineHasNul;
+
+    public LineScanner(String input) {
+        this.input = input;
+        int right = input.length();
+        while (right > 0 && isLineEnding(input.charAt(right - 1))) {
+            right--;
+        }
+        this.end = right;
+        this.lineStart = 0;
+        this.lineEnd = 0;
+        this.nextStart = 0;
+    }
+
+    private static boolean isLineEnding(char c) {
+        return c == '\n' || c == '\r';
+    }
+
+    /**
+     * Advance to the next line
+     * @return {@code true} if there is another line, otherwise {@code false} when the input is exhausted
+     */
+    public boolean next() {
+        if (nextStart >= end) {
+            return false;
+        }
+        final String s = input;
+        final int limit = end;
+        boolean hasNul = false;
+        int i = nextStart;
+        char c = 0;
+        while (i < limit) {
+            c = s.charAt(i);
+            if (c == '\n' || c == '\r') {
+                break;
+            }
+            if (c == '\0') {
+                hasNul = true;
+            }
+            i++;
+        }
+        lineStart = nextStart;
+        lineEnd = i;
+        lineHasNul = hasNul;
+        if (i < limit && c == '\r' && i + 1 < limit && s.charAt(i + 1) == '\n') {
+            nextStart = i + 2;
+        } else {
+            nextStart = i + 1;
+        }
+        return true;
+    }
+
+    /**
+     * @return Inclusive starting offset of the current line in the input
+     */
+    public int lineStart() {
+        return lineStart;
+    }
+
+    /**
+     * @return Exclusive ending offset of the current line in the input, excluding the line ending
+     */
+    public int lineEnd() {
+        return lineEnd;
+    }
+
+    /**
+     * @return {@code true} if the current line contains NUL characters, which are replaced in {@link #line()}
+     */
+    public boolean lineHasNul() {
+        return lineHasNul;
+    }
+
+    /**
+     * @return The current line, with any NUL characters replaced.
+     */
+    public String line() {
+        String line = input.substring(lineStart, lineEnd);
+        return lineHasNul ? line.replace('\0', '\uFFFD') : line;
+    }
+}
@@ -0,0 +1,84 @@
+package com.madimadica.hyde.parser;
+
+import java.util.Arrays;
+
+/**
+ * Offsets of each line of a text, split by a {@link LineScanner},
+ * and numbered from 1 the same as the block parser's source positions.
+ */
+public class LineTable {
+    private final String text;
+    private int[] starts = new int[64];
+    private int[] ends = new int[64];
+    private int count = 0;
+
+    public LineTable(String text) {
+        this.text = text;
+        LineScanner scanner = new LineScanner(text);
+        while (scanner.next()) {
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            starts[count] = scanner.lineStart();
+            ends[count] = scanner.lineEnd();
+            count++;
+        }
+    }
+
+    /**
+     * @return number of lines, excluding any trailing empty lines
+     */
+    public int getLineCount() {
+        return count;
+    }
+
+    /**
+     * @param line line number
+     * @return inclusive starting offset of the line
+     */
+    public int start(int line) {
+        return starts[line - 1];
+    }
+
+    /**
+     * @param line line number
+     * @return exclusive ending offset of the line, excluding the line ending
+     */
+    public int end(int line) {
+        return ends[line - 1];
+    }
+
+    /**
+     * @param offset char offset
+     * @return line number containing the offset, or the line after the last one
+     */
+    public int lineOf(int offset) {
+        int lo = 0;
+        int hi = count - 1;
+        int line = 0;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] <= offset) {
+                line = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        if (count == 0 || offset > ends[line]) {
+            // In the line endings after this line
+            return line + 2;
+        }
+        return line + 1;
+    }
+
+    /**
+     * @param startLine first line number
+     * @param endLine last line number, inclusive
+     * @return text from the start of the first line to the end of the last, excluding its line ending
+     */
+    public String slice(int startLine, int endLine) {
+        return text.substring(start(startLine), end(endLine));
+    }
+}
@@ -2,8 +2,11 @@ package com.madimadica.hyde.parser;
 
 import com.madimadica.hyde.ast.LinkReferenceDefinitionNode;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 public class LinkRefMap {
     /**
@@ -46,4 +49,39 @@ public class LinkRefMap {
         }
     }
 
+    /**
+     * Find the definition of each label, to be compared with {@link #resolvesSame(List, List)} later
+     * @param linkLabels labels to normalize and search by
+     * @return definition each label resolves to, or {@code null} if there is none
+     */
+    public List<LinkReferenceDefinitionNode> resolveAll(List<String> linkLabels) {
+        List<LinkReferenceDefinitionNode> definitions = new ArrayList<>(linkLabels.size());
+        for (var label : linkLabels) {
+            definitions.add(get(label));
+        }
+        return definitions;
+    }
+
+    /**
+     * Check if content that looked up the given labels would link the same way with these definitions
+     * @param linkLabels labels that were looked up
+     * @param definitions definition each label resolved to, or {@code null} if there was none
+     * @return {@code true} if each label resolves to the same destination and title, or still to nothing
+     */
+    public boolean resolvesSame(List<String> linkLabels, List<LinkReferenceDefinitionNode> definitions) {
+        for (int i = 0; i < linkLabels.size(); ++i) {
+            var cached = definitions.get(i);
+            var current = get(linkLabels.get(i));
+            if (cached == current) {
+                continue;
+            }
+            if (cached == null || current == null
+                    || !Objects.equals(cached.getLinkDestination(), current.getLinkDestination())
+                    || !Objects.equals(cached.getLinkTitle(), current.getLinkTitle())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
 }
@@ -31,12 +31,16 @@ public class LinkReferenceDefinitionParser {
      * @return list of parsed nodes
      */
     public static List<LinkReferenceDefinitionNode> extractLinks(ParagraphNode paragraphNode) {
-        SourcePositions initialLocation = paragraphNode.getPositions();
-        int currentStartLine = initialLocation.start.line();
-        final int startCol = initialLocation.start.column();
+        int currentStartLine = paragraphNode.getStartLine();
+        final int startCol = paragraphNode.getStartColumn();
 
+        String literal = paragraphNode.getLiteral();
+        if (literal.isEmpty() || literal.charAt(0) != '[') {
+            // Cannot start with a link reference definition, skip copying the content
+            return List.of();
+        }
         List<LinkReferenceDefinitionNode> linkDefinitionNodes = new ArrayList<>();
-        StringBuilder contentBuilder = new StringBuilder(paragraphNode.getLiteral());
+        StringBuilder contentBuilder = new StringBuilder(literal);
         int offset = 0;
         while (true) {
             var result = LinkReferenceDefinitionParser.extractNextLink(contentBuilder, offset);
@@ -61,12 +65,8 @@ public class LinkReferenceDefinitionParser {
             var linkRefNode = result.node();
             int endLine = currentStartLine + lines - 1;
             int endCol = startCol + lastLineLen - 1;
-            linkRefNode.setPositions(new SourcePositions(
-                    currentStartLine,
-                    startCol,
-                    endLine,
-                    endCol
-            ));
+            linkRefNode.setStart(currentStartLine, startCol);
+            linkRefNode.setEnd(endLine, endCol);
 
             linkDefinitionNodes.add(linkRefNode);
             offset = result.endingIndex();
@@ -77,7 +77,7 @@ public class LinkReferenceDefinitionParser {
             String updatedRawContent = contentBuilder.substring(offset);
             paragraphNode.setLiteral(updatedRawContent);
             // Update the start position to the expected line
-            paragraphNode.getPositions().setStart(currentStartLine, startCol);
+            paragraphNode.setStart(currentStartLine, startCol);
         }
         return linkDefinitionNodes;
     }
@@ -0,0 +1,81 @@
+package com.madimadica.hyde.parser;
+
+import com.madimadica.hyde.ast.AST;
+import com.madimadica.hyde.ast.NodeArena;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses documents one after another while recycling the parser and the most frequently created nodes,
+ * for servers that continuously parse and discard documents.
+ * <p>
+ * The nodes of every document parsed since the last {@link #release()} are owned by the session.
+ * Once the caller is done with them, {@link #release()} releases the session's {@link NodeArena},
+ * so the nodes it created for them are reused by the next parses.
+ * The released ASTs are emptied, and must not be used afterward, including any nodes taken from them.
+ * </p>
+ * <p>
+ * Inline content is always parsed on the calling thread, regardless of the parser's executor.
+ * This is not thread safe, so use one session per thread.
+ * </p>
+ * @see Parser#newSession()
+ */
+public class ParseSession {
+    private final ParserOptions options;
+    private final InlineParseCache inlineParseCache;
+    private final NodeArena arena;
+    private final BlockParser blockParser;
+    private final List<AST> documents = new ArrayList<>();
+
+    ParseSession(ParserOptions options, InlineParseCache inlineParseCache, NodeArena arena) {
+        this.options = options;
+        this.inlineParseCache = inlineParseCache;
+        this.arena = arena;
+        this.blockParser = new BlockParser(options);
+        this.blockParser.setNodeArena(arena);
+    }
+
+    public NodeArena getArena() {
+        return arena;
+    }
+
+    /**
+     * @return number of documents parsed since the last release
+     */
+    public int getDocuments() {
+        return documents.size();
+    }
+
+    /**
+     * Parse an input into a full AST representation, which is owned by this session until it is released.
+     * @param input Markdown text to parse
+     * @return parsed abstract syntax tree
+     * @see Parser#parseDocument(String)
+     */
+    public AST parse(String input) {
+        final long parseStart = System.nanoTime();
+        var blockOutput = blockParser.parse(input);
+        var inlineParser = new InlineParser(blockOutput.linkRefMap(), options, parseStart, inlineParseCache);
+        inlineParser.setNodeArena(arena);
+        for (var node : blockOutput.inlineLeafBlocks()) {
+            inlineParser.parse(node);
+        }
+        documents.add(blockOutput.ast());
+        return blockOutput.ast();
+    }
+
+    /**
+     * Recycle the nodes of every document parsed since the last release.
+     * None of those ASTs or their nodes may be used afterward.
+     */
+    public void release() {
+        arena.release();
+        for (var ast : documents) {
+            // Emptied, so that a released document cannot be mistaken for a valid one
+            ast.getRoot().setFirstChild(null);
+            ast.getRoot().setLastChild(null);
+        }
+        documents.clear();
+    }
+}
@@ -2,55 +2,265 @@ package com.madimadica.hyde.parser;
 
 import com.madimadica.hyde.ast.AST;
 import com.madimadica.hyde.ast.InlineLeafBlockNode;
+import com.madimadica.hyde.ast.NodeArena;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
-public abstract class Parser {
+public class Parser {
+
+    /**
+     * Default minimum number of inline leaf blocks before work is handed off to the executor.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 64;
+    private static final int BATCHES_PER_PROCESSOR = 4;
+    /**
+     * Minimum number of independent inline leaf blocks per batch, that is parsed while block parsing continues.
+     */
+    private static final int MIN_INDEPENDENT_BATCH_SIZE = 16;
+
+    private final ParserOptions options;
+    private final ExecutorService executor;
+    private final int parallelThreshold;
+    private final InlineParseCache inlineParseCache;
+
+    public Parser() {
+        this(ParserOptions.getDefaults());
+    }
+
+    public Parser(ParserOptions options) {
+        this(options, SharedExecutor.INSTANCE, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Create a reusable parser.
+     * @param options parsing options
+     * @param executor executor to distribute inline parsing across, or {@code null} to always parse on the calling thread.
+     *                 The executor is owned by the caller and is never shut down by the parser.
+     * @param parallelThreshold minimum number of inline leaf blocks before the executor is used
+     */
+    public Parser(ParserOptions options, ExecutorService executor, int parallelThreshold) {
+        this(options, executor, parallelThreshold, null);
+    }
+
+    /**
+     * Create a reusable parser.
+     * @param options parsing options
+     * @param executor executor to distribute inline parsing across, or {@code null} to always parse on the calling thread.
+     *                 The executor is owned by the caller and is never shut down by the parser.
+     * @param parallelThreshold minimum number of inline leaf blocks before the executor is used
+     * @param inlineParseCache cache of parsed inline content to share between documents, or {@code null} for none
+     */
+    public Parser(ParserOptions options, ExecutorService executor, int parallelThreshold, InlineParseCache inlineParseCache) {
+        if (parallelThreshold < 0) {
+            throw new IllegalArgumentException("Parallel threshold must be non-negative. Instead found " + parallelThreshold);
+        }
+        this.options = options;
+        this.executor = executor;
+        this.parallelThreshold = parallelThreshold;
+        this.inlineParseCache = inlineParseCache;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public ParserOptions getOptions() {
+        return options;
+    }
+
+    public InlineParseCache getInlineParseCache() {
+        return inlineParseCache;
+    }
+
+    /**
+     * Create a session that recycles nodes across parses, until its documents are released
+     * @return new session with its own arena, using this parser's options and inline parse cache
+     */
+    public ParseSession newSession() {
+        return newSession(new NodeArena());
+    }
+
+    /**
+     * Create a session that recycles nodes across parses, until its documents are released
+     * @param arena arena to take nodes from and recycle them to, which must not be shared with another thread
+     * @return new session, using this parser's options and inline parse cache
+     */
+    public ParseSession newSession(NodeArena arena) {
+        return new ParseSession(options, inlineParseCache, arena);
+    }
 
     public static AST parse(String input) {
         return parse(input, ParserOptions.getDefaults());
     }
 
+    /**
+     * Parse an input into a full AST representation, using a shared virtual-thread executor.
+     * @param input Markdown text to parse
+     * @param options parsing options
+     * @return parsed abstract syntax tree
+     * @see #parseDocument(String)
+     */
+    public static AST parse(String input, ParserOptions options) {
+        return new Parser(options).parseDocument(input);
+    }
+
     /**
      * Parse an input into a full AST representation.
      * <p>
-     *     Step 1: Parse into block elements. This is done synchronously
+     *     Step 1: Parse into block elements. This is done synchronously.
+     *     When there is an executor, paragraphs and headings that cannot contain links to link reference definitions
+     *     are handed to it in batches as soon as they are closed, so their inline content is parsed meanwhile.
      * </p>
      * <p>
-     *     Step 2: Parse inline leaf content. This is done concurrently using the host's processor count.
+     *     Step 2: Parse the remaining inline leaf content. This is done on the calling thread when there are fewer
+     *     inline leaf blocks than the parallel threshold, otherwise concurrently using this parser's executor,
+     *     in batches of roughly equal content length.
      * </p>
      * @param input Markdown text to parse
      * @return parsed abstract syntax tree
      */
-    public static AST parse(String input, ParserOptions options) {
+    public AST parseDocument(String input) {
+        final long parseStart = System.nanoTime();
         // Step 1: Parse block level elements
-        var blockParser = new BlockParser();
-        var blockOutput = blockParser.parse(input);
+        var blockParser = new BlockParser(options);
+        var independentBlocks = listenForIndependentBlocks(blockParser, parseStart);
+        try {
+            return parseInlines(blockParser.parse(input), independentBlocks, parseStart);
+        } finally {
+            if (independentBlocks != null) {
+                independentBlocks.cancel();
+            }
+        }
+    }
+
+    /**
+     * Parse an input into a full AST representation, reading the block structure one line at a time.
+     * The reader is not closed.
+     * @param reader Markdown source to parse
+     * @return parsed abstract syntax tree
+     * @throws IOException if the reader fails
+     * @see #parseDocument(String)
+     * @see BlockParser#parse(Reader)
+     */
+    public AST parseDocument(Reader reader) throws IOException {
+        final long parseStart = System.nanoTime();
+        // Step 1: Parse block level elements
+        var blockParser = new BlockParser(options);
+        var independentBlocks = listenForIndependentBlocks(blockParser, parseStart);
+        try {
+            return parseInlines(blockParser.parse(reader), independentBlocks, parseStart);
+        } finally {
+            if (independentBlocks != null) {
+                independentBlocks.cancel();
+            }
+        }
+    }
+
+    private IndependentBlocks listenForIndependentBlocks(BlockParser blockParser, long parseStart) {
+        if (executor == null) {
+            return null;
+        }
+        var independentBlocks = new IndependentBlocks(parseStart);
+        blockParser.setIndependentBlockListener(independentBlocks);
+        return independentBlocks;
+    }
+
+    private AST parseInlines(BlockParser.Output blockOutput, IndependentBlocks independentBlocks, long parseStart) {
         AST ast = blockOutput.ast();
         var linkRefMap = blockOutput.linkRefMap();
 
-        // Step 2: Collect the nodes that need inline parsing
-        List<InlineLeafBlockNode> inlineContentNodes = new ArrayList<>();
-        for (var nodeEvent : ast) {
-            var node = nodeEvent.node();
-            if (nodeEvent.isExiting() || !(node instanceof InlineLeafBlockNode inlineContentNode)) {
-                continue;
-            }
-            inlineContentNodes.add(inlineContentNode);
+        // The block parser collected the nodes that still need inline parsing, including any partial batch of independent blocks
+        List<InlineLeafBlockNode> inlineContentNodes = blockOutput.inlineLeafBlocks();
+        if (independentBlocks != null && !independentBlocks.batch.isEmpty()) {
+            inlineContentNodes = new ArrayList<>(inlineContentNodes);
+            inlineContentNodes.addAll(independentBlocks.batch);
         }
 
-        // Step 3: Distribute inline-parser work across platform threads
-        int availableProcessors = Runtime.getRuntime().availableProcessors();
-        List<Future<?>> futures = new ArrayList<>(inlineContentNodes.size());
-        try (var executor = Executors.newFixedThreadPool(availableProcessors)) {
+        // Step 2: Parse inline content, distributing across the executor for larger documents
+        if (executor == null || inlineContentNodes.size() < parallelThreshold) {
+            InlineParser inlineParser = new InlineParser(linkRefMap, options, parseStart, inlineParseCache);
             for (var node : inlineContentNodes) {
+                inlineParser.parse(node);
+            }
+        } else {
+            parseConcurrently(inlineContentNodes, linkRefMap, parseStart);
+        }
+        if (independentBlocks != null) {
+            independentBlocks.await();
+        }
+
+        return ast;
+    }
+
+    /**
+     * Parses the inline content of independent blocks on the executor, in batches, while the block parser continues.
+     * Independent blocks never look up link references, so they are parsed with an empty map
+     * instead of the one the block parser is still filling.
+     */
+    private class IndependentBlocks implements Consumer<InlineLeafBlockNode> {
+        private final long parseStart;
+        private final int batchSize = Math.max(parallelThreshold, MIN_INDEPENDENT_BATCH_SIZE);
+        private final List<Future<?>> futures = new ArrayList<>();
+        private List<InlineLeafBlockNode> batch = new ArrayList<>(batchSize);
+
+        IndependentBlocks(long parseStart) {
+            this.parseStart = parseStart;
+        }
+
+        @Override
+        public void accept(InlineLeafBlockNode node) {
+            batch.add(node);
+            if (batch.size() == batchSize) {
+                final var nodes = batch;
                 futures.add(executor.submit(() -> {
-                        InlineParser inlineParser = new InlineParser(linkRefMap, options);
-                        inlineParser.parse(node);
+                    InlineParser inlineParser = new InlineParser(new LinkRefMap(), options, parseStart, inlineParseCache);
+                    for (var inlineContentNode : nodes) {
+                        inlineParser.parse(inlineContentNode);
+                    }
+                }));
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+
+        void await() {
+            try {
+                for (var future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException | ExecutionException e) {
+                cancel();
+                throw new RuntimeException(e);
+            }
+        }
+
+        /**
+         * Cancel any batches that are still running, such as when block parsing failed
+         */
+        void cancel() {
+            for (var future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private void parseConcurrently(List<InlineLeafBlockNode> inlineContentNodes, LinkRefMap linkRefMap, long parseStart) {
+        List<List<InlineLeafBlockNode>> batches = partition(inlineContentNodes);
+        List<Future<?>> futures = new ArrayList<>(batches.size());
+        try {
+            for (var batch : batches) {
+                futures.add(executor.submit(() -> {
+                        InlineParser inlineParser = new InlineParser(linkRefMap, options, parseStart, inlineParseCache);
+                        for (var node : batch) {
+                            inlineParser.parse(node);
+                        }
                 }));
             }
             // Wait for all the inline processors to finish
@@ -58,10 +268,83 @@ public abstract class Parser {
                 future.get();
             }
         } catch (InterruptedException | ExecutionException e) {
+            for (var future : futures) {
+                future.cancel(true);
+            }
             throw new RuntimeException(e);
         }
+    }
 
-        return ast;
+    /**
+     * Split the nodes into contiguous batches of roughly equal total literal length.
+     * There are a few more batches than processors, so a worker that finishes early can pick up another batch.
+     * @param nodes nodes to split, in document order
+     * @return batches in document order
+     */
+    static List<List<InlineLeafBlockNode>> partition(List<InlineLeafBlockNode> nodes) {
+        final int totalNodes = nodes.size();
+        final int targetBatches = Math.min(totalNodes, BATCHES_PER_PROCESSOR * Runtime.getRuntime().availableProcessors());
+        if (targetBatches <= 1) {
+            return List.of(nodes);
+        }
+
+        long[] cumulativeLength = new long[totalNodes];
+        long totalLength = 0;
+        for (int i = 0; i < totalNodes; ++i) {
+            // +1 so that empty blocks still carry some weight
+            totalLength += nodes.get(i).getLiteral().length() + 1;
+            cumulativeLength[i] = totalLength;
+        }
+
+        List<List<InlineLeafBlockNode>> batches = new ArrayList<>(targetBatches);
+        int batchStart = 0;
+        for (int i = 0; i < totalNodes; ++i) {
+            long boundary = totalLength * (batches.size() + 1) / targetBatches;
+            if (cumulativeLength[i] >= boundary || i == totalNodes - 1) {
+                batches.add(nodes.subList(batchStart, i + 1));
+                batchStart = i + 1;
+            }
+        }
+        return batches;
+    }
+
+    /**
+     * Lazily created executor shared by all parsers that do not supply their own.
+     * Virtual threads are cheap to create, so this is never shut down.
+     */
+    private static class SharedExecutor {
+        private static final ExecutorService INSTANCE = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    public static class Builder {
+        private ParserOptions options = ParserOptions.getDefaults();
+        private ExecutorService executor = SharedExecutor.INSTANCE;
+        private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+        private InlineParseCache inlineParseCache = null;
+
+        public Builder setOptions(ParserOptions options) {
+            this.options = options;
+            return this;
+        }
+
+        public Builder setExecutor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder setParallelThreshold(int parallelThreshold) {
+            this.parallelThreshold = parallelThreshold;
+            return this;
+        }
+
+        public Builder setInlineParseCache(InlineParseCache inlineParseCache) {
+            this.inlineParseCache = inlineParseCache;
+            return this;
+        }
+
+        public Parser build() {
+            return new Parser(options, executor, parallelThreshold, inlineParseCache);
+        }
     }
 
 }
@@ -1,5 +1,18 @@
 package com.madimadica.hyde.parser;
 
+import java.time.Duration;
+
+/**
+ * Parsing and rendering options
+ * @param maxBlockNesting maximum depth of nested block quotes and list items.
+ *                        Deeper block quote or list markers are parsed as paragraph text.
+ * @param maxInlineNesting maximum depth of open link/image brackets. Deeper brackets are parsed as plain text.
+ * @param maxLinkReferenceDefinitions maximum number of link reference definitions to register.
+ *                                    Links to any further definitions are rendered as plain text.
+ * @param maxInputLength maximum number of input chars to parse. Any input beyond this is ignored.
+ * @param parseTimeBudget maximum time to spend parsing a document, or {@code null} for no limit.
+ *                        Once exceeded, any remaining inline content is not parsed and is kept as plain text.
+ */
 public record ParserOptions(
         boolean smartQuotes,
         boolean smartSymbols,
@@ -7,8 +20,17 @@ public record ParserOptions(
         boolean safeMode,
         String safeModeText,
         String codeInfoPrefix,
-        String softBreak
+        String softBreak,
+        int maxBlockNesting,
+        int maxInlineNesting,
+        int maxLinkReferenceDefinitions,
+        int maxInputLength,
+        Duration parseTimeBudget
 ) {
+    /**
+     * Default for each of the limits, meaning there is no limit
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
 
     public static ParserOptions getDefaults() {
         return builder().build();
@@ -26,6 +48,11 @@ public record ParserOptions(
         private String safeModeText = "<!-- SAFE MODE -->";
         private String codeInfoPrefix = "language-";
         private String softBreak = "\n";
+        private int maxBlockNesting = UNLIMITED;
+        private int maxInlineNesting = UNLIMITED;
+        private int maxLinkReferenceDefinitions = UNLIMITED;
+        private int maxInputLength = UNLIMITED;
+        private Duration parseTimeBudget = null;
 
         public Builder setSmartQuotes(boolean smartQuotes) {
             this.smartQuotes = smartQuotes;
@@ -62,6 +89,41 @@ public record ParserOptions(
             return this;
         }
 
+        public Builder setMaxBlockNesting(int maxBlockNesting) {
+            this.maxBlockNesting = requireNonNegative("maxBlockNesting", maxBlockNesting);
+            return this;
+        }
+
+        public Builder setMaxInlineNesting(int maxInlineNesting) {
+            this.maxInlineNesting = requireNonNegative("maxInlineNesting", maxInlineNesting);
+            return this;
+        }
+
+        public Builder setMaxLinkReferenceDefinitions(int maxLinkReferenceDefinitions) {
+            this.maxLinkReferenceDefinitions = requireNonNegative("maxLinkReferenceDefinitions", maxLinkReferenceDefinitions);
+            return this;
+        }
+
+        public Builder setMaxInputLength(int maxInputLength) {
+            this.maxInputLength = requireNonNegative("maxInputLength", maxInputLength);
+            return this;
+        }
+
+        public Builder setParseTimeBudget(Duration parseTimeBudget) {
+            if (parseTimeBudget != null && (parseTimeBudget.isNegative() || parseTimeBudget.isZero())) {
+                throw new IllegalArgumentException("Parse time budget must be positive. Instead found " + parseTimeBudget);
+            }
+            this.parseTimeBudget = parseTimeBudget;
+            return this;
+        }
+
+        private static int requireNonNegative(String name, int value) {
+            if (value < 0) {
+                throw new IllegalArgumentException(name + " must be non-negative. Instead found " + value);
+            }
+            return value;
+        }
+
         public ParserOptions build() {
             return new ParserOptions(
                     smartQuotes,
@@ -70,7 +132,12 @@ public record ParserOptions(
                     safeMode,
                     safeModeText,
                     codeInfoPrefix,
-                    softBreak
+                    softBreak,
+                    maxBlockNesting,
+                    maxInlineNesting,
+                    maxLinkReferenceDefinitions,
+                    maxInputLength,
+                    parseTimeBudget
             );
         }
     }
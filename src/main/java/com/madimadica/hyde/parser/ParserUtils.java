@@ -167,11 +167,15 @@ public class ParserUtils {
         for (int i = 0; i < len;) {
             char ch = s.charAt(i);
             if (ch == '&') {
-                String entity = HtmlParserUtils.parseHtmlEntity(s, i);
-                if (entity != null) {
-                    i += entity.length();
-                    String decoded = HtmlEntities.decode(entity);
-                    sb.append(decoded == null ? entity : decoded);
+                int entityEnd = HtmlParserUtils.findHtmlEntityEnd(s, i);
+                if (entityEnd >= 0) {
+                    String decoded = HtmlEntities.decode(s, i, entityEnd);
+                    if (decoded == null) {
+                        sb.append(s, i, entityEnd);
+                    } else {
+                        sb.append(decoded);
+                    }
+                    i = entityEnd;
                     continue;
                 }
             }
@@ -1,66 +1,96 @@
 package com.madimadica.hyde.parser;
 
-
-import java.util.Objects;
-
+/**
+ * Start and end positions of a node in its source, as 1-based lines and columns.
+ * <p>
+ * Block nodes store their positions as primitive fields, and {@link com.madimadica.hyde.ast.Node#getPositions()}
+ * returns a view of them, so changes to the view are made to the node.
+ * The parser does not track the positions of inline nodes, which are {@code 1:1-0:0} unless they are set,
+ * and are only created once they are accessed.
+ * An instance created with a constructor is standalone.
+ * </p>
+ */
 public class SourcePositions {
-    public SourcePosition start;
-    public SourcePosition end;
+    private int startLine;
+    private int startColumn;
+    private int endLine;
+    private int endColumn;
 
     public SourcePositions() {
         this(1, 1);
     }
 
     public SourcePositions(int startLine, int startCol) {
-        start = new SourcePosition(startLine, startCol);
-        end = new SourcePosition(0, 0);
+        this(startLine, startCol, 0, 0);
     }
 
     public SourcePositions(int startLine, int startCol, int endLine, int endCol) {
-        start = new SourcePosition(startLine, startCol);
-        end = new SourcePosition(endLine, endCol);
+        this.startLine = startLine;
+        this.startColumn = startCol;
+        this.endLine = endLine;
+        this.endColumn = endCol;
     }
 
-    public SourcePosition getStart() {
-        return start;
+    public int getStartLine() {
+        return startLine;
     }
 
-    public void setStart(SourcePosition start) {
-        this.start = start;
+    public int getStartColumn() {
+        return startColumn;
     }
 
-    public void setStart(int line, int column) {
-        this.start = new SourcePosition(line, column);
+    public int getEndLine() {
+        return endLine;
     }
 
-    public SourcePosition getEnd() {
-        return end;
+    public int getEndColumn() {
+        return endColumn;
     }
 
-    public void setEnd(SourcePosition end) {
-        this.end = end;
+    public void setStart(int line, int column) {
+        this.startLine = line;
+        this.startColumn = column;
     }
 
     public void setEnd(int line, int column) {
-        this.end = new SourcePosition(line, column);
+        this.endLine = line;
+        this.endColumn = column;
+    }
+
+    public SourcePosition getStart() {
+        return new SourcePosition(getStartLine(), getStartColumn());
+    }
+
+    public void setStart(SourcePosition start) {
+        setStart(start.line(), start.column());
+    }
+
+    public SourcePosition getEnd() {
+        return new SourcePosition(getEndLine(), getEndColumn());
+    }
+
+    public void setEnd(SourcePosition end) {
+        setEnd(end.line(), end.column());
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        SourcePositions that = (SourcePositions) o;
-        return Objects.equals(start, that.start) && Objects.equals(end, that.end);
+        // Views and standalone positions are equal when their positions are
+        if (!(o instanceof SourcePositions that)) return false;
+        return getStartLine() == that.getStartLine()
+                && getStartColumn() == that.getStartColumn()
+                && getEndLine() == that.getEndLine()
+                && getEndColumn() == that.getEndColumn();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(start, end);
+        return ((getStartLine() * 31 + getStartColumn()) * 31 + getEndLine()) * 31 + getEndColumn();
     }
 
     @Override
     public String toString() {
-        return start + "-" + end;
+        return getStartLine() + ":" + getStartColumn() + "-" + getEndLine() + ":" + getEndColumn();
     }
 }
-
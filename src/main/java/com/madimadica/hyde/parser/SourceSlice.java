@@ -0,0 +1,132 @@
+package com.madimadica.hyde.parser;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A read-only view of part of a source String, by start/end offsets,
+ * so that block content can reference the input instead of copying it.
+ */
+public final class SourceSlice implements CharSequence {
+    private final String source;
+    private final int start;
+    private final int end; // Exclusive
+
+    public SourceSlice(String source, int start, int end) {
+        Objects.checkFromToIndex(start, end, source.length());
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, end - start);
+        return source.charAt(start + index);
+    }
+
+    @Override
+    public SourceSlice subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, this.end - this.start);
+        return new SourceSlice(source, this.start + start, this.start + end);
+    }
+
+    /**
+     * Bulk append this slice, without creating an intermediate String
+     * @param sb output to append to
+     */
+    public void appendTo(StringBuilder sb) {
+        sb.append(source, start, end);
+    }
+
+    /**
+     * Append any char sequence, in bulk when possible
+     * @param sb output to append to
+     * @param text text to append
+     */
+    public static void append(StringBuilder sb, CharSequence text) {
+        if (text instanceof SourceSlice slice) {
+            slice.appendTo(sb);
+        } else {
+            sb.append(text);
+        }
+    }
+
+    /**
+     * Join a range of lines with {@code '\n'}, into a single exactly sized String
+     * @param lines lines to join
+     * @param fromIndex inclusive index of the first line
+     * @param toIndex exclusive index of the last line
+     * @return joined lines
+     */
+    public static String joinLines(List<? extends CharSequence> lines, int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return "";
+        }
+        if (toIndex - fromIndex == 1) {
+            return lines.get(fromIndex).toString();
+        }
+        int totalLength = toIndex - fromIndex - 1;
+        for (int i = fromIndex; i < toIndex; ++i) {
+            totalLength += lines.get(i).length();
+        }
+        StringBuilder sb = new StringBuilder(totalLength);
+        append(sb, lines.get(fromIndex));
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            sb.append('\n');
+            append(sb, lines.get(i));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @see String#isBlank()
+     */
+    public static boolean isBlank(CharSequence text) {
+        final int len = text.length();
+        for (int i = 0; i < len; ++i) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SourceSlice that)) return false;
+        return length() == that.length() && source.regionMatches(start, that.source, that.start, length());
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (int i = start; i < end; ++i) {
+            h = 31 * h + source.charAt(i);
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return source.substring(start, end);
+    }
+}
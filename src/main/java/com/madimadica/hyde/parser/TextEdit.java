@@ -0,0 +1,37 @@
+package com.madimadica.hyde.parser;
+
+/**
+ * A single replacement in a text document
+ * @param offset char offset in the previous text where the edit starts
+ * @param removedLength number of chars removed, starting at {@code offset}
+ * @param insertedText text inserted at {@code offset}, in place of the removed chars
+ */
+public record TextEdit(int offset, int removedLength, String insertedText) {
+    public TextEdit {
+        if (offset < 0 || removedLength < 0) {
+            throw new IllegalArgumentException("Offset and removed length must be non-negative. Instead found " + offset + ", " + removedLength);
+        }
+        if (insertedText == null) {
+            throw new IllegalArgumentException("Inserted text cannot be null");
+        }
+    }
+
+    public static TextEdit insert(int offset, String text) {
+        return new TextEdit(offset, 0, text);
+    }
+
+    public static TextEdit delete(int offset, int length) {
+        return new TextEdit(offset, length, "");
+    }
+
+    /**
+     * @param text previous text
+     * @return the text after this edit
+     */
+    public String applyTo(String text) {
+        if (offset + removedLength > text.length()) {
+            throw new IndexOutOfBoundsException("Edit " + this + " is outside of text of length " + text.length());
+        }
+        return text.substring(0, offset) + insertedText + text.substring(offset + removedLength);
+    }
+}
@@ -0,0 +1,115 @@
+package com.madimadica.hyde.renderer;
+
+import com.madimadica.hyde.parser.ParserOptions;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Markdown to HTML conversion which caches the HTML of each document, for when the same documents are rendered repeatedly.
+ * <p>
+ * Documents are looked up by their {@link HtmlFingerprint}, first in a memory cache,
+ * then in an optional second tier such as a {@link MappedFileHtmlCache}.
+ * Each cache verifies that a hit was rendered from the same Markdown and options, so a fingerprint collision is only a miss.
+ * A document found in the second tier is copied into the memory cache.
+ * Documents in neither are rendered with an {@link HtmlPipeline} and added to both,
+ * unless the {@link ParserOptions#parseTimeBudget()} ran out while rendering them.
+ * </p>
+ * <p>
+ * This is thread safe, as long as the caches are.
+ * </p>
+ */
+public class CachingHtmlRenderer {
+    private final ParserOptions options;
+    private final HtmlCache memoryCache;
+    private final HtmlCache secondaryCache;
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder secondaryHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param options parsing and rendering options
+     * @param memoryCache first cache to check
+     */
+    public CachingHtmlRenderer(ParserOptions options, HtmlCache memoryCache) {
+        this(options, memoryCache, null);
+    }
+
+    /**
+     * @param options parsing and rendering options
+     * @param memoryCache first cache to check
+     * @param secondaryCache cache to check after the memory cache, or {@code null} for none
+     */
+    public CachingHtmlRenderer(ParserOptions options, HtmlCache memoryCache, HtmlCache secondaryCache) {
+        this.options = options;
+        this.memoryCache = memoryCache;
+        this.secondaryCache = secondaryCache;
+    }
+
+    /**
+     * Convert Markdown to an HTML String, reusing the cached HTML if it has been rendered before
+     * @param markdown Markdown text
+     * @return rendered HTML
+     */
+    public String render(String markdown) {
+        final HtmlFingerprint fingerprint = HtmlFingerprint.of(markdown, options);
+        String html = memoryCache.get(fingerprint, markdown, options);
+        if (html != null) {
+            memoryHits.increment();
+            return html;
+        }
+        if (secondaryCache != null) {
+            html = secondaryCache.get(fingerprint, markdown, options);
+            if (html != null) {
+                secondaryHits.increment();
+                memoryCache.put(fingerprint, markdown, options, html);
+                return html;
+            }
+        }
+        misses.increment();
+        // Pipelines are not thread safe, and are cheap to create
+        var pipeline = new HtmlPipeline(options);
+        html = pipeline.render(markdown);
+        if (pipeline.isOutOfTime()) {
+            return html; // Content cut short by the parse time budget is not cached
+        }
+        memoryCache.put(fingerprint, markdown, options, html);
+        if (secondaryCache != null) {
+            secondaryCache.put(fingerprint, markdown, options, html);
+        }
+        return html;
+    }
+
+    public ParserOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * @return number of documents found in the memory cache
+     */
+    public long getMemoryHits() {
+        return memoryHits.sum();
+    }
+
+    /**
+     * @return number of documents found in the secondary cache, but not the memory cache
+     */
+    public long getSecondaryHits() {
+        return secondaryHits.sum();
+    }
+
+    /**
+     * @return number of documents that had to be rendered
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return fraction of documents found in either cache, or 0 if none have been rendered
+     */
+    public double getHitRatio() {
+        long hits = getMemoryHits() + getSecondaryHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
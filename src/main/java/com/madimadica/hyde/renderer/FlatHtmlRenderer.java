@@ -0,0 +1,114 @@
+package com.madimadica.hyde.renderer;
+
+import com.madimadica.hyde.ast.FlatAST;
+import com.madimadica.hyde.parser.ParserOptions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static com.madimadica.hyde.ast.FlatAST.NONE;
+
+/**
+ * Renders a {@link FlatAST} as HTML, by walking its arrays instead of converting it back into nodes.
+ * The output is the same as rendering the tree it was created from with {@link HtmlAstRenderer}.
+ * <p>
+ * Overriding the {@code render} methods of individual nodes has no effect on flat trees.
+ * </p>
+ */
+public class FlatHtmlRenderer extends HtmlAstRenderer {
+
+    public FlatHtmlRenderer() {
+        super();
+    }
+
+    public FlatHtmlRenderer(ParserOptions options) {
+        super(options);
+    }
+
+    public String render(FlatAST ast) {
+        begin(16);
+        try {
+            render(ast, FlatAST.ROOT, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Never written to an output
+        }
+        return doc.toString();
+    }
+
+    /**
+     * Render the flat tree as HTML directly to an output, in chunks of about {@link #FLUSH_THRESHOLD} chars.
+     * The output is neither flushed nor closed.
+     * @param ast tree to render
+     * @param out destination, such as a {@link java.io.Writer} or {@link StringBuilder}
+     * @throws IOException if writing to the output fails
+     */
+    public void render(FlatAST ast, Appendable out) throws IOException {
+        begin(FLUSH_THRESHOLD + FLUSH_THRESHOLD / 2);
+        render(ast, FlatAST.ROOT, out);
+        flush(out);
+    }
+
+    /**
+     * Render a subtree in document order, entering every node and exiting containers,
+     * like {@link com.madimadica.hyde.ast.Node#accept}
+     * @param ast tree
+     * @param root index of the root of the subtree
+     * @param out destination to flush to when the buffer is full, or {@code null} to keep it in memory
+     * @throws IOException if writing to the output fails
+     */
+    private void render(FlatAST ast, int root, Appendable out) throws IOException {
+        int node = root;
+        while (true) {
+            render(ast, node, true);
+            int firstChild = ast.getFirstChild(node);
+            if (firstChild != NONE) {
+                node = firstChild;
+                continue;
+            }
+            if (ast.getKind(node).isContainer()) {
+                render(ast, node, false);
+            }
+            while (node != root && ast.getNextSibling(node) == NONE) {
+                node = ast.getParent(node);
+                render(ast, node, false);
+            }
+            if (out != null && doc.length() >= FLUSH_THRESHOLD) {
+                flush(out);
+            }
+            if (node == root) {
+                return;
+            }
+            node = ast.getNextSibling(node);
+        }
+    }
+
+    private void render(FlatAST ast, int node, boolean entering) {
+        switch (ast.getKind(node)) {
+            case DOCUMENT, LINK_REFERENCE_DEFINITION -> {}
+            case BLOCK_QUOTE -> blockQuote(entering);
+            case LIST -> list(ast.getListType(node), ast.getOrderedStart(node), entering);
+            case LIST_ITEM -> listItem(entering);
+            case PARAGRAPH -> {
+                int grandparent = ast.getParent(ast.getParent(node));
+                if (grandparent == NONE || ast.getKind(grandparent) != FlatAST.Kind.LIST || !ast.isTight(grandparent)) {
+                    paragraph(entering);
+                } // Tight list text does not get wrapped in paragraphs
+            }
+            case ATX_HEADING, SETEXT_HEADING -> heading(ast.getHeadingLevel(node), entering);
+            case THEMATIC_BREAK -> thematicBreak();
+            case BLANK_LINE -> newline();
+            case FENCED_CODE_BLOCK -> fencedCodeBlock(ast.getInfoString(node), ast.getLiteral(node));
+            case INDENTED_CODE_BLOCK -> indentedCodeBlock(ast.getLiteral(node));
+            case HTML_BLOCK -> htmlBlock(ast.getLiteral(node));
+            case TEXT -> escaped(ast.getLiteral(node));
+            case CODE -> inlineCode(ast.getLiteral(node));
+            case HTML -> inlineHtml(ast.getLiteral(node));
+            case SOFT_BREAK -> literal(options.softBreak());
+            case HARD_BREAK -> hardBreak();
+            case BOLD -> tag("strong", entering);
+            case ITALIC -> tag("em", entering);
+            case LINK -> link(ast.getDestination(node), ast.getTitle(node), ast.isAutolink(node), entering);
+            case IMAGE -> image(ast.getDestination(node), ast.getDescription(node), entering);
+        }
+    }
+}
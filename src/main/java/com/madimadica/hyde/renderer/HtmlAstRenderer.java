@@ -5,15 +5,28 @@ import com.madimadica.hyde.parser.ParserOptions;
 import com.madimadica.hyde.parser.ParserUtils;
 import com.madimadica.hyde.parser.Str;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
 public class HtmlAstRenderer {
 
+    /**
+     * Approximate number of buffered chars before they are written out, when rendering to an output.
+     */
+    public static final int FLUSH_THRESHOLD = 8192;
+
     protected final ParserOptions options;
     protected StringBuilder doc;
     protected char last;
     protected int altTags; // Disable inside image alt text
+    private char[] writeBuffer;
+    private final RenderVisitor visitor = new RenderVisitor();
 
     public HtmlAstRenderer() {
         this(ParserOptions.getDefaults());
@@ -24,36 +37,144 @@ public class HtmlAstRenderer {
     }
 
     public String render(AST ast) {
-        doc = new StringBuilder();
+        begin(16);
+        ast.accept(visitor);
+        return doc.toString();
+    }
+
+    /**
+     * Render the AST as HTML directly to an output, instead of building the whole document in memory.
+     * Output is buffered and written in chunks of about {@link #FLUSH_THRESHOLD} chars.
+     * The output is neither flushed nor closed.
+     * @param ast tree to render
+     * @param out destination, such as a {@link Writer} or {@link StringBuilder}
+     * @throws IOException if writing to the output fails
+     */
+    public void render(AST ast, Appendable out) throws IOException {
+        begin(FLUSH_THRESHOLD + FLUSH_THRESHOLD / 2);
+        render(ast.getRoot(), out);
+        flush(out);
+    }
+
+    /**
+     * Render the AST as UTF-8 encoded HTML directly to an output stream.
+     * The encoded bytes are flushed to the stream, but the stream is not closed.
+     * @param ast tree to render
+     * @param out destination
+     * @throws IOException if writing to the output fails
+     * @see #render(AST, Appendable)
+     */
+    public void render(AST ast, OutputStream out) throws IOException {
+        // The encoder reuses a single byte buffer across writes
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        render(ast, writer);
+        writer.flush();
+    }
+
+    /**
+     * Start a new document, resetting any state from a previous render
+     * @param capacity initial buffer capacity
+     */
+    void begin(int capacity) {
+        doc = new StringBuilder(capacity);
         last = '\n';
         altTags = 0;
-        for (var event : ast) {
-            boolean entering = event.isEntering();
-            switch (event.node()) {
-                case HeadingNode node -> render(node, entering);
-                case BlankLineNode node -> render(node);
-                case BlockQuoteNode node -> render(node, entering);
-                case DocumentNode node -> render(node, entering);
-                case FencedCodeBlockNode node -> render(node);
-                case HTMLBlockNode node -> render(node);
-                case IndentedCodeBlockNode node -> render(node);
-                case InlineBoldNode node -> render(node, entering);
-                case InlineCodeNode node -> render(node);
-                case InlineHardBreakNode node -> render(node);
-                case InlineHTMLNode node -> render(node);
-                case InlineImageNode node -> render(node, entering);
-                case InlineItalicNode node -> render(node, entering);
-                case InlineLinkNode node -> render(node, entering);
-                case InlineSoftBreakNode node -> render(node);
-                case InlineTextNode node -> render(node);
-                case LinkReferenceDefinitionNode node -> render(node);
-                case ListNode node -> render(node, entering);
-                case ListItemNode node -> render(node, entering);
-                case ParagraphNode node -> render(node, entering);
-                case ThematicBreakNode node -> render(node);
+    }
+
+    /**
+     * Render a subtree into the current document,
+     * writing out the buffer whenever it reaches the {@link #FLUSH_THRESHOLD}
+     * @param root root of the subtree
+     * @param out destination
+     * @throws IOException if writing to the output fails
+     */
+    void render(Node root, Appendable out) throws IOException {
+        visitor.out = out;
+        try {
+            root.accept(visitor);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            visitor.out = null;
+        }
+    }
+
+    /**
+     * Renders each node as it is visited, and flushes the buffer to {@link #out} when it is set
+     */
+    private class RenderVisitor implements NodeVisitor {
+        private Appendable out;
+
+        @Override
+        public void enter(Node node) {
+            render(node, true);
+            flushIfFull();
+        }
+
+        @Override
+        public void exit(Node node) {
+            render(node, false);
+            flushIfFull();
+        }
+
+        private void flushIfFull() {
+            if (out != null && doc.length() >= FLUSH_THRESHOLD) {
+                try {
+                    flush(out);
+                } catch (IOException e) {
+                    // Visitors cannot throw checked exceptions, so this is unwrapped by render(Node, Appendable)
+                    throw new UncheckedIOException(e);
+                }
             }
         }
-        return doc.toString();
+    }
+
+    /**
+     * Write out and clear the buffered document.
+     * @param out destination
+     */
+    void flush(Appendable out) throws IOException {
+        final int len = doc.length();
+        if (len == 0) {
+            return;
+        }
+        if (out instanceof Writer writer) {
+            // Copy through a reusable buffer, instead of an intermediate String
+            if (writeBuffer == null || writeBuffer.length < len) {
+                writeBuffer = new char[Math.max(len, doc.capacity())];
+            }
+            doc.getChars(0, len, writeBuffer, 0);
+            writer.write(writeBuffer, 0, len);
+        } else {
+            out.append(doc);
+        }
+        doc.setLength(0);
+    }
+
+    protected void render(Node node, boolean entering) {
+        switch (node) {
+            case HeadingNode n -> render(n, entering);
+            case BlankLineNode n -> render(n);
+            case BlockQuoteNode n -> render(n, entering);
+            case DocumentNode n -> render(n, entering);
+            case FencedCodeBlockNode n -> render(n);
+            case HTMLBlockNode n -> render(n);
+            case IndentedCodeBlockNode n -> render(n);
+            case InlineBoldNode n -> render(n, entering);
+            case InlineCodeNode n -> render(n);
+            case InlineHardBreakNode n -> render(n);
+            case InlineHTMLNode n -> render(n);
+            case InlineImageNode n -> render(n, entering);
+            case InlineItalicNode n -> render(n, entering);
+            case InlineLinkNode n -> render(n, entering);
+            case InlineSoftBreakNode n -> render(n);
+            case InlineTextNode n -> render(n);
+            case LinkReferenceDefinitionNode n -> render(n);
+            case ListNode n -> render(n, entering);
+            case ListItemNode n -> render(n, entering);
+            case ParagraphNode n -> render(n, entering);
+            case ThematicBreakNode n -> render(n);
+        }
     }
 
     protected void addAttributes(List<HtmlAttribute> attributes) {
@@ -64,9 +185,13 @@ public class HtmlAstRenderer {
             doc.append(' ')
                     .append(attr.key())
                     .append('=')
-                    .append('"')
-                    .append(attr.value())
                     .append('"');
+            if (attr.escapeValue()) {
+                escapeHtml(attr.value(), doc);
+            } else {
+                doc.append(attr.value());
+            }
+            doc.append('"');
         }
     }
 
@@ -120,59 +245,157 @@ public class HtmlAstRenderer {
     }
 
     protected void escaped(String s) {
-        literal(escapeHtml(s));
+        final int start = doc.length();
+        escapeHtml(s, doc);
+        final int end = doc.length();
+        last = end > start ? doc.charAt(end - 1) : '\n';
     }
 
     public static String escapeHtml(String s) {
         // Special or replace unsafe
         final int len = s.length();
-
-        if (len == 0) {
-            return s;
-        }
-
-        boolean hasSpecial = false;
         int i = 0;
-        for (; i < len; ++i) {
-            final char c = s.charAt(i);
-            boolean isSpecial = (c == '&' || c == '<' || c == '>' || c == '"');
-            if (isSpecial) {
-                hasSpecial = true;
-                break;
-            }
+        while (i < len && !isHtmlSpecial(s.charAt(i))) {
+            i++;
         }
-
-        if (!hasSpecial) {
+        if (i == len) {
             return s;
         }
-
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = new StringBuilder(len + 16);
         sb.append(s, 0, i);
-        for (; i < len; ++i) {
+        appendEscaped(s, i, len, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Escape HTML special characters directly into an output buffer,
+     * bulk appending the unescaped spans between them.
+     * @param s text to escape
+     * @param out buffer to append to
+     */
+    public static void escapeHtml(CharSequence s, StringBuilder out) {
+        appendEscaped(s, 0, s.length(), out);
+    }
+
+    private static void appendEscaped(CharSequence s, int start, int end, StringBuilder out) {
+        int spanStart = start;
+        for (int i = start; i < end; ++i) {
             final char c = s.charAt(i);
-            boolean isSpecial = (c == '&' || c == '<' || c == '>' || c == '"');
-            if (isSpecial) {
-                String escaped = switch (c) {
-                    case '&' -> "&amp;";
-                    case '"' -> "&quot;";
-                    case '<' -> "&lt;";
-                    case '>' -> "&gt;";
-                    default -> throw new IllegalStateException("Impossible");
-                };
-                sb.append(escaped);
-            } else {
-                sb.append(c);
+            if (!isHtmlSpecial(c)) {
+                continue;
             }
+            out.append(s, spanStart, i);
+            out.append(switch (c) {
+                case '&' -> "&amp;";
+                case '"' -> "&quot;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                default -> throw new IllegalStateException("Impossible");
+            });
+            spanStart = i + 1;
         }
-        return sb.toString();
+        out.append(s, spanStart, end);
+    }
+
+    private static boolean isHtmlSpecial(char c) {
+        return c == '&' || c == '<' || c == '>' || c == '"';
     }
 
 
     protected void render(HeadingNode node, boolean entering) {
+        heading(node.getLevel(), entering);
+    }
+
+    protected void render(BlankLineNode node) {
+        newline();
+    }
+
+    protected void render(BlockQuoteNode node, boolean entering) {
+        blockQuote(entering);
+    }
+
+    protected void render(DocumentNode node, boolean entering) {
+        return; // Don't render <html> tags
+    }
+
+    protected void render(FencedCodeBlockNode node) {
+        fencedCodeBlock(node.getInfoString(), node.getLiteral());
+    }
+
+    protected void render(HTMLBlockNode node) {
+        htmlBlock(node.getLiteral());
+    }
+
+    protected void render(IndentedCodeBlockNode node) {
+        indentedCodeBlock(node.getLiteral());
+    }
+
+    protected void render(InlineBoldNode node, boolean entering) {
+        tag("strong", entering);
+    }
+
+    protected void render(InlineCodeNode node) {
+        inlineCode(node.getLiteral());
+    }
+
+    protected void render(InlineHardBreakNode node) {
+        hardBreak();
+    }
+
+    protected void render(InlineHTMLNode node) {
+        inlineHtml(node.getLiteral());
+    }
+
+    protected void render(InlineImageNode node, boolean entering) {
+        image(node.getDestination(), node.getDescription(), entering);
+    }
+
+    protected void render(InlineItalicNode node, boolean entering) {
+        tag("em", entering);
+    }
+
+    protected void render(InlineLinkNode node, boolean entering) {
+        link(node.getDestination(), node.getTitle(), node.isAutolink(), entering);
+    }
+
+    protected void render(InlineSoftBreakNode node) {
+        literal(options.softBreak());
+    }
+
+    protected void render(InlineTextNode node) {
+        escaped(node.getLiteral());
+    }
+
+    protected void render(LinkReferenceDefinitionNode node) {
+        return;
+    }
+
+    protected void render(ListNode node, boolean entering) {
+        list(node.getListData().getType(), node.getListData().getOrderedStart(), entering);
+    }
+
+    protected void render(ListItemNode node, boolean entering) {
+        listItem(entering);
+    }
+
+    protected void render(ParagraphNode node, boolean entering) {
+        if (node.getParent().getParent() instanceof ListNode listNode && listNode.getListData().isTight()) {
+            return; // Tight list text does not get wrapped in paragraphs
+        }
+        paragraph(entering);
+    }
+
+    protected void render(ThematicBreakNode node) {
+        thematicBreak();
+    }
+
+    // Rendering of each kind of node from its values, shared with FlatHtmlRenderer
+
+    void heading(int level, boolean entering) {
         // Optimized tag conversion to prevent str concatenation
-        assert node.getLevel() <= 6 : "expected [1, 6] Instead found " + node.getLevel();
+        assert level <= 6 : "expected [1, 6] Instead found " + level;
         String tag = String.valueOf(new char[] {
-                'h', (char) (node.getLevel() + 48)
+                'h', (char) (level + 48)
         });
         if (entering) {
             newline();
@@ -183,11 +406,7 @@ public class HtmlAstRenderer {
         }
     }
 
-    protected void render(BlankLineNode node) {
-        newline();
-    }
-
-    protected void render(BlockQuoteNode node, boolean entering) {
+    void blockQuote(boolean entering) {
         newline();
         if (entering) {
             openTag("blockquote");
@@ -197,15 +416,10 @@ public class HtmlAstRenderer {
         newline();
     }
 
-    protected void render(DocumentNode node, boolean entering) {
-        return; // Don't render <html> tags
-    }
-
-    protected void render(FencedCodeBlockNode node) {
+    void fencedCodeBlock(String infoString, String literal) {
         List<HtmlAttribute> attrs = new ArrayList<>();
-        if (node.hasInfoString()) {
-            String fullInfo = node.getInfoString();
-            String firstWord = fullInfo.split("[ \t]")[0];
+        if (infoString != null && !infoString.isEmpty()) {
+            String firstWord = infoString.split("[ \t]")[0];
             String escaped = escapeHtml(ParserUtils.unescapeString(firstWord));
             if (!escaped.startsWith(options.codeInfoPrefix())) {
                 escaped = options.codeInfoPrefix() + escaped;
@@ -215,116 +429,98 @@ public class HtmlAstRenderer {
         newline();
         openTag("pre");
         openTag("code", attrs);
-        escaped(node.getLiteral());
+        escaped(literal);
         closeTag("code");
         closeTag("pre");
         newline();
     }
 
-    protected void render(HTMLBlockNode node) {
+    void htmlBlock(String literal) {
         newline();
         if (options.safeMode()) {
             literal(options.safeModeText());
         } else {
-            literal(node.getLiteral());
+            literal(literal);
         }
         newline();
     }
 
-    protected void render(IndentedCodeBlockNode node) {
+    void indentedCodeBlock(String literal) {
         newline();
         openTag("pre");
         openTag("code");
-        escaped(node.getLiteral());
+        escaped(literal);
         closeTag("code");
         closeTag("pre");
         newline();
     }
 
-    protected void render(InlineBoldNode node, boolean entering) {
-        tag("strong", entering);
-    }
-
-    protected void render(InlineCodeNode node) {
+    void inlineCode(String literal) {
         openTag("code");
-        escaped(node.getLiteral());
+        escaped(literal);
         closeTag("code");
     }
 
-    protected void render(InlineHardBreakNode node) {
+    void hardBreak() {
         voidTag("br", null);
         newline();
     }
 
-    protected void render(InlineHTMLNode node) {
+    void inlineHtml(String literal) {
         if (options.safeMode()) {
             literal(options.safeModeText());
         } else {
-            literal(node.getLiteral());
+            literal(literal);
         }
     }
 
-    protected void render(InlineImageNode node, boolean entering) {
+    void image(String destination, String description, boolean entering) {
         if (entering) {
             if (altTags++ == 0) {
-                String src = ParserUtils.uriEncode(ParserUtils.unescapeString(node.getDestination()));
+                String src = ParserUtils.uriEncode(ParserUtils.unescapeString(destination));
                 if (options.safeMode() && !SafeMode.isSafeHref(src)) {
                     literal("<img src=\"\" alt=\"");
                 } else {
-                    literal("<img src=\"" + escapeHtml(src) + "\" alt=\"");
+                    doc.append("<img src=\"");
+                    escapeHtml(src, doc);
+                    literal("\" alt=\"");
                 }
             }
         } else {
             if (--altTags == 0) {
-                String title = ParserUtils.unescapeString(node.getDescription());
+                String title = ParserUtils.unescapeString(description);
                 if (title != null && !title.isEmpty()) {
-                    literal("\" title=\"" + escapeHtml(title));
+                    doc.append("\" title=\"");
+                    escaped(title);
                 }
                 literal("\" />");
             }
         }
     }
 
-    protected void render(InlineItalicNode node, boolean entering) {
-        tag("em", entering);
-    }
-
-    protected void render(InlineLinkNode node, boolean entering) {
+    void link(String destination, String title, boolean autolink, boolean entering) {
         if (!entering) {
             closeTag("a");
             return;
         }
         List<HtmlAttribute> attrs = new ArrayList<>();
-        String href = ParserUtils.uriEncode(node.isAutolink() ? node.getDestination() : ParserUtils.unescapeString(node.getDestination()));
+        String href = ParserUtils.uriEncode(autolink ? destination : ParserUtils.unescapeString(destination));
         if (!options.safeMode() || SafeMode.isSafeHref(href)) {
             attrs.add(HtmlAttribute.ofEscaped("href", href));
         }
 
-        String title = ParserUtils.unescapeString(node.getTitle());
-        if (title != null && !title.isEmpty()) {
-            attrs.add(HtmlAttribute.ofEscaped("title", title));
+        String unescapedTitle = ParserUtils.unescapeString(title);
+        if (unescapedTitle != null && !unescapedTitle.isEmpty()) {
+            attrs.add(HtmlAttribute.ofEscaped("title", unescapedTitle));
         }
 
         openTag("a", attrs);
     }
 
-    protected void render(InlineSoftBreakNode node) {
-        literal(options.softBreak());
-    }
-
-    protected void render(InlineTextNode node) {
-        escaped(node.getLiteral());
-    }
-
-    protected void render(LinkReferenceDefinitionNode node) {
-        return;
-    }
-
-    protected void render(ListNode node, boolean entering) {
+    void list(ListData.Type type, int start, boolean entering) {
         List<HtmlAttribute> attrs = null;
-        String tag = switch (node.getListData().getType()) {
+        String tag = switch (type) {
             case ORDERED -> {
-                var start = node.getListData().getOrderedStart();
                 if (entering && start != 1) {
                     attrs = List.of(HtmlAttribute.of("start", String.valueOf(start)));
                 }
@@ -341,7 +537,7 @@ public class HtmlAstRenderer {
         newline();
     }
 
-    protected void render(ListItemNode node, boolean entering) {
+    void listItem(boolean entering) {
         if (entering) {
             openTag("li");
         } else {
@@ -350,10 +546,7 @@ public class HtmlAstRenderer {
         }
     }
 
-    protected void render(ParagraphNode node, boolean entering) {
-        if (node.getParent().getParent() instanceof ListNode listNode && listNode.getListData().isTight()) {
-            return; // Tight list text does not get wrapped in paragraphs
-        }
+    void paragraph(boolean entering) {
         if (entering) {
             newline();
             openTag("p");
@@ -363,7 +556,7 @@ public class HtmlAstRenderer {
         }
     }
 
-    protected void render(ThematicBreakNode node) {
+    void thematicBreak() {
         newline();
         voidTag("hr", null);
         newline();
@@ -1,6 +1,16 @@
 package com.madimadica.hyde.renderer;
 
-public record HtmlAttribute(String key, String value) {
+/**
+ * An HTML attribute
+ * @param key attribute name
+ * @param value attribute value
+ * @param escapeValue whether the value still needs to be HTML escaped when it is rendered
+ */
+public record HtmlAttribute(String key, String value, boolean escapeValue) {
+    public HtmlAttribute(String key, String value) {
+        this(key, value, false);
+    }
+
     public static HtmlAttribute of(String key) {
         return new HtmlAttribute(key, null);
     }
@@ -9,7 +19,10 @@ public record HtmlAttribute(String key, String value) {
         return new HtmlAttribute(key, value);
     }
 
+    /**
+     * Create an attribute whose value is escaped as it is rendered, directly into the output
+     */
     public static HtmlAttribute ofEscaped(String key, String value) {
-        return new HtmlAttribute(key, HtmlAstRenderer.escapeHtml(value));
+        return new HtmlAttribute(key, value, true);
     }
 }
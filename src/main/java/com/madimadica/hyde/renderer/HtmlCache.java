@@ -0,0 +1,30 @@
+package com.madimadica.hyde.renderer;
+
+import com.madimadica.hyde.parser.ParserOptions;
+
+/**
+ * Bounded store of rendered HTML for a {@link CachingHtmlRenderer}.
+ * <p>
+ * Implementations must be thread safe, and may evict any entry at any time.
+ * Entries are looked up by fingerprint, but since distinct documents can share a fingerprint,
+ * a cached entry must only be returned for the same Markdown and options it was put with.
+ * </p>
+ */
+public interface HtmlCache {
+    /**
+     * @param fingerprint fingerprint of the Markdown and options
+     * @param markdown Markdown text the HTML was rendered from
+     * @param options options the HTML was rendered with
+     * @return cached HTML, or {@code null} if it is not cached
+     */
+    String get(HtmlFingerprint fingerprint, String markdown, ParserOptions options);
+
+    /**
+     * Cache rendered HTML, which may be ignored, such as when it is too large for this cache
+     * @param fingerprint fingerprint of the Markdown and options
+     * @param markdown Markdown text the HTML was rendered from
+     * @param options options the HTML was rendered with
+     * @param html rendered HTML
+     */
+    void put(HtmlFingerprint fingerprint, String markdown, ParserOptions options, String html);
+}
@@ -0,0 +1,112 @@
+package com.madimadica.hyde.renderer;
+
+import com.madimadica.hyde.parser.ParserOptions;
+
+/**
+ * 128-bit MurmurHash3 (x64 variant) fingerprint of a Markdown document and the options it is rendered with.
+ * <p>
+ * The hash is computed over the UTF-16 chars of the text, so no encoded copy of the document is made.
+ * It is fast and well distributed, but not cryptographic.
+ * </p>
+ * @param high first 64 bits
+ * @param low last 64 bits
+ */
+public record HtmlFingerprint(long high, long low) {
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    /**
+     * @param markdown Markdown text
+     * @param options options it is parsed and rendered with
+     * @return fingerprint of both
+     */
+    public static HtmlFingerprint of(String markdown, ParserOptions options) {
+        // Options are hashed by their record String form, which covers every component
+        HtmlFingerprint seed = of(options.toString(), 0, 0);
+        return of(markdown, seed.high, seed.low);
+    }
+
+    /**
+     * @param text text to hash
+     * @param seed1 initial value of the first half
+     * @param seed2 initial value of the second half
+     * @return MurmurHash3 x64 128-bit hash of the text
+     */
+    static HtmlFingerprint of(CharSequence text, long seed1, long seed2) {
+        final int length = text.length();
+        long h1 = seed1;
+        long h2 = seed2;
+
+        // Each 16 byte block is 8 chars, read as two little-endian longs
+        final int blocksEnd = length & ~7;
+        for (int i = 0; i < blocksEnd; i += 8) {
+            long k1 = chars(text, i, 4);
+            long k2 = chars(text, i + 4, 4);
+
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= C2;
+            h1 ^= k1;
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= C1;
+            h2 ^= k2;
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        final int remaining = length - blocksEnd;
+        if (remaining > 4) {
+            long k2 = chars(text, blocksEnd + 4, remaining - 4);
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= C1;
+            h2 ^= k2;
+        }
+        if (remaining > 0) {
+            long k1 = chars(text, blocksEnd, Math.min(remaining, 4));
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= C2;
+            h1 ^= k1;
+        }
+
+        final long byteLength = 2L * length;
+        h1 ^= byteLength;
+        h2 ^= byteLength;
+        h1 += h2;
+        h2 += h1;
+        h1 = mix(h1);
+        h2 = mix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new HtmlFingerprint(h1, h2);
+    }
+
+    private static long chars(CharSequence text, int start, int count) {
+        long k = 0;
+        for (int i = 0; i < count; ++i) {
+            k |= (long) text.charAt(start + i) << (16 * i);
+        }
+        return k;
+    }
+
+    private static long mix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    @Override
+    public String toString() {
+        return "%016x%016x".formatted(high, low);
+    }
+}
@@ -0,0 +1,141 @@
+package com.madimadica.hyde.renderer;
+
+import com.madimadica.hyde.ast.InlineLeafBlockNode;
+import com.madimadica.hyde.ast.Node;
+import com.madimadica.hyde.ast.NodeVisitor;
+import com.madimadica.hyde.parser.BlockParser;
+import com.madimadica.hyde.parser.InlineParser;
+import com.madimadica.hyde.parser.ParserOptions;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fused Markdown to HTML conversion, for when the {@link com.madimadica.hyde.ast.AST} itself is not needed.
+ * <p>
+ * The block structure is parsed first, since a link reference definition may appear after the links that use it.
+ * Then each top-level block has its inlines parsed, is rendered, and is discarded before moving on to the next block,
+ * so only a single block's inline nodes are ever held in memory, and output begins after the first block.
+ * </p>
+ * <p>
+ * Like {@link HtmlAstRenderer}, this is not thread safe.
+ * </p>
+ */
+public class HtmlPipeline {
+    private final ParserOptions options;
+    private final HtmlAstRenderer renderer;
+    private final List<InlineLeafBlockNode> inlineContentNodes = new ArrayList<>();
+    private final NodeVisitor inlineContentCollector = node -> {
+        if (node instanceof InlineLeafBlockNode inlineContentNode) {
+            inlineContentNodes.add(inlineContentNode);
+        }
+    };
+    private boolean outOfTime;
+
+    public HtmlPipeline() {
+        this(ParserOptions.getDefaults());
+    }
+
+    public HtmlPipeline(ParserOptions options) {
+        this(options, new HtmlAstRenderer(options));
+    }
+
+    /**
+     * @param options parsing options
+     * @param renderer renderer to render each block with, such as a customized subclass
+     */
+    public HtmlPipeline(ParserOptions options, HtmlAstRenderer renderer) {
+        this.options = options;
+        this.renderer = renderer;
+    }
+
+    /**
+     * @return {@code true} if the {@link ParserOptions#parseTimeBudget()} ran out during the last render,
+     *         so some of its inline content was left as plain text
+     */
+    public boolean isOutOfTime() {
+        return outOfTime;
+    }
+
+    /**
+     * Convert Markdown to an HTML String
+     * @param markdown Markdown text
+     * @return rendered HTML
+     */
+    public String render(String markdown) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            render(markdown, sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible", e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Convert Markdown to HTML, writing it out block by block.
+     * The output is neither flushed nor closed.
+     * @param markdown Markdown text
+     * @param out destination, such as a {@link Writer}
+     * @throws IOException if writing to the output fails
+     */
+    public void render(String markdown, Appendable out) throws IOException {
+        final long parseStart = System.nanoTime();
+        renderBlocks(new BlockParser(options).parse(markdown), out, parseStart);
+    }
+
+    /**
+     * Convert Markdown to HTML, writing it out block by block.
+     * The reader is not closed, and the output is neither flushed nor closed.
+     * @param markdown Markdown source
+     * @param out destination, such as a {@link Writer}
+     * @throws IOException if reading or writing fails
+     */
+    public void render(Reader markdown, Appendable out) throws IOException {
+        final long parseStart = System.nanoTime();
+        renderBlocks(new BlockParser(options).parse(markdown), out, parseStart);
+    }
+
+    /**
+     * Convert Markdown to UTF-8 encoded HTML, writing it out block by block.
+     * The encoded bytes are flushed to the stream, but neither the reader nor the stream are closed.
+     * @param markdown Markdown source
+     * @param out destination
+     * @throws IOException if reading or writing fails
+     */
+    public void render(Reader markdown, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        render(markdown, writer);
+        writer.flush();
+    }
+
+    private void renderBlocks(BlockParser.Output blockOutput, Appendable out, long parseStart) throws IOException {
+        InlineParser inlineParser = new InlineParser(blockOutput.linkRefMap(), options, parseStart);
+        renderer.begin(HtmlAstRenderer.FLUSH_THRESHOLD + HtmlAstRenderer.FLUSH_THRESHOLD / 2);
+        Node block = blockOutput.ast().getRoot().getFirstChild();
+        while (block != null) {
+            Node next = block.getNext();
+
+            // Collect before parsing, so the visitor does not descend into the new inline nodes
+            block.accept(inlineContentCollector);
+            for (var node : inlineContentNodes) {
+                inlineParser.parse(node);
+            }
+            inlineContentNodes.clear();
+
+            renderer.render(block, out);
+            // Discard the rendered subtree
+            block.unlink();
+            block = next;
+        }
+        outOfTime = inlineParser.isOutOfTime();
+        renderer.flush(out);
+    }
+}
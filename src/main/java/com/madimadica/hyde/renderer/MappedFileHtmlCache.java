@@ -0,0 +1,212 @@
+package com.madimadica.hyde.renderer;
+
+import com.madimadica.hyde.parser.ParserOptions;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * On-disk {@link HtmlCache} in a fixed size, memory-mapped file, which can outlive the JVM.
+ * <p>
+ * Entries are written one after another as a ring buffer, so once the file is full,
+ * new entries overwrite the oldest ones. Only an index of the entries is kept on the heap.
+ * When an existing cache file is opened, the entries written since it last wrapped around are available again.
+ * </p>
+ * <p>
+ * Each entry also stores the length of its Markdown, and a SipHash of its Markdown and options,
+ * which are compared on every hit. The hash is keyed by a random secret created with the file,
+ * so documents cannot be crafted to be served each other's HTML.
+ * </p>
+ * <p>
+ * The file must not be opened by more than one cache at a time.
+ * </p>
+ */
+public class MappedFileHtmlCache implements HtmlCache, Closeable {
+    private static final int MAGIC = 0x48594445; // "HYDE"
+    private static final int VERSION = 2;
+    /**
+     * Magic, version, capacity, the write position, and the hash key
+     */
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 16;
+    private static final int WRITE_POSITION_OFFSET = 16;
+    private static final int KEY_OFFSET = 24;
+    /**
+     * Fingerprint, Markdown hash, Markdown length, and the HTML length, before the HTML chars
+     */
+    private static final int ENTRY_HEADER_SIZE = 8 + 8 + 8 + 4 + 4;
+    private static final int ENTRY_CHECK_OFFSET = 16;
+    private static final int ENTRY_MARKDOWN_LENGTH_OFFSET = 24;
+    private static final int ENTRY_LENGTH_OFFSET = 28;
+
+    private final FileChannel channel;
+    /**
+     * Dropped once closed, so the mapping can be released when it is garbage collected
+     */
+    private MappedByteBuffer buffer;
+    private final int capacity;
+    private final long key0;
+    private final long key1;
+    private final Map<HtmlFingerprint, Integer> offsets = new HashMap<>();
+    /**
+     * Offsets of the indexed entries, oldest first
+     */
+    private final ArrayDeque<Integer> writeOrder = new ArrayDeque<>();
+    private int writePosition;
+
+    /**
+     * Open or create a cache file
+     * @param file cache file. An existing file of a different capacity, or that is not a cache file, is overwritten.
+     * @param capacity size of the file in bytes. Each cached char of HTML takes 2 bytes.
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public MappedFileHtmlCache(Path file, int capacity) throws IOException {
+        if (capacity < HEADER_SIZE + ENTRY_HEADER_SIZE) {
+            throw new IllegalArgumentException("Capacity must be at least " + (HEADER_SIZE + ENTRY_HEADER_SIZE) + " bytes. Instead found " + capacity);
+        }
+        this.capacity = capacity;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        if (buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION && buffer.getLong(8) == capacity) {
+            readIndex();
+        } else {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putLong(8, capacity);
+            var random = new SecureRandom();
+            buffer.putLong(KEY_OFFSET, random.nextLong());
+            buffer.putLong(KEY_OFFSET + 8, random.nextLong());
+            setWritePosition(HEADER_SIZE);
+        }
+        this.key0 = buffer.getLong(KEY_OFFSET);
+        this.key1 = buffer.getLong(KEY_OFFSET + 8);
+    }
+
+    private void readIndex() {
+        final long end = buffer.getLong(WRITE_POSITION_OFFSET);
+        int offset = HEADER_SIZE;
+        while (offset + ENTRY_HEADER_SIZE <= end) {
+            int length = buffer.getInt(offset + ENTRY_LENGTH_OFFSET);
+            if (length < 0 || offset + entrySize(length) > end) {
+                // Partially written
+                break;
+            }
+            var fingerprint = new HtmlFingerprint(buffer.getLong(offset), buffer.getLong(offset + 8));
+            offsets.put(fingerprint, offset);
+            writeOrder.add(offset);
+            offset = Math.toIntExact(offset + entrySize(length));
+        }
+        this.writePosition = offset;
+    }
+
+    private static long entrySize(int length) {
+        return ENTRY_HEADER_SIZE + 2L * length;
+    }
+
+    /**
+     * @return keyed hash of the Markdown and options
+     */
+    private long check(String markdown, ParserOptions options) {
+        // The options are hashed into the key, so their String form cannot run into the Markdown
+        long optionsHash = SipHash.hash(key0, key1, options.toString());
+        return SipHash.hash(key0 ^ optionsHash, key1, markdown);
+    }
+
+    private void setWritePosition(int writePosition) {
+        this.writePosition = writePosition;
+        buffer.putLong(WRITE_POSITION_OFFSET, writePosition);
+    }
+
+    @Override
+    public synchronized String get(HtmlFingerprint fingerprint, String markdown, ParserOptions options) {
+        Integer offset = offsets.get(fingerprint);
+        if (offset == null
+                || buffer.getInt(offset + ENTRY_MARKDOWN_LENGTH_OFFSET) != markdown.length()
+                || buffer.getLong(offset + ENTRY_CHECK_OFFSET) != check(markdown, options)) {
+            return null;
+        }
+        final int length = buffer.getInt(offset + ENTRY_LENGTH_OFFSET);
+        final int charsStart = offset + ENTRY_HEADER_SIZE;
+        char[] chars = new char[length];
+        for (int i = 0; i < length; ++i) {
+            chars[i] = buffer.getChar(charsStart + 2 * i);
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public synchronized void put(HtmlFingerprint fingerprint, String markdown, ParserOptions options, String html) {
+        final long size = entrySize(html.length());
+        if (size > capacity - HEADER_SIZE || offsets.containsKey(fingerprint)) {
+            return;
+        }
+        if (writePosition + size > capacity) {
+            // Wrap around, dropping the oldest entries that were after the write position
+            while (!writeOrder.isEmpty() && writeOrder.peekFirst() >= writePosition) {
+                evictOldest();
+            }
+            setWritePosition(HEADER_SIZE);
+        }
+        // Drop the oldest entries that would be overwritten
+        while (!writeOrder.isEmpty() && writeOrder.peekFirst() >= writePosition && writeOrder.peekFirst() < writePosition + size) {
+            evictOldest();
+        }
+
+        final int offset = writePosition;
+        buffer.putLong(offset, fingerprint.high());
+        buffer.putLong(offset + 8, fingerprint.low());
+        buffer.putLong(offset + ENTRY_CHECK_OFFSET, check(markdown, options));
+        buffer.putInt(offset + ENTRY_MARKDOWN_LENGTH_OFFSET, markdown.length());
+        buffer.putInt(offset + ENTRY_LENGTH_OFFSET, html.length());
+        final int charsStart = offset + ENTRY_HEADER_SIZE;
+        for (int i = 0; i < html.length(); ++i) {
+            buffer.putChar(charsStart + 2 * i, html.charAt(i));
+        }
+        offsets.put(fingerprint, offset);
+        writeOrder.add(offset);
+        // Written last, so a partially written entry is never read back
+        setWritePosition((int) (offset + size));
+    }
+
+    private void evictOldest() {
+        int offset = writeOrder.removeFirst();
+        offsets.remove(new HtmlFingerprint(buffer.getLong(offset), buffer.getLong(offset + 8)));
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized int size() {
+        return offsets.size();
+    }
+
+    /**
+     * Write any changes to the file, and close it. The cache cannot be used afterward.
+     * <p>
+     * A mapping cannot be released explicitly, so the file stays mapped until the dropped buffer is garbage collected.
+     * </p>
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        buffer.force();
+        buffer = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,195 @@
+package com.madimadica.hyde.renderer;
+
+import com.madimadica.hyde.ast.BlockNode;
+import com.madimadica.hyde.ast.InlineLeafBlockNode;
+import com.madimadica.hyde.ast.LinkReferenceDefinitionNode;
+import com.madimadica.hyde.ast.Node;
+import com.madimadica.hyde.ast.NodeVisitor;
+import com.madimadica.hyde.parser.BlockParser;
+import com.madimadica.hyde.parser.InlineParser;
+import com.madimadica.hyde.parser.LineTable;
+import com.madimadica.hyde.parser.LinkRefMap;
+import com.madimadica.hyde.parser.ParserOptions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Markdown to HTML conversion which remembers the HTML of each top-level block, for re-rendering a document after small changes.
+ * <p>
+ * The whole block structure is parsed each time, since any change can affect where blocks begin and end.
+ * Each top-level block is then looked up by its source lines. If it was rendered last time,
+ * and each link reference it looked up still resolves the same way, its previous HTML is reused
+ * without parsing its inline content or rendering it again.
+ * </p>
+ * <p>
+ * Only the blocks of the last rendered document are remembered, so use one instance per document.
+ * Like {@link HtmlAstRenderer}, this is not thread safe.
+ * </p>
+ */
+public class MemoizingHtmlRenderer {
+    private final ParserOptions options;
+    private final HtmlAstRenderer renderer;
+    private final List<InlineLeafBlockNode> inlineContentNodes = new ArrayList<>();
+    private final NodeVisitor inlineContentCollector = node -> {
+        if (node instanceof InlineLeafBlockNode inlineContentNode) {
+            inlineContentNodes.add(inlineContentNode);
+        }
+    };
+    private final StringBuilder blockHtml = new StringBuilder();
+    private Map<String, Fragment> fragments = new HashMap<>();
+    private int reusedBlocks;
+    private int renderedBlocks;
+
+    /**
+     * Rendered HTML of a top-level block, and how each link label that was looked up resolved
+     * @param html rendered HTML
+     * @param labels link labels that were looked up
+     * @param definitions definition each label resolved to, or {@code null} if there was none
+     */
+    private record Fragment(String html, List<String> labels, List<LinkReferenceDefinitionNode> definitions) {}
+
+    public MemoizingHtmlRenderer() {
+        this(ParserOptions.getDefaults());
+    }
+
+    public MemoizingHtmlRenderer(ParserOptions options) {
+        this(options, new HtmlAstRenderer(options));
+    }
+
+    /**
+     * @param options parsing options
+     * @param renderer renderer to render each block with, such as a customized subclass
+     */
+    public MemoizingHtmlRenderer(ParserOptions options, HtmlAstRenderer renderer) {
+        this.options = options;
+        this.renderer = renderer;
+    }
+
+    /**
+     * Convert Markdown to an HTML String, reusing the HTML of any unchanged blocks from the last call
+     * @param markdown Markdown text
+     * @return rendered HTML
+     */
+    public String render(String markdown) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            render(markdown, sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible", e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Convert Markdown to HTML, reusing the HTML of any unchanged blocks from the last call.
+     * The output is neither flushed nor closed.
+     * @param markdown Markdown text
+     * @param out destination
+     * @throws IOException if writing to the output fails
+     */
+    public void render(String markdown, Appendable out) throws IOException {
+        final long parseStart = System.nanoTime();
+        if (markdown.length() > options.maxInputLength()) {
+            markdown = markdown.substring(0, options.maxInputLength());
+        }
+        var blockOutput = new BlockParser(options).parse(markdown);
+        final LinkRefMap linkRefMap = blockOutput.linkRefMap();
+        final InlineParser inlineParser = new InlineParser(linkRefMap, options, parseStart);
+        final LineTable lines = new LineTable(markdown);
+        final Map<String, Fragment> previousFragments = this.fragments;
+        final Map<String, Fragment> currentFragments = new HashMap<>();
+        this.reusedBlocks = 0;
+        this.renderedBlocks = 0;
+
+        for (Node block = blockOutput.ast().getRoot().getFirstChild(); block != null; block = block.getNext()) {
+            // Children of the document are always blocks
+            final String source = slice(lines, (BlockNode) block);
+            Fragment fragment = null;
+            if (source != null) {
+                fragment = currentFragments.get(source);
+                if (fragment == null) {
+                    fragment = previousFragments.get(source);
+                }
+            }
+            if (fragment != null && linkRefMap.resolvesSame(fragment.labels(), fragment.definitions())) {
+                reusedBlocks++;
+                currentFragments.put(source, fragment);
+                out.append(fragment.html());
+                continue;
+            }
+
+            renderedBlocks++;
+            fragment = renderBlock(block, inlineParser, linkRefMap);
+            // Content cut short by the parse time budget is not reusable
+            if (source != null && !inlineParser.isOutOfTime()) {
+                currentFragments.put(source, fragment);
+            }
+            out.append(fragment.html());
+        }
+        this.fragments = currentFragments;
+    }
+
+    private Fragment renderBlock(Node block, InlineParser inlineParser, LinkRefMap linkRefMap) throws IOException {
+        // Collect before parsing, so the visitor does not descend into the new inline nodes
+        block.accept(inlineContentCollector);
+        List<String> labels = new ArrayList<>();
+        for (var node : inlineContentNodes) {
+            inlineParser.parse(node);
+            labels.addAll(inlineParser.getLinkLabels());
+        }
+        inlineContentNodes.clear();
+
+        // Every top-level block ends with a newline, so blocks render the same on their own
+        renderer.begin(HtmlAstRenderer.FLUSH_THRESHOLD);
+        renderer.render(block, blockHtml);
+        renderer.flush(blockHtml);
+        String html = blockHtml.toString();
+        blockHtml.setLength(0);
+        return new Fragment(html, labels, linkRefMap.resolveAll(labels));
+    }
+
+    /**
+     * @param lines lines of the document
+     * @param block top-level block
+     * @return source lines of the block, or {@code null} if they do not determine its content
+     */
+    private static String slice(LineTable lines, BlockNode block) {
+        int startLine = block.getStartLine();
+        int endLine = Math.min(block.getEndLine(), lines.getLineCount());
+        if (startLine < 1 || endLine < startLine) {
+            return null;
+        }
+        if (!(block instanceof LinkReferenceDefinitionNode) && block.getPrev() instanceof LinkReferenceDefinitionNode definition
+                && definition.getEndLine() + 1 >= startLine) {
+            // Rest of a paragraph that began with link reference definitions, which parses differently on its own
+            return null;
+        }
+        return lines.slice(startLine, endLine);
+    }
+
+    /**
+     * @return number of top-level blocks whose HTML was reused by the last render
+     */
+    public int getReusedBlocks() {
+        return reusedBlocks;
+    }
+
+    /**
+     * @return number of top-level blocks that were rendered by the last render
+     */
+    public int getRenderedBlocks() {
+        return renderedBlocks;
+    }
+
+    /**
+     * Forget all remembered blocks
+     */
+    public void clear() {
+        fragments = new HashMap<>();
+    }
+}
@@ -0,0 +1,82 @@
+package com.madimadica.hyde.renderer;
+
+import com.madimadica.hyde.parser.ParserOptions;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-memory {@link HtmlCache} bounded by the total number of cached chars, which evicts the least recently used entries first.
+ * <p>
+ * Each entry keeps the Markdown it was rendered from, which is compared on every hit, and counts toward the bound along with its HTML.
+ * </p>
+ */
+public class MemoryHtmlCache implements HtmlCache {
+    private final long maximumChars;
+    private final Map<HtmlFingerprint, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long chars;
+
+    private record Entry(String markdown, ParserOptions options, String html) {
+        int length() {
+            return markdown.length() + html.length();
+        }
+    }
+
+    /**
+     * @param maximumChars maximum total length of the cached Markdown and HTML
+     */
+    public MemoryHtmlCache(long maximumChars) {
+        if (maximumChars < 1) {
+            throw new IllegalArgumentException("Maximum chars must be positive. Instead found " + maximumChars);
+        }
+        this.maximumChars = maximumChars;
+    }
+
+    @Override
+    public synchronized String get(HtmlFingerprint fingerprint, String markdown, ParserOptions options) {
+        Entry entry = entries.get(fingerprint);
+        if (entry == null || !entry.markdown.equals(markdown) || !entry.options.equals(options)) {
+            return null;
+        }
+        return entry.html;
+    }
+
+    @Override
+    public synchronized void put(HtmlFingerprint fingerprint, String markdown, ParserOptions options, String html) {
+        var entry = new Entry(markdown, options, html);
+        if (entry.length() > maximumChars) {
+            return;
+        }
+        Entry previous = entries.put(fingerprint, entry);
+        if (previous != null) {
+            chars -= previous.length();
+        }
+        chars += entry.length();
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (chars > maximumChars) {
+            chars -= eldest.next().length();
+            eldest.remove();
+        }
+    }
+
+    public long getMaximumChars() {
+        return maximumChars;
+    }
+
+    /**
+     * @return total length of the cached Markdown and HTML
+     */
+    public synchronized long getChars() {
+        return chars;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        chars = 0;
+    }
+}
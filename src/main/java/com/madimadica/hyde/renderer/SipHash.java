@@ -0,0 +1,81 @@
+package com.madimadica.hyde.renderer;
+
+/**
+ * SipHash-2-4, a keyed 64-bit hash which cannot be made to collide without knowing the key.
+ * <p>
+ * Like {@link HtmlFingerprint}, the hash is computed over the UTF-16LE bytes of the text without encoding it.
+ * </p>
+ */
+final class SipHash {
+    private long v0;
+    private long v1;
+    private long v2;
+    private long v3;
+
+    private SipHash(long k0, long k1) {
+        v0 = k0 ^ 0x736f6d6570736575L;
+        v1 = k1 ^ 0x646f72616e646f6dL;
+        v2 = k0 ^ 0x6c7967656e657261L;
+        v3 = k1 ^ 0x7465646279746573L;
+    }
+
+    /**
+     * @param k0 first 64 bits of the key
+     * @param k1 last 64 bits of the key
+     * @param text text to hash
+     * @return SipHash-2-4 of the text
+     */
+    static long hash(long k0, long k1, CharSequence text) {
+        final int length = text.length();
+        var state = new SipHash(k0, k1);
+        // Each 8 byte word is 4 chars
+        final int wordsEnd = length & ~3;
+        for (int i = 0; i < wordsEnd; i += 4) {
+            state.compress(chars(text, i, 4));
+        }
+        // Last word holds the remaining chars, and the low byte of the byte length
+        state.compress(chars(text, wordsEnd, length - wordsEnd) | (2L * length) << 56);
+        return state.finish();
+    }
+
+    private void compress(long m) {
+        v3 ^= m;
+        round();
+        round();
+        v0 ^= m;
+    }
+
+    private long finish() {
+        v2 ^= 0xff;
+        round();
+        round();
+        round();
+        round();
+        return v0 ^ v1 ^ v2 ^ v3;
+    }
+
+    private void round() {
+        v0 += v1;
+        v1 = Long.rotateLeft(v1, 13);
+        v1 ^= v0;
+        v0 = Long.rotateLeft(v0, 32);
+        v2 += v3;
+        v3 = Long.rotateLeft(v3, 16);
+        v3 ^= v2;
+        v0 += v3;
+        v3 = Long.rotateLeft(v3, 21);
+        v3 ^= v0;
+        v2 += v1;
+        v1 = Long.rotateLeft(v1, 17);
+        v1 ^= v2;
+        v2 = Long.rotateLeft(v2, 32);
+    }
+
+    private static long chars(CharSequence text, int start, int count) {
+        long k = 0;
+        for (int i = 0; i < count; ++i) {
+            k |= (long) text.charAt(start + i) << (16 * i);
+        }
+        return k;
+    }
+}
@@ -0,0 +1,104 @@
+package com.madimadica.hyde.ast;
+
+import com.madimadica.hyde.parser.Parser;
+import com.madimadica.hyde.parser.ParserOptions;
+import com.madimadica.hyde.renderer.FlatHtmlRenderer;
+import com.madimadica.hyde.renderer.HtmlAstRenderer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlatASTTest {
+
+    private static final String MARKDOWN = """
+            # *Title*
+            Setext `code`
+            ---
+
+            > - a **b [c](/d "t") ![e *f*](/g "h")**
+            >
+            >   ```java extra
+            >   code
+            >   ```
+            > - <span>html</span> <https://example.com>
+
+            3. loose
+
+            4. list
+            - tight
+            - list
+              1. nested
+
+            para\\
+            graph &amp; [ref]
+
+                indented
+
+            <div>
+            block
+            </div>
+
+            [ref]: /url "title"
+            ***
+            """;
+
+    @Test
+    void roundTrip() {
+        AST ast = Parser.parse(MARKDOWN);
+        FlatAST flat = FlatAST.of(ast);
+        AST copy = flat.toAST();
+        assertEquals(ast.toTree(), copy.toTree());
+        assertEquals(new HtmlAstRenderer().render(ast), new HtmlAstRenderer().render(copy));
+    }
+
+    @Test
+    void structure() {
+        FlatAST flat = FlatAST.of(Parser.parse("# Title\n\n- a\n"));
+        assertEquals(FlatAST.Kind.DOCUMENT, flat.getKind(FlatAST.ROOT));
+        assertEquals(FlatAST.NONE, flat.getParent(FlatAST.ROOT));
+
+        int heading = flat.getFirstChild(FlatAST.ROOT);
+        assertEquals(FlatAST.Kind.ATX_HEADING, flat.getKind(heading));
+        assertEquals(1, flat.getHeadingLevel(heading));
+        assertEquals(1, flat.getStartLine(heading));
+        int text = flat.getFirstChild(heading);
+        assertEquals(FlatAST.Kind.TEXT, flat.getKind(text));
+        assertEquals("Title", flat.getLiteral(text));
+
+        int list = flat.getNextSibling(heading);
+        assertEquals(FlatAST.Kind.LIST, flat.getKind(list));
+        assertEquals(ListData.Type.UNORDERED, flat.getListType(list));
+        assertTrue(flat.isTight(list));
+        assertEquals(3, flat.getStartLine(list));
+        assertEquals(FlatAST.NONE, flat.getNextSibling(list));
+        assertEquals(7, flat.size());
+    }
+
+    @Test
+    void rendersSameHtml() throws IOException {
+        var options = ParserOptions.builder().setSafeMode(true).build();
+        for (var opts : new ParserOptions[] {ParserOptions.getDefaults(), options}) {
+            AST ast = Parser.parse(MARKDOWN, opts);
+            String expected = new HtmlAstRenderer(opts).render(ast);
+            var renderer = new FlatHtmlRenderer(opts);
+            FlatAST flat = FlatAST.of(ast);
+            assertEquals(expected, renderer.render(flat));
+
+            var out = new StringWriter();
+            renderer.render(flat, out);
+            assertEquals(expected, out.toString());
+        }
+    }
+
+    @Test
+    void largeDocumentIsStreamed() throws IOException {
+        String markdown = "- *item* [link](/a)\n".repeat(2000);
+        AST ast = Parser.parse(markdown);
+        var out = new StringWriter();
+        new FlatHtmlRenderer().render(FlatAST.of(ast), out);
+        assertEquals(new HtmlAstRenderer().render(ast), out.toString());
+    }
+}
@@ -0,0 +1,73 @@
+package com.madimadica.hyde.ast;
+
+import com.madimadica.hyde.parser.BlockParser;
+import com.madimadica.hyde.parser.Parser;
+import com.madimadica.hyde.parser.ParserOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NodeVisitorTest {
+
+    private static final String MARKDOWN = """
+            # *Title*
+
+            > - a **b [c](/d) ![e *f*](/g)**
+            >
+            >   ```
+            >   code
+            >   ```
+            > -
+
+            para\\
+            graph
+
+            ***
+            """;
+
+    private static List<NodeIterator.Event> visit(Node root) {
+        List<NodeIterator.Event> events = new ArrayList<>();
+        root.accept(new NodeVisitor() {
+            @Override
+            public void enter(Node node) {
+                events.add(new NodeIterator.Event(node, true));
+            }
+
+            @Override
+            public void exit(Node node) {
+                events.add(new NodeIterator.Event(node, false));
+            }
+        });
+        return events;
+    }
+
+    @Test
+    void sameOrderAsIterator() {
+        AST ast = Parser.parse(MARKDOWN);
+        assertEquals(ast.getRoot().toList(), visit(ast.getRoot()));
+        for (var event : ast) {
+            if (event.isEntering()) {
+                assertEquals(event.node().toList(), visit(event.node()));
+            }
+        }
+    }
+
+    @Test
+    void childrenAddedOnEnterAreNotVisited() {
+        // Inline content is not parsed yet
+        AST ast = new BlockParser(ParserOptions.getDefaults()).parse("a\n\nb\n").ast();
+        List<Node> visited = new ArrayList<>();
+        ast.accept(node -> {
+            visited.add(node);
+            if (node instanceof ParagraphNode paragraph) {
+                paragraph.appendChild(new InlineTextNode("added"));
+            }
+        });
+        // Document and both paragraphs, but not the added nodes
+        assertEquals(3, visited.size());
+        assertEquals("added", ((InlineTextNode) ast.getRoot().getFirstChild().getLastChild()).getLiteral());
+    }
+}
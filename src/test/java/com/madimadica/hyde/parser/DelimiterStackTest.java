@@ -0,0 +1,66 @@
+package com.madimadica.hyde.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DelimiterStackTest {
+
+    private static List<Integer> bottomUp(DelimiterStack stack) {
+        List<Integer> indices = new ArrayList<>();
+        for (int i = stack.peekBottom(); i != DelimiterStack.NONE; i = stack.next(i)) {
+            indices.add(i);
+        }
+        return indices;
+    }
+
+    private static DelimiterStack stackOf(int size) {
+        DelimiterStack stack = new DelimiterStack();
+        for (int i = 0; i < size; ++i) {
+            assertEquals(i, stack.push('*', i + 1, DelimiterStack.POTENTIAL_OPENER, null));
+        }
+        return stack;
+    }
+
+    @Test
+    void pushGrowsAndLinks() {
+        DelimiterStack stack = stackOf(40);
+        assertEquals(40, bottomUp(stack).size());
+        assertEquals(39, stack.peek());
+        assertEquals(0, stack.peekBottom());
+        assertEquals(40, stack.originalRun(39));
+        assertEquals(3 + 40 % 3, stack.openersBottomBucket(39));
+    }
+
+    @Test
+    void removeTopMiddleAndBottom() {
+        DelimiterStack stack = stackOf(5);
+        stack.remove(4);
+        stack.remove(2);
+        stack.remove(0);
+        assertEquals(List.of(1, 3), bottomUp(stack));
+        assertEquals(3, stack.peek());
+        assertEquals(1, stack.prev(3));
+        stack.pop();
+        stack.pop();
+        assertEquals(DelimiterStack.NONE, stack.peek());
+        assertEquals(DelimiterStack.NONE, stack.peekBottom());
+    }
+
+    @Test
+    void removeBetweenAndTruncate() {
+        DelimiterStack stack = stackOf(6);
+        stack.removeBetween(1, 4);
+        assertEquals(List.of(0, 1, 4, 5), bottomUp(stack));
+        stack.truncateAbove(1);
+        assertEquals(List.of(0, 1), bottomUp(stack));
+        stack.truncateAbove(DelimiterStack.NONE);
+        assertEquals(List.of(), bottomUp(stack));
+        assertEquals(0, stack.push('_', 1, DelimiterStack.POTENTIAL_CLOSER, null));
+        assertTrue(stack.isPotentialCloser(0));
+        assertFalse(stack.isPotentialOpener(0));
+    }
+}
@@ -0,0 +1,60 @@
+package com.madimadica.hyde.parser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HtmlEntitiesTest {
+
+    @Test
+    void named() {
+        assertEquals("&", HtmlEntities.decode("&amp;"));
+        assertEquals("Æ", HtmlEntities.decode("&AElig;"));
+        assertEquals("∳", HtmlEntities.decode("&CounterClockwiseContourIntegral;"));
+        assertEquals("≂̸", HtmlEntities.decode("&NotEqualTilde;"));
+        assertEquals("𝔄", HtmlEntities.decode("&Afr;"));
+        assertNull(HtmlEntities.decode("&nope;"));
+        assertNull(HtmlEntities.decode("&amp"));
+        assertNull(HtmlEntities.decode("&Amp;"));
+
+        assertEquals("&", HtmlEntities.get("&AMP"));
+        assertNull(HtmlEntities.get("AMP"));
+    }
+
+    @Test
+    void numeric() {
+        assertEquals("A", HtmlEntities.decode("&#65;"));
+        assertEquals("A", HtmlEntities.decode("&#x41;"));
+        assertEquals("A", HtmlEntities.decode("&#X0041;"));
+        assertEquals("�", HtmlEntities.decode("&#0;"));
+        assertEquals("􏿿", HtmlEntities.decode("&#x10FFFF;"));
+        assertNull(HtmlEntities.decode("&#x110000;"));
+        assertNull(HtmlEntities.decode("&#9999999;"));
+        assertNull(HtmlEntities.decode("&#;"));
+        assertNull(HtmlEntities.decode("&#x;"));
+        assertNull(HtmlEntities.decode("&#1a;"));
+    }
+
+    @Test
+    void decodeWithinInput() {
+        String input = "a &copy; b &#169; c &copy d";
+        assertEquals("©", HtmlEntities.decode(input, 2, 8));
+        assertEquals("©", HtmlEntities.decode(input, 11, 17));
+        assertNull(HtmlEntities.decode(input, 20, 26));
+        assertEquals(8, HtmlParserUtils.findHtmlEntityEnd(input, 2));
+        assertEquals(-1, HtmlParserUtils.findHtmlEntityEnd(input, 20));
+    }
+
+    @Test
+    void allEntities() {
+        int[] count = {0};
+        String[] previous = {""};
+        HtmlEntities.forEach((name, value) -> {
+            assertTrue(previous[0].compareTo(name) < 0, name);
+            assertEquals(value, HtmlEntities.get(name));
+            previous[0] = name;
+            count[0]++;
+        });
+        assertEquals(2231, count[0]);
+    }
+}
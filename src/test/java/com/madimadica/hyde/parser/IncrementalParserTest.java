@@ -0,0 +1,114 @@
+package com.madimadica.hyde.parser;
+
+import com.madimadica.hyde.ast.AST;
+import com.madimadica.hyde.ast.InlineNode;
+import com.madimadica.hyde.renderer.HtmlAstRenderer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalParserTest {
+
+    private static final String[] SNIPPETS = {
+            "# Heading\n", "Setext\n===\n", "para *one*\nstill para\n", "\n", "\n\n", "- item\n- item 2\n\n  loose\n",
+            "1. first\n2. second\n", "> quote\nlazy\n", "```java\ncode\n```\n", "    indented\n", "---\n",
+            "<div>\nhtml\n</div>\n", "[link][ref] and [ref]\n", "`code` **strong** _em_\n", "| a |\n", "***\n",
+            "text\n---\n", "  - nested\n    - deeper\n", "[ref]: /url \"title\"\n", "```\n", "<!--\n", "-->\n",
+    };
+
+    private static final String[] INSERTS = {
+            "a", " ", "\n", "\n\n", "#", "- ", "> ", "```", "    ", "*", "_", "[", "]", "=\n", "---", "[x]: /y\n", "\t", "1. ",
+    };
+
+    private static String describe(AST ast) {
+        StringBuilder sb = new StringBuilder(ast.toTree());
+        for (var nodeEvent : ast) {
+            if (nodeEvent.isEntering() && !(nodeEvent.node() instanceof InlineNode)) {
+                sb.append(nodeEvent.node().getClass().getSimpleName()).append(' ').append(nodeEvent.node().getPositions()).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void assertMatchesFullParse(IncrementalParser parser) {
+        var expected = Parser.parse(parser.getText());
+        assertEquals(describe(expected), describe(parser.getAst()), parser.getText());
+        var renderer = new HtmlAstRenderer();
+        assertEquals(renderer.render(expected), renderer.render(parser.getAst()));
+    }
+
+    @Test
+    void editParagraph() {
+        var parser = new IncrementalParser();
+        var ast = parser.parse("# Title\n\nfirst paragraph\n\nsecond *paragraph*\n\n> quote\n");
+        var edited = parser.applyEdit(TextEdit.insert(24, " with more"));
+        assertSame(ast, edited);
+        assertEquals(1, parser.getIncrementalParses());
+        assertEquals("# Title\n\nfirst paragraph with more\n\nsecond *paragraph*\n\n> quote\n", parser.getText());
+        assertMatchesFullParse(parser);
+    }
+
+    @Test
+    void insertLines() {
+        var parser = new IncrementalParser();
+        parser.parse("a\n\nb\n\nc\n");
+        parser.applyEdit(TextEdit.insert(3, "new\n\n- list\n\n"));
+        assertEquals(1, parser.getIncrementalParses());
+        assertMatchesFullParse(parser);
+        parser.applyEdit(TextEdit.delete(0, 3));
+        assertMatchesFullParse(parser);
+    }
+
+    @Test
+    void openFenceExtendsToEnd() {
+        var parser = new IncrementalParser();
+        parser.parse("a\n\nb\n\nc\n\nd\n");
+        parser.applyEdit(TextEdit.insert(0, "```\n"));
+        assertMatchesFullParse(parser);
+    }
+
+    @Test
+    void linkReferenceDefinitionsReparseDocument() {
+        var parser = new IncrementalParser();
+        parser.parse("[foo]\n\nbar\n");
+        assertEquals(1, parser.getFullParses());
+        parser.applyEdit(TextEdit.insert(7, "[foo]: /url\n"));
+        assertEquals(2, parser.getFullParses());
+        assertEquals("<p><a href=\"/url\">foo</a></p>\n<p>bar</p>\n", new HtmlAstRenderer().render(parser.getAst()));
+    }
+
+    @Test
+    void invalidEdits() {
+        var parser = new IncrementalParser();
+        assertThrows(IllegalStateException.class, () -> parser.applyEdit(TextEdit.insert(0, "a")));
+        parser.parse("abc");
+        assertThrows(IndexOutOfBoundsException.class, () -> parser.applyEdit(TextEdit.delete(2, 5)));
+        assertThrows(IllegalArgumentException.class, () -> TextEdit.insert(-1, "a"));
+    }
+
+    @Test
+    void randomEdits() {
+        Random random = new Random(14);
+        for (int document = 0; document < 200; ++document) {
+            StringBuilder sb = new StringBuilder();
+            int snippets = 1 + random.nextInt(12);
+            for (int i = 0; i < snippets; ++i) {
+                sb.append(SNIPPETS[random.nextInt(SNIPPETS.length)]);
+            }
+            var parser = new IncrementalParser();
+            parser.parse(sb.toString());
+            for (int edit = 0; edit < 20; ++edit) {
+                String text = parser.getText();
+                int offset = random.nextInt(text.length() + 1);
+                if (random.nextBoolean() && offset < text.length()) {
+                    parser.applyEdit(TextEdit.delete(offset, 1 + random.nextInt(Math.min(8, text.length() - offset))));
+                } else {
+                    parser.applyEdit(TextEdit.insert(offset, INSERTS[random.nextInt(INSERTS.length)]));
+                }
+                assertMatchesFullParse(parser);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.madimadica.hyde.parser;
+
+import com.madimadica.hyde.ast.InlineTextNode;
+import com.madimadica.hyde.ast.ParagraphNode;
+import com.madimadica.hyde.renderer.HtmlAstRenderer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InlineParseCacheTest {
+
+    private static Parser cachingParser(InlineParseCache cache) {
+        return Parser.builder().setExecutor(null).setInlineParseCache(cache).build();
+    }
+
+    private static String render(Parser parser, String markdown) {
+        return new HtmlAstRenderer().render(parser.parseDocument(markdown));
+    }
+
+    @Test
+    void repeatedParagraphs() {
+        var cache = new InlineParseCache(16);
+        var parser = cachingParser(cache);
+        String markdown = "Some *boilerplate* with `code` and [a link](/url \"title\")\n\n# Heading\n\nSome *boilerplate* with `code` and [a link](/url \"title\")\n";
+        String expected = render(Parser.builder().setExecutor(null).build(), markdown);
+
+        assertEquals(expected, render(parser, markdown));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(expected, render(parser, markdown));
+        assertEquals(4, cache.getHits());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void hitsAreCopies() {
+        var cache = new InlineParseCache(16);
+        var parser = cachingParser(cache);
+        var first = parser.parseDocument("*shared*");
+        var emphasisText = (InlineTextNode) first.getRoot().getFirstChild().getFirstChild().getFirstChild();
+        emphasisText.setLiteral("changed");
+
+        assertEquals("<p><em>shared</em></p>\n", new HtmlAstRenderer().render(parser.parseDocument("*shared*")));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void linkReferenceDefinitionsAreChecked() {
+        var cache = new InlineParseCache(16);
+        var parser = cachingParser(cache);
+        assertEquals("<p><a href=\"/one\">foo</a></p>\n", render(parser, "[foo]\n\n[foo]: /one"));
+        assertEquals("<p><a href=\"/one\">foo</a></p>\n", render(parser, "[foo]\n\n[FOO]: /one"));
+        assertEquals(1, cache.getHits());
+        assertEquals("<p><a href=\"/two\">foo</a></p>\n", render(parser, "[foo]\n\n[foo]: /two"));
+        assertEquals("<p>[foo]</p>\n", render(parser, "[foo]"));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void optionsAreKeyed() {
+        var cache = new InlineParseCache(16);
+        var smartOptions = ParserOptions.builder().setSmartQuotes(true).build();
+        var smartParser = Parser.builder().setOptions(smartOptions).setExecutor(null).setInlineParseCache(cache).build();
+        String expected = new HtmlAstRenderer(smartOptions).render(Parser.parse("\"quoted\"", smartOptions));
+        render(cachingParser(cache), "\"quoted\"");
+        assertEquals(expected, new HtmlAstRenderer(smartOptions).render(smartParser.parseDocument("\"quoted\"")));
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    void leastRecentlyUsedEviction() {
+        var cache = new InlineParseCache(2);
+        var parser = cachingParser(cache);
+        parser.parseDocument("a");
+        parser.parseDocument("b");
+        parser.parseDocument("a");
+        parser.parseDocument("c");
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getHits());
+
+        parser.parseDocument("a");
+        assertEquals(2, cache.getHits());
+        parser.parseDocument("b");
+        assertEquals(2, cache.getHits());
+        assertEquals(1.0 / 3, cache.getHitRate(), 1e-9);
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitRate());
+    }
+
+    @Test
+    void gcOriginalInlines() {
+        var cache = new InlineParseCache(4);
+        var options = ParserOptions.builder().setGcOriginalInlines(true).build();
+        var parser = Parser.builder().setOptions(options).setExecutor(null).setInlineParseCache(cache).build();
+        parser.parseDocument("**same**");
+        var ast = parser.parseDocument("**same**");
+        assertEquals(1, cache.getHits());
+        assertNull(((ParagraphNode) ast.getRoot().getFirstChild()).getLiteral());
+        assertEquals("<p><strong>same</strong></p>\n", new HtmlAstRenderer(options).render(ast));
+    }
+
+    @Test
+    void invalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new InlineParseCache(0));
+    }
+}
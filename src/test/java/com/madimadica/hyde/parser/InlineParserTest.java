@@ -0,0 +1,40 @@
+package com.madimadica.hyde.parser;
+
+import com.madimadica.hyde.renderer.HtmlAstRenderer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InlineParserTest {
+
+    private static String render(String markdown) {
+        return new HtmlAstRenderer().render(Parser.parse(markdown));
+    }
+
+    @Test
+    void unmatchedBackticks() {
+        assertEquals("<p>```foo``</p>\n", render("```foo``"));
+        assertEquals("<p>`foo<code>bar</code></p>\n", render("`foo``bar``"));
+    }
+
+    @Test
+    void backtickRunsAfterFullScan() {
+        // The opening ``` scans to the end, the later openers must still find their closers
+        assertEquals("<p>``` <code>a`b</code> <code>c</code></p>\n", render("``` ``a`b`` `c`"));
+    }
+
+    @Test
+    void nestedLinksDeactivateOuterLinks() {
+        assertEquals("<p>[foo <a href=\"/uri\">bar</a>](/uri)</p>\n", render("[foo [bar](/uri)](/uri)"));
+        assertEquals("<p>[<a href=\"b\">a</a>[<a href=\"b\">a</a></p>\n", render("[[a](b)[[a](b)"));
+        assertEquals("<p><img src=\"uri3\" alt=\"[foo](uri2)\" /></p>\n", render("![[[foo](uri1)](uri2)](uri3)"));
+    }
+
+    @Test
+    void deeplyNestedBrackets() {
+        String markdown = "[".repeat(2000) + "foo" + "]".repeat(2000) + "\n\n[foo]: /url";
+        String html = render(markdown);
+        assertTrue(html.contains("<a href=\"/url\">foo</a>"));
+        assertTrue(html.startsWith("<p>" + "[".repeat(1999) + "<a"));
+    }
+}
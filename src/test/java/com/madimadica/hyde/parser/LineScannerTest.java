@@ -0,0 +1,51 @@
+package com.madimadica.hyde.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LineScannerTest {
+    private static final Pattern REGEX_LINE_END = Pattern.compile("\\r?\\n|\\r");
+
+    private static List<String> scan(String input) {
+        List<String> lines = new ArrayList<>();
+        LineScanner scanner = new LineScanner(input);
+        while (scanner.next()) {
+            lines.add(scanner.line());
+        }
+        return lines;
+    }
+
+    private static void assertSameAsRegex(String input) {
+        List<String> expected = List.of(REGEX_LINE_END.split(input.replace('\0', '\uFFFD')));
+        assertEquals(expected, scan(input), "For input " + input.replace("\r", "\\r").replace("\n", "\\n"));
+    }
+
+    @Test
+    void matchesRegexSplit() {
+        assertSameAsRegex("a");
+        assertSameAsRegex("a\nb");
+        assertSameAsRegex("a\r\nb\rc\n");
+        assertSameAsRegex("a\r\r\nb");
+        assertSameAsRegex("\n\na\n\n\n");
+        assertSameAsRegex("\r\n\r\n a \r\n\r\n");
+        assertSameAsRegex("a\n\n\nb\r\r");
+        assertSameAsRegex("\0\na\0b\n\0");
+    }
+
+    @Test
+    void lineOffsets() {
+        LineScanner scanner = new LineScanner("ab\r\ncd");
+        assertTrue(scanner.next());
+        assertEquals(0, scanner.lineStart());
+        assertEquals(2, scanner.lineEnd());
+        assertTrue(scanner.next());
+        assertEquals(4, scanner.lineStart());
+        assertEquals(6, scanner.lineEnd());
+        assertFalse(scanner.next());
+    }
+}
@@ -0,0 +1,35 @@
+package com.madimadica.hyde.parser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LineTableTest {
+
+    @Test
+    void offsets() {
+        var lines = new LineTable("ab\r\ncd\n\nef\n\n");
+        assertEquals(4, lines.getLineCount());
+        assertEquals(0, lines.start(1));
+        assertEquals(2, lines.end(1));
+        assertEquals(4, lines.start(2));
+        assertEquals(7, lines.start(3));
+        assertEquals(7, lines.end(3));
+        assertEquals(10, lines.end(4));
+        assertEquals("cd\n\nef", lines.slice(2, 4));
+    }
+
+    @Test
+    void lineOf() {
+        var lines = new LineTable("ab\r\ncd\n\nef\n\n");
+        assertEquals(1, lines.lineOf(0));
+        assertEquals(1, lines.lineOf(2));
+        // Inside the line ending
+        assertEquals(2, lines.lineOf(3));
+        assertEquals(2, lines.lineOf(4));
+        assertEquals(3, lines.lineOf(7));
+        assertEquals(4, lines.lineOf(10));
+        // Trailing line endings
+        assertEquals(5, lines.lineOf(11));
+    }
+}
@@ -0,0 +1,81 @@
+package com.madimadica.hyde.parser;
+
+import com.madimadica.hyde.ast.ParagraphNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParagraphNodeTest {
+
+    @Test
+    void empty() {
+        var node = new ParagraphNode();
+        assertEquals("", node.getLiteral());
+        assertTrue(node.getRawLines().isEmpty());
+        assertTrue(node.isBlank());
+    }
+
+    @Test
+    void acceptedLinesInvalidateLiteral() {
+        var node = new ParagraphNode();
+        node.acceptLine("a");
+        assertEquals("a", node.getLiteral());
+        // Cached until lines change
+        assertSame(node.getLiteral(), node.getLiteral());
+
+        node.acceptLine(new StringBuilder("b"));
+        assertEquals("a\nb", node.getLiteral());
+        assertEquals(List.of("a", "b"), node.getRawLines().stream().map(CharSequence::toString).toList());
+        assertFalse(node.isBlank());
+    }
+
+    @Test
+    void setLiteralInvalidatesLiteral() {
+        var node = new ParagraphNode();
+        node.acceptLine("a");
+        assertEquals("a", node.getLiteral());
+
+        node.setLiteral("x\ny");
+        assertEquals("x\ny", node.getLiteral());
+        assertEquals(2, node.getRawLines().size());
+
+        node.acceptLine("z");
+        assertEquals("x\ny\nz", node.getLiteral());
+    }
+
+    @Test
+    void setLiteralNormalizesTrailingNewlines() {
+        var node = new ParagraphNode();
+        node.setLiteral("x\ny\n\n");
+        assertEquals("x\ny", node.getLiteral());
+        assertEquals(List.of("x", "y"), node.getRawLines());
+
+        node.setLiteral("");
+        assertEquals("", node.getLiteral());
+        assertTrue(node.isBlank());
+    }
+
+    @Test
+    void setLiteralNull() {
+        var node = new ParagraphNode();
+        node.acceptLine("a");
+        node.setLiteral(null);
+        assertNull(node.getLiteral());
+        assertTrue(node.getRawLines().isEmpty());
+    }
+
+    @Test
+    void rawLinesAreReadOnly() {
+        var node = new ParagraphNode();
+        node.acceptLine("a");
+        assertThrows(UnsupportedOperationException.class, () -> node.getRawLines().add("b"));
+    }
+
+    @Test
+    void parsedLiteral() {
+        var paragraph = (ParagraphNode) new BlockParser().parse("a\n  b\t\nc\n\n").ast().getRoot().getFirstChild();
+        assertEquals("a\nb\t\nc", paragraph.getLiteral());
+    }
+}
@@ -0,0 +1,83 @@
+package com.madimadica.hyde.parser;
+
+import com.madimadica.hyde.ast.AST;
+import com.madimadica.hyde.ast.NodeArena;
+import com.madimadica.hyde.renderer.HtmlAstRenderer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParseSessionTest {
+
+    private static final String[] DOCUMENTS = {
+            """
+            # Title
+            some *text*
+            and more
+
+            - a
+            - b
+
+              c
+            """,
+            """
+            1. one
+            2. two
+               > quote
+               lazy
+
+            [link] and `code`\\
+            next
+
+            [link]: /url "title"
+            """,
+            "plain\n",
+            "",
+    };
+
+    @Test
+    void sameAsParser() {
+        var session = new Parser().newSession();
+        var renderer = new HtmlAstRenderer();
+        for (int round = 0; round < 3; ++round) {
+            for (String markdown : DOCUMENTS) {
+                AST expected = Parser.parse(markdown);
+                AST ast = session.parse(markdown);
+                assertEquals(expected.toTree(), ast.toTree());
+                assertEquals(renderer.render(expected), renderer.render(ast));
+            }
+            assertEquals(DOCUMENTS.length, session.getDocuments());
+            session.release();
+            assertEquals(0, session.getDocuments());
+        }
+    }
+
+    @Test
+    void releasedNodesAreReused() {
+        var session = new Parser().newSession();
+        NodeArena arena = session.getArena();
+        AST first = session.parse(DOCUMENTS[0]);
+        long created = arena.getCreated();
+        assertTrue(created > 0);
+        assertEquals(0, arena.getReused());
+
+        session.release();
+        assertFalse(first.getRoot().hasFirstChild());
+
+        session.parse(DOCUMENTS[0]);
+        assertEquals(created, arena.getCreated());
+        assertEquals(created, arena.getReused());
+    }
+
+    @Test
+    void maxPooled() {
+        var session = new Parser().newSession(new NodeArena(1));
+        session.parse(DOCUMENTS[0]);
+        long created = session.getArena().getCreated();
+        session.release();
+        session.parse(DOCUMENTS[0]);
+        // One of each of the 4 pooled types
+        assertEquals(4, session.getArena().getReused());
+        assertEquals(2 * created - 4, session.getArena().getCreated());
+    }
+}
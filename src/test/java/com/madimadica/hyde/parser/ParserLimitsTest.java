@@ -0,0 +1,85 @@
+package com.madimadica.hyde.parser;
+
+import com.madimadica.hyde.renderer.HtmlAstRenderer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParserLimitsTest {
+
+    private static String render(String markdown, ParserOptions options) {
+        return new HtmlAstRenderer(options).render(Parser.parse(markdown, options));
+    }
+
+    @Test
+    void defaultsAreUnlimited() {
+        var options = ParserOptions.getDefaults();
+        assertEquals(ParserOptions.UNLIMITED, options.maxBlockNesting());
+        assertEquals(ParserOptions.UNLIMITED, options.maxInlineNesting());
+        assertEquals(ParserOptions.UNLIMITED, options.maxLinkReferenceDefinitions());
+        assertEquals(ParserOptions.UNLIMITED, options.maxInputLength());
+        assertNull(options.parseTimeBudget());
+    }
+
+    @Test
+    void invalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> ParserOptions.builder().setMaxBlockNesting(-1));
+        assertThrows(IllegalArgumentException.class, () -> ParserOptions.builder().setParseTimeBudget(Duration.ZERO));
+    }
+
+    @Test
+    void maxBlockNesting() {
+        var options = ParserOptions.builder().setMaxBlockNesting(2).build();
+        assertEquals("""
+                <blockquote>
+                <blockquote>
+                <p>&gt; &gt; a</p>
+                </blockquote>
+                </blockquote>
+                """, render("> > > > a", options));
+        assertEquals("""
+                <ul>
+                <li>a
+                <ul>
+                <li>b
+                - c</li>
+                </ul>
+                </li>
+                </ul>
+                """, render("- a\n  - b\n    - c", options));
+    }
+
+    @Test
+    void maxInlineNesting() {
+        var options = ParserOptions.builder().setMaxInlineNesting(1).build();
+        assertEquals("<p><a href=\"/u\">[a</a></p>\n", render("[[a](/u)", options));
+        assertEquals("<p><a href=\"/u\">a</a></p>\n", render("[a](/u)", options));
+    }
+
+    @Test
+    void maxLinkReferenceDefinitions() {
+        var options = ParserOptions.builder().setMaxLinkReferenceDefinitions(1).build();
+        assertEquals("<p><a href=\"/a\">a</a> [b]</p>\n", render("[a]: /a\n[b]: /b\n\n[a] [b]", options));
+    }
+
+    @Test
+    void maxInputLength() throws IOException {
+        var options = ParserOptions.builder().setMaxInputLength(9).build();
+        assertEquals("<h1>Title</h1>\n<p>a</p>\n", render("# Title\na\nignored", options));
+        var ast = new Parser(options).parseDocument(new StringReader("# Title\na\nignored"));
+        assertEquals("<h1>Title</h1>\n<p>a</p>\n", new HtmlAstRenderer(options).render(ast));
+    }
+
+    @Test
+    void parseTimeBudget() {
+        var options = ParserOptions.builder().setParseTimeBudget(Duration.ofNanos(1)).build();
+        // Inline content is kept as plain text once out of time
+        assertEquals("<p>*a* [b](/c)</p>\n", render("*a* [b](/c)", options));
+        var generous = ParserOptions.builder().setParseTimeBudget(Duration.ofMinutes(1)).build();
+        assertEquals("<p><em>a</em> <a href=\"/c\">b</a></p>\n", render("*a* [b](/c)", generous));
+    }
+}
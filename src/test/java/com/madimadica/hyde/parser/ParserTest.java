@@ -0,0 +1,121 @@
+package com.madimadica.hyde.parser;
+
+import com.madimadica.hyde.ast.InlineLeafBlockNode;
+import com.madimadica.hyde.ast.Node;
+import com.madimadica.hyde.ast.ParagraphNode;
+import com.madimadica.hyde.renderer.HtmlAstRenderer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParserTest {
+
+    private static List<InlineLeafBlockNode> paragraphs(int count, int length) {
+        List<InlineLeafBlockNode> nodes = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            var node = new ParagraphNode();
+            node.acceptLine("x".repeat(length));
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    @Test
+    void partitionKeepsDocumentOrder() {
+        var nodes = paragraphs(1000, 10);
+        List<InlineLeafBlockNode> flattened = new ArrayList<>();
+        for (var batch : Parser.partition(nodes)) {
+            assertFalse(batch.isEmpty());
+            flattened.addAll(batch);
+        }
+        assertEquals(nodes, flattened);
+    }
+
+    @Test
+    void partitionSingleNode() {
+        var nodes = paragraphs(1, 10);
+        assertEquals(List.of(nodes), Parser.partition(nodes));
+    }
+
+    @Test
+    void parallelMatchesSequential() {
+        String markdown = "[ref]: /url\n\n" + "Some *text* with a [ref] link\n\n".repeat(200);
+        var sequential = Parser.builder().setExecutor(null).build().parseDocument(markdown);
+        var concurrent = Parser.builder().setParallelThreshold(0).build().parseDocument(markdown);
+        assertEquals(sequential.toTree(), concurrent.toTree());
+    }
+
+    private static final String MIXED = """
+            [a]: /one
+
+            Setext *heading*
+            ----------------
+
+            - item [a]
+            - > quoted
+              lazy
+
+            [b]: /two
+            [c]: /three
+
+            # Heading [b]
+
+            [d]: /four
+            para **text**
+            """;
+
+    @Test
+    void blockParserCollectsInlineLeafBlocks() {
+        var output = new BlockParser().parse(MIXED.repeat(3));
+        List<Node> expected = new ArrayList<>();
+        output.ast().accept(node -> {
+            if (node instanceof InlineLeafBlockNode) {
+                expected.add(node);
+            }
+        });
+        assertEquals(expected, output.inlineLeafBlocks());
+        assertEquals(15, expected.size());
+    }
+
+    @Test
+    void independentBlocksMatchSequential() {
+        String markdown = ("independent *text* " + "and more ".repeat(20) + "\n\n").repeat(100) + MIXED.repeat(50);
+        var sequential = Parser.builder().setExecutor(null).build().parseDocument(markdown);
+        for (int threshold : new int[]{0, 32, 1000}) {
+            var overlapped = Parser.builder().setParallelThreshold(threshold).build().parseDocument(markdown);
+            assertEquals(sequential.toTree(), overlapped.toTree());
+        }
+
+        List<InlineLeafBlockNode> independent = new ArrayList<>();
+        var blockParser = new BlockParser();
+        blockParser.setIndependentBlockListener(independent::add);
+        var output = blockParser.parse(markdown);
+        // The setext heading and quoted paragraph of each mixed part
+        assertEquals(100 + 2 * 50, independent.size());
+        // The list item, ATX heading and paragraph after [d] of each mixed part
+        assertEquals(3 * 50, output.inlineLeafBlocks().size());
+    }
+
+    @Test
+    void definitionBeforeSetextUnderlineLeavesNoParagraph() {
+        String markdown = "[foo]: /u\n---";
+        var renderer = new HtmlAstRenderer();
+        assertEquals("<hr />\n", renderer.render(Parser.parse(markdown)));
+        assertEquals("<hr />\n", renderer.render(Parser.builder().setParallelThreshold(0).build().parseDocument(markdown)));
+        assertEquals("<hr />\n", renderer.render(Parser.builder().setExecutor(null).build().parseDocument(markdown)));
+    }
+
+    @Test
+    void readerMatchesString() throws IOException {
+        String markdown = "# Title\r\n\r\n> quote\rlazy\n\n```\ncode\n\n\n";
+        var parser = new Parser();
+        var fromString = parser.parseDocument(markdown);
+        var fromReader = parser.parseDocument(new StringReader(markdown));
+        assertEquals(fromString.toTree(), fromReader.toTree());
+    }
+}
@@ -16,7 +16,7 @@ class PatternMatcherTest {
 
     @Test
     void foo() {
-        HtmlEntities.entityMap.forEach((k, v) -> {
+        HtmlEntities.forEach((k, v) -> {
             System.out.println(v + " (" + k + ")");
         });
     }
@@ -0,0 +1,40 @@
+package com.madimadica.hyde.parser;
+
+import com.madimadica.hyde.ast.InlineTextNode;
+import com.madimadica.hyde.ast.ParagraphNode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SourcePositionsTest {
+
+    @Test
+    void viewWritesThrough() {
+        var node = new ParagraphNode();
+        assertEquals(new SourcePositions(1, 1, 0, 0), node.getPositions());
+
+        var positions = node.getPositions();
+        positions.setStart(3, 2);
+        positions.setEnd(new SourcePosition(5, 7));
+        assertEquals(3, node.getStartLine());
+        assertEquals(7, node.getEndColumn());
+        assertEquals(new SourcePosition(3, 2), node.getPositions().getStart());
+        assertEquals("3:2-5:7", node.getPositions().toString());
+
+        var copy = new ParagraphNode();
+        copy.setPositions(node.getPositions());
+        node.setEnd(6, 1);
+        assertEquals(new SourcePositions(3, 2, 5, 7), copy.getPositions());
+        assertEquals(new SourcePositions(3, 2, 5, 7).hashCode(), copy.getPositions().hashCode());
+    }
+
+    @Test
+    void inlinePositions() {
+        var node = new InlineTextNode("text");
+        assertEquals(new SourcePositions(), node.getPositions());
+        node.setPositions(new SourcePositions(2, 2, 2, 5));
+        assertEquals(new SourcePositions(2, 2, 2, 5), node.getPositions());
+        node.getPositions().setEnd(2, 6);
+        assertEquals("2:2-2:6", node.getPositions().toString());
+    }
+}
@@ -0,0 +1,50 @@
+package com.madimadica.hyde.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SourceSliceTest {
+
+    @Test
+    void view() {
+        var slice = new SourceSlice("foo bar baz", 4, 7);
+        assertEquals(3, slice.length());
+        assertEquals('b', slice.charAt(0));
+        assertEquals("bar", slice.toString());
+        assertEquals("ar", slice.subSequence(1, 3).toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> slice.charAt(3));
+    }
+
+    @Test
+    void equality() {
+        var a = new SourceSlice("xbarx", 1, 4);
+        var b = new SourceSlice("bar", 0, 3);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals("bar".hashCode(), a.hashCode());
+        assertNotEquals(a, new SourceSlice("bars", 0, 4));
+    }
+
+    @Test
+    void joinLines() {
+        String source = "one\ntwo\nthree";
+        List<CharSequence> lines = List.of(
+                new SourceSlice(source, 0, 3),
+                "  two",
+                new SourceSlice(source, 8, 13)
+        );
+        assertEquals("one\n  two\nthree", SourceSlice.joinLines(lines, 0, 3));
+        assertEquals("  two\nthree", SourceSlice.joinLines(lines, 1, 3));
+        assertEquals("one", SourceSlice.joinLines(lines, 0, 1));
+        assertEquals("", SourceSlice.joinLines(lines, 1, 1));
+    }
+
+    @Test
+    void isBlank() {
+        assertTrue(SourceSlice.isBlank(new SourceSlice("a  \t b", 1, 5)));
+        assertFalse(SourceSlice.isBlank(new SourceSlice("a  \t b", 1, 6)));
+    }
+}
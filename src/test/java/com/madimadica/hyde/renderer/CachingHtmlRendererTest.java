@@ -0,0 +1,165 @@
+package com.madimadica.hyde.renderer;
+
+import com.madimadica.hyde.parser.Parser;
+import com.madimadica.hyde.parser.ParserOptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingHtmlRendererTest {
+
+    @Test
+    void fingerprint() {
+        var options = ParserOptions.getDefaults();
+        assertEquals(HtmlFingerprint.of("# Title", options), HtmlFingerprint.of("# Title", ParserOptions.getDefaults()));
+        assertNotEquals(HtmlFingerprint.of("# Title", options), HtmlFingerprint.of("# Title ", options));
+        assertNotEquals(HtmlFingerprint.of("# Title", options), HtmlFingerprint.of("# Title", ParserOptions.builder().setSafeMode(true).build()));
+        // MurmurHash3 x64 128 of the UTF-16LE bytes, with a seed of 0
+        assertEquals("ee2ee18fe1bfd3877b927262d8c336c4", HtmlFingerprint.of("hello", 0, 0).toString());
+    }
+
+    @Test
+    void sipHash() {
+        // Reference test vectors, with the key bytes 00..0f and the message bytes 00..n-1
+        long k0 = 0x0706050403020100L;
+        long k1 = 0x0f0e0d0c0b0a0908L;
+        assertEquals(0x726fdb47dd0e0e31L, SipHash.hash(k0, k1, ""));
+        assertEquals(0x93f5f5799a932462L, SipHash.hash(k0, k1, "\u0100\u0302\u0504\u0706"));
+    }
+
+    @Test
+    void memoryCache() {
+        var cache = new MemoryHtmlCache(1024);
+        var renderer = new CachingHtmlRenderer(ParserOptions.getDefaults(), cache);
+        String markdown = "# Title\n\nSome *text*";
+        String expected = new HtmlAstRenderer().render(Parser.parse(markdown));
+
+        assertEquals(expected, renderer.render(markdown));
+        assertEquals(expected, renderer.render(markdown));
+        assertEquals(expected, renderer.render(markdown));
+        assertEquals(1, renderer.getMisses());
+        assertEquals(2, renderer.getMemoryHits());
+        assertEquals(2.0 / 3, renderer.getHitRatio(), 1e-9);
+        assertEquals(markdown.length() + expected.length(), cache.getChars());
+    }
+
+    @Test
+    void outOfTimeIsNotCached() throws IOException {
+        var options = ParserOptions.builder().setParseTimeBudget(Duration.ofNanos(1)).build();
+        var cache = new MemoryHtmlCache(1024);
+        Path file = Files.createTempFile("hyde", ".cache");
+        try (var secondary = new MappedFileHtmlCache(file, 4096)) {
+            var renderer = new CachingHtmlRenderer(options, cache, secondary);
+            // Inline content is kept as plain text once out of time
+            assertEquals("<p>*a* [b](/c)</p>\n", renderer.render("*a* [b](/c)"));
+            assertEquals("<p>*a* [b](/c)</p>\n", renderer.render("*a* [b](/c)"));
+            assertEquals(2, renderer.getMisses());
+            assertEquals(0, cache.size());
+            assertEquals(0, secondary.size());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void memoryCacheEviction() {
+        var options = ParserOptions.getDefaults();
+        var cache = new MemoryHtmlCache(12);
+        cache.put(new HtmlFingerprint(0, 1), "a", options, "12345");
+        cache.put(new HtmlFingerprint(0, 2), "b", options, "12345");
+        assertEquals("12345", cache.get(new HtmlFingerprint(0, 1), "a", options));
+        cache.put(new HtmlFingerprint(0, 3), "c", options, "123");
+        assertEquals(2, cache.size());
+        assertNull(cache.get(new HtmlFingerprint(0, 2), "b", options));
+        assertEquals(10, cache.getChars());
+
+        cache.put(new HtmlFingerprint(0, 4), "d", options, "123456789012");
+        assertNull(cache.get(new HtmlFingerprint(0, 4), "d", options));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void memoryCacheCollision() {
+        var options = ParserOptions.getDefaults();
+        var safe = ParserOptions.builder().setSafeMode(true).build();
+        var cache = new MemoryHtmlCache(1024);
+        var fingerprint = new HtmlFingerprint(1, 2);
+        cache.put(fingerprint, "<b>a</b>", options, "<p><b>a</b></p>\n");
+        assertEquals("<p><b>a</b></p>\n", cache.get(fingerprint, "<b>a</b>", options));
+        assertNull(cache.get(fingerprint, "<b>b</b>", options));
+        assertNull(cache.get(fingerprint, "<b>a</b>", safe));
+    }
+
+    @Test
+    void mappedFileCache() throws IOException {
+        Path file = Files.createTempFile("hyde", ".cache");
+        try {
+            var options = ParserOptions.getDefaults();
+            var fingerprint = new HtmlFingerprint(1, 2);
+            try (var cache = new MappedFileHtmlCache(file, 4096)) {
+                cache.put(fingerprint, "héllo", options, "<p>héllo</p>\n");
+                assertEquals("<p>héllo</p>\n", cache.get(fingerprint, "héllo", options));
+            }
+            // Reopened
+            try (var cache = new MappedFileHtmlCache(file, 4096)) {
+                assertEquals(1, cache.size());
+                assertEquals("<p>héllo</p>\n", cache.get(fingerprint, "héllo", options));
+
+                var renderer = new CachingHtmlRenderer(ParserOptions.getDefaults(), new MemoryHtmlCache(1024), cache);
+                String html = renderer.render("*text*");
+                assertEquals(1, renderer.getMisses());
+                var second = new CachingHtmlRenderer(ParserOptions.getDefaults(), new MemoryHtmlCache(1024), cache);
+                assertEquals(html, second.render("*text*"));
+                assertEquals(html, second.render("*text*"));
+                assertEquals(1, second.getSecondaryHits());
+                assertEquals(1, second.getMemoryHits());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void mappedFileCacheCollision() throws IOException {
+        var options = ParserOptions.getDefaults();
+        var safe = ParserOptions.builder().setSafeMode(true).build();
+        var fingerprint = new HtmlFingerprint(1, 2);
+        Path file = Files.createTempFile("hyde", ".cache");
+        try (var cache = new MappedFileHtmlCache(file, 4096)) {
+            cache.put(fingerprint, "<b>a</b>", options, "<p><b>a</b></p>\n");
+            assertEquals("<p><b>a</b></p>\n", cache.get(fingerprint, "<b>a</b>", options));
+            // Same length, different text
+            assertNull(cache.get(fingerprint, "<b>b</b>", options));
+            assertNull(cache.get(fingerprint, "<b>a</b>", safe));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void mappedFileCacheWrapsAround() throws IOException {
+        var options = ParserOptions.getDefaults();
+        Path file = Files.createTempFile("hyde", ".cache");
+        try (var cache = new MappedFileHtmlCache(file, 40 + 3 * (32 + 2 * 10))) {
+            for (int i = 0; i < 10; ++i) {
+                cache.put(new HtmlFingerprint(i, i), "md " + i, options, "html %05d".formatted(i));
+                assertEquals("html %05d".formatted(i), cache.get(new HtmlFingerprint(i, i), "md " + i, options));
+                assertTrue(cache.size() <= 3);
+            }
+            assertNull(cache.get(new HtmlFingerprint(6, 6), "md 6", options));
+            assertEquals("html 00007", cache.get(new HtmlFingerprint(7, 7), "md 7", options));
+            assertEquals("html 00009", cache.get(new HtmlFingerprint(9, 9), "md 9", options));
+
+            // Too large to ever fit
+            cache.put(new HtmlFingerprint(10, 10), "md 10", options, "x".repeat(100));
+            assertNull(cache.get(new HtmlFingerprint(10, 10), "md 10", options));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
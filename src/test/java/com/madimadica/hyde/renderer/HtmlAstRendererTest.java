@@ -1,7 +1,14 @@
 package com.madimadica.hyde.renderer;
 
+import com.madimadica.hyde.ast.AST;
+import com.madimadica.hyde.parser.Parser;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class HtmlAstRendererTest {
@@ -10,4 +17,40 @@ class HtmlAstRendererTest {
     void escapeHtml() {
         assertEquals("title &amp;quot;", HtmlAstRenderer.escapeHtml("title &quot;"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void escapeHtmlIntoBuffer() {
+        StringBuilder sb = new StringBuilder("prefix ");
+        HtmlAstRenderer.escapeHtml("<a href=\"x\">&</a> tail", sb);
+        assertEquals("prefix &lt;a href=&quot;x&quot;&gt;&amp;&lt;/a&gt; tail", sb.toString());
+
+        sb.setLength(0);
+        HtmlAstRenderer.escapeHtml("no specials", sb);
+        assertEquals("no specials", sb.toString());
+    }
+
+    @Test
+    void renderToOutputMatchesString() throws IOException {
+        StringBuilder markdown = new StringBuilder();
+        for (int i = 0; i < 2000; ++i) {
+            markdown.append("# Heading ").append(i).append("\n\n")
+                    .append("Some *text* with <b>html</b> & é 😀 [link](/url").append(i).append(")\n\n")
+                    .append("```\ncode ").append(i).append("\n```\n\n");
+        }
+        AST ast = Parser.parse(markdown.toString());
+        String expected = new HtmlAstRenderer().render(ast);
+        assertTrue(expected.length() > HtmlAstRenderer.FLUSH_THRESHOLD * 4);
+
+        StringWriter writer = new StringWriter();
+        new HtmlAstRenderer().render(ast, writer);
+        assertEquals(expected, writer.toString());
+
+        StringBuilder sb = new StringBuilder();
+        new HtmlAstRenderer().render(ast, sb);
+        assertEquals(expected, sb.toString());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new HtmlAstRenderer().render(ast, bytes);
+        assertEquals(expected, bytes.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,76 @@
+package com.madimadica.hyde.renderer;
+
+import com.madimadica.hyde.parser.Parser;
+import com.madimadica.hyde.parser.ParserOptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HtmlPipelineTest {
+
+    private static final String MARKDOWN = """
+            # Title
+
+            A [forward reference][ref] to a *later* definition, and ![an image](/img.png "Image").
+
+            - tight
+            - list
+              > with a quote
+
+            1. loose
+
+            2. list
+
+            ```java
+            <code> & "quotes"
+            ```
+
+            <div>
+            raw html
+            </div>
+
+            [ref]: /url "Title"
+            """;
+
+    private static String expected(String markdown, ParserOptions options) {
+        return new HtmlAstRenderer(options).render(Parser.parse(markdown, options));
+    }
+
+    @Test
+    void matchesParseThenRender() {
+        assertEquals(expected(MARKDOWN, ParserOptions.getDefaults()), new HtmlPipeline().render(MARKDOWN));
+    }
+
+    @Test
+    void matchesWithOptions() {
+        var options = ParserOptions.builder()
+                .setSafeMode(true)
+                .setSmartQuotes(true)
+                .setGcOriginalInlines(true)
+                .build();
+        assertEquals(expected(MARKDOWN, options), new HtmlPipeline(options).render(MARKDOWN));
+    }
+
+    @Test
+    void streamsLargeDocuments() throws IOException {
+        String markdown = MARKDOWN.repeat(500);
+        String expected = expected(markdown, ParserOptions.getDefaults());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new HtmlPipeline().render(new StringReader(markdown), bytes);
+        assertEquals(expected, bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void reusable() {
+        var pipeline = new HtmlPipeline();
+        assertEquals("<p>one</p>\n", pipeline.render("one"));
+        assertEquals("<p>two</p>\n", pipeline.render("two"));
+        assertEquals("", pipeline.render(""));
+    }
+}
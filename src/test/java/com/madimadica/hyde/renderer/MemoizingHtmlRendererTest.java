@@ -0,0 +1,63 @@
+package com.madimadica.hyde.renderer;
+
+import com.madimadica.hyde.parser.Parser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoizingHtmlRendererTest {
+
+    private static void assertRendersSame(MemoizingHtmlRenderer renderer, String markdown) {
+        assertEquals(new HtmlAstRenderer().render(Parser.parse(markdown)), renderer.render(markdown));
+    }
+
+    @Test
+    void onlyChangedBlocksAreRendered() {
+        var renderer = new MemoizingHtmlRenderer();
+        assertRendersSame(renderer, "# Title\n\nfirst *paragraph*\n\n- a\n- b\n\n```\ncode\n```\n");
+        assertEquals(4, renderer.getRenderedBlocks());
+        assertEquals(0, renderer.getReusedBlocks());
+
+        assertRendersSame(renderer, "# Title\n\nfirst *paragraph* edited\n\n- a\n- b\n\n```\ncode\n```\n");
+        assertEquals(1, renderer.getRenderedBlocks());
+        assertEquals(3, renderer.getReusedBlocks());
+
+        // Changed block structure
+        assertRendersSame(renderer, "# Title\n\nfirst *paragraph* edited\n\n- a\n\n- b\n\n```\ncode\n```\n");
+        assertEquals(1, renderer.getRenderedBlocks());
+        assertEquals(3, renderer.getReusedBlocks());
+    }
+
+    @Test
+    void changedLinkReferences() {
+        var renderer = new MemoizingHtmlRenderer();
+        assertRendersSame(renderer, "[foo] and [bar]\n\nother\n\n[foo]: /one\n");
+        assertRendersSame(renderer, "[foo] and [bar]\n\nother\n\n[foo]: /two\n");
+        assertEquals(2, renderer.getRenderedBlocks());
+        assertEquals(1, renderer.getReusedBlocks());
+        assertRendersSame(renderer, "[foo] and [bar]\n\nother\n\n[foo]: /two\n[bar]: /three\n");
+        assertEquals(2, renderer.getRenderedBlocks());
+        assertRendersSame(renderer, "[foo] and [bar]\n\nother\n\n[foo]: /two\n[bar]: /three\n[unused]: /four\n");
+        assertEquals(1, renderer.getRenderedBlocks());
+    }
+
+    @Test
+    void paragraphAfterLinkReferenceDefinition() {
+        var renderer = new MemoizingHtmlRenderer();
+        assertRendersSame(renderer, "    code\n");
+        assertRendersSame(renderer, "[a]: /b\n    code\n");
+        assertRendersSame(renderer, "    code\n");
+    }
+
+    @Test
+    void repeatedBlocks() {
+        var renderer = new MemoizingHtmlRenderer();
+        assertRendersSame(renderer, "same\n\n---\n\nsame\n\n---\n");
+        assertEquals(2, renderer.getRenderedBlocks());
+        assertEquals(2, renderer.getReusedBlocks());
+
+        renderer.clear();
+        assertRendersSame(renderer, "same\n");
+        assertEquals(1, renderer.getRenderedBlocks());
+    }
+}